@@ -0,0 +1,41 @@
+package us.hawtrey.preconditions.agent;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counts of one call into {@code Validate} or {@code Assure}, identified by the calling class, method and line.
+ */
+final class CallSite {
+    final String caller;
+    final String method;
+    final int line;
+    final String target;
+    final LongAdder invocations = new LongAdder();
+    final LongAdder failures = new LongAdder();
+    final LongAdder samples = new LongAdder();
+    final LongAdder sampledNanos = new LongAdder();
+    final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    CallSite(String caller, String method, int line, String target) {
+        this.caller = caller;
+        this.method = method;
+        this.line = line;
+        this.target = target;
+    }
+
+    void sample(long start) {
+        long nanos = System.nanoTime() - start;
+        samples.increment();
+        sampledNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    void reset() {
+        invocations.reset();
+        failures.reset();
+        samples.reset();
+        sampledNanos.reset();
+        maxNanos.reset();
+    }
+}
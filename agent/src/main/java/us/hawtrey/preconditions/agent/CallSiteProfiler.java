@@ -0,0 +1,196 @@
+package us.hawtrey.preconditions.agent;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Counts the invocations and failures of the instrumented calls into {@code Validate} and {@code Assure} and times
+ * one call in {@link #getSampleRate()}, per call site.
+ * <p>
+ * The call sites are held in a table of fixed capacity, so the memory used is bounded whatever the number of classes
+ * loaded. Calls found once the table is full are left uninstrumented and counted by
+ * {@link #getDroppedCallSites()}.
+ * <p>
+ * The static {@code enter}, {@code exit} and {@code failed} methods are called by the instrumented code and are not
+ * meant to be called directly.
+ */
+public final class CallSiteProfiler implements CallSiteProfilerMXBean {
+    /**
+     * The JMX object name of the profiler.
+     */
+    public static final String OBJECT_NAME = "us.hawtrey.preconditions:type=CallSiteProfiler";
+
+    static final int DEFAULT_MAX_CALL_SITES = 65536;
+    static final int DEFAULT_SAMPLE_RATE = 64;
+
+    private static CallSiteProfiler instance = new CallSiteProfiler(DEFAULT_MAX_CALL_SITES, DEFAULT_SAMPLE_RATE);
+
+    private final CallSite[] callSites;
+    private final int sampleRate;
+    private int size;
+    private long dropped;
+
+    CallSiteProfiler(int maxCallSites, int sampleRate) {
+        if (maxCallSites < 1 || sampleRate < 1) {
+            throw new IllegalArgumentException("The maximum call sites and the sample rate must be positive");
+        }
+        this.callSites = new CallSite[maxCallSites];
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * @return the profiler the instrumented code reports to.
+     */
+    public static CallSiteProfiler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Replaces the profiler. The agent calls it once, before any class is instrumented, so the instrumented code
+     * reads the profiler without synchronization. Code instrumented for an earlier profiler may still run, so the
+     * hooks ignore ids the current profiler does not know.
+     */
+    static void install(CallSiteProfiler profiler) {
+        instance = profiler;
+    }
+
+    /**
+     * Called before an instrumented call.
+     *
+     * @param id the call site.
+     * @return the start time if the call is timed, otherwise {@code 0}.
+     */
+    public static long enter(int id) {
+        CallSiteProfiler profiler = instance;
+        CallSite callSite = profiler.callSite(id);
+        if (callSite == null) {
+            return 0L;
+        }
+        callSite.invocations.increment();
+        if (profiler.sampleRate == 1 || ThreadLocalRandom.current().nextInt(profiler.sampleRate) == 0) {
+            return System.nanoTime();
+        }
+        return 0L;
+    }
+
+    /**
+     * Called after an instrumented call returned.
+     *
+     * @param id    the call site.
+     * @param start the time returned by {@link #enter(int)}.
+     */
+    public static void exit(int id, long start) {
+        CallSite callSite = instance.callSite(id);
+        if (start != 0L && callSite != null) {
+            callSite.sample(start);
+        }
+    }
+
+    /**
+     * Called after an instrumented call threw.
+     *
+     * @param id    the call site.
+     * @param start the time returned by {@link #enter(int)}.
+     */
+    public static void failed(int id, long start) {
+        CallSite callSite = instance.callSite(id);
+        if (callSite == null) {
+            return;
+        }
+        callSite.failures.increment();
+        if (start != 0L) {
+            callSite.sample(start);
+        }
+    }
+
+    /**
+     * @return the call site of the id, or {@code null} if it was registered with another profiler.
+     */
+    private CallSite callSite(int id) {
+        return id >= 0 && id < callSites.length ? callSites[id] : null;
+    }
+
+    /**
+     * Registers a call site.
+     *
+     * @return the id of the call site, or {@code -1} if the profiler is full.
+     */
+    synchronized int register(String caller, String method, int line, String target) {
+        if (size == callSites.length) {
+            dropped++;
+            return -1;
+        }
+        callSites[size] = new CallSite(caller, method, line, target);
+        return size++;
+    }
+
+    @Override
+    public synchronized int getCallSites() {
+        return size;
+    }
+
+    @Override
+    public synchronized long getDroppedCallSites() {
+        return dropped;
+    }
+
+    @Override
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    @Override
+    public void dump(String file) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(Paths.get(file), StandardCharsets.UTF_8)) {
+            dump(writer);
+        }
+    }
+
+    /**
+     * Writes the counts of every call site that ran as CSV, the most invoked first. The mean and maximum are in
+     * nanoseconds, over the timed calls.
+     *
+     * @param writer the writer of the CSV.
+     * @throws IOException thrown if the writer fails.
+     */
+    public void dump(Writer writer) throws IOException {
+        List<CallSite> ran = new ArrayList<>();
+        for (CallSite callSite : snapshot()) {
+            if (callSite.invocations.sum() > 0) {
+                ran.add(callSite);
+            }
+        }
+        ran.sort((a, b) -> Long.compare(b.invocations.sum(), a.invocations.sum()));
+        BufferedWriter out = writer instanceof BufferedWriter ? (BufferedWriter) writer : new BufferedWriter(writer);
+        out.write("caller,method,line,target,invocations,failures,samples,meanNanos,maxNanos");
+        out.newLine();
+        for (CallSite callSite : ran) {
+            long samples = callSite.samples.sum();
+            out.write(callSite.caller + ',' + callSite.method + ',' + callSite.line + ',' + callSite.target + ','
+                    + callSite.invocations.sum() + ',' + callSite.failures.sum() + ',' + samples + ','
+                    + (samples == 0 ? 0 : callSite.sampledNanos.sum() / samples) + ',' + callSite.maxNanos.get());
+            out.newLine();
+        }
+        out.flush();
+    }
+
+    @Override
+    public void reset() {
+        for (CallSite callSite : snapshot()) {
+            callSite.reset();
+        }
+    }
+
+    private synchronized CallSite[] snapshot() {
+        CallSite[] copy = new CallSite[size];
+        System.arraycopy(callSites, 0, copy, 0, size);
+        return copy;
+    }
+}
@@ -0,0 +1,37 @@
+package us.hawtrey.preconditions.agent;
+
+import java.io.IOException;
+
+/**
+ * The JMX view of {@link CallSiteProfiler}, registered as {@value CallSiteProfiler#OBJECT_NAME}.
+ */
+public interface CallSiteProfilerMXBean {
+
+    /**
+     * @return the number of call sites instrumented.
+     */
+    int getCallSites();
+
+    /**
+     * @return the number of call sites left uninstrumented because the profiler was full.
+     */
+    long getDroppedCallSites();
+
+    /**
+     * @return one call in how many is timed.
+     */
+    int getSampleRate();
+
+    /**
+     * Writes the counts of every call site that ran to a CSV file.
+     *
+     * @param file the path of the file, which is replaced.
+     * @throws IOException thrown if the file cannot be written.
+     */
+    void dump(String file) throws IOException;
+
+    /**
+     * Resets every count to zero. The call sites stay instrumented.
+     */
+    void reset();
+}
@@ -0,0 +1,245 @@
+package us.hawtrey.preconditions.agent;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.commons.AnalyzerAdapter;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+
+import java.lang.instrument.ClassFileTransformer;
+import java.nio.charset.StandardCharsets;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Wraps every static call into {@code Validate} and {@code Assure} with calls to {@link CallSiteProfiler}.
+ * <p>
+ * A call such as {@code Validate.notNull(value)} becomes, in bytecode:
+ * <pre>
+ *     long start = CallSiteProfiler.enter(id);
+ *     try {
+ *         Validate.notNull(value);
+ *     } catch (Throwable t) {
+ *         CallSiteProfiler.failed(id, start);
+ *         throw t;
+ *     }
+ *     CallSiteProfiler.exit(id, start);
+ * </pre>
+ * The handler is placed right after the call and comes first in the exception table, so the exception reaches the
+ * handlers of the original code unchanged. Calls made in a constructor before {@code super(...)} are counted without
+ * the handler, as the verifier does not allow one there. Classes older than Java 6 carry no stack map frames and are
+ * left alone, as are the JDK, this library and the classes of loaders that cannot see this {@link CallSiteProfiler},
+ * which would fail with {@code NoClassDefFoundError} or report to another copy of it.
+ */
+final class CallSiteTransformer implements ClassFileTransformer {
+    private static final String PROFILER = "us/hawtrey/preconditions/agent/CallSiteProfiler";
+    private static final String LIBRARY = "us/hawtrey/preconditions/";
+    private static final String[] TARGETS = {LIBRARY + "Validate", LIBRARY + "Assure"};
+    private static final String[] SKIPPED = {"java/", "javax/", "jdk/", "sun/", "com/sun/", LIBRARY};
+
+    private final CallSiteProfiler profiler;
+    private final Map<ClassLoader, Boolean> visibility = new WeakHashMap<>();
+
+    CallSiteTransformer(CallSiteProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public byte[] transform(ClassLoader loader, String className, Class<?> classBeingRedefined,
+                            ProtectionDomain protectionDomain, byte[] classfileBuffer) {
+        if (loader == null || className == null || classBeingRedefined != null || isSkipped(className)
+                || !referencesTarget(classfileBuffer) || !seesProfiler(loader)) {
+            return null;
+        }
+        try {
+            return instrument(classfileBuffer);
+        } catch (RuntimeException e) {
+            // a class the profiler cannot rewrite, such as a method grown past 64 KB, is loaded unchanged
+            return null;
+        }
+    }
+
+    byte[] instrument(byte[] classfileBuffer) {
+        ClassReader reader = new ClassReader(classfileBuffer);
+        ClassNode node = new ClassNode();
+        reader.accept(node, ClassReader.EXPAND_FRAMES);
+        if ((node.version & 0xFFFF) < Opcodes.V1_6) {
+            return null;
+        }
+        boolean changed = false;
+        for (int i = 0; i < node.methods.size(); i++) {
+            MethodNode method = node.methods.get(i);
+            if (method.instructions.size() == 0) {
+                continue;
+            }
+            MethodNode instrumented = new MethodNode(Opcodes.ASM9, method.access, method.name, method.desc,
+                    method.signature, method.exceptions.toArray(new String[0]));
+            CallSiteAdapter adapter = new CallSiteAdapter(node.name, method, instrumented);
+            method.accept(adapter);
+            if (adapter.handlers.isEmpty() && !adapter.changed) {
+                continue;
+            }
+            // the handlers of the calls are innermost, so they must be found first
+            instrumented.tryCatchBlocks.removeAll(adapter.handlers);
+            instrumented.tryCatchBlocks.addAll(0, adapter.handlers);
+            node.methods.set(i, instrumented);
+            changed = true;
+        }
+        if (!changed) {
+            return null;
+        }
+        ClassWriter writer = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        node.accept(writer);
+        return writer.toByteArray();
+    }
+
+    /**
+     * @return {@code true} if the loader resolves the name of the profiler to the class the agent reports to.
+     */
+    boolean seesProfiler(ClassLoader loader) {
+        synchronized (visibility) {
+            Boolean sees = visibility.get(loader);
+            if (sees == null) {
+                try {
+                    sees = Class.forName(CallSiteProfiler.class.getName(), false, loader) == CallSiteProfiler.class;
+                } catch (ClassNotFoundException | LinkageError e) {
+                    sees = Boolean.FALSE;
+                }
+                visibility.put(loader, sees);
+            }
+            return sees;
+        }
+    }
+
+    private static boolean isSkipped(String className) {
+        for (String prefix : SKIPPED) {
+            if (className.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * A cheap scan of the constant pool bytes, so classes that never call the library are not parsed.
+     */
+    private static boolean referencesTarget(byte[] classfileBuffer) {
+        byte[] library = LIBRARY.getBytes(StandardCharsets.US_ASCII);
+        outer:
+        for (int i = 0; i <= classfileBuffer.length - library.length; i++) {
+            for (int j = 0; j < library.length; j++) {
+                if (classfileBuffer[i + j] != library[j]) {
+                    continue outer;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static String target(String owner) {
+        for (String target : TARGETS) {
+            if (target.equals(owner)) {
+                return owner.substring(LIBRARY.length());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Rewrites the calls of one method, using the frames tracked by {@link AnalyzerAdapter} to describe the handler
+     * and the code after it.
+     */
+    private final class CallSiteAdapter extends AnalyzerAdapter {
+        private final String caller;
+        private final String method;
+        private final int slot;
+        private final List<TryCatchBlockNode> handlers = new ArrayList<>();
+        private final MethodNode instrumented;
+        private boolean changed;
+        private int line = -1;
+
+        CallSiteAdapter(String owner, MethodNode method, MethodNode instrumented) {
+            super(Opcodes.ASM9, owner, method.access, method.name, method.desc, instrumented);
+            this.caller = owner.replace('/', '.');
+            this.method = method.name;
+            this.slot = method.maxLocals;
+            this.instrumented = instrumented;
+        }
+
+        @Override
+        public void visitLineNumber(int line, Label start) {
+            this.line = line;
+            super.visitLineNumber(line, start);
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            String target = opcode == Opcodes.INVOKESTATIC ? target(owner) : null;
+            int id = target == null || locals == null ? -1 : profiler.register(caller, method, line, target + '.' + name);
+            if (id < 0) {
+                super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+                return;
+            }
+            changed = true;
+            super.visitLdcInsn(id);
+            super.visitMethodInsn(Opcodes.INVOKESTATIC, PROFILER, "enter", "(I)J", false);
+            super.visitVarInsn(Opcodes.LSTORE, slot);
+            if (locals.contains(Opcodes.UNINITIALIZED_THIS)) {
+                super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+                exit(id);
+                return;
+            }
+            Object[] frameLocals = frame(locals);
+            Label start = new Label();
+            Label end = new Label();
+            Label handler = new Label();
+            Label after = new Label();
+            super.visitLabel(start);
+            super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+            super.visitLabel(end);
+            Object[] frameStack = frame(stack);
+            exit(id);
+            super.visitJumpInsn(Opcodes.GOTO, after);
+            super.visitLabel(handler);
+            super.visitFrame(Opcodes.F_NEW, frameLocals.length, frameLocals, 1, new Object[]{"java/lang/Throwable"});
+            super.visitLdcInsn(id);
+            super.visitVarInsn(Opcodes.LLOAD, slot);
+            super.visitMethodInsn(Opcodes.INVOKESTATIC, PROFILER, "failed", "(IJ)V", false);
+            super.visitInsn(Opcodes.ATHROW);
+            super.visitLabel(after);
+            super.visitFrame(Opcodes.F_NEW, frameLocals.length, frameLocals, frameStack.length, frameStack);
+            super.visitTryCatchBlock(start, end, handler, null);
+            handlers.add(instrumented.tryCatchBlocks.get(instrumented.tryCatchBlocks.size() - 1));
+        }
+
+        private void exit(int id) {
+            super.visitLdcInsn(id);
+            super.visitVarInsn(Opcodes.LLOAD, slot);
+            super.visitMethodInsn(Opcodes.INVOKESTATIC, PROFILER, "exit", "(IJ)V", false);
+        }
+    }
+
+    /**
+     * Converts the types tracked by {@link AnalyzerAdapter}, where a {@code long} or {@code double} is followed by
+     * {@code TOP}, to the types of an expanded frame, where it is not.
+     */
+    private static Object[] frame(List<Object> types) {
+        List<Object> frame = new ArrayList<>(types.size());
+        for (int i = 0; i < types.size(); i++) {
+            Object type = types.get(i);
+            frame.add(type);
+            if (type == Opcodes.LONG || type == Opcodes.DOUBLE) {
+                i++;
+            }
+        }
+        return frame.toArray();
+    }
+}
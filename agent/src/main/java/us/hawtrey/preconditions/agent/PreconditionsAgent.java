@@ -0,0 +1,117 @@
+package us.hawtrey.preconditions.agent;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.instrument.Instrumentation;
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A Java agent that profiles the calls into {@code Validate} and {@code Assure} per calling class, method and line.
+ * <p>
+ * Start the JVM with {@code -javaagent:preconditions-agent.jar} and optional comma separated options:
+ * <ul>
+ * <li>{@code file}: the CSV file written at shutdown, {@code preconditions-profile.csv} by default, or {@code none}.
+ * </li>
+ * <li>{@code sampleRate}: one call in how many is timed, {@value CallSiteProfiler#DEFAULT_SAMPLE_RATE} by default.
+ * </li>
+ * <li>{@code maxCallSites}: the most call sites instrumented, {@value CallSiteProfiler#DEFAULT_MAX_CALL_SITES} by
+ * default.</li>
+ * </ul>
+ * For example {@code -javaagent:preconditions-agent.jar=file=/tmp/profile.csv,sampleRate=16}. The counts can also be
+ * written at any time with the {@code dump} operation of the {@value CallSiteProfiler#OBJECT_NAME} MBean.
+ * <p>
+ * Only classes loaded after the agent starts are instrumented, so attaching to a running JVM profiles the classes it
+ * has not loaded yet. The agent starts once per JVM; attaching it again, or attaching it to a JVM started with
+ * {@code -javaagent}, keeps the running profiler and ignores the new options. Classes whose class loader does not
+ * see the agent, such as the classes of the JDK, are left alone.
+ */
+public final class PreconditionsAgent {
+    static final String DEFAULT_FILE = "preconditions-profile.csv";
+
+    private static boolean started;
+
+    private PreconditionsAgent() {
+    }
+
+    /**
+     * Starts the agent before {@code main}.
+     *
+     * @param args            the agent options.
+     * @param instrumentation the instrumentation of the JVM.
+     */
+    public static void premain(String args, Instrumentation instrumentation) {
+        start(args, instrumentation);
+    }
+
+    /**
+     * Starts the agent in a running JVM.
+     *
+     * @param args            the agent options.
+     * @param instrumentation the instrumentation of the JVM.
+     */
+    public static void agentmain(String args, Instrumentation instrumentation) {
+        start(args, instrumentation);
+    }
+
+    private static synchronized void start(String args, Instrumentation instrumentation) {
+        if (started) {
+            System.err.println("preconditions-agent: already started, the options " + args + " are ignored");
+            return;
+        }
+        started = true;
+        Map<String, String> options = options(args);
+        CallSiteProfiler profiler = new CallSiteProfiler(
+                intOption(options, "maxCallSites", CallSiteProfiler.DEFAULT_MAX_CALL_SITES),
+                intOption(options, "sampleRate", CallSiteProfiler.DEFAULT_SAMPLE_RATE));
+        CallSiteProfiler.install(profiler);
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(profiler,
+                    new ObjectName(CallSiteProfiler.OBJECT_NAME));
+        } catch (JMException e) {
+            // already started, the profile is still written at shutdown
+        }
+        String file = options.getOrDefault("file", DEFAULT_FILE);
+        if (!"none".equals(file)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> dump(profiler, file), "preconditions-agent-dump"));
+        }
+        instrumentation.addTransformer(new CallSiteTransformer(profiler));
+    }
+
+    private static void dump(CallSiteProfiler profiler, String file) {
+        try {
+            profiler.dump(file);
+        } catch (IOException e) {
+            System.err.println("preconditions-agent: cannot write " + file + ": " + e);
+        }
+    }
+
+    static Map<String, String> options(String args) {
+        Map<String, String> options = new HashMap<>();
+        if (args == null || args.trim().isEmpty()) {
+            return options;
+        }
+        for (String option : args.split(",")) {
+            int equals = option.indexOf('=');
+            if (equals < 1) {
+                throw new IllegalArgumentException("The agent option " + option + " is not name=value");
+            }
+            options.put(option.substring(0, equals).trim(), option.substring(equals + 1).trim());
+        }
+        return options;
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("The agent option " + name + " is not a number: " + value, e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package us.hawtrey.preconditions.agent;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CallSiteTransformerTest {
+    private static final String FIXTURE = ProfiledFixture.class.getName();
+
+    private CallSiteProfiler profiler;
+    private Class<?> fixture;
+
+    @Before
+    public void setUp() throws Exception {
+        profiler = new CallSiteProfiler(16, 1);
+        CallSiteProfiler.install(profiler);
+        fixture = load(new CallSiteTransformer(profiler).instrument(bytes(ProfiledFixture.class)));
+    }
+
+    @Test
+    public void countCalls() throws Exception {
+        assertEquals(5, profiler.getCallSites());
+        assertEquals("a", fixture.getMethod("getName").invoke(fixture.getConstructor(String.class).newInstance("a")));
+        assertEquals(12L, invoke("parse", "12"));
+        assertEquals(-1L, invoke("parse", "x"));
+        assertEquals(true, invoke("caught", "a"));
+        assertEquals(false, invoke("caught", " "));
+        assertEquals(false, invoke("caught", ""));
+        assertEquals(5.0, (double) invoke("wide", 2L, 1.5, "ab"), 0.0);
+
+        List<String> rows = dump();
+        assertTrue(rows.contains(row("caught", "Validate.notBlank", 3, 2)));
+        assertTrue(rows.contains(row("parse", "Assure.longValue", 2, 0)));
+        assertTrue(rows.contains(row("<init>", "Validate.notBlank", 1, 0)));
+        assertTrue(rows.contains(row("<init>", "Validate.notNull", 1, 0)));
+        assertTrue(rows.contains(row("wide", "Validate.notNull", 1, 0)));
+        assertEquals(6, rows.size());
+        assertEquals("caller,method,line,target,invocations,failures,samples,meanNanos,maxNanos", rows.get(0));
+    }
+
+    @Test
+    public void countFailures() throws Exception {
+        try {
+            fixture.getConstructor(String.class).newInstance(" ");
+            fail("Should have thrown IllegalArgumentException");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+        try {
+            invoke("wide", 1L, 1.0, null);
+            fail("Should have thrown NullPointerException");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof NullPointerException);
+        }
+
+        List<String> rows = dump();
+        assertTrue(rows.contains(row("wide", "Validate.notNull", 1, 1)));
+        // a call before super(...) is counted, but neither its failure nor its time
+        assertTrue(rows.contains("<init>,Validate.notBlank,1,0,0"));
+        assertEquals(3, rows.size());
+    }
+
+    @Test
+    public void reset() throws Exception {
+        invoke("parse", "1");
+        profiler.reset();
+        assertEquals(1, dump().size());
+        assertEquals(5, profiler.getCallSites());
+    }
+
+    @Test
+    public void maxCallSites() throws Exception {
+        profiler = new CallSiteProfiler(2, 1);
+        CallSiteProfiler.install(profiler);
+        fixture = load(new CallSiteTransformer(profiler).instrument(bytes(ProfiledFixture.class)));
+
+        assertEquals(2, profiler.getCallSites());
+        assertEquals(3, profiler.getDroppedCallSites());
+        assertEquals(true, invoke("caught", "a"));
+        assertEquals(3.0, (double) invoke("wide", 1L, 1.0, "ab"), 0.0);
+    }
+
+    @Test
+    public void otherProfiler() throws Exception {
+        CallSiteProfiler.install(new CallSiteProfiler(1, 1));
+        assertEquals(12L, invoke("parse", "12"));
+        assertEquals(false, invoke("caught", " "));
+        try {
+            invoke("wide", 1L, 1.0, null);
+            fail("Should have thrown NullPointerException");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof NullPointerException);
+        }
+        assertEquals(0L, CallSiteProfiler.enter(-1));
+        CallSiteProfiler.exit(Integer.MAX_VALUE, 1L);
+        CallSiteProfiler.failed(Integer.MAX_VALUE, 1L);
+    }
+
+    @Test
+    public void skipClasses() throws Exception {
+        CallSiteTransformer transformer = new CallSiteTransformer(profiler);
+        byte[] bytes = bytes(ProfiledFixture.class);
+        assertNull(transformer.transform(null, FIXTURE.replace('.', '/'), null, null, bytes));
+        assertNull(transformer.transform(getClass().getClassLoader(), "us/hawtrey/preconditions/Validate", null,
+                null, bytes(us.hawtrey.preconditions.Validate.class)));
+        assertNull(transformer.transform(getClass().getClassLoader(), getClass().getName().replace('.', '/'), null,
+                null, bytes(Object.class)));
+        try (URLClassLoader isolated = new URLClassLoader(new URL[0], null)) {
+            assertNull(transformer.transform(isolated, FIXTURE.replace('.', '/'), null, null, bytes));
+        }
+        assertTrue(transformer.seesProfiler(getClass().getClassLoader()));
+    }
+
+    @Test
+    public void options() {
+        assertEquals(0, PreconditionsAgent.options(null).size());
+        assertEquals(0, PreconditionsAgent.options(" ").size());
+        assertEquals("16", PreconditionsAgent.options("file=/tmp/a.csv, sampleRate=16").get("sampleRate"));
+        try {
+            PreconditionsAgent.options("sampleRate");
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+    }
+
+    private Object invoke(String name, Object... args) throws Exception {
+        for (Method method : fixture.getMethods()) {
+            if (method.getName().equals(name)) {
+                return method.invoke(null, args);
+            }
+        }
+        throw new NoSuchMethodException(name);
+    }
+
+    /**
+     * Returns the header and the method, target, invocations, failures and samples of every dumped row.
+     */
+    private List<String> dump() throws Exception {
+        StringWriter writer = new StringWriter();
+        profiler.dump(writer);
+        List<String> rows = new ArrayList<>();
+        for (String row : writer.toString().split(System.lineSeparator())) {
+            String[] columns = row.split(",");
+            if (rows.isEmpty()) {
+                rows.add(row);
+            } else {
+                assertEquals(FIXTURE, columns[0]);
+                assertTrue(Integer.parseInt(columns[2]) > 0);
+                rows.add(String.join(",", Arrays.asList(columns).subList(0, 7)).substring(FIXTURE.length() + 1)
+                        .replaceFirst(",\\d+,", ","));
+            }
+        }
+        return rows;
+    }
+
+    private static String row(String method, String target, int invocations, int failures) {
+        return method + ',' + target + ',' + invocations + ',' + failures + ',' + invocations;
+    }
+
+    private static byte[] bytes(Class<?> type) throws Exception {
+        try (InputStream in = type.getResourceAsStream(type.getSimpleName() + ".class")) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int read; (read = in.read(buffer)) > 0; ) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    private static Class<?> load(byte[] bytes) throws Exception {
+        return new ClassLoader(CallSiteTransformerTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (name.equals(FIXTURE)) {
+                    synchronized (getClassLoadingLock(name)) {
+                        Class<?> loaded = findLoadedClass(name);
+                        return loaded != null ? loaded : defineClass(name, bytes, 0, bytes.length);
+                    }
+                }
+                return super.loadClass(name, resolve);
+            }
+        }.loadClass(FIXTURE);
+    }
+}
@@ -0,0 +1,41 @@
+package us.hawtrey.preconditions.agent;
+
+import us.hawtrey.preconditions.Assure;
+import us.hawtrey.preconditions.Validate;
+
+/**
+ * Calls {@link Validate} and {@link Assure} in the places that {@link CallSiteTransformer} has to handle.
+ */
+public class ProfiledFixture {
+    private final String name;
+
+    public ProfiledFixture(String name) {
+        this(Validate.notBlank(name), 0);
+    }
+
+    private ProfiledFixture(String name, int unused) {
+        super();
+        this.name = Validate.notNull(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public static long parse(String value) {
+        return Assure.longValue(value, -1L);
+    }
+
+    public static boolean caught(String value) {
+        try {
+            Validate.notBlank(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public static double wide(long a, double b, String value) {
+        return a + b * Validate.notNull(value).length();
+    }
+}
@@ -0,0 +1,204 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.Assure;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Valid input, invalid input and {@code null} paths of the {@link Assure} conversions.
+ * The collection conversions are measured both when the reference already has the requested
+ * type and when it has to be copied into a new collection.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AssureBenchmark {
+    private static final int COLLECTION_SIZE = 100;
+
+    private String numberText = "  1042  ";
+    private String decimalText = "1042.25";
+    private String badText = "10x42";
+    private StringBuilder numberBuilder = new StringBuilder(numberText);
+    private char[] recordChars = "id=1042;".toCharArray();
+    private ByteBuffer recordBytes = ByteBuffer.wrap("id=1042;".getBytes(StandardCharsets.US_ASCII));
+    private String nullText = null;
+    private String mixedCaseText = "  Foo Bar Baz  ";
+    private ArrayList<Integer> arrayList = new ArrayList<>();
+    private Set<Integer> set = new HashSet<>();
+    private List<Integer> nullList = null;
+    private HashMap<Integer, Integer> hashMap = new HashMap<>();
+    private Map<Integer, Integer> treeMap = new TreeMap<>();
+    private Map<Integer, Integer> nullMap = null;
+    private StringBuilder nullBuilder = null;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < COLLECTION_SIZE; i++) {
+            arrayList.add(i);
+            set.add(i);
+            hashMap.put(i, i);
+            treeMap.put(i, i);
+        }
+    }
+
+    @Benchmark
+    public int intValueValid() {
+        return Assure.intValue(numberText);
+    }
+
+    @Benchmark
+    public int intValueInvalid() {
+        return Assure.intValue(badText, -1);
+    }
+
+    @Benchmark
+    public int intValueNull() {
+        return Assure.intValue(nullText, -1);
+    }
+
+    @Benchmark
+    public long longValueValid() {
+        return Assure.longValue(numberText);
+    }
+
+    @Benchmark
+    public long longValueInvalid() {
+        return Assure.longValue(badText, -1L);
+    }
+
+    @Benchmark
+    public long longValueBuilder() {
+        return Assure.longValue(numberBuilder);
+    }
+
+    @Benchmark
+    public long longValueChars() {
+        return Assure.longValue(recordChars, 3, 4);
+    }
+
+    @Benchmark
+    public long longValueBytes() {
+        return Assure.longValue(recordBytes, 3, 7);
+    }
+
+    @Benchmark
+    public Object doubleOrNullValid() {
+        return Assure.doubleOrNull(decimalText);
+    }
+
+    @Benchmark
+    public Object doubleOrNullInvalid() {
+        return Assure.doubleOrNull(badText);
+    }
+
+    @Benchmark
+    public Object doubleOrNullNull() {
+        return Assure.doubleOrNull(nullText);
+    }
+
+    @Benchmark
+    public Object trimmedLowerOrEmptyValue() {
+        return Assure.trimmedLowerOrEmpty(mixedCaseText);
+    }
+
+    @Benchmark
+    public Object trimmedLowerOrEmptyNull() {
+        return Assure.trimmedLowerOrEmpty(nullText);
+    }
+
+    @Benchmark
+    public Object arrayListSameType() {
+        return Assure.arrayList(arrayList);
+    }
+
+    @Benchmark
+    public Object arrayListCopy() {
+        return Assure.arrayList(set);
+    }
+
+    @Benchmark
+    public Object arrayListNull() {
+        return Assure.arrayList(nullList);
+    }
+
+    @Benchmark
+    public Object arrayListCopyGrow() {
+        ArrayList<Integer> list = Assure.arrayList(set);
+        list.addAll(set);
+        return list;
+    }
+
+    @Benchmark
+    public Object arrayListPresizedCopyGrow() {
+        ArrayList<Integer> list = Assure.arrayList(set, 2 * COLLECTION_SIZE);
+        list.addAll(set);
+        return list;
+    }
+
+    @Benchmark
+    public Object readOnlyListView() {
+        return Assure.readOnlyList(arrayList);
+    }
+
+    @Benchmark
+    public Object readOnlyListNull() {
+        return Assure.readOnlyList(nullList);
+    }
+
+    @Benchmark
+    public Object readOnlyMapView() {
+        return Assure.readOnlyMap(treeMap);
+    }
+
+    @Benchmark
+    public Object hashMapSameType() {
+        return Assure.hashMap(hashMap);
+    }
+
+    @Benchmark
+    public Object hashMapCopy() {
+        return Assure.hashMap(treeMap);
+    }
+
+    @Benchmark
+    public Object hashMapNull() {
+        return Assure.hashMap(nullMap);
+    }
+
+    @Benchmark
+    public Object notNullListNull() {
+        return Assure.notNull(nullList);
+    }
+
+    @Benchmark
+    public Object notNullClassNull() {
+        return Assure.notNull(nullBuilder, StringBuilder.class);
+    }
+
+    @Benchmark
+    public Object notNullSupplierNull() {
+        return Assure.notNullLazy(nullBuilder, StringBuilder::new);
+    }
+}
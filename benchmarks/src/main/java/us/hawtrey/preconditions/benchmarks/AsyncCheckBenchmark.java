@@ -0,0 +1,69 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.AsyncCheck;
+import us.hawtrey.preconditions.Validate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Checking that 64 ids exist in a store whose every lookup costs a 50 microsecond round trip: one
+ * {@link Validate#argument} per id after its own lookup, and one {@link AsyncCheck} batch of all the ids.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AsyncCheckBenchmark {
+    private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private Set<Long> store = new HashSet<>();
+    private List<Long> ids = new ArrayList<>();
+    private AsyncCheck<Long> exists;
+
+    @Setup
+    public void setUp() {
+        for (long id = 0; id < 64; id++) {
+            store.add(id);
+            ids.add(id);
+        }
+        exists = AsyncCheck.batched(this::existing).maxBatchSize(64).maxDelay(1, TimeUnit.MILLISECONDS).build();
+    }
+
+    private Set<Long> existing(Set<Long> checked) {
+        LockSupport.parkNanos(ROUND_TRIP_NANOS);
+        Set<Long> found = new HashSet<>(checked);
+        found.retainAll(store);
+        return found;
+    }
+
+    @Benchmark
+    public Object serial() {
+        for (Long id : ids) {
+            Validate.argument(id, existing(Collections.singleton(id)).contains(id));
+        }
+        return ids;
+    }
+
+    @Benchmark
+    public Object batched() {
+        return exists.validateAll(ids).join();
+    }
+}
@@ -0,0 +1,108 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.Constraints;
+import us.hawtrey.preconditions.Validate;
+import us.hawtrey.preconditions.Validator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady state cost of validating a bean through its {@link Constraints} annotations on fields and on getters against
+ * the same checks written as hand-written {@link Validate} calls.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BeanValidatorBenchmark {
+    private static final Validator<Customer> VALIDATOR = Validator.forClass(Customer.class);
+    private static final Validator<Supplier> GETTERS = Validator.forClass(Supplier.class);
+
+    private Customer customer = new Customer();
+    private Supplier supplier = new Supplier();
+
+    @Benchmark
+    public Object handWritten() {
+        Customer value = Validate.notNull(customer);
+        Validate.notNull(value.id, "The customer id is null");
+        Validate.notBlank(value.name);
+        Validate.inLongRange(value.age, 0, 130);
+        Validate.positive(value.balance);
+        Validate.inRange(value.tags.size(), 1, 4);
+        return value;
+    }
+
+    @Benchmark
+    public Object annotated() {
+        return VALIDATOR.validate(customer);
+    }
+
+    @Benchmark
+    public Object annotatedGetters() {
+        return GETTERS.validate(supplier);
+    }
+
+    @Benchmark
+    public Object annotatedLookup() {
+        return Validator.forClass(Customer.class).validate(customer);
+    }
+
+    public static final class Customer {
+        @Constraints.NotNull(message = "The customer id is null")
+        private Long id = 1L;
+        @Constraints.NotBlank
+        private String name = "ACME";
+        @Constraints.Range(start = 0, end = 130)
+        private int age = 30;
+        @Constraints.Positive
+        private Double balance = 10D;
+        @Constraints.Size(start = 1, end = 4)
+        private List<String> tags = Arrays.asList("a", "b");
+    }
+
+    public static final class Supplier {
+        private Long id = 1L;
+        private String name = "ACME";
+        private int rating = 3;
+        private Double balance = 10D;
+        private List<String> tags = Arrays.asList("a", "b");
+
+        @Constraints.NotNull(message = "The supplier id is null")
+        public Long getId() {
+            return id;
+        }
+
+        @Constraints.NotBlank
+        public String getName() {
+            return name;
+        }
+
+        @Constraints.Range(start = 0, end = 6)
+        public int getRating() {
+            return rating;
+        }
+
+        @Constraints.Positive
+        public Double getBalance() {
+            return balance;
+        }
+
+        @Constraints.Size(start = 1, end = 4)
+        public List<String> getTags() {
+            return tags;
+        }
+    }
+}
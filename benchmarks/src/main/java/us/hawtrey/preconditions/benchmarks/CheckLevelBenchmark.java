@@ -0,0 +1,77 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.CheckLevel;
+import us.hawtrey.preconditions.Validate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a {@link CheckLevel#PARANOID} scan of a sorted array when the level is disabled, compared with no check,
+ * a guard reading a volatile flag, and the level enabled.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class CheckLevelBenchmark {
+    private static volatile boolean paranoid;
+
+    private int[] values = new int[1000];
+    private int index = 500;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int unchecked() {
+        return values[index];
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int disabled() {
+        CheckLevel.PARANOID.check(() -> Validate.argument(values, isSorted(values), "The values are not sorted"));
+        return values[index];
+    }
+
+    @Benchmark
+    @Fork(1)
+    public int volatileDisabled() {
+        if (paranoid) {
+            Validate.argument(values, isSorted(values), "The values are not sorted");
+        }
+        return values[index];
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dus.hawtrey.preconditions.checkLevels=PARANOID")
+    public int enabled() {
+        CheckLevel.PARANOID.check(() -> Validate.argument(values, isSorted(values), "The values are not sorted"));
+        return values[index];
+    }
+
+    private static boolean isSorted(int[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i - 1] > values[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
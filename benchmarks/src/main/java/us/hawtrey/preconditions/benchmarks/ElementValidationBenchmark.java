@@ -0,0 +1,67 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.Validate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Validating the elements of a stream of strings with {@link Validate#elements}, the validating collector and the
+ * usual {@code map} lambda, sequentially and in parallel.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ElementValidationBenchmark {
+    private static final Consumer<String> NOT_BLANK = Validate::notBlank;
+
+    private List<String> names = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < 10_000; i++) {
+            names.add("name" + i);
+        }
+    }
+
+    @Benchmark
+    public long mapLambda() {
+        return names.stream().map(Validate::notBlank).mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public long elements() {
+        return Validate.elements(names.stream(), NOT_BLANK).mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public long elementsParallel() {
+        return Validate.elements(names.parallelStream(), NOT_BLANK).mapToInt(String::length).sum();
+    }
+
+    @Benchmark
+    public Object validatingCollector() {
+        return names.stream().collect(Validate.validatingCollector(NOT_BLANK));
+    }
+
+    @Benchmark
+    public Object toList() {
+        return names.stream().map(Validate::notBlank).collect(Collectors.toList());
+    }
+}
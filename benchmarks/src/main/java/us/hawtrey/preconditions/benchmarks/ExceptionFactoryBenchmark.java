@@ -0,0 +1,72 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.ExceptionFactories;
+import us.hawtrey.preconditions.ExceptionFactory;
+import us.hawtrey.preconditions.Validate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a failing {@link Validate} check with each of the built-in {@link ExceptionFactory} modes, for a
+ * constant message and for a default message formatted from the failed value.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExceptionFactoryBenchmark {
+    private String blank = "   ";
+    private String badText = "10x42";
+
+    @Benchmark
+    public Object constantFullStackTrace() {
+        return ExceptionFactories.call(ExceptionFactories.fullStackTrace(), this::notBlankFail);
+    }
+
+    @Benchmark
+    public Object constantStackless() {
+        return ExceptionFactories.call(ExceptionFactories.stackless(), this::notBlankFail);
+    }
+
+    @Benchmark
+    public Object constantCached() {
+        return ExceptionFactories.call(ExceptionFactories.cached(), this::notBlankFail);
+    }
+
+    @Benchmark
+    public Object formattedFullStackTrace() {
+        return ExceptionFactories.call(ExceptionFactories.fullStackTrace(), this::intValueFail);
+    }
+
+    @Benchmark
+    public Object formattedStackless() {
+        return ExceptionFactories.call(ExceptionFactories.stackless(), this::intValueFail);
+    }
+
+    private Object notBlankFail() {
+        try {
+            return Validate.notBlank(blank, "The name is blank");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    private Object intValueFail() {
+        try {
+            return Validate.intValue(badText);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+}
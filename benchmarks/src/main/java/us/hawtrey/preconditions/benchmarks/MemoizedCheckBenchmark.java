@@ -0,0 +1,69 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.MemoizedCheck;
+import us.hawtrey.preconditions.Validate;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validating SKU codes drawn from 4096 codes with a skewed popularity against a regular expression compiled on every
+ * call: directly with {@link Validate#argument}, and through {@link MemoizedCheck}s keeping 256 and 8192 results.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MemoizedCheckBenchmark {
+    private String[] skus = new String[1 << 16];
+    private int index;
+    private MemoizedCheck<String> small;
+    private MemoizedCheck<String> large;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        for (int i = 0; i < skus.length; i++) {
+            double skewed = Math.pow(random.nextDouble(), 4);
+            skus[i] = String.format("ABC-%05d", (int) (skewed * 4096));
+        }
+        small = MemoizedCheck.of(MemoizedCheckBenchmark::isSku).maximumSize(256).build();
+        large = MemoizedCheck.of(MemoizedCheckBenchmark::isSku).maximumSize(8192).build();
+    }
+
+    private static boolean isSku(String value) {
+        return value.matches("[A-Z]{3}-\\d{5}");
+    }
+
+    private String next() {
+        return skus[index++ & (skus.length - 1)];
+    }
+
+    @Benchmark
+    public String direct() {
+        String sku = next();
+        return Validate.argument(sku, isSku(sku));
+    }
+
+    @Benchmark
+    public String memoizedSmall() {
+        return small.validate(next());
+    }
+
+    @Benchmark
+    public String memoizedLarge() {
+        return large.validate(next());
+    }
+}
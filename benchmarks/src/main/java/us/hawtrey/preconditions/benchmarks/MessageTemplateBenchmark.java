@@ -0,0 +1,53 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.MessageTemplate;
+import us.hawtrey.preconditions.Validate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of rendering failure messages: {@link String#format(String, Object...)} against {@link MessageTemplate},
+ * and a failing {@link Validate} check whose message is actually read.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageTemplateBenchmark {
+    private static final String TEMPLATE = "The %s index (%s) is invalid for a collection with size (%s)";
+
+    private String type = "element";
+    private int index = 1042;
+    private int size = 12;
+    private String badText = "10x42";
+
+    @Benchmark
+    public String stringFormat() {
+        return String.format(TEMPLATE, type, index, size);
+    }
+
+    @Benchmark
+    public String messageTemplate() {
+        return MessageTemplate.format(TEMPLATE, type, index, size);
+    }
+
+    @Benchmark
+    public String failureMessage() {
+        try {
+            return String.valueOf(Validate.intValue(badText));
+        } catch (NumberFormatException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.Validate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Matching of a product code, a literal prefix and an expression the fast paths leave to the regex engine, with
+ * {@code String.matches} compiling the expression on every call, with {@code Validate.matches} and with a
+ * precompiled {@link Pattern}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PatternBenchmark {
+    private static final Pattern CODE_PATTERN = Pattern.compile("[A-Z]{3}-\\d{5}");
+    private static final Pattern GROUP_PATTERN = Pattern.compile("(\\d{3}-)+\\d{4}");
+
+    private String code = "XYZ-12345";
+    private String codeRegex = "[A-Z]{3}-\\d{5}";
+    private String path = "/api/v2/orders/12345";
+    private String prefixRegex = "/api/v2/.*";
+    private String phone = "555-123-4567";
+    private String groupRegex = "(\\d{3}-)+\\d{4}";
+
+    @Benchmark
+    public String stringMatchesCode() {
+        return Validate.argument(code, code.matches(codeRegex));
+    }
+
+    @Benchmark
+    public String patternMatcherCode() {
+        return Validate.argument(code, CODE_PATTERN.matcher(code).matches());
+    }
+
+    @Benchmark
+    public String validateMatchesCode() {
+        return Validate.matches(code, codeRegex);
+    }
+
+    @Benchmark
+    public String validateMatchesCodePattern() {
+        return Validate.matches(code, CODE_PATTERN);
+    }
+
+    @Benchmark
+    public String stringMatchesPrefix() {
+        return Validate.argument(path, path.matches(prefixRegex));
+    }
+
+    @Benchmark
+    public String validateMatchesPrefix() {
+        return Validate.matches(path, prefixRegex);
+    }
+
+    @Benchmark
+    public String stringMatchesGroup() {
+        return Validate.argument(phone, phone.matches(groupRegex));
+    }
+
+    @Benchmark
+    public String patternMatcherGroup() {
+        return Validate.argument(phone, GROUP_PATTERN.matcher(phone).matches());
+    }
+
+    @Benchmark
+    public String validateMatchesGroup() {
+        return Validate.matches(phone, groupRegex);
+    }
+
+    @Benchmark
+    public String validateMatchesGroupPattern() {
+        return Validate.matches(phone, GROUP_PATTERN);
+    }
+}
@@ -0,0 +1,45 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.PreconditionsMetrics;
+import us.hawtrey.preconditions.Validate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of passing {@link Validate} checks with the {@link PreconditionsMetrics} disabled, the default, and enabled.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Thread)
+public class PreconditionsMetricsBenchmark {
+    private String name = "ACME";
+    private int quantity = 5;
+
+    @Benchmark
+    @Fork(1)
+    public int disabled() {
+        return checks();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dus.hawtrey.preconditions.metrics=true")
+    public int enabled() {
+        return checks();
+    }
+
+    private int checks() {
+        Validate.notBlank(name, "The name is blank");
+        return Validate.inIntRange(quantity, 1, 1000);
+    }
+}
@@ -0,0 +1,135 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.RecordValidator;
+import us.hawtrey.preconditions.Validate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validating a file of one million 32 byte trade records by decoding each record into an object checked with
+ * {@link Validate}, compared with a {@link RecordValidator} on one thread and on the common pool.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RecordValidatorBenchmark {
+    private static final int LENGTH = 32;
+    private static final int RECORDS = 1_000_000;
+
+    private Path file;
+    private MappedByteBuffer mapped;
+    private ForkJoinPool single;
+    private RecordValidator sequential;
+    private RecordValidator parallel;
+
+    @Setup
+    public void setUp() throws IOException {
+        ByteBuffer records = ByteBuffer.allocate(RECORDS * LENGTH);
+        for (int i = 0; i < RECORDS; i++) {
+            int offset = i * LENGTH;
+            records.putLong(offset, i + 1L);
+            records.putInt(offset + 8, i % 999 + 1);
+            records.putDouble(offset + 12, 9.99D);
+            byte[] sku = String.format("SKU-%08d", i).getBytes(StandardCharsets.US_ASCII);
+            for (int j = 0; j < sku.length; j++) {
+                records.put(offset + 20 + j, sku[j]);
+            }
+        }
+        file = Files.createTempFile("records", ".bin");
+        Files.write(file, records.array());
+        try (FileChannel channel = FileChannel.open(file)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        single = new ForkJoinPool(1);
+        sequential = builder().pool(single).build();
+        parallel = builder().build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        single.shutdown();
+        Files.delete(file);
+    }
+
+    private static RecordValidator.Builder builder() {
+        return RecordValidator.builder(LENGTH)
+                .positiveLong(0)
+                .inIntRange(8, 1, 1000)
+                .positiveDouble(12)
+                .notBlank(20, 12);
+    }
+
+    @Benchmark
+    public long decodeAndValidate() {
+        long total = 0;
+        byte[] sku = new byte[12];
+        for (int offset = 0; offset < RECORDS * LENGTH; offset += LENGTH) {
+            Trade trade = new Trade(mapped.getLong(offset), mapped.getInt(offset + 8), mapped.getDouble(offset + 12),
+                    sku(offset + 20, sku));
+            Validate.positive(trade.id);
+            Validate.inIntRange(trade.quantity, 1, 1000);
+            Validate.positive(trade.price);
+            Validate.notBlank(trade.sku);
+            total += trade.quantity;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Object recordValidatorBuffer() {
+        return sequential.validate(mapped);
+    }
+
+    @Benchmark
+    public Object recordValidatorFile() throws IOException {
+        return sequential.validate(file);
+    }
+
+    @Benchmark
+    public Object recordValidatorFileParallel() throws IOException {
+        return parallel.validate(file);
+    }
+
+    private String sku(int offset, byte[] sku) {
+        for (int i = 0; i < sku.length; i++) {
+            sku[i] = mapped.get(offset + i);
+        }
+        return new String(sku, StandardCharsets.US_ASCII);
+    }
+
+    private static final class Trade {
+        final long id;
+        final int quantity;
+        final double price;
+        final String sku;
+
+        Trade(long id, int quantity, double price, String sku) {
+            this.id = id;
+            this.quantity = quantity;
+            this.price = price;
+            this.sku = sku;
+        }
+    }
+}
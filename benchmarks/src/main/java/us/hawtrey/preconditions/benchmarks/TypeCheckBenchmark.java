@@ -0,0 +1,94 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.TypeCheck;
+import us.hawtrey.preconditions.Validate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checks of one plugin class against two of its many interfaces in turn, which rewrites the JVM's one-entry
+ * secondary supertype cache on every plain {@code Class.isInstance}, compared with the cached {@link TypeCheck}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TypeCheckBenchmark {
+    private static final TypeCheck<First> FIRST = TypeCheck.of(First.class);
+    private static final TypeCheck<Last> LAST = TypeCheck.of(Last.class);
+
+    private Object plugin = new Plugin();
+    private Class<?> firstType = First.class;
+    private Class<?> lastType = Last.class;
+
+    @Benchmark
+    public boolean isInstanceAlternating() {
+        return firstType.isInstance(plugin) & lastType.isInstance(plugin);
+    }
+
+    @Benchmark
+    public Object validateAlternating() {
+        Validate.instanceOfType(plugin, firstType);
+        return Validate.instanceOfType(plugin, lastType);
+    }
+
+    @Benchmark
+    public Object typeCheckAlternating() {
+        FIRST.instanceOfType(plugin);
+        return LAST.instanceOfType(plugin);
+    }
+
+    @Benchmark
+    public Object validateSingle() {
+        return Validate.instanceOfType(plugin, lastType);
+    }
+
+    @Benchmark
+    public Object typeCheckSingle() {
+        return LAST.instanceOfType(plugin);
+    }
+
+    public interface First {
+    }
+
+    public interface A {
+    }
+
+    public interface B {
+    }
+
+    public interface C {
+    }
+
+    public interface D {
+    }
+
+    public interface E {
+    }
+
+    public interface F {
+    }
+
+    public interface G {
+    }
+
+    public interface H {
+    }
+
+    public interface Last {
+    }
+
+    public static class Plugin implements First, A, B, C, D, E, F, G, H, Last {
+    }
+}
@@ -0,0 +1,305 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.Validate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passing and failing paths of the {@link Validate} size and index checks:
+ * {@code notEmpty}, {@code elementIndex} and {@code positionIndex}.
+ * Every check is measured in its message-less, {@code msg} and {@code msgTemplate, msgArgs...} form.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidateIndexBenchmark {
+    private static final String MSG = "The index is invalid";
+    private static final String TEMPLATE = "The index (%s) is invalid for code %s";
+
+    private String text = "abcd";
+    private List<String> list = new ArrayList<>();
+    private List<String> emptyList = new ArrayList<>();
+    private Map<String, String> map = new HashMap<>();
+    private Map<String, String> emptyMap = new HashMap<>();
+    private int index = 2;
+    private int badIndex = 4;
+    private int code = 1042;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < text.length(); i++) {
+            String element = String.valueOf(text.charAt(i));
+            list.add(element);
+            map.put(element, element);
+        }
+    }
+
+    @Benchmark
+    public Object notEmptyCollectionPass() {
+        return Validate.notEmpty(list);
+    }
+
+    @Benchmark
+    public Object notEmptyCollectionPassMsg() {
+        return Validate.notEmpty(list, MSG);
+    }
+
+    @Benchmark
+    public Object notEmptyCollectionPassTemplate() {
+        return Validate.notEmpty(list, TEMPLATE, text, code);
+    }
+
+    @Benchmark
+    public Object notEmptyCollectionFail() {
+        try {
+            return Validate.notEmpty(emptyList);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object notEmptyCollectionFailMsg() {
+        try {
+            return Validate.notEmpty(emptyList, MSG);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object notEmptyCollectionFailTemplate() {
+        try {
+            return Validate.notEmpty(emptyList, TEMPLATE, text, code);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object notEmptyMapPass() {
+        return Validate.notEmpty(map);
+    }
+
+    @Benchmark
+    public Object notEmptyMapPassMsg() {
+        return Validate.notEmpty(map, MSG);
+    }
+
+    @Benchmark
+    public Object notEmptyMapPassTemplate() {
+        return Validate.notEmpty(map, TEMPLATE, text, code);
+    }
+
+    @Benchmark
+    public Object notEmptyMapFail() {
+        try {
+            return Validate.notEmpty(emptyMap);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object notEmptyMapFailMsg() {
+        try {
+            return Validate.notEmpty(emptyMap, MSG);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object notEmptyMapFailTemplate() {
+        try {
+            return Validate.notEmpty(emptyMap, TEMPLATE, text, code);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object elementIndexCollectionPass() {
+        return Validate.elementIndex(list, index);
+    }
+
+    @Benchmark
+    public Object elementIndexCollectionPassMsg() {
+        return Validate.elementIndex(list, index, MSG);
+    }
+
+    @Benchmark
+    public Object elementIndexCollectionPassTemplate() {
+        return Validate.elementIndex(list, index, TEMPLATE, index, code);
+    }
+
+    @Benchmark
+    public Object elementIndexCollectionFail() {
+        try {
+            return Validate.elementIndex(list, badIndex);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object elementIndexCollectionFailMsg() {
+        try {
+            return Validate.elementIndex(list, badIndex, MSG);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object elementIndexCollectionFailTemplate() {
+        try {
+            return Validate.elementIndex(list, badIndex, TEMPLATE, badIndex, code);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object elementIndexStringPass() {
+        return Validate.elementIndex(text, index);
+    }
+
+    @Benchmark
+    public Object elementIndexStringPassMsg() {
+        return Validate.elementIndex(text, index, MSG);
+    }
+
+    @Benchmark
+    public Object elementIndexStringPassTemplate() {
+        return Validate.elementIndex(text, index, TEMPLATE, index, code);
+    }
+
+    @Benchmark
+    public Object elementIndexStringFail() {
+        try {
+            return Validate.elementIndex(text, badIndex);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object elementIndexStringFailMsg() {
+        try {
+            return Validate.elementIndex(text, badIndex, MSG);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object elementIndexStringFailTemplate() {
+        try {
+            return Validate.elementIndex(text, badIndex, TEMPLATE, badIndex, code);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object positionIndexCollectionPass() {
+        return Validate.positionIndex(list, index);
+    }
+
+    @Benchmark
+    public Object positionIndexCollectionPassMsg() {
+        return Validate.positionIndex(list, index, MSG);
+    }
+
+    @Benchmark
+    public Object positionIndexCollectionPassTemplate() {
+        return Validate.positionIndex(list, index, TEMPLATE, index, code);
+    }
+
+    @Benchmark
+    public Object positionIndexCollectionFail() {
+        try {
+            return Validate.positionIndex(list, badIndex + 1);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object positionIndexCollectionFailMsg() {
+        try {
+            return Validate.positionIndex(list, badIndex + 1, MSG);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object positionIndexCollectionFailTemplate() {
+        try {
+            return Validate.positionIndex(list, badIndex + 1, TEMPLATE, badIndex, code);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object positionIndexStringPass() {
+        return Validate.positionIndex(text, index);
+    }
+
+    @Benchmark
+    public Object positionIndexStringPassMsg() {
+        return Validate.positionIndex(text, index, MSG);
+    }
+
+    @Benchmark
+    public Object positionIndexStringPassTemplate() {
+        return Validate.positionIndex(text, index, TEMPLATE, index, code);
+    }
+
+    @Benchmark
+    public Object positionIndexStringFail() {
+        try {
+            return Validate.positionIndex(text, badIndex + 1);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object positionIndexStringFailMsg() {
+        try {
+            return Validate.positionIndex(text, badIndex + 1, MSG);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object positionIndexStringFailTemplate() {
+        try {
+            return Validate.positionIndex(text, badIndex + 1, TEMPLATE, badIndex, code);
+        } catch (IndexOutOfBoundsException e) {
+            return e;
+        }
+    }
+}
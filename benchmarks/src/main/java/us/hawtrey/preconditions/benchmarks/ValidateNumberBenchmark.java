@@ -0,0 +1,481 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.Validate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passing and failing paths of the {@link Validate} numeric checks:
+ * {@code inRange}, the {@code positive}/{@code negative} families and the {@code *Value} parsers.
+ * Every check is measured in its message-less, {@code msg} and {@code msgTemplate, msgArgs...} form.
+ * The primitive fields are passed as-is, so the sign checks resolve to the {@code int} specializations while
+ * {@code inRange} and the template forms still box at the call site.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidateNumberBenchmark {
+    private static final String MSG = "The number is invalid";
+    private static final String TEMPLATE = "The number (%s) is invalid for code %s";
+
+    private int number = 1042;
+    private int negativeNumber = -1042;
+    private int low = 0;
+    private int high = 10000;
+    private int max = 20000;
+    private int code = 1042;
+    private String numberText = "1042";
+    private String decimalText = "1042.25";
+    private String badText = "10x42";
+
+    @Benchmark
+    public Object inRangePass() {
+        return Validate.inRange(number, low, high);
+    }
+
+    @Benchmark
+    public Object inRangePassMsg() {
+        return Validate.inRange(number, low, high, MSG);
+    }
+
+    @Benchmark
+    public Object inRangePassTemplate() {
+        return Validate.inRange(number, low, high, TEMPLATE, number, code);
+    }
+
+    @Benchmark
+    public Object inRangeFail() {
+        try {
+            return Validate.inRange(number, high, max);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object inRangeFailMsg() {
+        try {
+            return Validate.inRange(number, high, max, MSG);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object inRangeFailTemplate() {
+        try {
+            return Validate.inRange(number, high, max, TEMPLATE, number, code);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public int inIntRangePass() {
+        return Validate.inIntRange(number, low, high);
+    }
+
+    @Benchmark
+    public Object inIntRangeFail() {
+        try {
+            return Validate.inIntRange(number, high, max);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object positivePass() {
+        return Validate.positive(number);
+    }
+
+    @Benchmark
+    public Object positivePassMsg() {
+        return Validate.positive(number, MSG);
+    }
+
+    @Benchmark
+    public Object positivePassTemplate() {
+        return Validate.positive(number, TEMPLATE, number, code);
+    }
+
+    @Benchmark
+    public Object positivePassSupplier() {
+        return Validate.positiveLazy(number, () -> String.format(TEMPLATE, number, code));
+    }
+
+    @Benchmark
+    public Object positiveFail() {
+        try {
+            return Validate.positive(negativeNumber);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object positiveFailMsg() {
+        try {
+            return Validate.positive(negativeNumber, MSG);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object positiveFailTemplate() {
+        try {
+            return Validate.positive(negativeNumber, TEMPLATE, negativeNumber, code);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object positiveOrZeroPass() {
+        return Validate.positiveOrZero(number);
+    }
+
+    @Benchmark
+    public Object positiveOrZeroPassMsg() {
+        return Validate.positiveOrZero(number, MSG);
+    }
+
+    @Benchmark
+    public Object positiveOrZeroPassTemplate() {
+        return Validate.positiveOrZero(number, TEMPLATE, number, code);
+    }
+
+    @Benchmark
+    public Object positiveOrZeroFail() {
+        try {
+            return Validate.positiveOrZero(negativeNumber);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object positiveOrZeroFailMsg() {
+        try {
+            return Validate.positiveOrZero(negativeNumber, MSG);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object positiveOrZeroFailTemplate() {
+        try {
+            return Validate.positiveOrZero(negativeNumber, TEMPLATE, negativeNumber, code);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object negativePass() {
+        return Validate.negative(negativeNumber);
+    }
+
+    @Benchmark
+    public Object negativePassMsg() {
+        return Validate.negative(negativeNumber, MSG);
+    }
+
+    @Benchmark
+    public Object negativePassTemplate() {
+        return Validate.negative(negativeNumber, TEMPLATE, negativeNumber, code);
+    }
+
+    @Benchmark
+    public Object negativeFail() {
+        try {
+            return Validate.negative(number);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object negativeFailMsg() {
+        try {
+            return Validate.negative(number, MSG);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object negativeFailTemplate() {
+        try {
+            return Validate.negative(number, TEMPLATE, number, code);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object negativeOrZeroPass() {
+        return Validate.negativeOrZero(negativeNumber);
+    }
+
+    @Benchmark
+    public Object negativeOrZeroPassMsg() {
+        return Validate.negativeOrZero(negativeNumber, MSG);
+    }
+
+    @Benchmark
+    public Object negativeOrZeroPassTemplate() {
+        return Validate.negativeOrZero(negativeNumber, TEMPLATE, negativeNumber, code);
+    }
+
+    @Benchmark
+    public Object negativeOrZeroFail() {
+        try {
+            return Validate.negativeOrZero(number);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object negativeOrZeroFailMsg() {
+        try {
+            return Validate.negativeOrZero(number, MSG);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object negativeOrZeroFailTemplate() {
+        try {
+            return Validate.negativeOrZero(number, TEMPLATE, number, code);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object intValuePass() {
+        return Validate.intValue(numberText);
+    }
+
+    @Benchmark
+    public Object intValuePassMsg() {
+        return Validate.intValue(numberText, MSG);
+    }
+
+    @Benchmark
+    public Object intValuePassTemplate() {
+        return Validate.intValue(numberText, TEMPLATE, numberText, code);
+    }
+
+    @Benchmark
+    public Object intValueFail() {
+        try {
+            return Validate.intValue(badText);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object intValueFailMsg() {
+        try {
+            return Validate.intValue(badText, MSG);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object intValueFailTemplate() {
+        try {
+            return Validate.intValue(badText, TEMPLATE, badText, code);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object strictlyIntValuePass() {
+        return Validate.strictlyIntValue(numberText);
+    }
+
+    @Benchmark
+    public Object strictlyIntValuePassMsg() {
+        return Validate.strictlyIntValue(numberText, MSG);
+    }
+
+    @Benchmark
+    public Object strictlyIntValuePassTemplate() {
+        return Validate.strictlyIntValue(numberText, TEMPLATE, numberText, code);
+    }
+
+    @Benchmark
+    public Object strictlyIntValueFail() {
+        try {
+            return Validate.strictlyIntValue(decimalText);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object strictlyIntValueFailMsg() {
+        try {
+            return Validate.strictlyIntValue(decimalText, MSG);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object strictlyIntValueFailTemplate() {
+        try {
+            return Validate.strictlyIntValue(decimalText, TEMPLATE, decimalText, code);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object longValuePass() {
+        return Validate.longValue(numberText);
+    }
+
+    @Benchmark
+    public Object longValuePassMsg() {
+        return Validate.longValue(numberText, MSG);
+    }
+
+    @Benchmark
+    public Object longValuePassTemplate() {
+        return Validate.longValue(numberText, TEMPLATE, numberText, code);
+    }
+
+    @Benchmark
+    public Object longValueFail() {
+        try {
+            return Validate.longValue(badText);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object longValueFailMsg() {
+        try {
+            return Validate.longValue(badText, MSG);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object longValueFailTemplate() {
+        try {
+            return Validate.longValue(badText, TEMPLATE, badText, code);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object floatValuePass() {
+        return Validate.floatValue(decimalText);
+    }
+
+    @Benchmark
+    public Object floatValuePassMsg() {
+        return Validate.floatValue(decimalText, MSG);
+    }
+
+    @Benchmark
+    public Object floatValuePassTemplate() {
+        return Validate.floatValue(decimalText, TEMPLATE, decimalText, code);
+    }
+
+    @Benchmark
+    public Object floatValueFail() {
+        try {
+            return Validate.floatValue(badText);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object floatValueFailMsg() {
+        try {
+            return Validate.floatValue(badText, MSG);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object floatValueFailTemplate() {
+        try {
+            return Validate.floatValue(badText, TEMPLATE, badText, code);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object doubleValuePass() {
+        return Validate.doubleValue(decimalText);
+    }
+
+    @Benchmark
+    public Object doubleValuePassMsg() {
+        return Validate.doubleValue(decimalText, MSG);
+    }
+
+    @Benchmark
+    public Object doubleValuePassTemplate() {
+        return Validate.doubleValue(decimalText, TEMPLATE, decimalText, code);
+    }
+
+    @Benchmark
+    public Object doubleValueFail() {
+        try {
+            return Validate.doubleValue(badText);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object doubleValueFailMsg() {
+        try {
+            return Validate.doubleValue(badText, MSG);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object doubleValueFailTemplate() {
+        try {
+            return Validate.doubleValue(badText, TEMPLATE, badText, code);
+        } catch (NumberFormatException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.Validate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Passing and failing paths of the {@link Validate} object checks:
+ * {@code notNull}, {@code notBlank}, {@code argument}, {@code instanceOfType} and {@code assignableFromClass}.
+ * Every check is measured in its message-less, {@code msg} and {@code msgTemplate, msgArgs...} form.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidateObjectBenchmark {
+    private static final String MSG = "The value is invalid";
+    private static final String TEMPLATE = "The value (%s) is invalid for code %s";
+
+    private String value = "abc";
+    private String nullValue = null;
+    private String blankValue = "   ";
+    private boolean truth = true;
+    private boolean falsehood = false;
+    private int code = 1042;
+    private Object list = new ArrayList<String>();
+    private Class<?> listType = List.class;
+    private Class<?> arrayListType = ArrayList.class;
+    private Class<?> stringType = String.class;
+
+    @Benchmark
+    public Object notNullPass() {
+        return Validate.notNull(value);
+    }
+
+    @Benchmark
+    public Object notNullPassMsg() {
+        return Validate.notNull(value, MSG);
+    }
+
+    @Benchmark
+    public Object notNullPassTemplate() {
+        return Validate.notNull(value, TEMPLATE, value, code);
+    }
+
+    @Benchmark
+    public Object notNullPassSupplier() {
+        return Validate.notNullLazy(value, () -> String.format(TEMPLATE, value, code));
+    }
+
+    @Benchmark
+    public Object notNullFail() {
+        try {
+            return Validate.notNull(nullValue);
+        } catch (NullPointerException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object notNullFailMsg() {
+        try {
+            return Validate.notNull(nullValue, MSG);
+        } catch (NullPointerException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object notNullFailTemplate() {
+        try {
+            return Validate.notNull(nullValue, TEMPLATE, nullValue, code);
+        } catch (NullPointerException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object notNullFailSupplier() {
+        try {
+            return Validate.notNullLazy(nullValue, () -> String.format(TEMPLATE, nullValue, code));
+        } catch (NullPointerException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object notBlankPass() {
+        return Validate.notBlank(value);
+    }
+
+    @Benchmark
+    public Object notBlankPassMsg() {
+        return Validate.notBlank(value, MSG);
+    }
+
+    @Benchmark
+    public Object notBlankPassTemplate() {
+        return Validate.notBlank(value, TEMPLATE, value, code);
+    }
+
+    @Benchmark
+    public Object notBlankFail() {
+        try {
+            return Validate.notBlank(blankValue);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object notBlankFailMsg() {
+        try {
+            return Validate.notBlank(blankValue, MSG);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object notBlankFailTemplate() {
+        try {
+            return Validate.notBlank(blankValue, TEMPLATE, blankValue, code);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object argumentPass() {
+        return Validate.argument(value, truth);
+    }
+
+    @Benchmark
+    public Object argumentPassMsg() {
+        return Validate.argument(value, truth, MSG);
+    }
+
+    @Benchmark
+    public Object argumentPassTemplate() {
+        return Validate.argument(value, truth, TEMPLATE, value, code);
+    }
+
+    @Benchmark
+    public Object argumentFail() {
+        try {
+            return Validate.argument(value, falsehood);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object argumentFailMsg() {
+        try {
+            return Validate.argument(value, falsehood, MSG);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object argumentFailTemplate() {
+        try {
+            return Validate.argument(value, falsehood, TEMPLATE, value, code);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object instanceOfTypePass() {
+        return Validate.instanceOfType(list, listType);
+    }
+
+    @Benchmark
+    public Object instanceOfTypePassMsg() {
+        return Validate.instanceOfType(list, listType, MSG);
+    }
+
+    @Benchmark
+    public Object instanceOfTypePassTemplate() {
+        return Validate.instanceOfType(list, listType, TEMPLATE, listType, code);
+    }
+
+    @Benchmark
+    public Object instanceOfTypeFail() {
+        try {
+            return Validate.instanceOfType(list, stringType);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object instanceOfTypeFailMsg() {
+        try {
+            return Validate.instanceOfType(list, stringType, MSG);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object instanceOfTypeFailTemplate() {
+        try {
+            return Validate.instanceOfType(list, stringType, TEMPLATE, stringType, code);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object assignableFromClassPass() {
+        return Validate.assignableFromClass(listType, arrayListType);
+    }
+
+    @Benchmark
+    public Object assignableFromClassPassMsg() {
+        return Validate.assignableFromClass(listType, arrayListType, MSG);
+    }
+
+    @Benchmark
+    public Object assignableFromClassPassTemplate() {
+        return Validate.assignableFromClass(listType, arrayListType, TEMPLATE, arrayListType, code);
+    }
+
+    @Benchmark
+    public Object assignableFromClassFail() {
+        try {
+            return Validate.assignableFromClass(arrayListType, listType);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object assignableFromClassFailMsg() {
+        try {
+            return Validate.assignableFromClass(arrayListType, listType, MSG);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object assignableFromClassFailTemplate() {
+        try {
+            return Validate.assignableFromClass(arrayListType, listType, TEMPLATE, listType, code);
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.Validate;
+import us.hawtrey.preconditions.ValidationCollector;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validating every field of a record with two bad fields out of four: catching each {@link Validate} exception
+ * against recording the failures in a reused {@link ValidationCollector}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidationCollectorBenchmark {
+    private String name = "  ";
+    private String code = "AB-12";
+    private int quantity = 0;
+    private String price = "12.5x";
+    private ValidationCollector collector = Validate.collect();
+
+    @Benchmark
+    public int validateCatching() {
+        int failures = 0;
+        try {
+            Validate.notBlank(name, "The name is blank");
+        } catch (IllegalArgumentException e) {
+            failures++;
+        }
+        try {
+            Validate.notBlank(code, "The code is blank");
+        } catch (IllegalArgumentException e) {
+            failures++;
+        }
+        try {
+            Validate.inIntRange(quantity, 0, 1000);
+        } catch (IllegalArgumentException e) {
+            failures++;
+        }
+        try {
+            Validate.doubleValue(price, "The price is invalid");
+        } catch (IllegalArgumentException e) {
+            failures++;
+        }
+        return failures;
+    }
+
+    @Benchmark
+    public int collect() {
+        collector.reset();
+        collector.notBlank(name, "The name is blank");
+        collector.notBlank(code, "The code is blank");
+        collector.inIntRange(quantity, 0, 1000);
+        collector.doubleValue(price, "The price is invalid");
+        return collector.size();
+    }
+}
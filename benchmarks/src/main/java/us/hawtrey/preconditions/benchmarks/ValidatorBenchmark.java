@@ -0,0 +1,103 @@
+package us.hawtrey.preconditions.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import us.hawtrey.preconditions.Validate;
+import us.hawtrey.preconditions.ValidationCollector;
+import us.hawtrey.preconditions.Validator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a {@link Validator} built once against the same checks written as hand-written {@link Validate} calls.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValidatorBenchmark {
+    private static final Validator<Order> VALIDATOR = Validator.<Order>builder()
+            .notBlank(Order::getId, "The order id is blank")
+            .notNull(Order::getCustomer, "The customer is null")
+            .inIntRange(Order::getQuantity, 1, 1000)
+            .positive(Order::getAmount)
+            .instanceOfType(Order::getCustomer, CharSequence.class)
+            .check(order -> !order.isShipped() || order.isPaid(), "The order is shipped unpaid")
+            .build();
+
+    private Order order = new Order("A-1", "ACME", 5, 12.5D, false, false);
+    private ValidationCollector collector = Validate.collect();
+
+    @Benchmark
+    public Object handWritten() {
+        Order value = Validate.notNull(order);
+        Validate.notBlank(value.getId(), "The order id is blank");
+        Validate.notNull(value.getCustomer(), "The customer is null");
+        Validate.inIntRange(value.getQuantity(), 1, 1000);
+        Validate.positive(value.getAmount());
+        Validate.instanceOfType(value.getCustomer(), CharSequence.class);
+        Validate.argument(value, !value.isShipped() || value.isPaid(), "The order is shipped unpaid");
+        return value;
+    }
+
+    @Benchmark
+    public Object validator() {
+        return VALIDATOR.validate(order);
+    }
+
+    @Benchmark
+    public boolean validatorCollect() {
+        return VALIDATOR.validate(order, collector.reset());
+    }
+
+    public static final class Order {
+        private final String id;
+        private final String customer;
+        private final int quantity;
+        private final Double amount;
+        private final boolean shipped;
+        private final boolean paid;
+
+        Order(String id, String customer, int quantity, Double amount, boolean shipped, boolean paid) {
+            this.id = id;
+            this.customer = customer;
+            this.quantity = quantity;
+            this.amount = amount;
+            this.shipped = shipped;
+            this.paid = paid;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public Double getAmount() {
+            return amount;
+        }
+
+        public boolean isShipped() {
+            return shipped;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+    }
+}
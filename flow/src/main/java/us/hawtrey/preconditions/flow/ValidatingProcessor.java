@@ -0,0 +1,372 @@
+package us.hawtrey.preconditions.flow;
+
+import us.hawtrey.preconditions.Validate;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A {@link Flow.Processor} that runs a {@code Validate} check or an {@code Assure} correction on each item, passes
+ * the items that pass on to its one subscriber and routes the items whose check throws to a side channel, without
+ * failing the stream.
+ * <p>
+ * The processor requests {@code batchSize} items from upstream when it is subscribed and requests three quarters of a
+ * batch again each time as many items have been passed on or rejected, so at most {@code batchSize} items are buffered,
+ * and a publisher that sends more items than were requested fails the stream with an {@link IllegalStateException}.
+ * Items are only passed on when the subscriber has requested them; rejected items do not use up its demand. A
+ * subscriber whose {@code onNext} throws is treated as having cancelled its subscription. The checks, the side channel
+ * and the calls to the subscriber run on the executor, one at a time; the default executor runs them on the thread that
+ * signalled the processor, so give it an executor to keep slow checks off the publisher's thread.
+ *
+ * <pre>
+ *     ValidatingProcessor&lt;Event, Event&gt; processor = ValidatingProcessor.validating(EVENT::validate,
+ *             (event, e) -&gt; deadLetters.offer(event), 256, executor);
+ *     publisher.subscribe(processor);
+ *     processor.subscribe(subscriber);
+ * </pre>
+ *
+ * @param <T> the type of the items received.
+ * @param <R> the type of the items passed on.
+ */
+public final class ValidatingProcessor<T, R> implements Flow.Processor<T, R> {
+    private static final Executor SYNCHRONOUS = Runnable::run;
+
+    private final Function<? super T, ? extends R> check;
+    private final BiConsumer<? super T, ? super RuntimeException> rejected;
+    private final int batchSize;
+    private final int limit;
+    private final Executor executor;
+
+    private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Flow.Subscriber<? super R>> downstream = new AtomicReference<>();
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicLong outstanding = new AtomicLong();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Subscription subscription = new Subscription();
+    private volatile boolean done;
+    private volatile boolean cancelled;
+
+    // only read and written by the drain loop
+    private long emitted;
+    private int consumed;
+    private boolean terminated;
+
+    private ValidatingProcessor(Function<? super T, ? extends R> check,
+                                BiConsumer<? super T, ? super RuntimeException> rejected,
+                                int batchSize, Executor executor) {
+        this.check = Validate.notNull(check, "The check is null");
+        this.rejected = Validate.notNull(rejected, "The rejected item consumer is null");
+        this.batchSize = Validate.positive(batchSize, "The batch size is not positive");
+        this.limit = batchSize - (batchSize >> 2);
+        this.executor = Validate.notNull(executor, "The executor is null");
+    }
+
+    /**
+     * Returns a processor that passes on the items that pass the check, with batches of
+     * {@link Flow#defaultBufferSize()} items, running the check on the thread that signalled the processor.
+     *
+     * @param check    the check of each item, such as a {@code Validate} call, which throws if the item is invalid.
+     * @param rejected the side channel given each item whose check threw and the exception.
+     * @param <T>      the type of the items.
+     * @return the processor.
+     * @throws NullPointerException thrown if the check or the side channel is {@code null}.
+     */
+    public static <T> ValidatingProcessor<T, T> validating(Consumer<? super T> check,
+                                                           BiConsumer<? super T, ? super RuntimeException> rejected) {
+        return validating(check, rejected, Flow.defaultBufferSize(), SYNCHRONOUS);
+    }
+
+    /**
+     * Returns a processor that passes on the items that pass the check.
+     *
+     * @param check     the check of each item, such as a {@code Validate} call, which throws if the item is invalid.
+     * @param rejected  the side channel given each item whose check threw and the exception.
+     * @param batchSize the number of items requested from upstream at once, and buffered at most.
+     * @param executor  the executor running the checks and the calls to the subscriber.
+     * @param <T>       the type of the items.
+     * @return the processor.
+     * @throws NullPointerException     thrown if the check, the side channel or the executor is {@code null}.
+     * @throws IllegalArgumentException thrown if the batch size is not positive.
+     */
+    public static <T> ValidatingProcessor<T, T> validating(Consumer<? super T> check,
+                                                           BiConsumer<? super T, ? super RuntimeException> rejected,
+                                                           int batchSize, Executor executor) {
+        Validate.notNull(check, "The check is null");
+        return new ValidatingProcessor<>(item -> {
+            check.accept(item);
+            return item;
+        }, rejected, batchSize, executor);
+    }
+
+    /**
+     * Returns a processor that passes on the correction of each item, with batches of
+     * {@link Flow#defaultBufferSize()} items, running the correction on the thread that signalled the processor.
+     *
+     * @param correction the correction of each item, such as an {@code Assure} call; an item is rejected if it throws
+     *                   or returns {@code null}.
+     * @param rejected   the side channel given each item whose correction failed and the exception.
+     * @param <T>        the type of the items received.
+     * @param <R>        the type of the items passed on.
+     * @return the processor.
+     * @throws NullPointerException thrown if the correction or the side channel is {@code null}.
+     */
+    public static <T, R> ValidatingProcessor<T, R> correcting(Function<? super T, ? extends R> correction,
+                                                              BiConsumer<? super T, ? super RuntimeException> rejected) {
+        return correcting(correction, rejected, Flow.defaultBufferSize(), SYNCHRONOUS);
+    }
+
+    /**
+     * Returns a processor that passes on the correction of each item.
+     *
+     * @param correction the correction of each item, such as an {@code Assure} call; an item is rejected if it throws
+     *                   or returns {@code null}.
+     * @param rejected   the side channel given each item whose correction failed and the exception.
+     * @param batchSize  the number of items requested from upstream at once, and buffered at most.
+     * @param executor   the executor running the corrections and the calls to the subscriber.
+     * @param <T>        the type of the items received.
+     * @param <R>        the type of the items passed on.
+     * @return the processor.
+     * @throws NullPointerException     thrown if the correction, the side channel or the executor is {@code null}.
+     * @throws IllegalArgumentException thrown if the batch size is not positive.
+     */
+    public static <T, R> ValidatingProcessor<T, R> correcting(Function<? super T, ? extends R> correction,
+                                                              BiConsumer<? super T, ? super RuntimeException> rejected,
+                                                              int batchSize, Executor executor) {
+        return new ValidatingProcessor<>(correction, rejected, batchSize, executor);
+    }
+
+    /**
+     * Subscribes the one subscriber of the processor. Any later subscriber is signalled an
+     * {@link IllegalStateException}.
+     *
+     * @param subscriber the subscriber.
+     * @throws NullPointerException thrown if the subscriber is {@code null}.
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super R> subscriber) {
+        Validate.notNull(subscriber, "The subscriber is null");
+        if (!downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("The processor already has a subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(subscription);
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Validate.notNull(subscription, "The subscription is null");
+        if (!upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        if (cancelled) {
+            subscription.cancel();
+        } else {
+            outstanding.addAndGet(batchSize);
+            subscription.request(batchSize);
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        Validate.notNull(item, "The item is null");
+        if (!done && !cancelled) {
+            if (outstanding.getAndDecrement() <= 0) {
+                fail(new IllegalStateException("The publisher sent more items than were requested"));
+            } else {
+                queue.offer(item);
+            }
+            drain();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Validate.notNull(throwable, "The error is null");
+        if (!done) {
+            error.compareAndSet(null, throwable);
+            done = true;
+            drain();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!done) {
+            done = true;
+            drain();
+        }
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() == 0) {
+            try {
+                executor.execute(this::drainLoop);
+            } catch (RejectedExecutionException e) {
+                fail(e);
+                drainLoop();
+            }
+        }
+    }
+
+    private void drainLoop() {
+        int missed = 1;
+        do {
+            Flow.Subscriber<? super R> subscriber = downstream.get();
+            if (subscriber != null && !terminated) {
+                long demand = requested.get();
+                while (!isTerminal(subscriber) && emitted != demand) {
+                    T item = queue.poll();
+                    if (item == null) {
+                        break;
+                    }
+                    R result = apply(item);
+                    if (result != null) {
+                        try {
+                            subscriber.onNext(result);
+                        } catch (RuntimeException e) {
+                            // the subscriber broke the protocol, so it is not signalled again
+                            cancel();
+                            terminated = true;
+                            queue.clear();
+                            break;
+                        }
+                        emitted++;
+                    }
+                    replenish();
+                }
+                isTerminal(subscriber);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private R apply(T item) {
+        RuntimeException failure;
+        try {
+            R result = check.apply(item);
+            if (result != null) {
+                return result;
+            }
+            failure = new NullPointerException("The check returned null");
+        } catch (RuntimeException e) {
+            failure = e;
+        }
+        try {
+            rejected.accept(item, failure);
+        } catch (RuntimeException e) {
+            fail(e);
+        }
+        return null;
+    }
+
+    private void replenish() {
+        if (++consumed == limit) {
+            consumed = 0;
+            Flow.Subscription subscription = upstream.get();
+            if (subscription != null && !done && !cancelled) {
+                outstanding.addAndGet(limit);
+                subscription.request(limit);
+            }
+        }
+    }
+
+    /**
+     * Signals the subscriber once the stream is cancelled, has failed or has completed with nothing left to pass on.
+     * An error is signalled at once, dropping the buffered items.
+     */
+    private boolean isTerminal(Flow.Subscriber<? super R> subscriber) {
+        if (terminated) {
+            return true;
+        }
+        if (cancelled) {
+            queue.clear();
+            terminated = true;
+            return true;
+        }
+        if (done) {
+            Throwable failure = error.get();
+            if (failure != null) {
+                queue.clear();
+                terminated = true;
+                subscriber.onError(failure);
+                return true;
+            }
+            if (queue.isEmpty()) {
+                terminated = true;
+                subscriber.onComplete();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void cancel() {
+        cancelled = true;
+        Flow.Subscription subscription = upstream.get();
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private void fail(Throwable failure) {
+        error.compareAndSet(null, failure);
+        done = true;
+        Flow.Subscription subscription = upstream.get();
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ValidatingProcessor[batchSize=" + batchSize + ", buffered=" + queue.size() + "]";
+    }
+
+    /**
+     * The subscription given to the subscriber.
+     */
+    private final class Subscription implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("The number of items requested (" + n + ") is not positive"));
+            } else {
+                requested.accumulateAndGet(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (!cancelled) {
+                ValidatingProcessor.this.cancel();
+                drain();
+            }
+        }
+    }
+}
@@ -0,0 +1,476 @@
+package us.hawtrey.preconditions.flow;
+
+import org.junit.Test;
+import us.hawtrey.preconditions.Assure;
+import us.hawtrey.preconditions.Validate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ValidatingProcessorTest {
+
+    @Test
+    public void testValidating() {
+        List<Integer> rejected = new ArrayList<>();
+        ValidatingProcessor<Integer, Integer> processor = ValidatingProcessor.validating(
+                item -> Validate.argument(item, item % 3 != 0, "%s is a multiple of 3", item),
+                (item, e) -> {
+                    assertTrue(e instanceof IllegalArgumentException);
+                    rejected.add(item);
+                });
+        RangePublisher publisher = new RangePublisher(1, 10);
+        Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+        publisher.subscribe(processor);
+        processor.subscribe(recorder);
+
+        assertEquals(List.of(1, 2, 4, 5, 7, 8, 10), recorder.items);
+        assertEquals(List.of(3, 6, 9), rejected);
+        assertTrue(recorder.completed);
+        assertNull(recorder.error);
+    }
+
+    @Test
+    public void testCorrecting() {
+        List<String> rejected = new ArrayList<>();
+        ValidatingProcessor<String, String> processor = ValidatingProcessor.correcting(
+                Assure::trimmedOrNull, (item, e) -> rejected.add(item));
+        Recorder<String> recorder = new Recorder<>(Long.MAX_VALUE);
+        processor.subscribe(recorder);
+        processor.onSubscribe(idle());
+        processor.onNext(" a ");
+        processor.onNext("   ");
+        processor.onNext("b");
+        processor.onComplete();
+
+        assertEquals(List.of("a", "", "b"), recorder.items);
+        assertTrue(rejected.isEmpty());
+        assertTrue(recorder.completed);
+    }
+
+    @Test
+    public void testRequestsUpstreamInBatches() {
+        ValidatingProcessor<Integer, Integer> processor = ValidatingProcessor.validating(
+                item -> Validate.positive(item), (item, e) -> {
+                }, 8, Runnable::run);
+        RangePublisher publisher = new RangePublisher(-9, 10);
+        Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+        publisher.subscribe(processor);
+        processor.subscribe(recorder);
+
+        assertEquals(List.of(8L, 6L, 6L), publisher.requests);
+        assertEquals(10, recorder.items.size());
+        assertTrue(recorder.completed);
+    }
+
+    @Test
+    public void testRespectsDemand() {
+        List<Integer> rejected = new ArrayList<>();
+        ValidatingProcessor<Integer, Integer> processor = ValidatingProcessor.validating(
+                item -> Validate.argument(item, item % 2 == 0), (item, e) -> rejected.add(item), 16, Runnable::run);
+        RangePublisher publisher = new RangePublisher(1, 1000);
+        Recorder<Integer> recorder = new Recorder<>(0);
+        publisher.subscribe(processor);
+        processor.subscribe(recorder);
+
+        assertTrue(recorder.items.isEmpty());
+        assertEquals(16L, publisher.requested());
+
+        recorder.subscription.request(5);
+        assertEquals(List.of(2, 4, 6, 8, 10), recorder.items);
+        assertEquals(List.of(1, 3, 5, 7, 9), rejected);
+        assertTrue(publisher.requested() <= 10 + 16);
+
+        recorder.subscription.request(Long.MAX_VALUE);
+        assertEquals(500, recorder.items.size());
+        assertEquals(500, rejected.size());
+        assertTrue(recorder.completed);
+    }
+
+    @Test
+    public void testCheckReturningNull() {
+        List<Integer> rejected = new ArrayList<>();
+        ValidatingProcessor<Integer, String> processor = ValidatingProcessor.correcting(
+                item -> item == 2 ? null : item.toString(), (item, e) -> {
+                    assertTrue(e instanceof NullPointerException);
+                    rejected.add(item);
+                });
+        Recorder<String> recorder = new Recorder<>(Long.MAX_VALUE);
+        new RangePublisher(1, 3).subscribe(processor);
+        processor.subscribe(recorder);
+
+        assertEquals(List.of("1", "3"), recorder.items);
+        assertEquals(List.of(2), rejected);
+    }
+
+    @Test
+    public void testRejectedConsumerThrowing() {
+        ValidatingProcessor<Integer, Integer> processor = ValidatingProcessor.validating(
+                item -> Validate.argument(item, item != 2), (item, e) -> {
+                    throw new IllegalStateException("side channel full");
+                });
+        RangePublisher publisher = new RangePublisher(1, 5);
+        Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+        publisher.subscribe(processor);
+        processor.subscribe(recorder);
+
+        assertEquals(List.of(1), recorder.items);
+        assertTrue(recorder.error instanceof IllegalStateException);
+        assertFalse(recorder.completed);
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    public void testUpstreamError() {
+        ValidatingProcessor<Integer, Integer> processor = ValidatingProcessor.validating(item -> {
+        }, (item, e) -> fail("Should not reject " + item));
+        Recorder<Integer> recorder = new Recorder<>(Long.MAX_VALUE);
+        processor.subscribe(recorder);
+        processor.onSubscribe(idle());
+        processor.onNext(1);
+        processor.onError(new IllegalStateException("upstream failed"));
+        processor.onNext(2);
+
+        assertEquals(List.of(1), recorder.items);
+        assertEquals("upstream failed", recorder.error.getMessage());
+    }
+
+    @Test
+    public void testSubscriberThrowing() {
+        ValidatingProcessor<Integer, Integer> processor = ValidatingProcessor.validating(item -> {
+        }, (item, e) -> fail("Should not reject " + item));
+        RangePublisher publisher = new RangePublisher(1, 100);
+        Recorder<Integer> recorder = new Recorder<Integer>(Long.MAX_VALUE) {
+            @Override
+            public void onNext(Integer item) {
+                super.onNext(item);
+                if (item == 3) {
+                    throw new IllegalStateException("subscriber failed");
+                }
+            }
+        };
+        publisher.subscribe(processor);
+        processor.subscribe(recorder);
+        processor.onNext(101);
+        recorder.subscription.request(1);
+
+        assertEquals(List.of(1, 2, 3), recorder.items);
+        assertTrue(publisher.cancelled);
+        assertFalse(recorder.completed);
+        assertNull(recorder.error);
+        assertEquals("ValidatingProcessor[batchSize=256, buffered=0]", processor.toString());
+    }
+
+    @Test
+    public void testPublisherOverDelivering() {
+        ValidatingProcessor<Integer, Integer> processor = ValidatingProcessor.validating(item -> {
+        }, (item, e) -> fail("Should not reject " + item), 2, Runnable::run);
+        Recorder<Integer> recorder = new Recorder<>(0);
+        processor.subscribe(recorder);
+        AtomicLong cancelled = new AtomicLong();
+        processor.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+                cancelled.incrementAndGet();
+            }
+        });
+        processor.onNext(1);
+        processor.onNext(2);
+        assertNull(recorder.error);
+        processor.onNext(3);
+
+        assertTrue(recorder.error instanceof IllegalStateException);
+        assertEquals("The publisher sent more items than were requested", recorder.error.getMessage());
+        assertTrue(recorder.items.isEmpty());
+        assertEquals(1L, cancelled.get());
+    }
+
+    @Test
+    public void testCancel() {
+        ValidatingProcessor<Integer, Integer> processor = ValidatingProcessor.validating(item -> {
+        }, (item, e) -> fail("Should not reject " + item));
+        RangePublisher publisher = new RangePublisher(1, 100);
+        Recorder<Integer> recorder = new Recorder<>(3);
+        publisher.subscribe(processor);
+        processor.subscribe(recorder);
+        recorder.subscription.cancel();
+        recorder.subscription.request(10);
+
+        assertEquals(List.of(1, 2, 3), recorder.items);
+        assertTrue(publisher.cancelled);
+        assertFalse(recorder.completed);
+        assertNull(recorder.error);
+    }
+
+    @Test
+    public void testCancelBeforeUpstream() {
+        ValidatingProcessor<Integer, Integer> processor = ValidatingProcessor.validating(item -> {
+        }, (item, e) -> fail("Should not reject " + item));
+        Recorder<Integer> recorder = new Recorder<>(0);
+        processor.subscribe(recorder);
+        recorder.subscription.cancel();
+        RangePublisher publisher = new RangePublisher(1, 100);
+        publisher.subscribe(processor);
+
+        assertTrue(publisher.cancelled);
+        assertTrue(publisher.requests.isEmpty());
+    }
+
+    @Test
+    public void testNonPositiveRequest() {
+        ValidatingProcessor<Integer, Integer> processor = ValidatingProcessor.validating(item -> {
+        }, (item, e) -> fail("Should not reject " + item));
+        RangePublisher publisher = new RangePublisher(1, 100);
+        Recorder<Integer> recorder = new Recorder<>(0);
+        publisher.subscribe(processor);
+        processor.subscribe(recorder);
+        recorder.subscription.request(0);
+
+        assertTrue(recorder.error instanceof IllegalArgumentException);
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    public void testSecondSubscriber() {
+        ValidatingProcessor<Integer, Integer> processor = ValidatingProcessor.validating(item -> {
+        }, (item, e) -> fail("Should not reject " + item));
+        processor.subscribe(new Recorder<>(0));
+        Recorder<Integer> second = new Recorder<>(0);
+        processor.subscribe(second);
+
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        try {
+            ValidatingProcessor.validating(item -> {
+            }, (item, e) -> {
+            }, 0, Runnable::run);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        try {
+            ValidatingProcessor.validating(null, (item, e) -> {
+            });
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+        try {
+            ValidatingProcessor.correcting(item -> item, (item, e) -> {
+            }, 16, null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void testSustainedLoad() throws InterruptedException {
+        int count = 200_000;
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            AtomicLong rejected = new AtomicLong();
+            ValidatingProcessor<Integer, Integer> processor = ValidatingProcessor.validating(
+                    item -> Validate.argument(item, item % 10 != 0), (item, e) -> rejected.incrementAndGet(),
+                    64, executor);
+            SlowSubscriber subscriber = new SlowSubscriber();
+            try (SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>(executor, 128)) {
+                publisher.subscribe(processor);
+                processor.subscribe(subscriber);
+                for (int i = 1; i <= count; i++) {
+                    publisher.submit(i);
+                }
+            }
+
+            assertTrue(subscriber.done.await(60, TimeUnit.SECONDS));
+            assertNull(subscriber.error);
+            assertEquals(count / 10, rejected.get());
+            assertEquals(count - count / 10, subscriber.received);
+            assertFalse(subscriber.overflowed);
+            assertFalse(subscriber.outOfOrder);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Flow.Subscription idle() {
+        return new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        };
+    }
+
+    /**
+     * Publishes a range of integers synchronously, recording the requests it receives.
+     */
+    private static final class RangePublisher implements Flow.Publisher<Integer> {
+        private final List<Long> requests = new ArrayList<>();
+        private final int end;
+        private int next;
+        private long requested;
+        private boolean emitting;
+        private boolean cancelled;
+
+        RangePublisher(int start, int end) {
+            this.next = start;
+            this.end = end;
+        }
+
+        long requested() {
+            return requests.stream().mapToLong(Long::longValue).sum();
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(subscription(subscriber));
+        }
+
+        Flow.Subscription subscription(Flow.Subscriber<? super Integer> subscriber) {
+            return new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requests.add(n);
+                    requested += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (requested > 0 && next <= end && !cancelled) {
+                        requested--;
+                        subscriber.onNext(next++);
+                    }
+                    emitting = false;
+                    if (next > end && !cancelled) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            };
+        }
+    }
+
+    /**
+     * Records the items and signals it receives, requesting {@code initial} items when subscribed.
+     */
+    private static class Recorder<T> implements Flow.Subscriber<T> {
+        private final List<T> items = Collections.synchronizedList(new ArrayList<>());
+        private final long initial;
+        private Flow.Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        Recorder(long initial) {
+            this.initial = initial;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initial > 0) {
+                subscription.request(initial);
+            }
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+
+    /**
+     * Requests small random batches, occasionally pausing, and checks that it never receives more than it
+     * requested and that the items arrive in order.
+     */
+    private static final class SlowSubscriber implements Flow.Subscriber<Integer> {
+        private final CountDownLatch done = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private long outstanding;
+        private long received;
+        private int last;
+        private boolean overflowed;
+        private boolean outOfOrder;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            request();
+        }
+
+        private void request() {
+            long n = ThreadLocalRandom.current().nextInt(1, 32);
+            outstanding += n;
+            subscription.request(n);
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            if (--outstanding < 0) {
+                overflowed = true;
+            }
+            if (item <= last) {
+                outOfOrder = true;
+            }
+            last = item;
+            received++;
+            if (received % 10_000 == 0) {
+                Thread.yield();
+            }
+            if (outstanding == 0) {
+                request();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,487 @@
+package us.hawtrey.preconditions.processor;
+
+import us.hawtrey.preconditions.Constraints;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.annotation.Annotation;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a validator class for every class with {@link Constraints} annotations.
+ * <p>
+ * For a class {@code Order} the processor writes {@code OrderValidator} in the same package. Its static
+ * {@code validate(Order)} method reads each constrained field or accessor once and calls the matching
+ * {@code Validate} method, and a static {@code validateArguments} method is written for each constructor with
+ * constrained parameters. The generated code is plain Java, so validation needs no reflection at runtime.
+ * <p>
+ * Private fields are read through a {@code getName()}, {@code isName()} or {@code name()} accessor, which also covers
+ * the components of a record.
+ */
+public final class ValidatorProcessor extends AbstractProcessor {
+    private static final List<Class<? extends Annotation>> CONSTRAINTS = Arrays.asList(Constraints.NotNull.class,
+            Constraints.NotBlank.class, Constraints.Range.class, Constraints.Positive.class, Constraints.Size.class);
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        Set<String> names = new LinkedHashSet<>();
+        for (Class<? extends Annotation> constraint : CONSTRAINTS) {
+            names.add(constraint.getCanonicalName());
+        }
+        return names;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (Class<? extends Annotation> constraint : CONSTRAINTS) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(constraint)) {
+                Element owner = (element.getKind() == ElementKind.PARAMETER)
+                        ? element.getEnclosingElement().getEnclosingElement()
+                        : element.getEnclosingElement();
+                if (owner instanceof TypeElement) {
+                    types.add((TypeElement) owner);
+                }
+            }
+        }
+        for (TypeElement type : types) {
+            if (generated.add(type.getQualifiedName().toString())) {
+                generate(type);
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) {
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                error(type, "A class with constraints must not be private or nested in a private class");
+                return;
+            }
+        }
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String validatorName = validatorName(type);
+        SourceWriter out = new SourceWriter();
+        if (!packageName.isEmpty()) {
+            out.line("package %s;", packageName).line("");
+        }
+        out.line("/**")
+                .line(" * Validates {@link %s} with the checks of its constraint annotations.", type.getQualifiedName())
+                .line(" * Generated by {@code %s}, do not edit.", ValidatorProcessor.class.getName())
+                .line(" */")
+                .line("public final class %s {", validatorName)
+                .line("")
+                .line("    private %s() {", validatorName)
+                .line("    }");
+        if (!writeValidate(out, type, packageName) | !writeValidateArguments(out, type)) {
+            return;
+        }
+        out.line("}");
+
+        try {
+            String name = packageName.isEmpty() ? validatorName : packageName + "." + validatorName;
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(name, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(out.toString());
+            }
+        } catch (IOException e) {
+            error(type, "Could not write the validator: " + e.getMessage());
+        }
+    }
+
+    private boolean writeValidate(SourceWriter out, TypeElement type, String packageName) {
+        String typeName = typeName(type.asType());
+        out.line("")
+                .line("    /**")
+                .line("     * @param value the value to validate.")
+                .line("     * @return the value if it is valid.")
+                .line("     */");
+        if (type.getTypeParameters().isEmpty()) {
+            out.line("    public static %s validate(%s value) {", typeName, typeName);
+        } else {
+            out.line("    public static <V extends %s> V validate(V value) {", typeName);
+        }
+        out.line("        us.hawtrey.preconditions.Validate.notNull(value);");
+
+        boolean valid = true;
+        Set<String> locals = new HashSet<>();
+        locals.add("value");
+        for (TypeElement c : hierarchy(type)) {
+            List<VariableElement> fields = ElementFilter.fieldsIn(c.getEnclosedElements());
+            for (VariableElement field : fields) {
+                if (!field.getModifiers().contains(Modifier.STATIC) && isConstrained(field)) {
+                    String read = read(c, field, packageName);
+                    if (read == null) {
+                        error(field, "The constrained field is not accessible and has no accessible accessor");
+                        valid = false;
+                    } else {
+                        valid &= writeChecks(out, field, field.asType(), read, local(locals, field), true);
+                    }
+                }
+            }
+            for (ExecutableElement method : ElementFilter.methodsIn(c.getEnclosedElements())) {
+                if (method.getModifiers().contains(Modifier.STATIC) || !isConstrained(method)
+                        || isRecordAccessor(method, fields)) {
+                    continue;
+                }
+                if (!method.getParameters().isEmpty() || method.getReturnType().getKind() == TypeKind.VOID) {
+                    error(method, "A constrained method must take no parameters and return a value");
+                    valid = false;
+                } else if (!isAccessible(method, packageName)) {
+                    error(method, "The constrained method is not accessible");
+                    valid = false;
+                } else {
+                    String read = "value." + method.getSimpleName() + "()";
+                    valid &= writeChecks(out, method, method.getReturnType(), read, local(locals, method), true);
+                }
+            }
+        }
+        out.line("        return value;")
+                .line("    }");
+        return valid;
+    }
+
+    private boolean writeValidateArguments(SourceWriter out, TypeElement type) {
+        boolean valid = true;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            boolean constrained = false;
+            for (VariableElement parameter : constructor.getParameters()) {
+                constrained |= isConstrained(parameter);
+            }
+            if (!constrained) {
+                continue;
+            }
+            StringBuilder parameters = new StringBuilder();
+            for (VariableElement parameter : constructor.getParameters()) {
+                if (parameters.length() > 0) {
+                    parameters.append(", ");
+                }
+                parameters.append(typeName(parameter.asType())).append(' ').append(parameter.getSimpleName());
+            }
+            out.line("")
+                    .line("    /**")
+                    .line("     * Validates the arguments of a constructor of {@link %s}.", type.getSimpleName())
+                    .line("     */")
+                    .line("    public static void validateArguments(%s) {", parameters);
+            for (VariableElement parameter : constructor.getParameters()) {
+                if (isConstrained(parameter)) {
+                    String name = parameter.getSimpleName().toString();
+                    valid &= writeChecks(out, parameter, parameter.asType(), name, name, false);
+                }
+            }
+            out.line("    }");
+        }
+        return valid;
+    }
+
+    private boolean writeChecks(SourceWriter out, Element element, TypeMirror type, String read, String local,
+                                boolean declare) {
+        if (declare) {
+            out.line("        %s %s = %s;", typeName(type), local, read);
+        }
+        boolean valid = true;
+        Constraints.NotNull notNull = element.getAnnotation(Constraints.NotNull.class);
+        if (notNull != null) {
+            if (type.getKind().isPrimitive()) {
+                valid = error(element, "A primitive is never null");
+            } else {
+                out.line("        us.hawtrey.preconditions.Validate.notNull(%s%s);", local, message(notNull.message()));
+            }
+        }
+        Constraints.NotBlank notBlank = element.getAnnotation(Constraints.NotBlank.class);
+        if (notBlank != null) {
+            if (!isType(type, String.class)) {
+                valid = error(element, "A not blank property must be a String");
+            } else {
+                out.line("        us.hawtrey.preconditions.Validate.notBlank(%s%s);", local,
+                        message(notBlank.message()));
+            }
+        }
+        Constraints.Range range = element.getAnnotation(Constraints.Range.class);
+        if (range != null) {
+            valid &= writeRange(out, element, type, local, range);
+        }
+        Constraints.Positive positive = element.getAnnotation(Constraints.Positive.class);
+        if (positive != null) {
+            if (!isNumber(type)) {
+                valid = error(element, "A positive property must be a number");
+            } else {
+                out.line("        us.hawtrey.preconditions.Validate.positive(%s%s);", local,
+                        message(positive.message()));
+            }
+        }
+        Constraints.Size size = element.getAnnotation(Constraints.Size.class);
+        if (size != null) {
+            String length;
+            if (type.getKind() == TypeKind.ARRAY) {
+                length = local + ".length";
+            } else if (isSubtype(type, CharSequence.class)) {
+                length = local + ".length()";
+            } else if (isSubtype(type, java.util.Collection.class) || isSubtype(type, java.util.Map.class)) {
+                length = local + ".size()";
+            } else {
+                return error(element, "A sized property must be a CharSequence, array, Collection or Map");
+            }
+            out.line("        us.hawtrey.preconditions.Validate.inRange((%s == null) ? null : Integer.valueOf(%s), "
+                    + "Integer.valueOf(%d), Integer.valueOf(%d)%s);", local, length, size.start(), size.end(),
+                    message(size.message()));
+        }
+        return valid;
+    }
+
+    private boolean writeRange(SourceWriter out, Element element, TypeMirror type, String local,
+                               Constraints.Range range) {
+        String msg = message(range.message());
+        TypeKind kind = type.getKind();
+        boolean boxed = false;
+        if (!kind.isPrimitive()) {
+            try {
+                kind = processingEnv.getTypeUtils().unboxedType(type).getKind();
+                boxed = true;
+            } catch (IllegalArgumentException e) {
+                kind = TypeKind.NONE;
+            }
+        }
+        switch (kind) {
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+                if (boxed) {
+                    out.line("        us.hawtrey.preconditions.Validate.inRange((%s == null) ? null : "
+                            + "Long.valueOf(%s.longValue()), Long.valueOf(%s), Long.valueOf(%s)%s);", local, local,
+                            longLiteral(range.start()), longLiteral(range.end()), msg);
+                } else {
+                    out.line("        us.hawtrey.preconditions.Validate.inLongRange(%s, %s, %s%s);", local,
+                            longLiteral(range.start()), longLiteral(range.end()), msg);
+                }
+                return true;
+            case FLOAT:
+            case DOUBLE:
+                if (boxed) {
+                    out.line("        us.hawtrey.preconditions.Validate.inRange((%s == null) ? null : "
+                            + "Double.valueOf(%s.doubleValue()), Double.valueOf(%sD), Double.valueOf(%sD)%s);",
+                            local, local, (double) range.start(), (double) range.end(), msg);
+                } else {
+                    out.line("        us.hawtrey.preconditions.Validate.inDoubleRange(%s, %sD, %sD%s);", local,
+                            (double) range.start(), (double) range.end(), msg);
+                }
+                return true;
+            default:
+                return error(element, "A range property must be a primitive or boxed number");
+        }
+    }
+
+    private String read(TypeElement owner, VariableElement field, String packageName) {
+        if (isAccessible(field, packageName)) {
+            return "value." + field.getSimpleName();
+        }
+        String name = field.getSimpleName().toString();
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String accessor : Arrays.asList("get" + capitalized, "is" + capitalized, name)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(owner.getEnclosedElements())) {
+                if (method.getSimpleName().contentEquals(accessor) && method.getParameters().isEmpty()
+                        && !method.getModifiers().contains(Modifier.STATIC) && isAccessible(method, packageName)
+                        && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                    return "value." + accessor + "()";
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A record component copies its annotations to both the field and the accessor, the field already checks it.
+     */
+    private boolean isRecordAccessor(ExecutableElement method, List<VariableElement> fields) {
+        if (!method.getParameters().isEmpty()) {
+            return false;
+        }
+        for (VariableElement field : fields) {
+            if (field.getSimpleName().contentEquals(method.getSimpleName()) && isConstrained(field)) {
+                for (Class<? extends Annotation> constraint : CONSTRAINTS) {
+                    if (method.getAnnotation(constraint) != null && field.getAnnotation(constraint) == null) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isAccessible(Element member, String packageName) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PUBLIC)) {
+            return true;
+        }
+        return !modifiers.contains(Modifier.PRIVATE) && processingEnv.getElementUtils().getPackageOf(member)
+                .getQualifiedName().contentEquals(packageName);
+    }
+
+    private static boolean isConstrained(Element element) {
+        for (Class<? extends Annotation> constraint : CONSTRAINTS) {
+            if (element.getAnnotation(constraint) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isNumber(TypeMirror type) {
+        TypeKind kind = type.getKind();
+        if (kind.isPrimitive()) {
+            return kind != TypeKind.BOOLEAN && kind != TypeKind.CHAR;
+        }
+        return isSubtype(type, Number.class);
+    }
+
+    private boolean isType(TypeMirror type, Class<?> c) {
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(c.getCanonicalName());
+        return processingEnv.getTypeUtils().isSameType(type, element.asType());
+    }
+
+    private boolean isSubtype(TypeMirror type, Class<?> c) {
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(c.getCanonicalName());
+        return processingEnv.getTypeUtils().isSubtype(processingEnv.getTypeUtils().erasure(type),
+                processingEnv.getTypeUtils().erasure(element.asType()));
+    }
+
+    private Deque<TypeElement> hierarchy(TypeElement type) {
+        Deque<TypeElement> hierarchy = new ArrayDeque<>();
+        for (TypeElement c = type; c != null; ) {
+            hierarchy.push(c);
+            TypeMirror superclass = c.getSuperclass();
+            c = (superclass.getKind() == TypeKind.DECLARED)
+                    ? (TypeElement) ((DeclaredType) superclass).asElement()
+                    : null;
+            if (c != null && c.getQualifiedName().contentEquals(Object.class.getName())) {
+                c = null;
+            }
+        }
+        return hierarchy;
+    }
+
+    private String typeName(TypeMirror type) {
+        if (hasTypeVariable(type)) {
+            type = processingEnv.getTypeUtils().erasure(type);
+        }
+        if (type.getKind() == TypeKind.DECLARED && type.toString().indexOf('<') < 0) {
+            Element element = ((DeclaredType) type).asElement();
+            if (element instanceof TypeElement && !((TypeElement) element).getTypeParameters().isEmpty()) {
+                return wildcards((TypeElement) element);
+            }
+        }
+        return type.toString();
+    }
+
+    private static String wildcards(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getQualifiedName()).append('<');
+        for (int i = 0; i < type.getTypeParameters().size(); i++) {
+            name.append((i == 0) ? "?" : ", ?");
+        }
+        return name.append('>').toString();
+    }
+
+    private static boolean hasTypeVariable(TypeMirror type) {
+        switch (type.getKind()) {
+            case TYPEVAR:
+                return true;
+            case ARRAY:
+                return hasTypeVariable(((ArrayType) type).getComponentType());
+            case WILDCARD:
+                WildcardType wildcard = (WildcardType) type;
+                return (wildcard.getExtendsBound() != null && hasTypeVariable(wildcard.getExtendsBound()))
+                        || (wildcard.getSuperBound() != null && hasTypeVariable(wildcard.getSuperBound()));
+            case DECLARED:
+                for (TypeMirror argument : ((DeclaredType) type).getTypeArguments()) {
+                    if (hasTypeVariable(argument)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private static String validatorName(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, e.getSimpleName());
+        }
+        return name.append("Validator").toString();
+    }
+
+    private static String local(Set<String> locals, Element element) {
+        String name = element.getSimpleName().toString();
+        String local = name;
+        for (int i = 2; !locals.add(local); i++) {
+            local = name + i;
+        }
+        return local;
+    }
+
+    private static String longLiteral(long value) {
+        if (value == Long.MIN_VALUE) {
+            return "Long.MIN_VALUE";
+        }
+        return value + "L";
+    }
+
+    private String message(String message) {
+        return message.isEmpty() ? "" : ", " + processingEnv.getElementUtils().getConstantExpression(message);
+    }
+
+    private boolean error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return false;
+    }
+
+    /**
+     * Collects the lines of a generated source file.
+     */
+    private static final class SourceWriter {
+        private final StringBuilder source = new StringBuilder();
+
+        SourceWriter line(String format, Object... args) {
+            source.append(String.format(format, args)).append('\n');
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return source.toString();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package us.hawtrey.preconditions.processor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.lang.model.SourceVersion;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.junit.Assume.assumeTrue;
+
+public class ValidatorProcessorTest {
+    private static final String ENTITY = "package shop;\n"
+            + "import us.hawtrey.preconditions.Constraints;\n"
+            + "public class Entity {\n"
+            + "    @Constraints.NotNull(message = \"The id is null\") Long id = 1L;\n"
+            + "}\n";
+
+    private static final String ORDER = "package shop;\n"
+            + "import java.util.*;\n"
+            + "import us.hawtrey.preconditions.Constraints;\n"
+            + "public class Order extends Entity {\n"
+            + "    @Constraints.NotBlank String name = \"A-1\";\n"
+            + "    @Constraints.Range(start = 1, end = 1000) private int quantity = 5;\n"
+            + "    @Constraints.Range(start = 0, end = 1) Double discount = 0.5D;\n"
+            + "    @Constraints.Positive long amount = 10L;\n"
+            + "    @Constraints.Size(start = 1, end = 4, message = \"An order has \\\"1\\\" to 3 lines\")\n"
+            + "    List<String> lines = Arrays.asList(\"a\");\n"
+            + "    public Order() {\n"
+            + "    }\n"
+            + "    public Order(@Constraints.NotBlank String name, @Constraints.Positive int quantity, Object note) {\n"
+            + "        OrderValidator.validateArguments(name, quantity, note);\n"
+            + "        this.name = name;\n"
+            + "        this.quantity = quantity;\n"
+            + "    }\n"
+            + "    public int getQuantity() {\n"
+            + "        return quantity;\n"
+            + "    }\n"
+            + "    @Constraints.NotNull public String currency() {\n"
+            + "        return name.isEmpty() ? null : \"USD\";\n"
+            + "    }\n"
+            + "    public static class Line<T> {\n"
+            + "        @Constraints.NotNull T item;\n"
+            + "        @Constraints.Size(start = 1) Map<String, T> attributes = new HashMap<>();\n"
+            + "    }\n"
+            + "}\n";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void generateValidators() throws Exception {
+        ClassLoader loader = compile(source("shop.Entity", ENTITY), source("shop.Order", ORDER));
+        Class<?> order = loader.loadClass("shop.Order");
+        Method validate = loader.loadClass("shop.OrderValidator").getMethod("validate", order);
+
+        Object value = order.getConstructor().newInstance();
+        assertSame(value, validate.invoke(null, value));
+
+        set(value, "id", null);
+        assertFailure(validate, value, NullPointerException.class, "The id is null");
+        set(value, "id", 2L);
+        set(value, "quantity", 1000);
+        assertFailure(validate, value, IllegalArgumentException.class,
+                "The value 1000 is not in the range of 1 to 1000");
+        set(value, "quantity", 999);
+        set(value, "discount", null);
+        assertFailure(validate, value, NullPointerException.class, null);
+        set(value, "discount", 0D);
+        set(value, "lines", new ArrayList<>());
+        assertFailure(validate, value, IllegalArgumentException.class, "An order has \"1\" to 3 lines");
+        set(value, "lines", Arrays.asList("a", "b"));
+        set(value, "name", "");
+        assertFailure(validate, value, IllegalArgumentException.class, null);
+
+        try {
+            order.getConstructor(String.class, int.class, Object.class).newInstance("A-2", 0, null);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+
+        Class<?> line = loader.loadClass("shop.Order$Line");
+        Object lineValue = line.getConstructor().newInstance();
+        Method validateLine = loader.loadClass("shop.Order_LineValidator").getMethod("validate", line);
+        assertFailure(validateLine, lineValue, NullPointerException.class, null);
+    }
+
+    @Test
+    public void generateRecordValidator() throws Exception {
+        assumeTrue(SourceVersion.latest().ordinal() >= 16);
+        ClassLoader loader = compile(source("shop.Item", "package shop;\n"
+                + "import us.hawtrey.preconditions.Constraints;\n"
+                + "public record Item(@Constraints.NotBlank String sku, @Constraints.Range(start = 1) int count) {\n"
+                + "    public Item {\n"
+                + "        ItemValidator.validateArguments(sku, count);\n"
+                + "    }\n"
+                + "}\n"));
+        Class<?> item = loader.loadClass("shop.Item");
+        Object value = item.getConstructor(String.class, int.class).newInstance("X-1", 1);
+        assertSame(value, loader.loadClass("shop.ItemValidator").getMethod("validate", item).invoke(null, value));
+        try {
+            item.getConstructor(String.class, int.class).newInstance(" ", 1);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    @Test
+    public void reportInvalidConstraints() throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> errors = compileErrors(source("shop.Broken", "package shop;\n"
+                + "import us.hawtrey.preconditions.Constraints;\n"
+                + "public class Broken {\n"
+                + "    @Constraints.NotBlank int count;\n"
+                + "    @Constraints.NotNull private String hidden;\n"
+                + "    @Constraints.Positive String text;\n"
+                + "}\n"));
+        assertEquals(3, errors.size());
+        assertEquals("A not blank property must be a String", errors.get(0).getMessage(null));
+        assertEquals("The constrained field is not accessible and has no accessible accessor",
+                errors.get(1).getMessage(null));
+        assertEquals("A positive property must be a number", errors.get(2).getMessage(null));
+    }
+
+    private ClassLoader compile(JavaFileObject... sources) throws Exception {
+        File classes = folder.newFolder();
+        List<Diagnostic<? extends JavaFileObject>> errors = run(classes, sources);
+        assertTrue(errors.toString(), errors.isEmpty());
+        return new URLClassLoader(new URL[]{classes.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compileErrors(JavaFileObject... sources) throws Exception {
+        List<Diagnostic<? extends JavaFileObject>> errors = run(folder.newFolder(), sources);
+        assertFalse(errors.isEmpty());
+        return errors;
+    }
+
+    private static List<Diagnostic<? extends JavaFileObject>> run(File classes, JavaFileObject... sources)
+            throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null,
+                StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList("-d", classes.getPath(), "-s", classes.getPath(),
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-processor", ValidatorProcessor.class.getName());
+            compiler.getTask(null, files, diagnostics, options, null, Arrays.asList(sources)).call();
+        }
+        List<Diagnostic<? extends JavaFileObject>> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic);
+            }
+        }
+        return errors;
+    }
+
+    private static void assertFailure(Method validate, Object value, Class<? extends Exception> type,
+                                      String message) throws Exception {
+        try {
+            validate.invoke(null, value);
+            fail("Should have thrown " + type.getSimpleName());
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause().toString(), type.isInstance(e.getCause()));
+            if (message != null) {
+                assertEquals(message, e.getCause().getMessage());
+            }
+        }
+    }
+
+    private static void set(Object value, String name, Object field) throws Exception {
+        for (Class<?> c = value.getClass(); c != null; c = c.getSuperclass()) {
+            try {
+                java.lang.reflect.Field f = c.getDeclaredField(name);
+                f.setAccessible(true);
+                f.set(value, field);
+                return;
+            } catch (NoSuchFieldException e) {
+                // look in the superclass
+            }
+        }
+        fail("No field " + name);
+    }
+
+    private static JavaFileObject source(String name, String code) {
+        return new SimpleJavaFileObject(URI.create("string:///" + name.replace('.', '/') + ".java"),
+                JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
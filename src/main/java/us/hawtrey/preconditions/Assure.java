@@ -1,16 +1,28 @@
 package us.hawtrey.preconditions;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 @SuppressWarnings({"unused", "WeakerAccess", "unchecked"})
 public class Assure {
+    private static final Class<?> UNMODIFIABLE_LIST = Collections.unmodifiableList(new LinkedList<>()).getClass();
+    private static final Class<?> UNMODIFIABLE_RANDOM_ACCESS_LIST =
+            Collections.unmodifiableList(new ArrayList<>()).getClass();
+    private static final Class<?> UNMODIFIABLE_SET = Collections.unmodifiableSet(new HashSet<>()).getClass();
+    private static final Class<?> UNMODIFIABLE_MAP = Collections.unmodifiableMap(new HashMap<>()).getClass();
+    private static final Class<?> EMPTY_LIST = Collections.emptyList().getClass();
+    private static final Class<?> EMPTY_SET = Collections.emptySet().getClass();
+    private static final Class<?> EMPTY_MAP = Collections.emptyMap().getClass();
 
     /**
      * Returns the reference value if it is not {@code null}.
@@ -27,22 +39,35 @@ public class Assure {
 
     /**
      * Returns the reference value if it is not {@code null}.
-     * Otherwise it will return a new instance of the default {@link java.lang.Class}
+     * Otherwise it will return a new instance of the default {@link java.lang.Class}, created with its public zero
+     * parameter constructor. The constructor is looked up once per class.
      *
      * @param reference    the {@code Object} that is validated.
      * @param defaultClass the {@link java.lang.Class} that will be used to instantiate the return object
      * @return the reference object or a new instance of the default class
      * @throws NullPointerException     thrown when both the reference object and the default class are null
      * @throws IllegalArgumentException thrown when the default class is not concrete or
-     *                                  it does not have a zero parameter constructor
+     *                                  it does not have a public zero parameter constructor
      */
     public static <T> T notNull(T reference, Class<T> defaultClass) {
-        try {
-            return reference != null ? reference :
-                    Validate.notNull(defaultClass, "Default class provided to assurance can not be NULL").newInstance();
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new IllegalArgumentException("Unable to instantiate the default class in assurance", e);
-        }
+        return reference != null ? reference : DefaultConstructors.newInstance(
+                Validate.notNull(defaultClass, "Default class provided to assurance can not be NULL"));
+    }
+
+    /**
+     * Returns the reference value if it is not {@code null}.
+     * Otherwise it will return the value of the default supplier, which is only called when the reference is
+     * {@code null}.
+     *
+     * @param reference       the {@code Object} that is validated.
+     * @param defaultSupplier the {@link java.util.function.Supplier} of the object returned when reference is
+     *                        {@code null}.
+     * @return the reference object or the value of the default supplier
+     * @throws NullPointerException thrown when both the reference object and the default supplier are null
+     */
+    public static <T> T notNullLazy(T reference, Supplier<? extends T> defaultSupplier) {
+        return reference != null ? reference :
+                Validate.notNull(defaultSupplier, "Default supplier provided to assurance can not be NULL").get();
     }
 
     /**
@@ -78,6 +103,58 @@ public class Assure {
         return reference != null ? reference : (M) new HashMap<K, V>();
     }
 
+    /**
+     * Returns a read-only view of the reference {@link java.util.List}, without copying it.
+     * If the reference object is already an unmodifiable view it will return the reference object.
+     * Otherwise, if the reference object is null, it will return the shared immutable empty list of
+     * {@link java.util.Collections#emptyList()}.
+     *
+     * @param reference an {@code Object} that implements {@link java.util.List}
+     * @return an unmodifiable {@link java.util.List}.
+     */
+    public static <T> List<T> readOnlyList(List<T> reference) {
+        if (reference == null) {
+            return Collections.emptyList();
+        }
+        Class<?> type = reference.getClass();
+        return type == UNMODIFIABLE_LIST || type == UNMODIFIABLE_RANDOM_ACCESS_LIST || type == EMPTY_LIST
+                ? reference : Collections.unmodifiableList(reference);
+    }
+
+    /**
+     * Returns a read-only view of the reference {@link java.util.Set}, without copying it.
+     * If the reference object is already an unmodifiable view it will return the reference object.
+     * Otherwise, if the reference object is null, it will return the shared immutable empty set of
+     * {@link java.util.Collections#emptySet()}.
+     *
+     * @param reference an {@code Object} that implements {@link java.util.Set}
+     * @return an unmodifiable {@link java.util.Set}.
+     */
+    public static <T> Set<T> readOnlySet(Set<T> reference) {
+        if (reference == null) {
+            return Collections.emptySet();
+        }
+        Class<?> type = reference.getClass();
+        return type == UNMODIFIABLE_SET || type == EMPTY_SET ? reference : Collections.unmodifiableSet(reference);
+    }
+
+    /**
+     * Returns a read-only view of the reference {@link java.util.Map}, without copying it.
+     * If the reference object is already an unmodifiable view it will return the reference object.
+     * Otherwise, if the reference object is null, it will return the shared immutable empty map of
+     * {@link java.util.Collections#emptyMap()}.
+     *
+     * @param reference an {@code Object} that implements {@link java.util.Map}
+     * @return an unmodifiable {@link java.util.Map}.
+     */
+    public static <K, V> Map<K, V> readOnlyMap(Map<K, V> reference) {
+        if (reference == null) {
+            return Collections.emptyMap();
+        }
+        Class<?> type = reference.getClass();
+        return type == UNMODIFIABLE_MAP || type == EMPTY_MAP ? reference : Collections.unmodifiableMap(reference);
+    }
+
     /**
      * Always returns an {@link java.util.ArrayList}.
      * If the reference object is not null and an {@link java.util.ArrayList} it will return the reference object.
@@ -94,6 +171,35 @@ public class Assure {
         return (temp instanceof ArrayList) ? (ArrayList<T>) temp : new ArrayList<>(temp);
     }
 
+    /**
+     * Always returns an {@link java.util.ArrayList} with room for at least the capacity number of elements.
+     * If the reference object is an {@link java.util.ArrayList} it will grow it to the capacity, if needed,
+     * and return the reference object.
+     * If the reference object is not null and not an {@link java.util.ArrayList}
+     * it will return a new {@link java.util.ArrayList}, sized once for the larger of the capacity and the size of
+     * the reference object, containing all elements of the reference object,
+     * in the order they are returned by the collection's iterator.
+     * Otherwise it will return a new empty {@link java.util.ArrayList} of the capacity.
+     *
+     * @param reference an {@code Object} that implements {@link java.util.Collection}
+     * @param capacity  the number of elements the list is expected to hold.
+     * @return an {@link java.util.ArrayList}.
+     * @throws IllegalArgumentException thrown when the capacity is negative
+     */
+    public static <T> ArrayList<T> arrayList(Collection<T> reference, int capacity) {
+        Validate.positiveOrZero(capacity, "The capacity of the list is negative");
+        if (reference instanceof ArrayList) {
+            ArrayList<T> list = (ArrayList<T>) reference;
+            list.ensureCapacity(capacity);
+            return list;
+        }
+        ArrayList<T> list = new ArrayList<>(reference == null ? capacity : Math.max(capacity, reference.size()));
+        if (reference != null) {
+            list.addAll(reference);
+        }
+        return list;
+    }
+
     /**
      * Always returns a {@link java.util.LinkedList}.
      * If the reference object is not null and a {@link java.util.LinkedList} it will return the reference object.
@@ -126,6 +232,32 @@ public class Assure {
         return (temp instanceof HashSet) ? (HashSet<T>) temp : new HashSet<>(temp);
     }
 
+    /**
+     * Always returns a {@link java.util.HashSet}.
+     * If the reference object is a {@link java.util.HashSet} it will return the reference object.
+     * If the reference object is not null and not a {@link java.util.HashSet}
+     * it will return a new {@link java.util.HashSet}, sized so that the larger of the capacity and the size of the
+     * reference object fits without rehashing, containing all elements of the reference object.
+     * Otherwise it will return a new empty {@link java.util.HashSet} sized for the capacity.
+     *
+     * @param reference an {@code Object} that implements {@link java.util.Collection}
+     * @param capacity  the number of elements the set is expected to hold.
+     * @return a {@link java.util.HashSet}.
+     * @throws IllegalArgumentException thrown when the capacity is negative
+     */
+    public static <T> HashSet<T> hashSet(Collection<T> reference, int capacity) {
+        Validate.positiveOrZero(capacity, "The capacity of the set is negative");
+        if (reference instanceof HashSet) {
+            return (HashSet<T>) reference;
+        }
+        HashSet<T> set = new HashSet<>(hashCapacity(reference == null ? capacity
+                : Math.max(capacity, reference.size())));
+        if (reference != null) {
+            set.addAll(reference);
+        }
+        return set;
+    }
+
     /**
      * Always returns a {@link java.util.HashMap}. 
      * If the reference object is not null and a {@link java.util.HashMap} it will return the reference object.
@@ -142,6 +274,71 @@ public class Assure {
         return (temp instanceof HashMap) ? (HashMap<K, V>) temp : new HashMap<>(temp);
     }
 
+    /**
+     * Always returns a {@link java.util.HashMap}.
+     * If the reference object is a {@link java.util.HashMap} it will return the reference object.
+     * If the reference object is not null and not a {@link java.util.HashMap}
+     * it will return a new {@link java.util.HashMap}, sized so that the larger of the capacity and the size of the
+     * reference object fits without rehashing, with the same mappings as the reference {@link java.util.Map}.
+     * Otherwise it will return a new empty {@link java.util.HashMap} sized for the capacity.
+     *
+     * @param reference an {@code Object} that implements {@link java.util.Map}
+     * @param capacity  the number of mappings the map is expected to hold.
+     * @return a {@link java.util.HashMap}.
+     * @throws IllegalArgumentException thrown when the capacity is negative
+     */
+    public static <K, V> HashMap<K, V> hashMap(Map<K, V> reference, int capacity) {
+        Validate.positiveOrZero(capacity, "The capacity of the map is negative");
+        if (reference instanceof HashMap) {
+            return (HashMap<K, V>) reference;
+        }
+        HashMap<K, V> map = new HashMap<>(hashCapacity(reference == null ? capacity
+                : Math.max(capacity, reference.size())));
+        if (reference != null) {
+            map.putAll(reference);
+        }
+        return map;
+    }
+
+    /**
+     * The initial capacity of a hash table that holds the number of entries under the default load factor.
+     */
+    private static int hashCapacity(int entries) {
+        return entries < 3 ? entries + 1 : entries < (1 << 30) ? (int) (entries / 0.75f + 1.0f) : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the reference character sequence if it is not {@code null} and wholly matches the regular expression.
+     * Otherwise it will return the default value. The expression is compiled once and cached, and simple expressions
+     * are matched without the regex engine.
+     *
+     * @param reference    the character sequence that is validated.
+     * @param regex        the regular expression the whole sequence must match.
+     * @param defaultValue the value returned when the reference does not match.
+     * @return the reference or the default value.
+     * @throws NullPointerException thrown if the regular expression is {@code null}.
+     */
+    public static <T extends CharSequence> T matchesOrDefault(T reference, String regex, T defaultValue) {
+        PatternMatcher matcher = PatternMatcher.of(Validate.notNull(regex, "The regular expression is null"));
+        return reference != null && matcher.matches(reference) ? reference : defaultValue;
+    }
+
+    /**
+     * Returns the reference character sequence if it is not {@code null} and wholly matches the pattern.
+     * Otherwise it will return the default value. A {@link java.util.regex.Matcher} is reused per thread, and a
+     * pattern without flags is matched like {@link #matchesOrDefault(CharSequence, String, CharSequence)}.
+     *
+     * @param reference    the character sequence that is validated.
+     * @param pattern      the pattern the whole sequence must match.
+     * @param defaultValue the value returned when the reference does not match.
+     * @return the reference or the default value.
+     * @throws NullPointerException thrown if the pattern is {@code null}.
+     */
+    public static <T extends CharSequence> T matchesOrDefault(T reference, Pattern pattern, T defaultValue) {
+        Validate.notNull(pattern, "The pattern is null");
+        return reference != null && PatternMatcher.matches(pattern, reference) ? reference : defaultValue;
+    }
+
     /**
      * Returns a String whose value is the reference String
      * after a {@link java.lang.String#trim()} has been performed.
@@ -226,7 +423,47 @@ public class Assure {
      * @return the {@code int} value of the reference String
      */
     public static int intValue(String reference) {
-        return (int) doubleValue(reference, 0D);
+        return intValue((CharSequence) reference);
+    }
+
+    /**
+     * Returns the {@code int} value of the reference CharSequence.
+     * If the reference CharSequence is not a valid number or is null then {@code 0} is returned.
+     *
+     * @param reference a {@link java.lang.CharSequence} to be evaluated.
+     * @return the {@code int} value of the reference CharSequence
+     */
+    public static int intValue(CharSequence reference) {
+        return intValue(reference, 0);
+    }
+
+    /**
+     * Returns the {@code int} value of the characters of the reference array from the offset.
+     * If the characters are not a valid number or the array is null then {@code 0} is returned.
+     *
+     * @param reference a {@code char} array to be evaluated.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@code int} value of the characters
+     * @throws IndexOutOfBoundsException thrown when the offset and length are outside of the array
+     */
+    public static int intValue(char[] reference, int offset, int length) {
+        return intValue(NumberParser.chars(reference, offset, length));
+    }
+
+    /**
+     * Returns the {@code int} value of the ASCII bytes of the reference buffer between the positions.
+     * The position and limit of the buffer are not changed.
+     * If the bytes are not a valid number or the buffer is null then {@code 0} is returned.
+     *
+     * @param reference a {@link java.nio.ByteBuffer} to be evaluated.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@code int} value of the bytes
+     * @throws IndexOutOfBoundsException thrown when the positions are outside of the limit of the buffer
+     */
+    public static int intValue(ByteBuffer reference, int position, int limit) {
+        return intValue(NumberParser.ascii(reference, position, limit));
     }
 
     /**
@@ -237,7 +474,50 @@ public class Assure {
      * @return the {@code int} value of the reference String
      */
     public static int intValue(String reference, int defaultValue) {
-        return (int) doubleValue(reference, defaultValue);
+        return intValue((CharSequence) reference, defaultValue);
+    }
+
+    /**
+     * Returns the {@code int} value of the reference CharSequence.
+     * If the reference CharSequence is not a valid number or is null then the default value is returned.
+     *
+     * @param reference a {@link java.lang.CharSequence} to be evaluated.
+     * @return the {@code int} value of the reference CharSequence
+     */
+    public static int intValue(CharSequence reference, int defaultValue) {
+        Object event = ValidationEvents.beginConversion();
+        int value = NumberParser.parseInt(reference, defaultValue);
+        ValidationEvents.endConversion(event, "intValue", reference);
+        return value;
+    }
+
+    /**
+     * Returns the {@code int} value of the characters of the reference array from the offset.
+     * If the characters are not a valid number or the array is null then the default value is returned.
+     *
+     * @param reference a {@code char} array to be evaluated.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@code int} value of the characters
+     * @throws IndexOutOfBoundsException thrown when the offset and length are outside of the array
+     */
+    public static int intValue(char[] reference, int offset, int length, int defaultValue) {
+        return intValue(NumberParser.chars(reference, offset, length), defaultValue);
+    }
+
+    /**
+     * Returns the {@code int} value of the ASCII bytes of the reference buffer between the positions.
+     * The position and limit of the buffer are not changed.
+     * If the bytes are not a valid number or the buffer is null then the default value is returned.
+     *
+     * @param reference a {@link java.nio.ByteBuffer} to be evaluated.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@code int} value of the bytes
+     * @throws IndexOutOfBoundsException thrown when the positions are outside of the limit of the buffer
+     */
+    public static int intValue(ByteBuffer reference, int position, int limit, int defaultValue) {
+        return intValue(NumberParser.ascii(reference, position, limit), defaultValue);
     }
 
     /**
@@ -248,8 +528,50 @@ public class Assure {
      * @return the {@link java.lang.Integer} value of the reference String
      */
     public static Integer integerOrNull(String reference) {
-        Double dub = doubleOrNull(reference);
-        return dub == null ? null : dub.intValue();
+        return integerOrNull((CharSequence) reference);
+    }
+
+    /**
+     * Returns the {@link java.lang.Integer} value of the reference CharSequence.
+     * If the reference CharSequence is not a valid number or is null then null is returned
+     *
+     * @param reference a {@link java.lang.CharSequence} to be evaluated.
+     * @return the {@link java.lang.Integer} value of the reference CharSequence
+     */
+    public static Integer integerOrNull(CharSequence reference) {
+        Object event = ValidationEvents.beginConversion();
+        Long value = NumberParser.longOrNull(reference);
+        ValidationEvents.endConversion(event, "integerOrNull", reference);
+        return value == null ? null : NumberParser.toInt(value);
+    }
+
+    /**
+     * Returns the {@link java.lang.Integer} value of the characters of the reference array from the offset.
+     * If the characters are not a valid number or the array is null then null is returned
+     *
+     * @param reference a {@code char} array to be evaluated.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@link java.lang.Integer} value of the characters
+     * @throws IndexOutOfBoundsException thrown when the offset and length are outside of the array
+     */
+    public static Integer integerOrNull(char[] reference, int offset, int length) {
+        return integerOrNull(NumberParser.chars(reference, offset, length));
+    }
+
+    /**
+     * Returns the {@link java.lang.Integer} value of the ASCII bytes of the reference buffer between the positions.
+     * The position and limit of the buffer are not changed.
+     * If the bytes are not a valid number or the buffer is null then null is returned
+     *
+     * @param reference a {@link java.nio.ByteBuffer} to be evaluated.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@link java.lang.Integer} value of the bytes
+     * @throws IndexOutOfBoundsException thrown when the positions are outside of the limit of the buffer
+     */
+    public static Integer integerOrNull(ByteBuffer reference, int position, int limit) {
+        return integerOrNull(NumberParser.ascii(reference, position, limit));
     }
 
     /**
@@ -260,7 +582,47 @@ public class Assure {
      * @return the {@code long} value of the reference String
      */
     public static long longValue(String reference) {
-        return (long) doubleValue(reference, 0D);
+        return longValue((CharSequence) reference);
+    }
+
+    /**
+     * Returns the {@code long} value of the reference CharSequence.
+     * If the reference CharSequence is not a valid number or is null then {@code 0} is returned.
+     *
+     * @param reference a {@link java.lang.CharSequence} to be evaluated.
+     * @return the {@code long} value of the reference CharSequence
+     */
+    public static long longValue(CharSequence reference) {
+        return longValue(reference, 0L);
+    }
+
+    /**
+     * Returns the {@code long} value of the characters of the reference array from the offset.
+     * If the characters are not a valid number or the array is null then {@code 0} is returned.
+     *
+     * @param reference a {@code char} array to be evaluated.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@code long} value of the characters
+     * @throws IndexOutOfBoundsException thrown when the offset and length are outside of the array
+     */
+    public static long longValue(char[] reference, int offset, int length) {
+        return longValue(NumberParser.chars(reference, offset, length));
+    }
+
+    /**
+     * Returns the {@code long} value of the ASCII bytes of the reference buffer between the positions.
+     * The position and limit of the buffer are not changed.
+     * If the bytes are not a valid number or the buffer is null then {@code 0} is returned.
+     *
+     * @param reference a {@link java.nio.ByteBuffer} to be evaluated.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@code long} value of the bytes
+     * @throws IndexOutOfBoundsException thrown when the positions are outside of the limit of the buffer
+     */
+    public static long longValue(ByteBuffer reference, int position, int limit) {
+        return longValue(NumberParser.ascii(reference, position, limit));
     }
 
     /**
@@ -271,7 +633,50 @@ public class Assure {
      * @return the {@code long} value of the reference String
      */
     public static long longValue(String reference, long defaultValue) {
-        return (long) doubleValue(reference, defaultValue);
+        return longValue((CharSequence) reference, defaultValue);
+    }
+
+    /**
+     * Returns the {@code long} value of the reference CharSequence.
+     * If the reference CharSequence is not a valid number or is null then the default value is returned.
+     *
+     * @param reference a {@link java.lang.CharSequence} to be evaluated.
+     * @return the {@code long} value of the reference CharSequence
+     */
+    public static long longValue(CharSequence reference, long defaultValue) {
+        Object event = ValidationEvents.beginConversion();
+        long value = NumberParser.parseLong(reference, defaultValue);
+        ValidationEvents.endConversion(event, "longValue", reference);
+        return value;
+    }
+
+    /**
+     * Returns the {@code long} value of the characters of the reference array from the offset.
+     * If the characters are not a valid number or the array is null then the default value is returned.
+     *
+     * @param reference a {@code char} array to be evaluated.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@code long} value of the characters
+     * @throws IndexOutOfBoundsException thrown when the offset and length are outside of the array
+     */
+    public static long longValue(char[] reference, int offset, int length, long defaultValue) {
+        return longValue(NumberParser.chars(reference, offset, length), defaultValue);
+    }
+
+    /**
+     * Returns the {@code long} value of the ASCII bytes of the reference buffer between the positions.
+     * The position and limit of the buffer are not changed.
+     * If the bytes are not a valid number or the buffer is null then the default value is returned.
+     *
+     * @param reference a {@link java.nio.ByteBuffer} to be evaluated.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@code long} value of the bytes
+     * @throws IndexOutOfBoundsException thrown when the positions are outside of the limit of the buffer
+     */
+    public static long longValue(ByteBuffer reference, int position, int limit, long defaultValue) {
+        return longValue(NumberParser.ascii(reference, position, limit), defaultValue);
     }
 
     /**
@@ -282,8 +687,50 @@ public class Assure {
      * @return the {@link java.lang.Long} value of the reference String
      */
     public static Long longOrNull(String reference) {
-        Double dub = doubleOrNull(reference);
-        return dub == null ? null : dub.longValue();
+        return longOrNull((CharSequence) reference);
+    }
+
+    /**
+     * Returns the {@link java.lang.Long} value of the reference CharSequence.
+     * If the reference CharSequence is not a valid number or is null then null is returned
+     *
+     * @param reference a {@link java.lang.CharSequence} to be evaluated.
+     * @return the {@link java.lang.Long} value of the reference CharSequence
+     */
+    public static Long longOrNull(CharSequence reference) {
+        Object event = ValidationEvents.beginConversion();
+        Long value = NumberParser.longOrNull(reference);
+        ValidationEvents.endConversion(event, "longOrNull", reference);
+        return value;
+    }
+
+    /**
+     * Returns the {@link java.lang.Long} value of the characters of the reference array from the offset.
+     * If the characters are not a valid number or the array is null then null is returned
+     *
+     * @param reference a {@code char} array to be evaluated.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@link java.lang.Long} value of the characters
+     * @throws IndexOutOfBoundsException thrown when the offset and length are outside of the array
+     */
+    public static Long longOrNull(char[] reference, int offset, int length) {
+        return longOrNull(NumberParser.chars(reference, offset, length));
+    }
+
+    /**
+     * Returns the {@link java.lang.Long} value of the ASCII bytes of the reference buffer between the positions.
+     * The position and limit of the buffer are not changed.
+     * If the bytes are not a valid number or the buffer is null then null is returned
+     *
+     * @param reference a {@link java.nio.ByteBuffer} to be evaluated.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@link java.lang.Long} value of the bytes
+     * @throws IndexOutOfBoundsException thrown when the positions are outside of the limit of the buffer
+     */
+    public static Long longOrNull(ByteBuffer reference, int position, int limit) {
+        return longOrNull(NumberParser.ascii(reference, position, limit));
     }
 
     /**
@@ -294,7 +741,47 @@ public class Assure {
      * @return the {@code float} value of the reference String
      */
     public static float floatValue(String reference) {
-        return (float) doubleValue(reference, 0D);
+        return floatValue((CharSequence) reference);
+    }
+
+    /**
+     * Returns the {@code float} value of the reference CharSequence.
+     * If the reference CharSequence is not a valid number or is null then {@code 0.0} is returned.
+     *
+     * @param reference a {@link java.lang.CharSequence} to be evaluated.
+     * @return the {@code float} value of the reference CharSequence
+     */
+    public static float floatValue(CharSequence reference) {
+        return floatValue(reference, 0F);
+    }
+
+    /**
+     * Returns the {@code float} value of the characters of the reference array from the offset.
+     * If the characters are not a valid number or the array is null then {@code 0.0} is returned.
+     *
+     * @param reference a {@code char} array to be evaluated.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@code float} value of the characters
+     * @throws IndexOutOfBoundsException thrown when the offset and length are outside of the array
+     */
+    public static float floatValue(char[] reference, int offset, int length) {
+        return floatValue(NumberParser.chars(reference, offset, length));
+    }
+
+    /**
+     * Returns the {@code float} value of the ASCII bytes of the reference buffer between the positions.
+     * The position and limit of the buffer are not changed.
+     * If the bytes are not a valid number or the buffer is null then {@code 0.0} is returned.
+     *
+     * @param reference a {@link java.nio.ByteBuffer} to be evaluated.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@code float} value of the bytes
+     * @throws IndexOutOfBoundsException thrown when the positions are outside of the limit of the buffer
+     */
+    public static float floatValue(ByteBuffer reference, int position, int limit) {
+        return floatValue(NumberParser.ascii(reference, position, limit));
     }
 
     /**
@@ -305,7 +792,50 @@ public class Assure {
      * @return the {@code float} value of the reference String
      */
     public static float floatValue(String reference, float defaultValue) {
-        return (float) doubleValue(reference, defaultValue);
+        return floatValue((CharSequence) reference, defaultValue);
+    }
+
+    /**
+     * Returns the {@code float} value of the reference CharSequence.
+     * If the reference CharSequence is not a valid number or is null then the default value is returned.
+     *
+     * @param reference a {@link java.lang.CharSequence} to be evaluated.
+     * @return the {@code float} value of the reference CharSequence
+     */
+    public static float floatValue(CharSequence reference, float defaultValue) {
+        Object event = ValidationEvents.beginConversion();
+        float value = (float) NumberParser.parseDouble(reference, defaultValue);
+        ValidationEvents.endConversion(event, "floatValue", reference);
+        return value;
+    }
+
+    /**
+     * Returns the {@code float} value of the characters of the reference array from the offset.
+     * If the characters are not a valid number or the array is null then the default value is returned.
+     *
+     * @param reference a {@code char} array to be evaluated.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@code float} value of the characters
+     * @throws IndexOutOfBoundsException thrown when the offset and length are outside of the array
+     */
+    public static float floatValue(char[] reference, int offset, int length, float defaultValue) {
+        return floatValue(NumberParser.chars(reference, offset, length), defaultValue);
+    }
+
+    /**
+     * Returns the {@code float} value of the ASCII bytes of the reference buffer between the positions.
+     * The position and limit of the buffer are not changed.
+     * If the bytes are not a valid number or the buffer is null then the default value is returned.
+     *
+     * @param reference a {@link java.nio.ByteBuffer} to be evaluated.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@code float} value of the bytes
+     * @throws IndexOutOfBoundsException thrown when the positions are outside of the limit of the buffer
+     */
+    public static float floatValue(ByteBuffer reference, int position, int limit, float defaultValue) {
+        return floatValue(NumberParser.ascii(reference, position, limit), defaultValue);
     }
 
     /**
@@ -316,8 +846,50 @@ public class Assure {
      * @return the {@link java.lang.Float} value of the reference String
      */
     public static Float floatOrNull(String reference) {
-        Double dub = doubleOrNull(reference);
-        return dub == null ? null : dub.floatValue();
+        return floatOrNull((CharSequence) reference);
+    }
+
+    /**
+     * Returns the {@link java.lang.Float} value of the reference CharSequence.
+     * If the reference CharSequence is not a valid number or is null then null is returned
+     *
+     * @param reference a {@link java.lang.CharSequence} to be evaluated.
+     * @return the {@link java.lang.Float} value of the reference CharSequence
+     */
+    public static Float floatOrNull(CharSequence reference) {
+        Object event = ValidationEvents.beginConversion();
+        Double value = NumberParser.doubleOrNull(reference);
+        ValidationEvents.endConversion(event, "floatOrNull", reference);
+        return value == null ? null : value.floatValue();
+    }
+
+    /**
+     * Returns the {@link java.lang.Float} value of the characters of the reference array from the offset.
+     * If the characters are not a valid number or the array is null then null is returned
+     *
+     * @param reference a {@code char} array to be evaluated.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@link java.lang.Float} value of the characters
+     * @throws IndexOutOfBoundsException thrown when the offset and length are outside of the array
+     */
+    public static Float floatOrNull(char[] reference, int offset, int length) {
+        return floatOrNull(NumberParser.chars(reference, offset, length));
+    }
+
+    /**
+     * Returns the {@link java.lang.Float} value of the ASCII bytes of the reference buffer between the positions.
+     * The position and limit of the buffer are not changed.
+     * If the bytes are not a valid number or the buffer is null then null is returned
+     *
+     * @param reference a {@link java.nio.ByteBuffer} to be evaluated.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@link java.lang.Float} value of the bytes
+     * @throws IndexOutOfBoundsException thrown when the positions are outside of the limit of the buffer
+     */
+    public static Float floatOrNull(ByteBuffer reference, int position, int limit) {
+        return floatOrNull(NumberParser.ascii(reference, position, limit));
     }
 
     /**
@@ -328,9 +900,49 @@ public class Assure {
      * @return the {@code double} value of the reference String
      */
     public static double doubleValue(String reference) {
+        return doubleValue((CharSequence) reference);
+    }
+
+    /**
+     * Returns the {@code double} value of the reference CharSequence.
+     * If the reference CharSequence is not a valid number or is null then {@code 0.0} is returned.
+     *
+     * @param reference a {@link java.lang.CharSequence} to be evaluated.
+     * @return the {@code double} value of the reference CharSequence
+     */
+    public static double doubleValue(CharSequence reference) {
         return doubleValue(reference, 0D);
     }
 
+    /**
+     * Returns the {@code double} value of the characters of the reference array from the offset.
+     * If the characters are not a valid number or the array is null then {@code 0.0} is returned.
+     *
+     * @param reference a {@code char} array to be evaluated.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@code double} value of the characters
+     * @throws IndexOutOfBoundsException thrown when the offset and length are outside of the array
+     */
+    public static double doubleValue(char[] reference, int offset, int length) {
+        return doubleValue(NumberParser.chars(reference, offset, length));
+    }
+
+    /**
+     * Returns the {@code double} value of the ASCII bytes of the reference buffer between the positions.
+     * The position and limit of the buffer are not changed.
+     * If the bytes are not a valid number or the buffer is null then {@code 0.0} is returned.
+     *
+     * @param reference a {@link java.nio.ByteBuffer} to be evaluated.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@code double} value of the bytes
+     * @throws IndexOutOfBoundsException thrown when the positions are outside of the limit of the buffer
+     */
+    public static double doubleValue(ByteBuffer reference, int position, int limit) {
+        return doubleValue(NumberParser.ascii(reference, position, limit));
+    }
+
     /**
      * Returns the {@code double} value of the reference String.
      * If the reference String is not a valid number or is null then the default value is returned.
@@ -339,8 +951,50 @@ public class Assure {
      * @return the {@code double} value of the reference String
      */
     public static double doubleValue(String reference, double defaultValue) {
-        Double dub = doubleOrNull(reference);
-        return dub == null ? defaultValue : dub;
+        return doubleValue((CharSequence) reference, defaultValue);
+    }
+
+    /**
+     * Returns the {@code double} value of the reference CharSequence.
+     * If the reference CharSequence is not a valid number or is null then the default value is returned.
+     *
+     * @param reference a {@link java.lang.CharSequence} to be evaluated.
+     * @return the {@code double} value of the reference CharSequence
+     */
+    public static double doubleValue(CharSequence reference, double defaultValue) {
+        Object event = ValidationEvents.beginConversion();
+        double value = NumberParser.parseDouble(reference, defaultValue);
+        ValidationEvents.endConversion(event, "doubleValue", reference);
+        return value;
+    }
+
+    /**
+     * Returns the {@code double} value of the characters of the reference array from the offset.
+     * If the characters are not a valid number or the array is null then the default value is returned.
+     *
+     * @param reference a {@code char} array to be evaluated.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@code double} value of the characters
+     * @throws IndexOutOfBoundsException thrown when the offset and length are outside of the array
+     */
+    public static double doubleValue(char[] reference, int offset, int length, double defaultValue) {
+        return doubleValue(NumberParser.chars(reference, offset, length), defaultValue);
+    }
+
+    /**
+     * Returns the {@code double} value of the ASCII bytes of the reference buffer between the positions.
+     * The position and limit of the buffer are not changed.
+     * If the bytes are not a valid number or the buffer is null then the default value is returned.
+     *
+     * @param reference a {@link java.nio.ByteBuffer} to be evaluated.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@code double} value of the bytes
+     * @throws IndexOutOfBoundsException thrown when the positions are outside of the limit of the buffer
+     */
+    public static double doubleValue(ByteBuffer reference, int position, int limit, double defaultValue) {
+        return doubleValue(NumberParser.ascii(reference, position, limit), defaultValue);
     }
 
     /**
@@ -351,12 +1005,50 @@ public class Assure {
      * @return the {@link java.lang.Double} value of the reference String
      */
     public static Double doubleOrNull(String reference) {
-        if (reference == null) return null;
-        try {
-            return new Double(trimmedOrEmpty(reference));
-        } catch (NumberFormatException e) {
-            return null;
-        }
+        return doubleOrNull((CharSequence) reference);
+    }
+
+    /**
+     * Returns the {@link java.lang.Double} value of the reference CharSequence.
+     * If the reference CharSequence is not a valid number or is null then null is returned
+     *
+     * @param reference a {@link java.lang.CharSequence} to be evaluated.
+     * @return the {@link java.lang.Double} value of the reference CharSequence
+     */
+    public static Double doubleOrNull(CharSequence reference) {
+        Object event = ValidationEvents.beginConversion();
+        Double value = NumberParser.doubleOrNull(reference);
+        ValidationEvents.endConversion(event, "doubleOrNull", reference);
+        return value;
+    }
+
+    /**
+     * Returns the {@link java.lang.Double} value of the characters of the reference array from the offset.
+     * If the characters are not a valid number or the array is null then null is returned
+     *
+     * @param reference a {@code char} array to be evaluated.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@link java.lang.Double} value of the characters
+     * @throws IndexOutOfBoundsException thrown when the offset and length are outside of the array
+     */
+    public static Double doubleOrNull(char[] reference, int offset, int length) {
+        return doubleOrNull(NumberParser.chars(reference, offset, length));
+    }
+
+    /**
+     * Returns the {@link java.lang.Double} value of the ASCII bytes of the reference buffer between the positions.
+     * The position and limit of the buffer are not changed.
+     * If the bytes are not a valid number or the buffer is null then null is returned
+     *
+     * @param reference a {@link java.nio.ByteBuffer} to be evaluated.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@link java.lang.Double} value of the bytes
+     * @throws IndexOutOfBoundsException thrown when the positions are outside of the limit of the buffer
+     */
+    public static Double doubleOrNull(ByteBuffer reference, int position, int limit) {
+        return doubleOrNull(NumberParser.ascii(reference, position, limit));
     }
 
 }
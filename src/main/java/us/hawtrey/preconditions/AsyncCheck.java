@@ -0,0 +1,365 @@
+package us.hawtrey.preconditions;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An expensive or I/O-backed check, such as "this id exists in the store", run asynchronously on an executor.
+ * <p>
+ * Values checked concurrently are coalesced into batches, so one lookup answers for many values. A batch is looked
+ * up as soon as it holds {@code maxBatchSize} distinct values, or {@code maxDelay} after its first value was added,
+ * whichever comes first. The same value checked twice in one batch is looked up once. A check is immutable and
+ * thread safe and is meant to be held in a {@code static final} field or by a long-lived service.
+ * <p>
+ * The futures fail with the exceptions {@link Validate} throws: a value rejected by the lookup fails with the
+ * {@code IllegalArgumentException} of {@link Validate#argument(Object, boolean, String, Object...)}, created by the
+ * current {@link ExceptionFactory} with the {@link Check#ARGUMENT} check and the value, and a {@code null} value
+ * fails with the {@code NullPointerException} of {@link Validate#notNull(Object, String)}. If the lookup itself
+ * throws, every future of the batch fails with its exception.
+ * <p>
+ * By default the lookups run on virtual threads where the JVM has them, and on a cached pool of daemon threads
+ * otherwise.
+ *
+ * <pre>
+ *     private static final AsyncCheck&lt;Long&gt; ORDER_EXISTS = AsyncCheck.batched(store::existingOrderIds)
+ *             .maxBatchSize(128)
+ *             .maxDelay(2, TimeUnit.MILLISECONDS)
+ *             .message("No order found for id %s")
+ *             .build();
+ *
+ *     CompletableFuture&lt;Long&gt; orderId = ORDER_EXISTS.validate(id);
+ * </pre>
+ *
+ * @param <T> the type of the checked values.
+ */
+public final class AsyncCheck<T> {
+    private static final String DEFAULT_MESSAGE = "The value (%s) was rejected by the lookup";
+
+    private final Function<? super Set<T>, ? extends Collection<?>> lookup;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Executor executor;
+    private final String msgTemplate;
+    private Batch<T> pending;
+
+    private AsyncCheck(Builder<T> builder) {
+        this.lookup = builder.lookup;
+        this.maxBatchSize = builder.maxBatchSize;
+        this.maxDelayNanos = builder.maxDelayNanos;
+        this.executor = builder.executor != null ? builder.executor : DefaultExecutor.EXECUTOR;
+        this.msgTemplate = builder.msgTemplate;
+    }
+
+    /**
+     * Returns a builder of a check whose values are looked up in batches. The lookup is given the distinct values of
+     * a batch and returns those that pass; a {@link Set} answers fastest.
+     *
+     * @param lookup the lookup returning the values of a batch that pass.
+     * @param <T>    the type of the checked values.
+     * @return a new builder of the check.
+     * @throws NullPointerException thrown if the lookup is {@code null}.
+     */
+    public static <T> Builder<T> batched(Function<? super Set<T>, ? extends Collection<?>> lookup) {
+        return new Builder<>(Validate.notNull(lookup, "The lookup is null"));
+    }
+
+    /**
+     * Returns a builder of a check that tests each value on its own. Its batches hold one value unless
+     * {@link Builder#maxBatchSize(int)} is raised, in which case a batch is tested value by value in one task.
+     *
+     * @param predicate the test of one value.
+     * @param <T>       the type of the checked values.
+     * @return a new builder of the check.
+     * @throws NullPointerException thrown if the predicate is {@code null}.
+     */
+    public static <T> Builder<T> of(Predicate<? super T> predicate) {
+        Validate.notNull(predicate, "The predicate is null");
+        Builder<T> builder = batched(values -> {
+            List<T> passed = new ArrayList<>(values.size());
+            for (T value : values) {
+                if (predicate.test(value)) {
+                    passed.add(value);
+                }
+            }
+            return passed;
+        });
+        return builder.maxBatchSize(1);
+    }
+
+    /**
+     * Checks the value asynchronously.
+     *
+     * @param value the value to check.
+     * @return a future completed with the value if it passes, or with the exception {@code Validate} throws if not.
+     */
+    public CompletableFuture<T> validate(T value) {
+        if (value == null) {
+            return failed(() -> Validate.notNull(value, "The checked value is null"));
+        }
+        CompletableFuture<T> future;
+        Batch<T> full = null;
+        synchronized (this) {
+            Batch<T> batch = pending;
+            if (batch == null) {
+                batch = new Batch<>(this);
+                pending = batch;
+                if (maxBatchSize > 1 && maxDelayNanos > 0) {
+                    batch.timer = Scheduler.SCHEDULER.schedule(batch, maxDelayNanos, TimeUnit.NANOSECONDS);
+                }
+            }
+            future = batch.add(value);
+            if (batch.futures.size() >= maxBatchSize || maxDelayNanos <= 0) {
+                pending = null;
+                full = batch;
+            }
+        }
+        if (full != null) {
+            full.submit();
+        }
+        return future;
+    }
+
+    /**
+     * Checks the values asynchronously. They are added to the pending batch together, so they are looked up in as
+     * few batches as the batch size and the delay allow.
+     *
+     * @param values the values to check.
+     * @return a future completed with the values in order if they all pass, or with the exception of the first
+     * value that failed.
+     * @throws NullPointerException thrown if the collection is {@code null}.
+     */
+    public CompletableFuture<List<T>> validateAll(Collection<? extends T> values) {
+        Validate.notNull(values, "The checked values are null");
+        List<CompletableFuture<T>> futures = new ArrayList<>(values.size());
+        for (T value : values) {
+            futures.add(validate(value));
+        }
+        CompletableFuture<List<T>> all = new CompletableFuture<>();
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, failure) -> {
+            List<T> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<T> future : futures) {
+                try {
+                    results.add(future.join());
+                } catch (CompletionException e) {
+                    all.completeExceptionally(e.getCause());
+                    return;
+                }
+            }
+            all.complete(results);
+        });
+        return all;
+    }
+
+    private void flush(Batch<T> batch) {
+        synchronized (this) {
+            if (pending != batch) {
+                return;
+            }
+            pending = null;
+        }
+        batch.submit();
+    }
+
+    private void lookup(Map<T, CompletableFuture<T>> futures) {
+        Collection<?> passed;
+        try {
+            passed = Validate.notNull(lookup.apply(Collections.unmodifiableSet(futures.keySet())),
+                    "The lookup returned null");
+        } catch (RuntimeException e) {
+            for (CompletableFuture<T> future : futures.values()) {
+                future.completeExceptionally(e);
+            }
+            return;
+        }
+        for (Map.Entry<T, CompletableFuture<T>> entry : futures.entrySet()) {
+            T value = entry.getKey();
+            try {
+                entry.getValue().complete(Validate.argument(value, passed.contains(value), msgTemplate, value));
+            } catch (RuntimeException e) {
+                entry.getValue().completeExceptionally(e);
+            }
+        }
+    }
+
+    private static <T> CompletableFuture<T> failed(Runnable check) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            check.run();
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncCheck[maxBatchSize=" + maxBatchSize + ", maxDelayNanos=" + maxDelayNanos + "]";
+    }
+
+    /**
+     * The values waiting for one lookup. It is its own timer task, flushing itself if it is still the pending batch
+     * when the delay expires.
+     */
+    private static final class Batch<T> implements Runnable {
+        private final AsyncCheck<T> check;
+        private final Map<T, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        private ScheduledFuture<?> timer;
+
+        Batch(AsyncCheck<T> check) {
+            this.check = check;
+        }
+
+        CompletableFuture<T> add(T value) {
+            return futures.computeIfAbsent(value, key -> new CompletableFuture<>());
+        }
+
+        @Override
+        public void run() {
+            check.flush(this);
+        }
+
+        void submit() {
+            if (timer != null) {
+                timer.cancel(false);
+            }
+            try {
+                check.executor.execute(() -> check.lookup(futures));
+            } catch (RuntimeException e) {
+                for (CompletableFuture<T> future : futures.values()) {
+                    future.completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * The single daemon thread flushing the batches whose delay expired, started on first use.
+     */
+    private static final class Scheduler {
+        static final ScheduledThreadPoolExecutor SCHEDULER = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "preconditions-async-check-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        static {
+            SCHEDULER.setRemoveOnCancelPolicy(true);
+        }
+
+        private Scheduler() {
+        }
+    }
+
+    /**
+     * The executor of the checks built without one: a virtual thread per task on JVMs that have virtual threads,
+     * which suits lookups that block on I/O, and a cached pool of daemon threads otherwise.
+     */
+    private static final class DefaultExecutor {
+        static final Executor EXECUTOR = create();
+
+        private DefaultExecutor() {
+        }
+
+        private static Executor create() {
+            try {
+                return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                return Executors.newCachedThreadPool(runnable -> {
+                    Thread thread = new Thread(runnable, "preconditions-async-check");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+        }
+    }
+
+    /**
+     * Configures an {@link AsyncCheck}. A builder is not thread safe, the checks it builds are.
+     *
+     * @param <T> the type of the checked values.
+     */
+    public static final class Builder<T> {
+        private final Function<? super Set<T>, ? extends Collection<?>> lookup;
+        private int maxBatchSize = 64;
+        private long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(1);
+        private Executor executor;
+        private String msgTemplate = DEFAULT_MESSAGE;
+
+        private Builder(Function<? super Set<T>, ? extends Collection<?>> lookup) {
+            this.lookup = lookup;
+        }
+
+        /**
+         * Sets the number of distinct values looked up at most at once, 64 by default.
+         *
+         * @param maxBatchSize the number of values of a batch.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the size is not positive.
+         */
+        public Builder<T> maxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = Validate.positive(maxBatchSize, "The maximum batch size is not positive");
+            return this;
+        }
+
+        /**
+         * Sets how long the first value of a batch waits for more values before the batch is looked up, one
+         * millisecond by default. A delay of zero looks up every value as soon as it is checked.
+         *
+         * @param maxDelay the delay.
+         * @param unit     the unit of the delay.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the delay is negative.
+         * @throws NullPointerException     thrown if the unit is {@code null}.
+         */
+        public Builder<T> maxDelay(long maxDelay, TimeUnit unit) {
+            Validate.positiveOrZero(maxDelay, "The maximum delay is negative");
+            this.maxDelayNanos = Validate.notNull(unit, "The unit of the maximum delay is null").toNanos(maxDelay);
+            return this;
+        }
+
+        /**
+         * Sets the executor running the lookups.
+         *
+         * @param executor the executor.
+         * @return this builder.
+         * @throws NullPointerException thrown if the executor is {@code null}.
+         */
+        public Builder<T> executor(Executor executor) {
+            this.executor = Validate.notNull(executor, "The executor is null");
+            return this;
+        }
+
+        /**
+         * Sets the message template of the exception of a rejected value, given the value as its one argument.
+         *
+         * @param msgTemplate the message template.
+         * @return this builder.
+         * @throws NullPointerException thrown if the template is {@code null}.
+         */
+        public Builder<T> message(String msgTemplate) {
+            this.msgTemplate = Validate.notNull(msgTemplate, "The message template is null");
+            return this;
+        }
+
+        /**
+         * @return a check with the configuration set so far.
+         */
+        public AsyncCheck<T> build() {
+            return new AsyncCheck<>(this);
+        }
+    }
+}
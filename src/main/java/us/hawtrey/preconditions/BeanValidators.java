@@ -0,0 +1,388 @@
+package us.hawtrey.preconditions;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Builds the {@link Validator} of a class from its {@link Constraints} annotations.
+ * <p>
+ * The annotations are read and the accessors built once per class, the result is cached in a {@code ClassValue} so
+ * it is released with the class. A getter gets an accessor class of its own from the {@code LambdaMetafactory}, the
+ * same code the compiler emits for a method reference, and primitive properties are read without boxing. Fields,
+ * which the metafactory cannot read, and getters it cannot reach are read through their {@code MethodHandle}s.
+ */
+final class BeanValidators {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final Method PRIVATE_LOOKUP_IN = findPrivateLookupIn();
+
+    private static final ClassValue<Validator<Object>> VALIDATORS = new ClassValue<Validator<Object>>() {
+        @Override
+        protected Validator<Object> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private BeanValidators() {
+    }
+
+    static Validator<Object> forClass(Class<?> type) {
+        return VALIDATORS.get(type);
+    }
+
+    private static Validator<Object> compile(Class<?> type) {
+        Deque<Class<?>> hierarchy = new ArrayDeque<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.push(c);
+        }
+        Validator.Builder<Object> builder = Validator.builder().name(type.getName());
+        for (Class<?> c : hierarchy) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && isConstrained(field)) {
+                    addChecks(builder, field, field.getType(), field);
+                }
+            }
+            for (Method method : c.getDeclaredMethods()) {
+                if (!Modifier.isStatic(method.getModifiers()) && !method.isBridge() && isConstrained(method)) {
+                    Validate.argument(method, method.getParameterCount() == 0 && method.getReturnType() != void.class,
+                            "The constrained method %s must take no parameters and return a value", method);
+                    addChecks(builder, method, method.getReturnType(), method);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private static boolean isConstrained(AccessibleObject element) {
+        return element.isAnnotationPresent(Constraints.NotNull.class)
+                || element.isAnnotationPresent(Constraints.NotBlank.class)
+                || element.isAnnotationPresent(Constraints.Range.class)
+                || element.isAnnotationPresent(Constraints.Positive.class)
+                || element.isAnnotationPresent(Constraints.Size.class);
+    }
+
+    private static void addChecks(Validator.Builder<Object> builder, AccessibleObject element, Class<?> type,
+                                  Member member) {
+        Constraints.NotNull notNull = element.getAnnotation(Constraints.NotNull.class);
+        if (notNull != null) {
+            Validate.argument(element, !type.isPrimitive(), "The primitive property %s is never null", element);
+            if (notNull.message().isEmpty()) {
+                builder.notNull(reader(member));
+            } else {
+                builder.notNull(reader(member), notNull.message());
+            }
+        }
+        Constraints.NotBlank notBlank = element.getAnnotation(Constraints.NotBlank.class);
+        if (notBlank != null) {
+            Validate.argument(element, type == String.class, "The not blank property %s is not a String", element);
+            if (notBlank.message().isEmpty()) {
+                builder.notBlank(reader(member));
+            } else {
+                builder.notBlank(reader(member), notBlank.message());
+            }
+        }
+        Constraints.Range range = element.getAnnotation(Constraints.Range.class);
+        if (range != null) {
+            addRange(builder, element, type, member, range);
+        }
+        Constraints.Positive positive = element.getAnnotation(Constraints.Positive.class);
+        if (positive != null) {
+            Validate.argument(element, isNumber(type), "The positive property %s is not a number", element);
+            String msg = positive.message().isEmpty() ? null : positive.message();
+            if (isIntegral(type)) {
+                builder.positiveLong(longReader(member), msg);
+            } else if (type == double.class || type == float.class) {
+                builder.positiveDouble(doubleReader(member), msg);
+            } else if (msg == null) {
+                builder.positive(BeanValidators.<Number>reader(member));
+            } else {
+                builder.positive(BeanValidators.<Number>reader(member), msg);
+            }
+        }
+        Constraints.Size size = element.getAnnotation(Constraints.Size.class);
+        if (size != null) {
+            Function<Object, Integer> sizeOf = sizeOf(element, type, reader(member));
+            if (size.message().isEmpty()) {
+                builder.inRange(sizeOf, size.start(), size.end());
+            } else {
+                builder.inRange(sizeOf, size.start(), size.end(), size.message());
+            }
+        }
+    }
+
+    private static void addRange(Validator.Builder<Object> builder, AccessibleObject element, Class<?> type,
+                                 Member member, Constraints.Range range) {
+        String msg = range.message().isEmpty() ? null : range.message();
+        if (isIntegral(type)) {
+            ToLongFunction<Object> property = longReader(member);
+            if (msg == null) {
+                builder.inLongRange(property, range.start(), range.end());
+            } else {
+                builder.inLongRange(property, range.start(), range.end(), msg);
+            }
+        } else if (type == double.class || type == float.class) {
+            ToDoubleFunction<Object> property = doubleReader(member);
+            if (msg == null) {
+                builder.inDoubleRange(property, range.start(), range.end());
+            } else {
+                builder.inDoubleRange(property, range.start(), range.end(), msg);
+            }
+        } else if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class) {
+            Function<Object, Number> accessor = reader(member);
+            Function<Object, Long> property = bean -> {
+                Number value = accessor.apply(bean);
+                return (value == null) ? null : value.longValue();
+            };
+            if (msg == null) {
+                builder.inRange(property, range.start(), range.end());
+            } else {
+                builder.inRange(property, range.start(), range.end(), msg);
+            }
+        } else {
+            Validate.argument(element, type == Double.class || type == Float.class,
+                    "The range property %s is not a primitive or boxed number", element);
+            Function<Object, Number> accessor = reader(member);
+            Function<Object, Double> property = bean -> {
+                Number value = accessor.apply(bean);
+                return (value == null) ? null : value.doubleValue();
+            };
+            Double start = (double) range.start();
+            Double end = (double) range.end();
+            if (msg == null) {
+                builder.inRange(property, start, end);
+            } else {
+                builder.inRange(property, start, end, msg);
+            }
+        }
+    }
+
+    private static Function<Object, Integer> sizeOf(AccessibleObject element, Class<?> type,
+                                                    Function<Object, Object> accessor) {
+        if (CharSequence.class.isAssignableFrom(type)) {
+            return bean -> {
+                CharSequence value = (CharSequence) accessor.apply(bean);
+                return (value == null) ? null : value.length();
+            };
+        } else if (Collection.class.isAssignableFrom(type)) {
+            return bean -> {
+                Collection<?> value = (Collection<?>) accessor.apply(bean);
+                return (value == null) ? null : value.size();
+            };
+        } else if (Map.class.isAssignableFrom(type)) {
+            return bean -> {
+                Map<?, ?> value = (Map<?, ?>) accessor.apply(bean);
+                return (value == null) ? null : value.size();
+            };
+        }
+        Validate.argument(element, type.isArray(),
+                "The sized property %s is not a CharSequence, array, Collection or Map", element);
+        return bean -> {
+            Object value = accessor.apply(bean);
+            return (value == null) ? null : Array.getLength(value);
+        };
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type == int.class || type == long.class || type == short.class || type == byte.class;
+    }
+
+    private static boolean isNumber(Class<?> type) {
+        return Number.class.isAssignableFrom(type) || (type.isPrimitive() && type != boolean.class
+                && type != char.class && type != void.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> Function<Object, R> reader(Member member) {
+        Object getter = getter(member, Function.class, "apply", MethodType.methodType(Object.class, Object.class));
+        return (getter != null) ? (Function<Object, R>) getter : new Accessor<>(unreflect(member));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ToLongFunction<Object> longReader(Member member) {
+        Object getter = getter(member, ToLongFunction.class, "applyAsLong",
+                MethodType.methodType(long.class, Object.class));
+        return (getter != null) ? (ToLongFunction<Object>) getter : new LongAccessor(unreflect(member));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ToDoubleFunction<Object> doubleReader(Member member) {
+        Object getter = getter(member, ToDoubleFunction.class, "applyAsDouble",
+                MethodType.methodType(double.class, Object.class));
+        return (getter != null) ? (ToDoubleFunction<Object>) getter : new DoubleAccessor(unreflect(member));
+    }
+
+    /**
+     * Spins the accessor of a getter method with the {@code LambdaMetafactory}, as the compiler does for a method
+     * reference, so the JIT inlines the getter. Returns {@code null} for a field, which the metafactory cannot read,
+     * and for a getter it cannot reach.
+     */
+    private static Object getter(Member member, Class<?> functionalInterface, String name, MethodType samType) {
+        if (!(member instanceof Method)) {
+            return null;
+        }
+        Class<?> type = member.getDeclaringClass();
+        MethodHandles.Lookup lookup = privateLookupIn(type);
+        if (lookup == null && Modifier.isPublic(type.getModifiers()) && Modifier.isPublic(member.getModifiers())) {
+            lookup = LOOKUP;
+        }
+        if (lookup == null) {
+            return null;
+        }
+        MethodHandle factory;
+        try {
+            factory = LambdaMetafactory.metafactory(lookup, name, MethodType.methodType(functionalInterface),
+                    samType, lookup.unreflect((Method) member), samType.changeParameterType(0, type)).getTarget();
+        } catch (IllegalAccessException | LambdaConversionException e) {
+            return null;
+        }
+        try {
+            return factory.invoke();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    /**
+     * @return a lookup with private access to the class, or {@code null} before Java 9 or if the package of the
+     * class is not open to this library.
+     */
+    private static MethodHandles.Lookup privateLookupIn(Class<?> type) {
+        if (PRIVATE_LOOKUP_IN == null) {
+            return null;
+        }
+        try {
+            return (MethodHandles.Lookup) PRIVATE_LOOKUP_IN.invoke(null, type, LOOKUP);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    private static Method findPrivateLookupIn() {
+        try {
+            return MethodHandles.class.getMethod("privateLookupIn", Class.class, MethodHandles.Lookup.class);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflect(Member member) {
+        MethodHandles.Lookup lookup = privateLookupIn(member.getDeclaringClass());
+        try {
+            if (lookup == null) {
+                lookup = LOOKUP;
+                setAccessible((AccessibleObject) member);
+            }
+            if (member instanceof Field) {
+                return lookup.unreflectGetter((Field) member);
+            }
+            return lookup.unreflect((Method) member);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("The constrained member " + member + " is not accessible, open its "
+                    + "package to the us.hawtrey.preconditions module", e);
+        }
+    }
+
+    /**
+     * Suppresses the access checks of the member. On Java 9 and later {@code setAccessible} throws
+     * {@code InaccessibleObjectException} for a package that is not open to this library, then only a public member
+     * of a public class can be read.
+     */
+    private static void setAccessible(AccessibleObject member) {
+        try {
+            member.setAccessible(true);
+        } catch (RuntimeException e) {
+            if (!e.getClass().getName().equals("java.lang.reflect.InaccessibleObjectException")) {
+                throw e;
+            }
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        throw new UndeclaredThrowableException(t);
+    }
+
+    /**
+     * Reads a reference property, boxing primitive properties.
+     */
+    private static final class Accessor<R> implements Function<Object, R> {
+        private final MethodHandle handle;
+
+        Accessor(MethodHandle handle) {
+            this.handle = handle.asType(MethodType.methodType(Object.class, Object.class));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public R apply(Object bean) {
+            try {
+                Object value = handle.invokeExact(bean);
+                return (R) value;
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+
+    /**
+     * Reads an integral primitive property without boxing.
+     */
+    private static final class LongAccessor implements ToLongFunction<Object> {
+        private final MethodHandle handle;
+
+        LongAccessor(MethodHandle handle) {
+            this.handle = handle.asType(MethodType.methodType(long.class, Object.class));
+        }
+
+        @Override
+        public long applyAsLong(Object bean) {
+            try {
+                return (long) handle.invokeExact(bean);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+
+    /**
+     * Reads a floating point primitive property without boxing.
+     */
+    private static final class DoubleAccessor implements ToDoubleFunction<Object> {
+        private final MethodHandle handle;
+
+        DoubleAccessor(MethodHandle handle) {
+            this.handle = handle.asType(MethodType.methodType(double.class, Object.class));
+        }
+
+        @Override
+        public double applyAsDouble(Object bean) {
+            try {
+                return (double) handle.invokeExact(bean);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+    }
+}
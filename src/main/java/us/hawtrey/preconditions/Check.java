@@ -0,0 +1,73 @@
+package us.hawtrey.preconditions;
+
+/**
+ * The kind of check that failed in a {@link ValidationFailure}.
+ * Each constant documents what {@link ValidationFailure#getValue()}, {@link ValidationFailure#getStart()}
+ * and {@link ValidationFailure#getEnd()} hold for failures of that kind.
+ */
+public enum Check {
+    /**
+     * {@link Validate#notNull(Object)}. The value, start and end are {@code null}.
+     */
+    NOT_NULL,
+    /**
+     * {@link Validate#notBlank(String)}. The value is the validated {@code String}.
+     */
+    NOT_BLANK,
+    /**
+     * {@link Validate#argument(Object, boolean)}. The value is the reference object.
+     */
+    ARGUMENT,
+    /**
+     * {@code Validate.notEmpty}. The value is the validated {@code Map} or {@code Collection}.
+     */
+    NOT_EMPTY,
+    /**
+     * {@code Validate.elementIndex}. The value is the index, the start is {@code 0}
+     * and the end is the exclusive size, or {@code null} if the validated object was {@code null}.
+     */
+    ELEMENT_INDEX,
+    /**
+     * {@code Validate.positionIndex}. The value is the index, the start is {@code 0}
+     * and the end is the inclusive size, or {@code null} if the validated object was {@code null}.
+     */
+    POSITION_INDEX,
+    /**
+     * {@code Validate.inRange} and the primitive range checks. The value is the validated value,
+     * the start is the inclusive start of the range and the end is the exclusive end of the range.
+     */
+    IN_RANGE,
+    /**
+     * {@code Validate.positive}. The value is the validated value.
+     */
+    POSITIVE,
+    /**
+     * {@code Validate.positiveOrZero}. The value is the validated value.
+     */
+    POSITIVE_OR_ZERO,
+    /**
+     * {@code Validate.negative}. The value is the validated value.
+     */
+    NEGATIVE,
+    /**
+     * {@code Validate.negativeOrZero}. The value is the validated value.
+     */
+    NEGATIVE_OR_ZERO,
+    /**
+     * The {@code Validate} number parsers such as {@code intValue} and {@code doubleValue}.
+     * The value is the validated {@code String}.
+     */
+    NUMBER_VALUE,
+    /**
+     * {@code Validate.instanceOfType}. The value is the validated object.
+     */
+    INSTANCE_OF_TYPE,
+    /**
+     * {@code Validate.assignableFromClass}. The value is the {@code Class} that is not assignable.
+     */
+    ASSIGNABLE_FROM_CLASS,
+    /**
+     * {@code Validate.matches}. The value is the validated character sequence.
+     */
+    MATCHES
+}
@@ -0,0 +1,139 @@
+package us.hawtrey.preconditions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.util.Locale;
+
+/**
+ * Named levels that expensive checks can be tagged with, enabled or disabled at runtime.
+ * <p>
+ * {@link #ALWAYS} is always enabled. {@link #DEBUG} and {@link #PARANOID} are disabled unless named in the
+ * {@code us.hawtrey.preconditions.checkLevels} system property, such as {@code DEBUG,PARANOID}, and can be switched
+ * with {@link #setEnabled(boolean)}. The levels are independent: enabling {@code PARANOID} does not enable
+ * {@code DEBUG}.
+ * <p>
+ * Each level is read through a {@link MutableCallSite} held in a constant, so the JIT compiles
+ * {@code CheckLevel.PARANOID.isEnabled()} to the constant state of the level and removes a disabled check entirely.
+ * Switching a level deoptimizes the code compiled with the previous state, so it is meant for occasional changes
+ * such as turning checks on in staging, not for every request.
+ *
+ * <pre>
+ *     CheckLevel.PARANOID.check(() -&gt; Validate.argument(orders, isSorted(orders), "The orders are not sorted"));
+ * </pre>
+ */
+public enum CheckLevel {
+    /**
+     * Always enabled.
+     */
+    ALWAYS {
+        @Override
+        public boolean isEnabled() {
+            return true;
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            if (!enabled) {
+                throw new UnsupportedOperationException("The ALWAYS check level cannot be disabled");
+            }
+        }
+    },
+    /**
+     * Checks run while debugging or in staging.
+     */
+    DEBUG {
+        @Override
+        public boolean isEnabled() {
+            return Guards.isEnabled(Guards.DEBUG);
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            Guards.set(Guards.DEBUG_SITE, enabled);
+        }
+    },
+    /**
+     * Expensive invariants, such as scans of whole collections.
+     */
+    PARANOID {
+        @Override
+        public boolean isEnabled() {
+            return Guards.isEnabled(Guards.PARANOID);
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            Guards.set(Guards.PARANOID_SITE, enabled);
+        }
+    };
+
+    /**
+     * @return {@code true} if the checks of this level run.
+     */
+    public abstract boolean isEnabled();
+
+    /**
+     * Enables or disables the checks of this level.
+     *
+     * @param enabled {@code true} to run the checks of this level.
+     * @throws UnsupportedOperationException thrown if {@link #ALWAYS} is disabled.
+     */
+    public abstract void setEnabled(boolean enabled);
+
+    /**
+     * Runs the check if this level is enabled. When the level is disabled and the call is compiled, neither the
+     * check nor the lambda capturing its arguments remains.
+     *
+     * @param check the check to run.
+     */
+    public void check(Runnable check) {
+        if (isEnabled()) {
+            check.run();
+        }
+    }
+
+    /**
+     * The call sites of the switchable levels. They are static constants, unlike the fields of an enum constant, so
+     * the JIT can inline their current target.
+     */
+    private static final class Guards {
+        static final MutableCallSite DEBUG_SITE = site(CheckLevel.DEBUG);
+        static final MutableCallSite PARANOID_SITE = site(CheckLevel.PARANOID);
+        static final MethodHandle DEBUG = DEBUG_SITE.dynamicInvoker();
+        static final MethodHandle PARANOID = PARANOID_SITE.dynamicInvoker();
+
+        private Guards() {
+        }
+
+        static boolean isEnabled(MethodHandle guard) {
+            try {
+                return (boolean) guard.invokeExact();
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        }
+
+        static synchronized void set(MutableCallSite site, boolean enabled) {
+            site.setTarget(MethodHandles.constant(boolean.class, enabled));
+            MutableCallSite.syncAll(new MutableCallSite[]{site});
+        }
+
+        private static MutableCallSite site(CheckLevel level) {
+            return new MutableCallSite(MethodHandles.constant(boolean.class, isNamed(level,
+                    System.getProperty("us.hawtrey.preconditions.checkLevels"))));
+        }
+    }
+
+    static boolean isNamed(CheckLevel level, String levels) {
+        if (levels == null) {
+            return false;
+        }
+        for (String name : levels.split(",")) {
+            if (name.trim().toUpperCase(Locale.ROOT).equals(level.name())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,109 @@
+package us.hawtrey.preconditions;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Constraint annotations read at runtime by {@link Validator#forClass(Class)}, or at compile time by the
+ * {@code preconditions-processor} annotation processor.
+ * <p>
+ * A constraint is placed on a field, on a method without parameters, such as a getter or a record accessor, or on a
+ * constructor parameter. Constructor parameters are only validated by the code generated by the processor.
+ * Each constraint runs the {@link Validate} check of the same name, so a failure throws the same exception with the
+ * same default message. An empty {@code message} selects the default message of the check.
+ */
+public final class Constraints {
+
+    private Constraints() {
+    }
+
+    /**
+     * The property must not be {@code null}. See {@link Validate#notNull(Object)}.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+    public @interface NotNull {
+        /**
+         * @return the message for the exception, or empty for the default message.
+         */
+        String message() default "";
+    }
+
+    /**
+     * The {@code String} property must not be {@code null} or blank. See {@link Validate#notBlank(String)}.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+    public @interface NotBlank {
+        /**
+         * @return the message for the exception, or empty for the default message.
+         */
+        String message() default "";
+    }
+
+    /**
+     * The numeric property must not be {@code null} and must be in the range from {@code start}, inclusive, to
+     * {@code end}, exclusive. See {@link Validate#inRange(Comparable, Comparable, Comparable)}.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+    public @interface Range {
+        /**
+         * @return the start of the range, inclusive.
+         */
+        long start() default Long.MIN_VALUE;
+
+        /**
+         * @return the end of the range, exclusive.
+         */
+        long end() default Long.MAX_VALUE;
+
+        /**
+         * @return the message for the exception, or empty for the default message.
+         */
+        String message() default "";
+    }
+
+    /**
+     * The numeric property must not be {@code null} and must be positive. See {@link Validate#positive(Number)}.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+    public @interface Positive {
+        /**
+         * @return the message for the exception, or empty for the default message.
+         */
+        String message() default "";
+    }
+
+    /**
+     * The length of the {@code CharSequence}, array, {@code Collection} or {@code Map} property must be in the
+     * range from {@code start}, inclusive, to {@code end}, exclusive. A {@code null} property fails the check.
+     */
+    @Documented
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+    public @interface Size {
+        /**
+         * @return the smallest size, inclusive.
+         */
+        int start() default 0;
+
+        /**
+         * @return the end of the sizes, exclusive.
+         */
+        int end() default Integer.MAX_VALUE;
+
+        /**
+         * @return the message for the exception, or empty for the default message.
+         */
+        String message() default "";
+    }
+}
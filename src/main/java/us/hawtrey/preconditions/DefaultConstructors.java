@@ -0,0 +1,84 @@
+package us.hawtrey.preconditions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+/**
+ * Instantiates the default classes of {@link Assure#notNull(Object, Class)} through their public zero parameter
+ * constructor.
+ * <p>
+ * The constructor is looked up once per class and cached as a {@code MethodHandle} in a {@code ClassValue}, so it
+ * is released with the class. A class that cannot be instantiated is also cached, as a supplier that fails with the
+ * reason found by the lookup, so it is not looked up again on every call.
+ */
+final class DefaultConstructors {
+    private static final MethodType CONSTRUCTOR = MethodType.methodType(void.class);
+    private static final MethodType INSTANCE = MethodType.methodType(Object.class);
+
+    private static final ClassValue<Supplier<Object>> CONSTRUCTORS = new ClassValue<Supplier<Object>>() {
+        @Override
+        protected Supplier<Object> computeValue(Class<?> type) {
+            return constructor(type);
+        }
+    };
+
+    private DefaultConstructors() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T newInstance(Class<T> type) {
+        return (T) CONSTRUCTORS.get(type).get();
+    }
+
+    private static Supplier<Object> constructor(Class<?> type) {
+        if (type.isInterface() || type.isArray() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers())) {
+            return new Unusable(type, "it is not a concrete class", null);
+        }
+        try {
+            return new Constructor(MethodHandles.publicLookup().findConstructor(type, CONSTRUCTOR));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return new Unusable(type, "it does not have a public zero parameter constructor", e);
+        }
+    }
+
+    private static final class Constructor implements Supplier<Object> {
+        private final MethodHandle handle;
+
+        Constructor(MethodHandle handle) {
+            this.handle = handle.asType(INSTANCE);
+        }
+
+        @Override
+        public Object get() {
+            try {
+                return handle.invokeExact();
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalArgumentException("Unable to instantiate the default class in assurance", t);
+            }
+        }
+    }
+
+    /**
+     * Fails every call with a new exception, so each caller gets its own stack trace, but the reason is only found
+     * once.
+     */
+    private static final class Unusable implements Supplier<Object> {
+        private final String message;
+        private final Exception cause;
+
+        Unusable(Class<?> type, String reason, Exception cause) {
+            this.message = "Unable to instantiate the default class " + type.getName() + " in assurance: " + reason;
+            this.cause = cause;
+        }
+
+        @Override
+        public Object get() {
+            throw new IllegalArgumentException(message, cause);
+        }
+    }
+}
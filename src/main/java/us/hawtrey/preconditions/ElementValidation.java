@@ -0,0 +1,157 @@
+package us.hawtrey.preconditions;
+
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+
+/**
+ * The spliterator and collector behind {@link Validate#elements(java.util.stream.Stream, Consumer)} and
+ * {@link Validate#validatingCollector(Consumer, Collector)}.
+ */
+final class ElementValidation {
+
+    private ElementValidation() {
+    }
+
+    static <T> Spliterator<T> spliterator(Spliterator<T> source, Consumer<? super T> check) {
+        return new Elements<>(source, check, new AtomicBoolean(), 0L);
+    }
+
+    static <T, A, R> Collector<T, ?, R> collector(Consumer<? super T> check, Collector<? super T, A, R> downstream) {
+        BiConsumer<A, ? super T> accumulator = downstream.accumulator();
+        Set<Collector.Characteristics> characteristics = EnumSet.noneOf(Collector.Characteristics.class);
+        characteristics.addAll(downstream.characteristics());
+        characteristics.remove(Collector.Characteristics.IDENTITY_FINISH);
+        characteristics.remove(Collector.Characteristics.CONCURRENT);
+        return Collector.of(
+                () -> new Container<>(downstream.supplier().get()),
+                (Container<A> container, T element) -> {
+                    validate(check, element, container.count++);
+                    accumulator.accept(container.result, element);
+                },
+                (left, right) -> {
+                    left.result = downstream.combiner().apply(left.result, right.result);
+                    left.count += right.count;
+                    return left;
+                },
+                container -> downstream.finisher().apply(container.result),
+                characteristics.toArray(new Collector.Characteristics[0]));
+    }
+
+    private static <T> void validate(Consumer<? super T> check, T element, long index) {
+        try {
+            check.accept(element);
+        } catch (RuntimeException e) {
+            throw new ValidationElementException(index, element, e);
+        }
+    }
+
+    /**
+     * The result of the downstream collector and the number of elements accumulated into it.
+     */
+    private static final class Container<A> {
+        private A result;
+        private long count;
+
+        Container(A result) {
+            this.result = result;
+        }
+    }
+
+    /**
+     * Checks each element as it is traversed and tracks its index in encounter order. The index of each part is
+     * known after a split as long as the split off prefix knows its exact size, which is the case for sized sources
+     * and for the batches split off iterators. The parts of one stream share a flag, so once one fails the others
+     * stop checking and passing on their elements.
+     */
+    private static final class Elements<T> implements Spliterator<T>, Consumer<T> {
+        private final Spliterator<T> source;
+        private final Consumer<? super T> check;
+        private final AtomicBoolean failed;
+        private long index;
+        private T current;
+
+        Elements(Spliterator<T> source, Consumer<? super T> check, AtomicBoolean failed, long index) {
+            this.source = source;
+            this.check = check;
+            this.failed = failed;
+            this.index = index;
+        }
+
+        @Override
+        public void accept(T element) {
+            current = element;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (failed.get() || !source.tryAdvance(this)) {
+                return false;
+            }
+            T element = current;
+            current = null;
+            check(element);
+            action.accept(element);
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            while (!failed.get() && source.tryAdvance(this)) {
+                T element = current;
+                current = null;
+                check(element);
+                action.accept(element);
+            }
+        }
+
+        private void check(T element) {
+            try {
+                check.accept(element);
+            } catch (RuntimeException e) {
+                failed.set(true);
+                throw new ValidationElementException(index, element, e);
+            }
+            if (index >= 0) {
+                index++;
+            }
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            Spliterator<T> prefix = source.trySplit();
+            if (prefix == null) {
+                return null;
+            }
+            Elements<T> split = new Elements<>(prefix, check, failed, index);
+            long size = prefix.getExactSizeIfKnown();
+            index = index >= 0 && size >= 0 ? index + size : -1L;
+            return split;
+        }
+
+        @Override
+        public long estimateSize() {
+            return source.estimateSize();
+        }
+
+        @Override
+        public long getExactSizeIfKnown() {
+            return source.getExactSizeIfKnown();
+        }
+
+        @Override
+        public int characteristics() {
+            return source.characteristics();
+        }
+
+        @Override
+        public Comparator<? super T> getComparator() {
+            return source.getComparator();
+        }
+    }
+}
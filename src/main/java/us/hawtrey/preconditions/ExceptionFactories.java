@@ -0,0 +1,225 @@
+package us.hawtrey.preconditions;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The built-in {@link ExceptionFactory} implementations, and the selection of the factory used by {@link Validate}.
+ * <p>
+ * The default factory applies everywhere; it is {@link #fullStackTrace()} unless set with
+ * {@link #setDefault(ExceptionFactory)} or the {@code us.hawtrey.preconditions.exceptionFactory} system property,
+ * which accepts {@code full}, {@code stackless} or {@code cached}. A call site can use another factory for the
+ * checks it runs with {@link #call(ExceptionFactory, Supplier)} or {@link #run(ExceptionFactory, Runnable)}.
+ */
+public final class ExceptionFactories {
+    private static final ExceptionFactory FULL_STACK_TRACE = new Standard(true);
+    private static final ExceptionFactory STACKLESS = new Standard(false);
+    private static final ExceptionFactory CACHED = new Cached();
+
+    private static final ThreadLocal<ExceptionFactory> SCOPED = new ThreadLocal<>();
+    private static volatile ExceptionFactory defaultFactory =
+            named(System.getProperty("us.hawtrey.preconditions.exceptionFactory", "full"));
+
+    private ExceptionFactories() {
+    }
+
+    /**
+     * @return the factory creating {@code Validation*} exceptions with a filled in stack trace.
+     */
+    public static ExceptionFactory fullStackTrace() {
+        return FULL_STACK_TRACE;
+    }
+
+    /**
+     * @return the factory creating {@code Validation*} exceptions without a stack trace.
+     */
+    public static ExceptionFactory stackless() {
+        return STACKLESS;
+    }
+
+    /**
+     * Returns the factory reusing one stackless exception per exception type, check and message template for the
+     * failures with a constant message, see {@link FailureDetails#isConstantMessage()}; other failures get a new
+     * stackless exception.
+     * <p>
+     * The reused exceptions report {@code null} for {@link ValidationFailure#getValue()},
+     * {@link ValidationFailure#getStart()} and {@link ValidationFailure#getEnd()}, since they are shared by every
+     * failure of the check. {@link Throwable#addSuppressed(Throwable)} and {@link Throwable#initCause(Throwable)}
+     * would change the shared instance for every later failure, so they must not be called on them.
+     *
+     * @return the factory reusing exceptions for constant messages.
+     */
+    public static ExceptionFactory cached() {
+        return CACHED;
+    }
+
+    /**
+     * @return the factory used when no factory is selected for the current call.
+     */
+    public static ExceptionFactory getDefault() {
+        return defaultFactory;
+    }
+
+    /**
+     * Sets the factory used when no factory is selected for the current call.
+     *
+     * @param factory the factory to use.
+     */
+    public static void setDefault(ExceptionFactory factory) {
+        defaultFactory = Validate.notNull(factory, "The exception factory is null");
+    }
+
+    /**
+     * Runs the action with the factory creating the exceptions of the checks it runs on the current thread.
+     *
+     * @param factory the factory to use.
+     * @param action  the action to run.
+     * @param <T>     the type returned by the action.
+     * @return the result of the action.
+     */
+    public static <T> T call(ExceptionFactory factory, Supplier<T> action) {
+        Validate.notNull(factory, "The exception factory is null");
+        ExceptionFactory previous = SCOPED.get();
+        SCOPED.set(factory);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Runs the action with the factory creating the exceptions of the checks it runs on the current thread.
+     *
+     * @param factory the factory to use.
+     * @param action  the action to run.
+     */
+    public static void run(ExceptionFactory factory, Runnable action) {
+        Validate.notNull(factory, "The exception factory is null");
+        ExceptionFactory previous = SCOPED.get();
+        SCOPED.set(factory);
+        try {
+            action.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    static ExceptionFactory current() {
+        ExceptionFactory scoped = SCOPED.get();
+        return (scoped == null) ? defaultFactory : scoped;
+    }
+
+    private static void restore(ExceptionFactory previous) {
+        if (previous == null) {
+            SCOPED.remove();
+        } else {
+            SCOPED.set(previous);
+        }
+    }
+
+    private static ExceptionFactory named(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "stackless":
+                return STACKLESS;
+            case "cached":
+                return CACHED;
+            default:
+                return FULL_STACK_TRACE;
+        }
+    }
+
+    private static final class Standard implements ExceptionFactory {
+        private final boolean writableStackTrace;
+
+        private Standard(boolean writableStackTrace) {
+            this.writableStackTrace = writableStackTrace;
+        }
+
+        @Override
+        public NullPointerException nullPointer(FailureDetails details) {
+            return new ValidationNullPointerException(details, writableStackTrace);
+        }
+
+        @Override
+        public IllegalArgumentException illegalArgument(FailureDetails details) {
+            return new ValidationIllegalArgumentException(details, writableStackTrace);
+        }
+
+        @Override
+        public IndexOutOfBoundsException indexOutOfBounds(FailureDetails details) {
+            return new ValidationIndexOutOfBoundsException(details, writableStackTrace);
+        }
+
+        @Override
+        public NumberFormatException numberFormat(FailureDetails details) {
+            return new ValidationNumberFormatException(details, writableStackTrace);
+        }
+    }
+
+    private static final class Cached implements ExceptionFactory {
+        private final Instances<NullPointerException> nullPointers =
+                new Instances<>(d -> new ValidationNullPointerException(d, false));
+        private final Instances<IllegalArgumentException> illegalArguments =
+                new Instances<>(d -> new ValidationIllegalArgumentException(d, false));
+        private final Instances<IndexOutOfBoundsException> indexesOutOfBounds =
+                new Instances<>(d -> new ValidationIndexOutOfBoundsException(d, false));
+        private final Instances<NumberFormatException> numberFormats =
+                new Instances<>(d -> new ValidationNumberFormatException(d, false));
+
+        @Override
+        public NullPointerException nullPointer(FailureDetails details) {
+            return nullPointers.get(details);
+        }
+
+        @Override
+        public IllegalArgumentException illegalArgument(FailureDetails details) {
+            return illegalArguments.get(details);
+        }
+
+        @Override
+        public IndexOutOfBoundsException indexOutOfBounds(FailureDetails details) {
+            return indexesOutOfBounds.get(details);
+        }
+
+        @Override
+        public NumberFormatException numberFormat(FailureDetails details) {
+            return numberFormats.get(details);
+        }
+    }
+
+    private static final class Instances<X extends RuntimeException> {
+        private static final int MAX_CACHED_PER_CHECK = 256;
+
+        private final Map<Check, ConcurrentMap<String, X>> byCheck = new EnumMap<>(Check.class);
+        private final Function<FailureDetails, X> create;
+
+        private Instances(Function<FailureDetails, X> create) {
+            this.create = create;
+            for (Check check : Check.values()) {
+                byCheck.put(check, new ConcurrentHashMap<>());
+            }
+        }
+
+        private X get(FailureDetails details) {
+            if (!details.isConstantMessage()) {
+                return create.apply(details);
+            }
+            ConcurrentMap<String, X> instances = byCheck.get(details.getCheck());
+            X instance = instances.get(details.getMsgTemplate());
+            if (instance == null) {
+                instance = create.apply(new FailureDetails(details.getCheck(), null, null, null,
+                        details.getMsgTemplate(), null));
+                if (instances.size() < MAX_CACHED_PER_CHECK) {
+                    X existing = instances.putIfAbsent(details.getMsgTemplate(), instance);
+                    instance = (existing == null) ? instance : existing;
+                }
+            }
+            return instance;
+        }
+    }
+}
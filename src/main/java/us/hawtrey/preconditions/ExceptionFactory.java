@@ -0,0 +1,34 @@
+package us.hawtrey.preconditions;
+
+/**
+ * Creates the exceptions thrown by {@link Validate}.
+ * Every failed check asks the current factory, see {@link ExceptionFactories}, for the exception to throw, so an
+ * implementation decides whether stack traces are filled in, whether instances are reused, or which exception
+ * subclasses are thrown. Implementations must be thread safe.
+ */
+public interface ExceptionFactory {
+
+    /**
+     * @param details the details of the failure.
+     * @return the exception thrown when a validated value is {@code null}.
+     */
+    NullPointerException nullPointer(FailureDetails details);
+
+    /**
+     * @param details the details of the failure.
+     * @return the exception thrown when a validated value is not acceptable.
+     */
+    IllegalArgumentException illegalArgument(FailureDetails details);
+
+    /**
+     * @param details the details of the failure.
+     * @return the exception thrown when an index is outside of the validated object.
+     */
+    IndexOutOfBoundsException indexOutOfBounds(FailureDetails details);
+
+    /**
+     * @param details the details of the failure.
+     * @return the exception thrown when a {@code String} is not a valid number.
+     */
+    NumberFormatException numberFormat(FailureDetails details);
+}
@@ -0,0 +1,145 @@
+package us.hawtrey.preconditions;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+/**
+ * The state shared by the {@link ValidationFailure} exceptions, and the description of a failure handed to an
+ * {@link ExceptionFactory}.
+ * The message is rendered from the template on first use and kept afterwards.
+ * <p>
+ * The value, the range and the message arguments can be any object, so serialization keeps them only if they are
+ * strings, numbers, booleans, characters or enums, and replaces any other object with its {@code String.valueOf}
+ * snapshot. The message is rendered before it is written.
+ */
+public final class FailureDetails implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Check check;
+    private transient Object value;
+    private transient Object start;
+    private transient Object end;
+    private final String msgTemplate;
+    private transient Object[] msgArgs;
+    private String message;
+
+    /**
+     * Creates the details of a failure with a literal message.
+     *
+     * @param check   the kind of check that failed.
+     * @param value   the value that failed the check.
+     * @param start   the start of the valid range, or {@code null}.
+     * @param end     the end of the valid range, or {@code null}.
+     * @param message the message of the failure.
+     */
+    public FailureDetails(Check check, Object value, Object start, Object end, String message) {
+        this(check, value, start, end, null, null);
+        this.message = message;
+    }
+
+    /**
+     * Creates the details of a failure with a message that is formatted from the template when it is first requested.
+     *
+     * @param check       the kind of check that failed.
+     * @param value       the value that failed the check.
+     * @param start       the start of the valid range, or {@code null}.
+     * @param end         the end of the valid range, or {@code null}.
+     * @param msgTemplate the message template used to format the message.
+     * @param msgArgs     the message arguments used to format the message, may be {@code null}.
+     */
+    public FailureDetails(Check check, Object value, Object start, Object end, String msgTemplate, Object[] msgArgs) {
+        this.check = check;
+        this.value = value;
+        this.start = start;
+        this.end = end;
+        this.msgTemplate = msgTemplate;
+        this.msgArgs = msgArgs;
+    }
+
+    /**
+     * @return the kind of check that failed.
+     */
+    public Check getCheck() {
+        return check;
+    }
+
+    /**
+     * @return the value that failed the check.
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * @return the start of the valid range, or {@code null}.
+     */
+    public Object getStart() {
+        return start;
+    }
+
+    /**
+     * @return the end of the valid range, or {@code null}.
+     */
+    public Object getEnd() {
+        return end;
+    }
+
+    /**
+     * @return the message template, or {@code null} if the failure has a literal message.
+     */
+    public String getMsgTemplate() {
+        return msgTemplate;
+    }
+
+    /**
+     * @return {@code true} if the message is a template without arguments, so it is the same for every failure
+     * reported with that template.
+     */
+    public boolean isConstantMessage() {
+        return msgTemplate != null && (msgArgs == null || msgArgs.length == 0);
+    }
+
+    /**
+     * @return the message describing the failure.
+     */
+    public String getMessage() {
+        if (message == null && msgTemplate != null) {
+            message = MessageTemplate.format(msgTemplate, msgArgs);
+        }
+        return message;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        getMessage();
+        out.defaultWriteObject();
+        out.writeObject(snapshot(value));
+        out.writeObject(snapshot(start));
+        out.writeObject(snapshot(end));
+        Object[] args = null;
+        if (msgArgs != null) {
+            args = new Object[msgArgs.length];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = snapshot(msgArgs[i]);
+            }
+        }
+        out.writeObject(args);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        value = in.readObject();
+        start = in.readObject();
+        end = in.readObject();
+        msgArgs = (Object[]) in.readObject();
+    }
+
+    private static Object snapshot(Object object) {
+        if (object == null || object instanceof String || object instanceof Number || object instanceof Boolean
+                || object instanceof Character || object instanceof Enum) {
+            return object;
+        }
+        return String.valueOf(object);
+    }
+}
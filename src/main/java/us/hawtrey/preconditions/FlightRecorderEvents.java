@@ -0,0 +1,185 @@
+package us.hawtrey.preconditions;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.StackTrace;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The {@code jdk.jfr} side of {@link ValidationEvents}, only loaded when the flight recorder is present.
+ */
+final class FlightRecorderEvents {
+    private static final String PACKAGE = "us.hawtrey.preconditions.";
+
+    private FlightRecorderEvents() {
+    }
+
+    static void install() {
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                update();
+            }
+        });
+        if (FlightRecorder.isInitialized()) {
+            update();
+        }
+    }
+
+    static void update() {
+        ValidationEvents.failures = EventType.getEventType(FailureEvent.class).isEnabled();
+        ValidationEvents.conversions = EventType.getEventType(ConversionEvent.class).isEnabled();
+        ValidationEvents.predicates = EventType.getEventType(PredicateEvent.class).isEnabled();
+    }
+
+    static void failure(FailureDetails details, Throwable exception) {
+        FailureEvent event = new FailureEvent();
+        if (event.isEnabled()) {
+            event.check = details.getCheck().name();
+            event.value = ValidationEvents.render(details.getValue());
+            event.template = (details.getMsgTemplate() != null) ? details.getMsgTemplate() : details.getMessage();
+            event.callSite = callSite(exception);
+            event.commit();
+        }
+    }
+
+    static Object beginConversion() {
+        if (!isSampled()) {
+            return null;
+        }
+        ConversionEvent event = new ConversionEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endConversion(Object started, String conversion, CharSequence input) {
+        ConversionEvent event = (ConversionEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.conversion = conversion;
+            event.input = ValidationEvents.render(input);
+            event.commit();
+        }
+    }
+
+    static Object beginPredicate() {
+        if (!isSampled()) {
+            return null;
+        }
+        PredicateEvent event = new PredicateEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endPredicate(Object started, Object predicate, boolean passed) {
+        PredicateEvent event = (PredicateEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.predicate = predicate.getClass().getName();
+            event.passed = passed;
+            event.commit();
+        }
+    }
+
+    private static boolean isSampled() {
+        int rate = ValidationEvents.SAMPLE_RATE;
+        return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+
+    /**
+     * @return the first class outside of the library in the stack trace of the exception, or of this call if the
+     * exception has no stack trace.
+     */
+    private static String callSite(Throwable exception) {
+        StackTraceElement[] stackTrace = exception.getStackTrace();
+        if (stackTrace.length == 0) {
+            stackTrace = new Throwable().getStackTrace();
+        }
+        for (StackTraceElement element : stackTrace) {
+            if (!isLibraryClass(element.getClassName())) {
+                return element.getClassName();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isLibraryClass(String className) {
+        if (!className.startsWith(PACKAGE)) {
+            return false;
+        }
+        int end = className.indexOf('$', PACKAGE.length());
+        String simpleName = className.substring(PACKAGE.length(), (end < 0) ? className.length() : end);
+        switch (simpleName) {
+            case "Validate":
+            case "Validator":
+            case "ValidationEvents":
+            case "FlightRecorderEvents":
+            case "ExceptionFactories":
+            case "BeanValidators":
+            case "ValidationNullPointerException":
+            case "ValidationIllegalArgumentException":
+            case "ValidationIndexOutOfBoundsException":
+            case "ValidationNumberFormatException":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Name("us.hawtrey.preconditions.ValidationFailure")
+    @Label("Validation Failure")
+    @Description("A failed Validate check")
+    @Category("Preconditions")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class FailureEvent extends Event {
+        @Label("Check")
+        String check;
+
+        @Label("Value")
+        String value;
+
+        @Label("Message Template")
+        String template;
+
+        @Label("Call Site")
+        String callSite;
+    }
+
+    @Name("us.hawtrey.preconditions.AssureConversion")
+    @Label("Assure Conversion")
+    @Description("A sampled Assure number conversion")
+    @Category("Preconditions")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class ConversionEvent extends Event {
+        @Label("Conversion")
+        String conversion;
+
+        @Label("Input")
+        String input;
+    }
+
+    @Name("us.hawtrey.preconditions.PredicateCheck")
+    @Label("Predicate Check")
+    @Description("A sampled predicate of a Validator")
+    @Category("Preconditions")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class PredicateEvent extends Event {
+        @Label("Predicate")
+        String predicate;
+
+        @Label("Passed")
+        boolean passed;
+    }
+}
@@ -0,0 +1,92 @@
+package us.hawtrey.preconditions;
+
+/**
+ * A count-min sketch of 4-bit counters estimating how often a hash was seen recently, for the admission policy of
+ * {@link MemoizedCheck}. Each hash is counted in four counters of one 64-bit word per row, and its frequency is the
+ * smallest of them. Once the sketch has counted ten times its capacity, every counter is halved, so old popularity
+ * fades. Only hashes are stored, so the sketch never keeps a value alive.
+ * <p>
+ * The sketch is not thread safe; its owner guards it with a lock.
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    FrequencySketch(long capacity) {
+        int length = (int) Math.min(1 << 30, Long.highestOneBit(Math.max(2L, capacity) * 2L - 1L));
+        table = new long[length];
+        tableMask = length - 1;
+        sampleSize = (int) Math.min(Integer.MAX_VALUE, 10L * Math.max(1L, capacity));
+    }
+
+    /**
+     * @param hash the hash of a value.
+     * @return the estimated number of times the hash was counted recently, at most 15.
+     */
+    int frequency(int hash) {
+        int spread = spread(hash);
+        int start = (spread & 3) << 2;
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < 4; i++) {
+            int count = (int) ((table[indexOf(spread, i)] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Counts the hash once more, halving every counter when the sample is full.
+     *
+     * @param hash the hash of a value.
+     */
+    void increment(int hash) {
+        int spread = spread(hash);
+        int start = (spread & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(spread, i), start + i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size >>> 1) - (odd >>> 2);
+    }
+
+    private int indexOf(int hash, int row) {
+        long index = (hash + SEEDS[row]) * SEEDS[row];
+        index += index >>> 32;
+        return ((int) index) & tableMask;
+    }
+
+    private static int spread(int hash) {
+        int spread = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        spread = ((spread >>> 16) ^ spread) * 0x45d9f3b;
+        return (spread >>> 16) ^ spread;
+    }
+}
@@ -0,0 +1,465 @@
+package us.hawtrey.preconditions;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * An expensive predicate whose results are remembered for the values it tested most often, for checks such as
+ * {@code Validate.argument(sku, catalog.isKnownSku(sku))} on values that repeat heavily.
+ * <p>
+ * At most {@code maximumSize} results are kept, chosen with the W-TinyLFU policy. A new value enters a small LRU
+ * window. When the window is full, its least recently used value is admitted into the main space only if a
+ * {@link FrequencySketch} estimates that it was tested more often recently than the value it would evict. The main
+ * space is a segmented LRU, with a probation and a protected segment. So a burst of values tested once cannot flush
+ * the values tested all the time. Results can also expire a fixed time after they were computed.
+ * <p>
+ * A check is thread safe. A hit is a read of a {@link ConcurrentHashMap}. The bookkeeping of the policy is skipped
+ * when another thread holds its lock, so concurrent hits never wait. Two threads missing on the same value may
+ * both run the predicate. Results of {@code null} values and exceptions thrown by the predicate are never kept.
+ * An evicted value is unlinked from the cache at once, and an expired one when it is next tested or evicted. The
+ * sketch only holds hashes, so the cache keeps no value alive once its result is gone.
+ *
+ * <pre>
+ *     private static final MemoizedCheck&lt;String&gt; KNOWN_SKU = MemoizedCheck.of(catalog::isKnownSku)
+ *             .maximumSize(10_000)
+ *             .expireAfterWrite(10, TimeUnit.MINUTES)
+ *             .build();
+ *
+ *     String sku = KNOWN_SKU.validate(input, "Unknown SKU %s", input);
+ * </pre>
+ *
+ * @param <T> the type of the tested values.
+ */
+public final class MemoizedCheck<T> implements Predicate<T> {
+    private static final Object[] NULL_ARGS = null;
+
+    private final Predicate<? super T> predicate;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+    private final int maximumWindow;
+    private final int maximumMain;
+    private final int maximumProtected;
+
+    private final ConcurrentHashMap<Object, Node> data;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final FrequencySketch sketch;
+    private final AccessOrder window = new AccessOrder();
+    private final AccessOrder probation = new AccessOrder();
+    private final AccessOrder protect = new AccessOrder();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private MemoizedCheck(Builder<T> builder) {
+        this.predicate = builder.predicate;
+        this.expireAfterWriteNanos = builder.expireAfterWriteNanos;
+        this.ticker = builder.ticker;
+        this.maximumWindow = Math.max(1, builder.maximumSize / 100);
+        this.maximumMain = builder.maximumSize - maximumWindow;
+        this.maximumProtected = (int) (maximumMain * 80L / 100L);
+        this.data = new ConcurrentHashMap<>(Math.min(builder.maximumSize, 1 << 16));
+        this.sketch = new FrequencySketch(builder.maximumSize);
+    }
+
+    /**
+     * @param predicate the expensive predicate whose results are kept.
+     * @param <T>       the type of the tested values.
+     * @return a new builder of a check remembering the results of the predicate.
+     * @throws NullPointerException thrown if the predicate is {@code null}.
+     */
+    public static <T> Builder<T> of(Predicate<? super T> predicate) {
+        return new Builder<>(Validate.notNull(predicate, "The predicate is null"));
+    }
+
+    /**
+     * Returns the remembered result of the predicate for the value, running the predicate on a miss.
+     *
+     * @param value the value to test.
+     * @return the result of the predicate.
+     */
+    @Override
+    public boolean test(T value) {
+        if (value == null) {
+            return predicate.test(null);
+        }
+        Node node = data.get(value);
+        if (node != null && !isExpired(node)) {
+            hits.increment();
+            if (lock.tryLock()) {
+                try {
+                    onAccess(node);
+                } finally {
+                    lock.unlock();
+                }
+            }
+            return node.result;
+        }
+        misses.increment();
+        boolean result = predicate.test(value);
+        lock.lock();
+        try {
+            add(value, result);
+        } finally {
+            lock.unlock();
+        }
+        return result;
+    }
+
+    /**
+     * Validates that the value passes the predicate.
+     *
+     * @param value the value to validate.
+     * @return the value if it passes.
+     * @throws IllegalArgumentException thrown if the value does not pass the predicate.
+     */
+    public T validate(T value) {
+        return validate(value, Validate.DEFAULT_ARGUMENT_MESSAGE, NULL_ARGS);
+    }
+
+    /**
+     * Validates that the value passes the predicate.
+     *
+     * @param value the value to validate.
+     * @param msg   the message to use for the exception.
+     * @return the value if it passes.
+     * @throws IllegalArgumentException thrown if the value does not pass the predicate.
+     */
+    public T validate(T value, String msg) {
+        return validate(value, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validates that the value passes the predicate.
+     *
+     * @param value       the value to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the value if it passes.
+     * @throws IllegalArgumentException thrown if the value does not pass the predicate.
+     */
+    public T validate(T value, String msgTemplate, Object... msgArgs) {
+        return Validate.argument(value, test(value), msgTemplate, msgArgs);
+    }
+
+    /**
+     * Validates that the value passes the predicate.
+     *
+     * @param value       the value to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the value if it passes.
+     * @throws IllegalArgumentException thrown if the value does not pass the predicate.
+     */
+    public T validateLazy(T value, Supplier<String> msgSupplier) {
+        return Validate.argumentLazy(value, test(value), msgSupplier);
+    }
+
+    /**
+     * @return the number of results kept.
+     */
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * Forgets every result. The statistics are kept.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            data.clear();
+            window.clear();
+            probation.clear();
+            protect.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the hits, misses and evictions counted so far.
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private boolean isExpired(Node node) {
+        return expireAfterWriteNanos > 0 && ticker.getAsLong() - node.writeNanos >= expireAfterWriteNanos;
+    }
+
+    private void onAccess(Node node) {
+        sketch.increment(node.hash);
+        switch (node.segment) {
+            case WINDOW:
+                window.moveToTail(node);
+                break;
+            case PROBATION:
+                probation.unlink(node);
+                node.segment = Segment.PROTECTED;
+                protect.add(node);
+                while (protect.size > maximumProtected) {
+                    Node demoted = protect.head;
+                    protect.unlink(demoted);
+                    demoted.segment = Segment.PROBATION;
+                    probation.add(demoted);
+                }
+                break;
+            case PROTECTED:
+                protect.moveToTail(node);
+                break;
+            default:
+                // removed by another thread
+        }
+    }
+
+    private void add(T value, boolean result) {
+        Node existing = data.get(value);
+        if (existing != null) {
+            if (!isExpired(existing)) {
+                onAccess(existing);
+                return;
+            }
+            remove(existing);
+        }
+        Node node = new Node(value, result, expireAfterWriteNanos > 0 ? ticker.getAsLong() : 0L);
+        data.put(value, node);
+        sketch.increment(node.hash);
+        window.add(node);
+        while (window.size > maximumWindow) {
+            Node candidate = window.head;
+            window.unlink(candidate);
+            if (probation.size + protect.size < maximumMain) {
+                candidate.segment = Segment.PROBATION;
+                probation.add(candidate);
+                continue;
+            }
+            Node victim = probation.head != null ? probation.head : protect.head;
+            if (victim != null && sketch.frequency(candidate.hash) > sketch.frequency(victim.hash)) {
+                remove(victim);
+                candidate.segment = Segment.PROBATION;
+                probation.add(candidate);
+            } else {
+                candidate.segment = Segment.REMOVED;
+                data.remove(candidate.key, candidate);
+                evictions.increment();
+            }
+        }
+    }
+
+    private void remove(Node node) {
+        switch (node.segment) {
+            case WINDOW:
+                window.unlink(node);
+                break;
+            case PROBATION:
+                probation.unlink(node);
+                break;
+            case PROTECTED:
+                protect.unlink(node);
+                break;
+            default:
+                return;
+        }
+        node.segment = Segment.REMOVED;
+        data.remove(node.key, node);
+        evictions.increment();
+    }
+
+    @Override
+    public String toString() {
+        return "MemoizedCheck[size=" + size() + ", " + stats() + "]";
+    }
+
+    private enum Segment {
+        WINDOW, PROBATION, PROTECTED, REMOVED
+    }
+
+    /**
+     * A kept result, linked in the access order of its segment. The links and the segment are only read and
+     * written under the lock.
+     */
+    private static final class Node {
+        private final Object key;
+        private final int hash;
+        private final boolean result;
+        private final long writeNanos;
+        private Segment segment = Segment.WINDOW;
+        private Node previous;
+        private Node next;
+
+        Node(Object key, boolean result, long writeNanos) {
+            this.key = key;
+            this.hash = key.hashCode();
+            this.result = result;
+            this.writeNanos = writeNanos;
+        }
+    }
+
+    /**
+     * A doubly linked list of nodes, from the least to the most recently used.
+     */
+    private static final class AccessOrder {
+        private Node head;
+        private Node tail;
+        private int size;
+
+        void add(Node node) {
+            node.previous = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        void unlink(Node node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToTail(Node node) {
+            if (node != tail) {
+                unlink(node);
+                add(node);
+            }
+        }
+
+        void clear() {
+            for (Node node = head; node != null; ) {
+                Node next = node.next;
+                node.segment = Segment.REMOVED;
+                node.previous = null;
+                node.next = null;
+                node = next;
+            }
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+
+    /**
+     * A snapshot of the statistics of a {@link MemoizedCheck}. Expired results replaced on access are counted as
+     * evictions.
+     */
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+
+        Stats(long hitCount, long missCount, long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+        }
+
+        /**
+         * @return the number of tests answered with a kept result.
+         */
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return the number of tests that ran the predicate, not counting {@code null} values.
+         */
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return the number of results evicted or expired.
+         */
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * @return the share of the tests answered with a kept result, or {@code 1.0} if nothing was tested.
+         */
+        public double getHitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        @Override
+        public String toString() {
+            return "hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount;
+        }
+    }
+
+    /**
+     * Configures a {@link MemoizedCheck}. A builder is not thread safe, the checks it builds are.
+     *
+     * @param <T> the type of the tested values.
+     */
+    public static final class Builder<T> {
+        private final Predicate<? super T> predicate;
+        private int maximumSize = 1024;
+        private long expireAfterWriteNanos;
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(Predicate<? super T> predicate) {
+            this.predicate = predicate;
+        }
+
+        /**
+         * Sets the number of results kept at most, 1024 by default.
+         *
+         * @param maximumSize the number of results kept at most.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the size is not positive.
+         */
+        public Builder<T> maximumSize(int maximumSize) {
+            this.maximumSize = Validate.positive(maximumSize, "The maximum size is not positive");
+            return this;
+        }
+
+        /**
+         * Makes each result expire a fixed time after the predicate computed it. By default results do not expire.
+         *
+         * @param duration the time a result is kept.
+         * @param unit     the unit of the duration.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the duration is not positive.
+         * @throws NullPointerException     thrown if the unit is {@code null}.
+         */
+        public Builder<T> expireAfterWrite(long duration, TimeUnit unit) {
+            Validate.positive(duration, "The expiry duration is not positive");
+            this.expireAfterWriteNanos = Validate.notNull(unit, "The unit of the expiry duration is null")
+                    .toNanos(duration);
+            return this;
+        }
+
+        Builder<T> ticker(LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * @return a check with the configuration set so far.
+         */
+        public MemoizedCheck<T> build() {
+            return new MemoizedCheck<>(this);
+        }
+    }
+}
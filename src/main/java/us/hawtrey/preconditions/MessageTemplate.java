@@ -0,0 +1,180 @@
+package us.hawtrey.preconditions;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Formats the message templates used by {@link Validate} without going through {@link java.util.Formatter}.
+ * <p>
+ * Only {@code %s} placeholders are substituted; {@code %%} and {@code %n} are rendered as they are by
+ * {@link String#format(String, Object...)}. Templates are parsed once and kept in a bounded cache.
+ * Formatting is lenient: placeholders without an argument are left as {@code %s}, surplus arguments are
+ * appended in square brackets, and an argument whose {@code toString()} throws is rendered as a description
+ * of the failure instead of propagating it. A {@code null} argument array renders every placeholder as
+ * {@code null}, as {@code String.format} does, so a literal message such as {@code "value %s"} passed without
+ * arguments reads {@code "value null"}.
+ * <p>
+ * Templates that use any other {@link java.util.Formatter} conversion, such as {@code %d} or {@code %.2f}, are
+ * passed to {@link String#format(String, Object...)}. Callers that rely on the exact {@code Formatter} behaviour
+ * for every template can opt out of the fast path with {@link #setFormatterSyntax(boolean)} or the
+ * {@code us.hawtrey.preconditions.formatterSyntax} system property.
+ */
+public final class MessageTemplate {
+    private static final int MAX_CACHED_TEMPLATES = 512;
+    private static final ConcurrentMap<String, MessageTemplate> CACHE = new ConcurrentHashMap<>();
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private static volatile boolean formatterSyntax = Boolean.getBoolean("us.hawtrey.preconditions.formatterSyntax");
+
+    private final String template;
+    private final String[] literals;
+    private final boolean formatter;
+
+    private MessageTemplate(String template, String[] literals, boolean formatter) {
+        this.template = template;
+        this.literals = literals;
+        this.formatter = formatter;
+    }
+
+    /**
+     * Returns the parsed form of the template, reusing a cached instance when one exists.
+     *
+     * @param template the message template to parse.
+     * @return the parsed {@code MessageTemplate}.
+     */
+    public static MessageTemplate compile(String template) {
+        String key = String.valueOf(template);
+        MessageTemplate compiled = CACHE.get(key);
+        if (compiled == null) {
+            compiled = parse(key);
+            if (CACHE.size() >= MAX_CACHED_TEMPLATES) {
+                CACHE.clear();
+            }
+            CACHE.putIfAbsent(key, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Formats the template with the arguments.
+     *
+     * @param template the message template used to format the message.
+     * @param args     the message arguments used to format the message, may be {@code null}.
+     * @return the formatted message.
+     */
+    public static String format(String template, Object... args) {
+        return compile(template).render(args);
+    }
+
+    /**
+     * Selects whether every template is formatted by {@link java.util.Formatter} instead of the {@code %s} fast path.
+     *
+     * @param enabled {@code true} to always use {@code Formatter} syntax.
+     */
+    public static void setFormatterSyntax(boolean enabled) {
+        formatterSyntax = enabled;
+    }
+
+    /**
+     * @return {@code true} if every template is formatted by {@link java.util.Formatter}.
+     */
+    public static boolean isFormatterSyntax() {
+        return formatterSyntax;
+    }
+
+    /**
+     * Formats this template with the arguments.
+     *
+     * @param args the message arguments used to format the message, may be {@code null}.
+     * @return the formatted message.
+     */
+    public String render(Object... args) {
+        Object[] values = (args == null) ? NO_ARGS : args;
+        if (formatter || formatterSyntax) {
+            try {
+                return String.format(template, args);
+            } catch (RuntimeException e) {
+                return appendSurplus(new StringBuilder(template), values, 0).toString();
+            }
+        }
+        if (literals.length == 1 && values.length == 0) {
+            return literals[0];
+        }
+        StringBuilder builder = new StringBuilder(template.length() + 16 * values.length);
+        builder.append(literals[0]);
+        for (int i = 1; i < literals.length; i++) {
+            if (i <= values.length) {
+                builder.append(safeToString(values[i - 1]));
+            } else {
+                builder.append(args == null ? "null" : "%s");
+            }
+            builder.append(literals[i]);
+        }
+        return appendSurplus(builder, values, literals.length - 1).toString();
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private static MessageTemplate parse(String template) {
+        int placeholders = 0;
+        for (int i = 0; i < template.length(); i++) {
+            if (template.charAt(i) == '%') {
+                char next = (i + 1 < template.length()) ? template.charAt(i + 1) : 0;
+                if (next == 's') {
+                    placeholders++;
+                } else if (next != '%' && next != 'n') {
+                    return new MessageTemplate(template, null, true);
+                }
+                i++;
+            }
+        }
+
+        String[] literals = new String[placeholders + 1];
+        StringBuilder literal = new StringBuilder();
+        int index = 0;
+        for (int i = 0; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c != '%') {
+                literal.append(c);
+                continue;
+            }
+            char next = template.charAt(++i);
+            if (next == 's') {
+                literals[index++] = literal.toString();
+                literal.setLength(0);
+            } else if (next == '%') {
+                literal.append('%');
+            } else {
+                literal.append(System.lineSeparator());
+            }
+        }
+        literals[index] = literal.toString();
+        return new MessageTemplate(template, literals, false);
+    }
+
+    private static StringBuilder appendSurplus(StringBuilder builder, Object[] values, int from) {
+        if (from < values.length) {
+            builder.append(" [");
+            for (int i = from; i < values.length; i++) {
+                if (i > from) {
+                    builder.append(", ");
+                }
+                builder.append(safeToString(values[i]));
+            }
+            builder.append(']');
+        }
+        return builder;
+    }
+
+    private static String safeToString(Object value) {
+        try {
+            return String.valueOf(value);
+        } catch (RuntimeException e) {
+            return "<" + value.getClass().getName() + '@' + Integer.toHexString(System.identityHashCode(value))
+                    + " threw " + e.getClass().getName() + ">";
+        }
+    }
+}
@@ -0,0 +1,430 @@
+package us.hawtrey.preconditions;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Parses numbers in place from the characters of a {@code CharSequence}, for {@link Assure} and {@link Validate}.
+ * <p>
+ * The accepted syntax is the one of {@link Double#valueOf(String)}: surrounding whitespace, an optional sign,
+ * decimal digits with an optional fraction and exponent, an optional {@code f}/{@code d} suffix, {@code NaN},
+ * {@code Infinity} and hexadecimal floating point literals. Whitespace is skipped without copying, and a
+ * malformed value yields the default instead of an exception.
+ * <p>
+ * Integral results of plain decimal values are exact over the whole {@code long} range; fractions are truncated
+ * and values out of range saturate, as a cast from {@code double} would. Doubles are computed directly when the
+ * significand and the power of ten are both exactly representable, and by {@link Double#parseDouble(String)}
+ * otherwise, so they are always correctly rounded.
+ */
+final class NumberParser {
+    private static final int INVALID = 0;
+    private static final int DECIMAL = 1;
+    private static final int EXPONENT = 2;
+    private static final int SPECIAL = 3;
+    private static final int HEXADECIMAL = 4;
+
+    private static final long MAX_SIGNIFICAND = Long.MAX_VALUE / 10 - 9;
+    private static final long MAX_EXACT_SIGNIFICAND = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private NumberParser() {
+    }
+
+    /**
+     * @param chars  the characters to view, may be {@code null}.
+     * @param offset the index of the first character.
+     * @param length the number of characters.
+     * @return a view of the characters without copying them, or {@code null} if the array is {@code null}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
+     */
+    static CharSequence chars(char[] chars, int offset, int length) {
+        if (chars == null) {
+            return null;
+        }
+        if (offset < 0 || length < 0 || offset > chars.length - length) {
+            throw new IndexOutOfBoundsException("The offset (" + offset + ") and length (" + length
+                    + ") are invalid for an array with length (" + chars.length + ")");
+        }
+        return new CharArraySequence(chars, offset, offset + length);
+    }
+
+    /**
+     * @param buffer   the ASCII bytes to view, may be {@code null}.
+     * @param position the index of the first byte.
+     * @param limit    the index after the last byte.
+     * @return a view of the bytes as characters without copying them or moving the buffer, or {@code null} if the
+     * buffer is {@code null}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
+     */
+    static CharSequence ascii(ByteBuffer buffer, int position, int limit) {
+        if (buffer == null) {
+            return null;
+        }
+        if (position < 0 || position > limit || limit > buffer.limit()) {
+            throw new IndexOutOfBoundsException("The positions (" + position + ", " + limit
+                    + ") are invalid for a buffer with limit (" + buffer.limit() + ")");
+        }
+        return new AsciiSequence(buffer, position, limit);
+    }
+
+    /**
+     * @param text the characters to check, may be {@code null}.
+     * @return {@code true} if the characters form a number accepted by {@link Double#valueOf(String)}.
+     */
+    static boolean isNumber(CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+        int from = start(text);
+        int to = end(text, from);
+        int kind = kind(text, from, to);
+        return kind == HEXADECIMAL ? hexadecimal(text, from, to) != null : kind != INVALID;
+    }
+
+    /**
+     * @param text         the characters to parse, may be {@code null}.
+     * @param defaultValue the value returned when the characters are not a number.
+     * @return the {@code int} value of the characters, or the default value.
+     */
+    static int parseInt(CharSequence text, int defaultValue) {
+        return toInt(parseLong(text, defaultValue));
+    }
+
+    /**
+     * @param value the value to narrow.
+     * @return the value, saturated to the {@code int} range.
+     */
+    static int toInt(long value) {
+        if (value > Integer.MAX_VALUE) {
+            return Integer.MAX_VALUE;
+        }
+        return value < Integer.MIN_VALUE ? Integer.MIN_VALUE : (int) value;
+    }
+
+    /**
+     * @param text         the characters to parse, may be {@code null}.
+     * @param defaultValue the value returned when the characters are not a number.
+     * @return the {@code long} value of the characters, or the default value.
+     */
+    static long parseLong(CharSequence text, long defaultValue) {
+        if (text == null) {
+            return defaultValue;
+        }
+        int from = start(text);
+        int to = end(text, from);
+        return longValue(text, from, to, kind(text, from, to), defaultValue);
+    }
+
+    /**
+     * @param text the characters to parse, may be {@code null}.
+     * @return the {@code Long} value of the characters, or {@code null} if they are not a number.
+     */
+    static Long longOrNull(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        int from = start(text);
+        int to = end(text, from);
+        int kind = kind(text, from, to);
+        if (kind == HEXADECIMAL) {
+            Double value = hexadecimal(text, from, to);
+            return value == null ? null : value.longValue();
+        }
+        return kind == INVALID ? null : longValue(text, from, to, kind, 0L);
+    }
+
+    /**
+     * @param text         the characters to parse, may be {@code null}.
+     * @param defaultValue the value returned when the characters are not a number.
+     * @return the {@code double} value of the characters, or the default value.
+     */
+    static double parseDouble(CharSequence text, double defaultValue) {
+        if (text == null) {
+            return defaultValue;
+        }
+        int from = start(text);
+        int to = end(text, from);
+        return doubleValue(text, from, to, kind(text, from, to), defaultValue);
+    }
+
+    /**
+     * @param text the characters to parse, may be {@code null}.
+     * @return the {@code Double} value of the characters, or {@code null} if they are not a number.
+     */
+    static Double doubleOrNull(CharSequence text) {
+        if (text == null) {
+            return null;
+        }
+        int from = start(text);
+        int to = end(text, from);
+        int kind = kind(text, from, to);
+        if (kind == HEXADECIMAL) {
+            return hexadecimal(text, from, to);
+        }
+        return kind == INVALID ? null : doubleValue(text, from, to, kind, 0D);
+    }
+
+    private static long longValue(CharSequence text, int from, int to, int kind, long defaultValue) {
+        if (kind == INVALID) {
+            return defaultValue;
+        }
+        if (kind == HEXADECIMAL) {
+            Double value = hexadecimal(text, from, to);
+            return value == null ? defaultValue : value.longValue();
+        }
+        if (kind != DECIMAL) {
+            return (long) doubleValue(text, from, to, kind, 0D);
+        }
+        boolean negative = text.charAt(from) == '-';
+        int i = (negative || text.charAt(from) == '+') ? from + 1 : from;
+        // accumulate negatively, so Long.MIN_VALUE is reachable
+        long value = 0;
+        for (; i < to; i++) {
+            char c = text.charAt(i);
+            if (!isDigit(c)) {
+                break;
+            }
+            int digit = c - '0';
+            if (value < (Long.MIN_VALUE + digit) / 10) {
+                return negative ? Long.MIN_VALUE : Long.MAX_VALUE;
+            }
+            value = value * 10 - digit;
+        }
+        if (negative) {
+            return value;
+        }
+        return value == Long.MIN_VALUE ? Long.MAX_VALUE : -value;
+    }
+
+    private static double doubleValue(CharSequence text, int from, int to, int kind, double defaultValue) {
+        switch (kind) {
+            case DECIMAL:
+            case EXPONENT:
+                return decimal(text, from, to);
+            case SPECIAL:
+                return special(text, from);
+            case HEXADECIMAL:
+                Double value = hexadecimal(text, from, to);
+                return value == null ? defaultValue : value;
+            default:
+                return defaultValue;
+        }
+    }
+
+    private static int start(CharSequence text) {
+        int from = 0;
+        while (from < text.length() && text.charAt(from) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private static int end(CharSequence text, int from) {
+        int to = text.length();
+        while (to > from && text.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+
+    private static int kind(CharSequence text, int from, int to) {
+        int i = from;
+        if (i < to && (text.charAt(i) == '+' || text.charAt(i) == '-')) {
+            i++;
+        }
+        if (i < to && (text.charAt(i) == 'N' || text.charAt(i) == 'I')) {
+            return (matches(text, i, to, "NaN") || matches(text, i, to, "Infinity")) ? SPECIAL : INVALID;
+        }
+        if (i + 1 < to && text.charAt(i) == '0' && (text.charAt(i + 1) == 'x' || text.charAt(i + 1) == 'X')) {
+            return HEXADECIMAL;
+        }
+
+        int digits = 0;
+        while (i < to && isDigit(text.charAt(i))) {
+            i++;
+            digits++;
+        }
+        if (i < to && text.charAt(i) == '.') {
+            i++;
+            while (i < to && isDigit(text.charAt(i))) {
+                i++;
+                digits++;
+            }
+        }
+        if (digits == 0) {
+            return INVALID;
+        }
+        int kind = DECIMAL;
+        if (i < to && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            i++;
+            if (i < to && (text.charAt(i) == '+' || text.charAt(i) == '-')) {
+                i++;
+            }
+            int exponentDigits = 0;
+            while (i < to && isDigit(text.charAt(i))) {
+                i++;
+                exponentDigits++;
+            }
+            if (exponentDigits == 0) {
+                return INVALID;
+            }
+            kind = EXPONENT;
+        }
+        if (i < to && isSuffix(text.charAt(i))) {
+            i++;
+        }
+        return i == to ? kind : INVALID;
+    }
+
+    private static double decimal(CharSequence text, int from, int to) {
+        boolean negative = text.charAt(from) == '-';
+        int i = (negative || text.charAt(from) == '+') ? from + 1 : from;
+        long significand = 0;
+        int exponent = 0;
+        boolean fraction = false;
+        boolean truncated = false;
+        for (; i < to; i++) {
+            char c = text.charAt(i);
+            if (c == '.') {
+                fraction = true;
+            } else if (!isDigit(c)) {
+                break;
+            } else if (significand < MAX_SIGNIFICAND) {
+                significand = significand * 10 + (c - '0');
+                exponent -= fraction ? 1 : 0;
+            } else {
+                truncated |= c != '0';
+                exponent += fraction ? 0 : 1;
+            }
+        }
+        if (i < to && (text.charAt(i) == 'e' || text.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExponent = text.charAt(i) == '-';
+            if (negativeExponent || text.charAt(i) == '+') {
+                i++;
+            }
+            int value = 0;
+            for (; i < to && isDigit(text.charAt(i)); i++) {
+                value = Math.min(value * 10 + (text.charAt(i) - '0'), 100_000);
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+
+        if (significand == 0) {
+            return negative ? -0D : 0D;
+        }
+        if (truncated || significand > MAX_EXACT_SIGNIFICAND || exponent < -22 || exponent > 22) {
+            return Double.parseDouble(text.subSequence(from, to).toString());
+        }
+        double value = exponent < 0 ? significand / POWERS_OF_TEN[-exponent] : significand * POWERS_OF_TEN[exponent];
+        return negative ? -value : value;
+    }
+
+    private static double special(CharSequence text, int from) {
+        char first = text.charAt(from);
+        int i = (first == '+' || first == '-') ? from + 1 : from;
+        if (text.charAt(i) == 'N') {
+            return Double.NaN;
+        }
+        return first == '-' ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+    }
+
+    private static Double hexadecimal(CharSequence text, int from, int to) {
+        // rare enough that the exception of a malformed value is not worth a dedicated parser
+        try {
+            return Double.valueOf(text.subSequence(from, to).toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean matches(CharSequence text, int from, int to, String word) {
+        if (to - from != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (text.charAt(from + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isSuffix(char c) {
+        return c == 'f' || c == 'F' || c == 'd' || c == 'D';
+    }
+
+    private static final class AsciiSequence implements CharSequence {
+        private final ByteBuffer buffer;
+        private final int start;
+        private final int end;
+
+        private AsciiSequence(ByteBuffer buffer, int start, int end) {
+            this.buffer = buffer;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (buffer.get(start + index) & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new AsciiSequence(buffer, start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            char[] chars = new char[length()];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = charAt(i);
+            }
+            return new String(chars);
+        }
+    }
+
+    private static final class CharArraySequence implements CharSequence {
+        private final char[] chars;
+        private final int start;
+        private final int end;
+
+        private CharArraySequence(char[] chars, int start, int end) {
+            this.chars = chars;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return chars[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int from, int to) {
+            return new CharArraySequence(chars, start + from, start + to);
+        }
+
+        @Override
+        public String toString() {
+            return new String(chars, start, end - start);
+        }
+    }
+}
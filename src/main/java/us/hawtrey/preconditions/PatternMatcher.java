@@ -0,0 +1,490 @@
+package us.hawtrey.preconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Matches whole character sequences against regular expressions for {@link Validate#matches(CharSequence, String)}
+ * and {@link Assure#matchesOrDefault(CharSequence, String, CharSequence)}.
+ * <p>
+ * Expressions are compiled once and kept in a bounded cache. Expressions made only of literal characters, character
+ * classes such as {@code [A-Z0-9_]}, {@code \d}, {@code \w}, {@code \s} and {@code .}, and greedy quantifiers are
+ * matched without the regex engine, provided each repeated element is followed by elements it cannot match, so a
+ * single greedy pass decides the match. A literal expression is compared directly and a literal followed by
+ * {@code .*} is a prefix test. Any other expression goes to {@link Pattern}, with one {@link Matcher} reused per
+ * thread and pattern.
+ */
+abstract class PatternMatcher {
+    private static final int MAX_CACHED_PATTERNS = 256;
+    private static final ConcurrentMap<String, PatternMatcher> CACHE = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Matcher[]> MATCHERS = ThreadLocal.withInitial(() -> new Matcher[16]);
+
+    /**
+     * Returns the matcher of the expression, reusing a cached instance when one exists.
+     *
+     * @param regex the regular expression.
+     * @return the matcher of the expression.
+     * @throws java.util.regex.PatternSyntaxException thrown if the expression is invalid.
+     */
+    static PatternMatcher of(String regex) {
+        PatternMatcher compiled = CACHE.get(regex);
+        if (compiled == null) {
+            compiled = compile(regex);
+            if (CACHE.size() >= MAX_CACHED_PATTERNS) {
+                CACHE.clear();
+            }
+            CACHE.putIfAbsent(regex, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Matches the input against a compiled pattern, through the fast paths when the pattern has no flags.
+     *
+     * @param pattern the pattern.
+     * @param input   the input to match.
+     * @return {@code true} if the whole input matches.
+     */
+    static boolean matches(Pattern pattern, CharSequence input) {
+        return pattern.flags() == 0 ? of(pattern.pattern()).matches(input) : reuse(pattern, input);
+    }
+
+    /**
+     * @param input the input to match.
+     * @return {@code true} if the whole input matches.
+     */
+    abstract boolean matches(CharSequence input);
+
+    static PatternMatcher compile(String regex) {
+        List<Atom> atoms = Parser.parse(regex);
+        if (atoms == null || !isGreedySafe(atoms)) {
+            return new Regex(Pattern.compile(regex));
+        }
+        StringBuilder literal = new StringBuilder();
+        int literals = 0;
+        while (literals < atoms.size() && atoms.get(literals).isLiteral()) {
+            literal.appendCodePoint(atoms.get(literals).set.single);
+            literals++;
+        }
+        if (literals == atoms.size()) {
+            return new Literal(literal.toString());
+        }
+        if (literals == atoms.size() - 1 && atoms.get(literals).isAnyRepeated()) {
+            return new Prefix(literal.toString());
+        }
+        return new Atoms(atoms.toArray(new Atom[0]));
+    }
+
+    /**
+     * A greedy pass finds the match if no repeated element can take a character the elements after it need: each
+     * element repeated a variable number of times must be disjoint from the following elements up to the first that
+     * must occur.
+     */
+    private static boolean isGreedySafe(List<Atom> atoms) {
+        for (int i = 0; i < atoms.size(); i++) {
+            Atom atom = atoms.get(i);
+            if (atom.min == atom.max) {
+                continue;
+            }
+            for (int j = i + 1; j < atoms.size(); j++) {
+                if (!atom.set.isDisjoint(atoms.get(j).set)) {
+                    return false;
+                }
+                if (atoms.get(j).min > 0) {
+                    break;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Matches with a {@link Matcher} kept per thread in a small table indexed by the identity of the pattern. The
+     * matcher is taken out of the table while it is used, so a nested match on the same thread gets its own, and is
+     * reset afterwards so it does not keep the input alive.
+     */
+    private static boolean reuse(Pattern pattern, CharSequence input) {
+        Matcher[] matchers = MATCHERS.get();
+        int slot = System.identityHashCode(pattern) & (matchers.length - 1);
+        Matcher matcher = matchers[slot];
+        if (matcher != null && matcher.pattern() == pattern) {
+            matchers[slot] = null;
+            matcher.reset(input);
+        } else {
+            matcher = pattern.matcher(input);
+        }
+        try {
+            return matcher.matches();
+        } finally {
+            matcher.reset("");
+            matchers[slot] = matcher;
+        }
+    }
+
+    private static boolean isLineTerminator(int c) {
+        return c == '\n' || c == '\r' || c == 0x85 || c == 0x2028 || c == 0x2029;
+    }
+
+    /**
+     * An expression without metacharacters.
+     */
+    private static final class Literal extends PatternMatcher {
+        private final String literal;
+
+        Literal(String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        boolean matches(CharSequence input) {
+            return literal.contentEquals(input);
+        }
+    }
+
+    /**
+     * A literal followed by {@code .*}, which matches anything but line terminators.
+     */
+    private static final class Prefix extends PatternMatcher {
+        private final String prefix;
+
+        Prefix(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        boolean matches(CharSequence input) {
+            int length = prefix.length();
+            if (input.length() < length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (input.charAt(i) != prefix.charAt(i)) {
+                    return false;
+                }
+            }
+            for (int i = length; i < input.length(); i++) {
+                if (isLineTerminator(input.charAt(i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * A sequence of character classes, each repeated between a minimum and a maximum number of times, matched in one
+     * greedy pass over the code points of the input.
+     */
+    private static final class Atoms extends PatternMatcher {
+        private final Atom[] atoms;
+
+        Atoms(Atom[] atoms) {
+            this.atoms = atoms;
+        }
+
+        @Override
+        boolean matches(CharSequence input) {
+            int length = input.length();
+            int position = 0;
+            for (Atom atom : atoms) {
+                int count = 0;
+                while (count < atom.max && position < length) {
+                    int c = Character.codePointAt(input, position);
+                    if (!atom.set.contains(c)) {
+                        break;
+                    }
+                    position += Character.charCount(c);
+                    count++;
+                }
+                if (count < atom.min) {
+                    return false;
+                }
+            }
+            return position == length;
+        }
+    }
+
+    /**
+     * Any other expression, matched by the regex engine.
+     */
+    private static final class Regex extends PatternMatcher {
+        private final Pattern pattern;
+
+        Regex(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        boolean matches(CharSequence input) {
+            return reuse(pattern, input);
+        }
+    }
+
+    /**
+     * A character class repeated between {@code min} and {@code max} times.
+     */
+    private static final class Atom {
+        final CharSet set;
+        final int min;
+        final int max;
+
+        Atom(CharSet set, int min, int max) {
+            this.set = set;
+            this.min = min;
+            this.max = max;
+        }
+
+        boolean isLiteral() {
+            return set.single >= 0 && min == 1 && max == 1;
+        }
+
+        boolean isAnyRepeated() {
+            return set.dot && min == 0 && max == Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * A set of code points: the ASCII members as a bit set, and every non-ASCII code point if the set is negated,
+     * except line terminators for {@code .}.
+     */
+    private static final class CharSet {
+        private final long low;
+        private final long high;
+        private final boolean negated;
+        private final boolean dot;
+        private final int single;
+
+        private CharSet(long low, long high, boolean negated, boolean dot, int single) {
+            this.low = low;
+            this.high = high;
+            this.negated = negated;
+            this.dot = dot;
+            this.single = single;
+        }
+
+        static CharSet literal(int c) {
+            return c < 64 ? new CharSet(1L << c, 0L, false, false, c) : new CharSet(0L, 1L << (c - 64), false, false, c);
+        }
+
+        static CharSet ascii(long low, long high, boolean negated) {
+            return new CharSet(low, high, negated, false, -1);
+        }
+
+        static CharSet dot() {
+            return new CharSet((1L << '\n') | (1L << '\r'), 0L, true, true, -1);
+        }
+
+        boolean contains(int c) {
+            if (c < 64) {
+                return ((low >>> c) & 1L) != 0 ^ negated;
+            }
+            if (c < 128) {
+                return ((high >>> (c - 64)) & 1L) != 0 ^ negated;
+            }
+            return negated && !(dot && isLineTerminator(c));
+        }
+
+        boolean isDisjoint(CharSet other) {
+            long lowBits = negated ? ~low : low;
+            long highBits = negated ? ~high : high;
+            long otherLow = other.negated ? ~other.low : other.low;
+            long otherHigh = other.negated ? ~other.high : other.high;
+            return (lowBits & otherLow) == 0 && (highBits & otherHigh) == 0 && !(negated && other.negated);
+        }
+    }
+
+    /**
+     * Parses the expressions the fast paths handle, returning {@code null} for any other.
+     */
+    private static final class Parser {
+        private static final long DIGITS = 0x03ff000000000000L;
+        private static final long WORD_HIGH = 0x07fffffe87fffffeL;
+        private static final long SPACES = (1L << ' ') | (1L << '\t') | (1L << '\n') | (1L << 0x0b) | (1L << '\f')
+                | (1L << '\r');
+
+        private final String regex;
+        private int position;
+
+        private Parser(String regex) {
+            this.regex = regex;
+        }
+
+        static List<Atom> parse(String regex) {
+            return new Parser(regex).atoms();
+        }
+
+        private List<Atom> atoms() {
+            List<Atom> atoms = new ArrayList<>();
+            while (position < regex.length()) {
+                CharSet set = element();
+                if (set == null) {
+                    return null;
+                }
+                int min = 1;
+                int max = 1;
+                if (next('?')) {
+                    min = 0;
+                } else if (next('*')) {
+                    min = 0;
+                    max = Integer.MAX_VALUE;
+                } else if (next('+')) {
+                    max = Integer.MAX_VALUE;
+                } else if (next('{')) {
+                    min = number();
+                    max = next(',') ? (peek() == '}' ? Integer.MAX_VALUE : number()) : min;
+                    if (min < 0 || max < min || !next('}')) {
+                        return null;
+                    }
+                }
+                char c = peek();
+                if (c == '?' || c == '*' || c == '+' || c == '{') {
+                    return null;
+                }
+                atoms.add(new Atom(set, min, max));
+            }
+            return atoms;
+        }
+
+        private CharSet element() {
+            char c = regex.charAt(position++);
+            switch (c) {
+                case '[':
+                    return charClass();
+                case '\\':
+                    return escape();
+                case '.':
+                    return CharSet.dot();
+                case '^': case '$': case '|': case '(': case ')': case '?': case '*': case '+': case '{': case '}':
+                case ']':
+                    return null;
+                default:
+                    return c < 128 ? CharSet.literal(c) : null;
+            }
+        }
+
+        /**
+         * Parses a shorthand, its negation or an escaped punctuation character after a {@code \}.
+         */
+        private CharSet escape() {
+            if (position >= regex.length()) {
+                return null;
+            }
+            char c = regex.charAt(position++);
+            if (c == 'D' || c == 'W' || c == 'S') {
+                long[] bits = shorthand(Character.toLowerCase(c));
+                return CharSet.ascii(bits[0], bits[1], true);
+            }
+            long[] bits = shorthand(c);
+            if (bits != null) {
+                return CharSet.ascii(bits[0], bits[1], false);
+            }
+            return isPunctuation(c) ? CharSet.literal(c) : null;
+        }
+
+        /**
+         * Parses a class of ASCII characters, ranges and the {@code \d}, {@code \w} and {@code \s} shorthands after
+         * its {@code [}, without nested classes, intersections, negated shorthands or a {@code -} in the middle.
+         */
+        private CharSet charClass() {
+            boolean negated = next('^');
+            if (peek() == ']') {
+                return null;
+            }
+            int first = position;
+            long low = 0L;
+            long high = 0L;
+            while (position < regex.length()) {
+                char c = regex.charAt(position++);
+                if (c == ']') {
+                    return CharSet.ascii(low, high, negated);
+                }
+                int start = c;
+                if (c == '\\') {
+                    char escaped = peek();
+                    position++;
+                    long[] bits = shorthand(escaped);
+                    if (bits != null) {
+                        if (isRangeStart()) {
+                            return null;
+                        }
+                        low |= bits[0];
+                        high |= bits[1];
+                        continue;
+                    }
+                    if (!isPunctuation(escaped)) {
+                        return null;
+                    }
+                    start = escaped;
+                } else if (c == '[' || c >= 128 || (c == '&' && peek() == '&')
+                        || (c == '-' && position - 1 != first && peek() != ']')) {
+                    return null;
+                }
+                int end = start;
+                if (isRangeStart()) {
+                    position++;
+                    end = regex.charAt(position++);
+                    if (end == '\\' || end == '[' || end >= 128 || end < start) {
+                        return null;
+                    }
+                }
+                for (int i = start; i <= end; i++) {
+                    if (i < 64) {
+                        low |= 1L << i;
+                    } else {
+                        high |= 1L << (i - 64);
+                    }
+                }
+            }
+            return null;
+        }
+
+        private boolean isRangeStart() {
+            return position + 1 < regex.length() && regex.charAt(position) == '-' && regex.charAt(position + 1) != ']';
+        }
+
+        private int number() {
+            int begin = position;
+            int value = 0;
+            while (peek() >= '0' && peek() <= '9') {
+                value = value * 10 + (regex.charAt(position++) - '0');
+                if (value > 1_000_000) {
+                    return -1;
+                }
+            }
+            return position == begin ? -1 : value;
+        }
+
+        private char peek() {
+            return position < regex.length() ? regex.charAt(position) : '\0';
+        }
+
+        private boolean next(char c) {
+            if (peek() == c && position < regex.length()) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private static long[] shorthand(char c) {
+            switch (c) {
+                case 'd':
+                    return new long[]{DIGITS, 0L};
+                case 'w':
+                    return new long[]{DIGITS, WORD_HIGH};
+                case 's':
+                    return new long[]{SPACES, 0L};
+                default:
+                    return null;
+            }
+        }
+
+        private static boolean isPunctuation(char c) {
+            return c < 128 && c != '\0' && !Character.isLetterOrDigit(c);
+        }
+    }
+}
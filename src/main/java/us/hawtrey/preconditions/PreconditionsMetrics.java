@@ -0,0 +1,263 @@
+package us.hawtrey.preconditions;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the checks run by {@link Validate}, {@link ValidationCollector} and named {@link Validator}s, and how many
+ * of them failed, per {@link Check} and per registered {@link Counter} name.
+ * <p>
+ * The counting is enabled with the {@code us.hawtrey.preconditions.metrics=true} system property and is fixed when
+ * the class is loaded. When it is disabled the JIT removes the counting from the checks entirely. When it is
+ * enabled the counters are {@link LongAdder}s, which do not contend when many threads run checks, and the metrics
+ * are registered with the platform MBean server as {@value #OBJECT_NAME}.
+ */
+public final class PreconditionsMetrics implements PreconditionsMetricsMXBean {
+    /**
+     * The JMX object name of the metrics.
+     */
+    public static final String OBJECT_NAME = "us.hawtrey.preconditions:type=PreconditionsMetrics";
+
+    static final boolean ENABLED = Boolean.getBoolean("us.hawtrey.preconditions.metrics");
+
+    private static final Check[] CHECKS = Check.values();
+    private static final PreconditionsMetrics INSTANCE = new PreconditionsMetrics();
+    private static final Counter DISABLED = new Counter(null);
+
+    private final LongAdder[] checks;
+    private final LongAdder[] failures;
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private PreconditionsMetrics() {
+        checks = adders(ENABLED ? CHECKS.length : 0);
+        failures = adders(ENABLED ? CHECKS.length : 0);
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                // already registered by another class loader, the counts stay readable through getInstance()
+            }
+        }
+    }
+
+    /**
+     * @return the metrics of this class loader.
+     */
+    public static PreconditionsMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the counter registered under the name, registering it on first use. When the metrics are disabled the
+     * returned counter ignores every call.
+     *
+     * @param name the name of the counter, which must not be the name of a {@link Check}.
+     * @return the counter registered under the name.
+     * @throws IllegalArgumentException thrown if the name is blank or the name of a {@code Check}.
+     */
+    public static Counter counter(String name) {
+        Validate.notBlank(name, "The counter name is blank");
+        if (!ENABLED) {
+            return DISABLED;
+        }
+        Counter counter = INSTANCE.counters.get(name);
+        if (counter == null) {
+            for (Check check : CHECKS) {
+                Validate.argument(name, !check.name().equals(name), "The counter name %s is a Check name", name);
+            }
+            counter = INSTANCE.counters.computeIfAbsent(name, Counter::new);
+        }
+        return counter;
+    }
+
+    static void checked(Check check) {
+        if (ENABLED) {
+            INSTANCE.checks[check.ordinal()].increment();
+        }
+    }
+
+    static void failed(Check check) {
+        if (ENABLED) {
+            INSTANCE.failures[check.ordinal()].increment();
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return ENABLED;
+    }
+
+    @Override
+    public Map<String, Long> getChecks() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (int i = 0; i < checks.length; i++) {
+            put(counts, CHECKS[i].name(), checks[i].sum());
+        }
+        for (Counter counter : counters.values()) {
+            put(counts, counter.name, counter.getChecks());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getPasses() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (int i = 0; i < checks.length; i++) {
+            put(counts, CHECKS[i].name(), passes(checks[i].sum(), failures[i].sum()));
+        }
+        for (Counter counter : counters.values()) {
+            put(counts, counter.name, counter.getPasses());
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getFailures() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (int i = 0; i < failures.length; i++) {
+            put(counts, CHECKS[i].name(), failures[i].sum());
+        }
+        for (Counter counter : counters.values()) {
+            put(counts, counter.name, counter.getFailures());
+        }
+        return counts;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < checks.length; i++) {
+            checks[i].reset();
+            failures[i].reset();
+        }
+        for (Counter counter : counters.values()) {
+            counter.checks.reset();
+            counter.failures.reset();
+        }
+    }
+
+    private static LongAdder[] adders(int length) {
+        LongAdder[] adders = new LongAdder[length];
+        for (int i = 0; i < length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    private static void put(Map<String, Long> counts, String name, long count) {
+        if (count > 0) {
+            counts.put(name, count);
+        }
+    }
+
+    /**
+     * The counts are read while checks run, so a failure may be read before its check; passes never go negative.
+     */
+    private static long passes(long checks, long failures) {
+        return Math.max(0L, checks - failures);
+    }
+
+    /**
+     * Counts the checks of a user-defined name, such as a {@link Validator} built with
+     * {@link Validator.Builder#name(String)} or a group of checks counted by the application.
+     */
+    public static final class Counter {
+        private final String name;
+        private final LongAdder checks = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        private Counter(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Counts a check that passed.
+         */
+        public void passed() {
+            if (ENABLED) {
+                checks.increment();
+            }
+        }
+
+        /**
+         * Counts a check that failed.
+         */
+        public void failed() {
+            if (ENABLED) {
+                checks.increment();
+                failures.increment();
+            }
+        }
+
+        /**
+         * Counts a number of checks that passed, such as those of a batch of records.
+         *
+         * @param count the number of checks that passed, not negative.
+         */
+        public void passed(long count) {
+            if (ENABLED) {
+                checks.add(count);
+            }
+        }
+
+        /**
+         * Counts a number of checks that failed, such as those of a batch of records.
+         *
+         * @param count the number of checks that failed, not negative.
+         */
+        public void failed(long count) {
+            if (ENABLED) {
+                checks.add(count);
+                failures.add(count);
+            }
+        }
+
+        /**
+         * Counts a check.
+         *
+         * @param passed {@code true} if the check passed.
+         * @return the {@code passed} argument.
+         */
+        public boolean record(boolean passed) {
+            if (passed) {
+                passed();
+            } else {
+                failed();
+            }
+            return passed;
+        }
+
+        /**
+         * @return the name of the counter, or {@code null} for the counter returned while the metrics are disabled.
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the number of checks counted.
+         */
+        public long getChecks() {
+            return checks.sum();
+        }
+
+        /**
+         * @return the number of checks that passed.
+         */
+        public long getPasses() {
+            return passes(checks.sum(), failures.sum());
+        }
+
+        /**
+         * @return the number of checks that failed.
+         */
+        public long getFailures() {
+            return failures.sum();
+        }
+    }
+}
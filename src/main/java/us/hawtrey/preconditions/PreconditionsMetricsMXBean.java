@@ -0,0 +1,37 @@
+package us.hawtrey.preconditions;
+
+import java.util.Map;
+
+/**
+ * The JMX view of {@link PreconditionsMetrics}, registered as {@value PreconditionsMetrics#OBJECT_NAME}.
+ * <p>
+ * The maps are keyed by the name of each {@link Check} and by the name of each registered
+ * {@link PreconditionsMetrics.Counter}, and only hold the keys that were counted at least once.
+ */
+public interface PreconditionsMetricsMXBean {
+
+    /**
+     * @return {@code true} if the checks are counted.
+     */
+    boolean isEnabled();
+
+    /**
+     * @return the number of checks run per key.
+     */
+    Map<String, Long> getChecks();
+
+    /**
+     * @return the number of checks that passed per key.
+     */
+    Map<String, Long> getPasses();
+
+    /**
+     * @return the number of checks that failed per key.
+     */
+    Map<String, Long> getFailures();
+
+    /**
+     * Resets every counter to zero.
+     */
+    void reset();
+}
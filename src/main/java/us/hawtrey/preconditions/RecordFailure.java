@@ -0,0 +1,59 @@
+package us.hawtrey.preconditions;
+
+/**
+ * A failed field check of a record validated by a {@link RecordValidator}: where the record is, which field failed
+ * and the details of the failure. The message is rendered lazily.
+ */
+public final class RecordFailure {
+    private final long record;
+    private final long offset;
+    private final int field;
+    private final FailureDetails details;
+
+    RecordFailure(long record, long offset, int field, FailureDetails details) {
+        this.record = record;
+        this.offset = offset;
+        this.field = field;
+        this.details = details;
+    }
+
+    /**
+     * @return the index of the record, counted from zero.
+     */
+    public long getRecord() {
+        return record;
+    }
+
+    /**
+     * @return the offset of the first byte of the record in the file or buffer.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * @return the offset of the failed field in the record, or {@code -1} for a check of the whole record.
+     */
+    public int getField() {
+        return field;
+    }
+
+    /**
+     * @return the kind of check that failed, the value of the field and the valid range.
+     */
+    public FailureDetails getDetails() {
+        return details;
+    }
+
+    /**
+     * @return the message describing the failure, prefixed with the record and its offset.
+     */
+    public String getMessage() {
+        return "The record " + record + " at offset " + offset + " is invalid: " + details.getMessage();
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
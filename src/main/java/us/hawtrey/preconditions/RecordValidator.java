@@ -0,0 +1,880 @@
+package us.hawtrey.preconditions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A fixed sequence of checks on the fields of fixed-width binary records, applied to every record of a buffer or a
+ * file without decoding the records into objects.
+ * <p>
+ * Each field is read in place at its offset in the record: {@code int}, {@code long} and {@code double} fields in
+ * the byte order of the validator, and text fields as ASCII bytes. A passing record allocates nothing. The records
+ * are split into chunks of about {@code chunkSize} bytes validated in parallel on a {@link ForkJoinPool}, and a file
+ * is mapped into memory one chunk at a time, so files larger than 2 GB are validated without reading them.
+ * <p>
+ * Every check of every record is applied. The {@link Result} counts the records and the invalid records, and lists
+ * the first {@code maxFailures} failed checks in file order with the index and offset of their record. A validator
+ * is immutable and thread safe.
+ *
+ * <pre>
+ *     private static final RecordValidator TRADES = RecordValidator.builder(32)
+ *             .positiveLong(0, "The trade id %s is not positive")
+ *             .inIntRange(8, 1, 1_000_000)
+ *             .positiveDouble(12)
+ *             .notBlank(20, 12)
+ *             .build();
+ *
+ *     TRADES.validate(path).throwIfFailed();
+ * </pre>
+ */
+public final class RecordValidator {
+    private static final String DEFAULT_ASCII_MESSAGE = "The text (%s) is not printable ASCII";
+
+    private final int recordLength;
+    private final Field[] fields;
+    private final ByteOrder order;
+    private final int chunkRecords;
+    private final int maxFailures;
+    private final ForkJoinPool pool;
+    private final PreconditionsMetrics.Counter counter;
+
+    private RecordValidator(Builder builder, PreconditionsMetrics.Counter counter) {
+        this.recordLength = builder.recordLength;
+        this.fields = builder.fields.toArray(new Field[0]);
+        this.order = builder.order;
+        this.chunkRecords = Math.max(1, builder.chunkSize / builder.recordLength);
+        this.maxFailures = builder.maxFailures;
+        this.pool = builder.pool != null ? builder.pool : ForkJoinPool.commonPool();
+        this.counter = counter;
+    }
+
+    /**
+     * @param recordLength the number of bytes of every record.
+     * @return a new builder without any check.
+     * @throws IllegalArgumentException thrown if the length is not positive.
+     */
+    public static Builder builder(int recordLength) {
+        return new Builder(Validate.positive(recordLength, "The record length is not positive"));
+    }
+
+    /**
+     * Validates every record of the file, mapping it into memory chunk by chunk.
+     *
+     * @param file the file of records.
+     * @return the counts and the first failures.
+     * @throws IOException              thrown if the file cannot be read or mapped.
+     * @throws IllegalArgumentException thrown if the length of the file is not a multiple of the record length.
+     * @throws NullPointerException     thrown if the file is {@code null}.
+     */
+    public Result validate(Path file) throws IOException {
+        Validate.notNull(file, "The file is null");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            Validate.argument(size, size % recordLength == 0,
+                    "The file length (%s) is not a multiple of the record length (%s)", size, recordLength);
+            return pool.invoke(new RecordTask(this, null, channel, 0L, size / recordLength)).toResult();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Validates every record between the position and the limit of the buffer. The position, limit and byte order
+     * of the buffer are not changed.
+     *
+     * @param records the buffer of records.
+     * @return the counts and the first failures; the offsets are relative to the position of the buffer.
+     * @throws IllegalArgumentException thrown if the remaining bytes are not a multiple of the record length.
+     * @throws NullPointerException     thrown if the buffer is {@code null}.
+     */
+    public Result validate(ByteBuffer records) {
+        Validate.notNull(records, "The buffer is null");
+        int size = records.remaining();
+        Validate.argument(size, size % recordLength == 0,
+                "The buffer length (%s) is not a multiple of the record length (%s)", size, recordLength);
+        return pool.invoke(new RecordTask(this, records.duplicate(), null, 0L, size / recordLength)).toResult();
+    }
+
+    /**
+     * Applies the checks to the records of one chunk, starting at index zero of the buffer. Each check runs over the
+     * whole chunk in its own loop, marking the invalid records in a bit set; the failures of the marked records are
+     * then described in record order.
+     */
+    private Chunk validateChunk(ByteBuffer buffer, long firstRecord, int count) {
+        Chunk chunk = new Chunk(count);
+        long[] invalid = null;
+        for (Field field : fields) {
+            invalid = field.testAll(buffer, count, recordLength, invalid);
+        }
+        if (invalid != null) {
+            for (int word = 0; word < invalid.length; word++) {
+                for (long bits = invalid[word]; bits != 0; bits &= bits - 1) {
+                    int i = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    int position = i * recordLength;
+                    for (Field field : fields) {
+                        if (!field.test(buffer, position)) {
+                            chunk.fail(this, new RecordFailure(firstRecord + i, (firstRecord + i) * recordLength,
+                                    field.offset, field.failure(buffer, position, firstRecord + i)));
+                        }
+                    }
+                    chunk.invalidRecords++;
+                }
+            }
+        }
+        if (counter != null) {
+            counter.passed(count - chunk.invalidRecords);
+            counter.failed(chunk.invalidRecords);
+        }
+        return chunk;
+    }
+
+    /**
+     * Marks the record as invalid in the bit set of the chunk, creating the set on the first invalid record.
+     */
+    private static long[] mark(long[] invalid, int count, int record) {
+        long[] marked = invalid != null ? invalid : new long[(count + 63) >>> 6];
+        marked[record >>> 6] |= 1L << record;
+        return marked;
+    }
+
+    @Override
+    public String toString() {
+        return "RecordValidator[recordLength=" + recordLength + ", fields=" + fields.length + "]";
+    }
+
+    /**
+     * The outcome of a validation: the number of records and invalid records, and the first failed checks.
+     */
+    public static final class Result {
+        private final long records;
+        private final long invalidRecords;
+        private final List<RecordFailure> failures;
+
+        private Result(long records, long invalidRecords, List<RecordFailure> failures) {
+            this.records = records;
+            this.invalidRecords = invalidRecords;
+            this.failures = Collections.unmodifiableList(failures);
+        }
+
+        /**
+         * @return the number of records validated.
+         */
+        public long getRecordCount() {
+            return records;
+        }
+
+        /**
+         * @return the number of records that failed at least one check.
+         */
+        public long getInvalidRecordCount() {
+            return invalidRecords;
+        }
+
+        /**
+         * @return the first failed checks in the order of the records, at most {@code maxFailures} of them.
+         */
+        public List<RecordFailure> getFailures() {
+            return failures;
+        }
+
+        /**
+         * @return {@code true} if every record passed every check.
+         */
+        public boolean isValid() {
+            return invalidRecords == 0;
+        }
+
+        /**
+         * Throws a {@link ValidationFailuresException} listing the failures, if any.
+         *
+         * @throws ValidationFailuresException thrown if a record failed a check.
+         */
+        public void throwIfFailed() {
+            if (!isValid()) {
+                List<FailureDetails> details = new ArrayList<>(failures.size());
+                for (RecordFailure failure : failures) {
+                    FailureDetails cause = failure.getDetails();
+                    details.add(new FailureDetails(cause.getCheck(), cause.getValue(), cause.getStart(),
+                            cause.getEnd(), failure.getMessage()));
+                }
+                if (details.isEmpty()) {
+                    details.add(new FailureDetails(Check.ARGUMENT, invalidRecords, null, null,
+                            "The number of invalid records is " + invalidRecords));
+                }
+                throw new ValidationFailuresException(details);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Result[records=" + records + ", invalidRecords=" + invalidRecords + "]";
+        }
+    }
+
+    /**
+     * The counts and first failures of a range of records, merged in order as the tasks complete.
+     */
+    private static final class Chunk {
+        long records;
+        long invalidRecords;
+        List<RecordFailure> failures = Collections.emptyList();
+
+        Chunk(long records) {
+            this.records = records;
+        }
+
+        void fail(RecordValidator validator, RecordFailure failure) {
+            if (failures.size() < validator.maxFailures) {
+                if (failures.isEmpty()) {
+                    failures = new ArrayList<>();
+                }
+                failures.add(failure);
+            }
+        }
+
+        Chunk merge(RecordValidator validator, Chunk next) {
+            records += next.records;
+            invalidRecords += next.invalidRecords;
+            for (int i = 0; i < next.failures.size() && failures.size() < validator.maxFailures; i++) {
+                if (failures.isEmpty()) {
+                    failures = new ArrayList<>();
+                }
+                failures.add(next.failures.get(i));
+            }
+            return this;
+        }
+
+        Result toResult() {
+            return new Result(records, invalidRecords, failures);
+        }
+    }
+
+    /**
+     * Validates a range of records, splitting it in halves until it fits in one chunk. The records come from a
+     * buffer, or from a file mapped one chunk at a time.
+     */
+    private static final class RecordTask extends RecursiveTask<Chunk> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient RecordValidator validator;
+        private final transient ByteBuffer buffer;
+        private final transient FileChannel channel;
+        private final long from;
+        private final long to;
+
+        RecordTask(RecordValidator validator, ByteBuffer buffer, FileChannel channel, long from, long to) {
+            this.validator = validator;
+            this.buffer = buffer;
+            this.channel = channel;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Chunk compute() {
+            if (to - from <= validator.chunkRecords) {
+                int count = (int) (to - from);
+                return validator.validateChunk(records(count), from, count);
+            }
+            long middle = (from + to) >>> 1;
+            RecordTask first = new RecordTask(validator, buffer, channel, from, middle);
+            first.fork();
+            Chunk second = new RecordTask(validator, buffer, channel, middle, to).compute();
+            return first.join().merge(validator, second);
+        }
+
+        private ByteBuffer records(int count) {
+            long position = from * validator.recordLength;
+            if (buffer != null) {
+                ByteBuffer records = buffer.duplicate();
+                records.position(records.position() + (int) position);
+                return records.slice().order(validator.order);
+            }
+            try {
+                return channel.map(FileChannel.MapMode.READ_ONLY, position, (long) count * validator.recordLength)
+                        .order(validator.order);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Collects the field checks of a {@link RecordValidator}. A builder is not thread safe, the validators it builds
+     * are.
+     */
+    public static final class Builder {
+        private final int recordLength;
+        private final List<Field> fields = new ArrayList<>();
+        private ByteOrder order = ByteOrder.BIG_ENDIAN;
+        private int chunkSize = 16 * 1024 * 1024;
+        private int maxFailures = 1000;
+        private ForkJoinPool pool;
+        private String name;
+
+        private Builder(int recordLength) {
+            this.recordLength = recordLength;
+        }
+
+        /**
+         * Names the validator, so each record it validates is counted by the {@link PreconditionsMetrics.Counter} of
+         * that name when the metrics are enabled.
+         *
+         * @param name the name of the counter.
+         * @return this builder.
+         */
+        public Builder name(String name) {
+            this.name = Validate.notBlank(name, "The validator name is blank");
+            return this;
+        }
+
+        /**
+         * Sets the byte order of the {@code int}, {@code long} and {@code double} fields, big-endian by default.
+         *
+         * @param order the byte order.
+         * @return this builder.
+         * @throws NullPointerException thrown if the order is {@code null}.
+         */
+        public Builder order(ByteOrder order) {
+            this.order = Validate.notNull(order, "The byte order is null");
+            return this;
+        }
+
+        /**
+         * Sets the number of bytes validated, and mapped, by one task, 16 MB by default. It is rounded down to whole
+         * records, and a chunk holds at least one record.
+         *
+         * @param chunkSize the number of bytes of a chunk.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the size is not positive.
+         */
+        public Builder chunkSize(int chunkSize) {
+            this.chunkSize = Validate.positive(chunkSize, "The chunk size is not positive");
+            return this;
+        }
+
+        /**
+         * Sets the number of failed checks listed in a {@link Result}, 1000 by default. Every failure is counted.
+         *
+         * @param maxFailures the number of failures listed.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the number is negative.
+         */
+        public Builder maxFailures(int maxFailures) {
+            this.maxFailures = Validate.positiveOrZero(maxFailures, "The maximum number of failures is negative");
+            return this;
+        }
+
+        /**
+         * Sets the pool validating the chunks, the common pool by default.
+         *
+         * @param pool the pool.
+         * @return this builder.
+         * @throws NullPointerException thrown if the pool is {@code null}.
+         */
+        public Builder pool(ForkJoinPool pool) {
+            this.pool = Validate.notNull(pool, "The pool is null");
+            return this;
+        }
+
+        /**
+         * Adds a check that the {@code int} field is in the range from {@code start}, inclusive, to {@code end},
+         * exclusive.
+         *
+         * @param offset the offset of the field in the record.
+         * @param start  the start of the range.
+         * @param end    the end of the range.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder inIntRange(int offset, int start, int end) {
+            return add(new IntRange(offset, Check.IN_RANGE, start, end, null));
+        }
+
+        /**
+         * Adds a check that the {@code int} field is in the range from {@code start}, inclusive, to {@code end},
+         * exclusive.
+         *
+         * @param offset      the offset of the field in the record.
+         * @param start       the start of the range.
+         * @param end         the end of the range.
+         * @param msgTemplate the message template, given the value of the field as its one argument.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder inIntRange(int offset, int start, int end, String msgTemplate) {
+            return add(new IntRange(offset, Check.IN_RANGE, start, end, msgTemplate));
+        }
+
+        /**
+         * Adds a check that the {@code long} field is in the range from {@code start}, inclusive, to {@code end},
+         * exclusive.
+         *
+         * @param offset the offset of the field in the record.
+         * @param start  the start of the range.
+         * @param end    the end of the range.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder inLongRange(int offset, long start, long end) {
+            return add(new LongRange(offset, Check.IN_RANGE, start, end, null));
+        }
+
+        /**
+         * Adds a check that the {@code long} field is in the range from {@code start}, inclusive, to {@code end},
+         * exclusive.
+         *
+         * @param offset      the offset of the field in the record.
+         * @param start       the start of the range.
+         * @param end         the end of the range.
+         * @param msgTemplate the message template, given the value of the field as its one argument.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder inLongRange(int offset, long start, long end, String msgTemplate) {
+            return add(new LongRange(offset, Check.IN_RANGE, start, end, msgTemplate));
+        }
+
+        /**
+         * Adds a check that the {@code double} field is in the range from {@code start}, inclusive, to {@code end},
+         * exclusive.
+         *
+         * @param offset the offset of the field in the record.
+         * @param start  the start of the range.
+         * @param end    the end of the range.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder inDoubleRange(int offset, double start, double end) {
+            return add(new DoubleRange(offset, Check.IN_RANGE, start, end, null));
+        }
+
+        /**
+         * Adds a check that the {@code double} field is in the range from {@code start}, inclusive, to {@code end},
+         * exclusive.
+         *
+         * @param offset      the offset of the field in the record.
+         * @param start       the start of the range.
+         * @param end         the end of the range.
+         * @param msgTemplate the message template, given the value of the field as its one argument.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder inDoubleRange(int offset, double start, double end, String msgTemplate) {
+            return add(new DoubleRange(offset, Check.IN_RANGE, start, end, msgTemplate));
+        }
+
+        /**
+         * Adds a check that the {@code int} field is positive.
+         *
+         * @param offset the offset of the field in the record.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder positiveInt(int offset) {
+            return add(new IntRange(offset, Check.POSITIVE, 1, Integer.MAX_VALUE, null));
+        }
+
+        /**
+         * Adds a check that the {@code int} field is positive.
+         *
+         * @param offset      the offset of the field in the record.
+         * @param msgTemplate the message template, given the value of the field as its one argument.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder positiveInt(int offset, String msgTemplate) {
+            return add(new IntRange(offset, Check.POSITIVE, 1, Integer.MAX_VALUE, msgTemplate));
+        }
+
+        /**
+         * Adds a check that the {@code long} field is positive.
+         *
+         * @param offset the offset of the field in the record.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder positiveLong(int offset) {
+            return add(new LongRange(offset, Check.POSITIVE, 1L, Long.MAX_VALUE, null));
+        }
+
+        /**
+         * Adds a check that the {@code long} field is positive.
+         *
+         * @param offset      the offset of the field in the record.
+         * @param msgTemplate the message template, given the value of the field as its one argument.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder positiveLong(int offset, String msgTemplate) {
+            return add(new LongRange(offset, Check.POSITIVE, 1L, Long.MAX_VALUE, msgTemplate));
+        }
+
+        /**
+         * Adds a check that the {@code double} field is positive.
+         *
+         * @param offset the offset of the field in the record.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder positiveDouble(int offset) {
+            return add(new DoubleRange(offset, Check.POSITIVE, Double.MIN_VALUE, Double.POSITIVE_INFINITY, null));
+        }
+
+        /**
+         * Adds a check that the {@code double} field is positive.
+         *
+         * @param offset      the offset of the field in the record.
+         * @param msgTemplate the message template, given the value of the field as its one argument.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder positiveDouble(int offset, String msgTemplate) {
+            return add(new DoubleRange(offset, Check.POSITIVE, Double.MIN_VALUE, Double.POSITIVE_INFINITY, msgTemplate));
+        }
+
+        /**
+         * Adds a check that the ASCII text field holds a byte other than whitespace, control characters and
+         * {@code NUL} padding.
+         *
+         * @param offset the offset of the field in the record.
+         * @param length the number of bytes of the field.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder notBlank(int offset, int length) {
+            return add(new Text(offset, length, false, null));
+        }
+
+        /**
+         * Adds a check that the ASCII text field holds a byte other than whitespace, control characters and
+         * {@code NUL} padding.
+         *
+         * @param offset      the offset of the field in the record.
+         * @param length      the number of bytes of the field.
+         * @param msgTemplate the message template, given the text of the field as its one argument.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder notBlank(int offset, int length, String msgTemplate) {
+            return add(new Text(offset, length, false, msgTemplate));
+        }
+
+        /**
+         * Adds a check that every byte of the text field is a printable ASCII character, from space to {@code ~}.
+         *
+         * @param offset the offset of the field in the record.
+         * @param length the number of bytes of the field.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder ascii(int offset, int length) {
+            return add(new Text(offset, length, true, null));
+        }
+
+        /**
+         * Adds a check that every byte of the text field is a printable ASCII character, from space to {@code ~}.
+         *
+         * @param offset      the offset of the field in the record.
+         * @param length      the number of bytes of the field.
+         * @param msgTemplate the message template, given the text of the field as its one argument.
+         * @return this builder.
+         * @throws IllegalArgumentException thrown if the field does not fit in the record.
+         */
+        public Builder ascii(int offset, int length, String msgTemplate) {
+            return add(new Text(offset, length, true, msgTemplate));
+        }
+
+        /**
+         * Adds a check of the whole record, such as a relation between two fields. The predicate reads the fields
+         * with the absolute getters of the buffer, in the byte order of the validator, and must not change the
+         * buffer.
+         *
+         * @param predicate the test of the record at an offset of the buffer.
+         * @param msg       the message of the failure.
+         * @return this builder.
+         * @throws NullPointerException thrown if the predicate is {@code null}.
+         */
+        public Builder check(RecordPredicate predicate, String msg) {
+            fields.add(new Custom(predicate, msg));
+            return this;
+        }
+
+        /**
+         * @return a validator with the checks added so far.
+         */
+        public RecordValidator build() {
+            PreconditionsMetrics.Counter counter = (name != null && PreconditionsMetrics.ENABLED)
+                    ? PreconditionsMetrics.counter(name)
+                    : null;
+            return new RecordValidator(this, counter);
+        }
+
+        private Builder add(Field field) {
+            Validate.argument(field, field.offset >= 0 && field.offset <= recordLength - field.length,
+                    "The field at offset (%s) with length (%s) does not fit in a record of length (%s)",
+                    field.offset, field.length, recordLength);
+            fields.add(field);
+            return this;
+        }
+    }
+
+    /**
+     * A test of a whole record, given the buffer of its chunk and the offset of the record in it.
+     */
+    @FunctionalInterface
+    public interface RecordPredicate {
+        /**
+         * @param records the records of a chunk.
+         * @param offset  the offset of the record in the buffer.
+         * @return {@code true} if the record is valid.
+         */
+        boolean test(ByteBuffer records, int offset);
+    }
+
+    /**
+     * One check of a validator, reading its field at {@code offset} from the start of the record. A {@code null}
+     * template selects the default message of the check.
+     */
+    private abstract static class Field {
+        final int offset;
+        final int length;
+        final String msgTemplate;
+
+        Field(int offset, int length, String msgTemplate) {
+            this.offset = offset;
+            this.length = length;
+            this.msgTemplate = msgTemplate;
+        }
+
+        /**
+         * Tests the field of every record of the chunk in one loop, so the loop of each kind of field is compiled
+         * on its own.
+         */
+        abstract long[] testAll(ByteBuffer records, int count, int recordLength, long[] invalid);
+
+        abstract boolean test(ByteBuffer records, int record);
+
+        abstract FailureDetails failure(ByteBuffer records, int record, long index);
+    }
+
+    private static final class IntRange extends Field {
+        private final int start;
+        private final int end;
+        private final Check check;
+
+        IntRange(int offset, Check check, int start, int end, String msgTemplate) {
+            super(offset, Integer.BYTES, msgTemplate);
+            this.check = check;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        long[] testAll(ByteBuffer records, int count, int recordLength, long[] invalid) {
+            for (int i = 0, position = offset; i < count; i++, position += recordLength) {
+                if (!passes(records.getInt(position))) {
+                    invalid = mark(invalid, count, i);
+                }
+            }
+            return invalid;
+        }
+
+        @Override
+        boolean test(ByteBuffer records, int record) {
+            return passes(records.getInt(record + offset));
+        }
+
+        private boolean passes(int value) {
+            return check == Check.POSITIVE ? value > 0 : Validate.isInRange(value, start, end);
+        }
+
+        @Override
+        FailureDetails failure(ByteBuffer records, int record, long index) {
+            return details(check, records.getInt(record + offset), start, end, msgTemplate);
+        }
+    }
+
+    private static final class LongRange extends Field {
+        private final long start;
+        private final long end;
+        private final Check check;
+
+        LongRange(int offset, Check check, long start, long end, String msgTemplate) {
+            super(offset, Long.BYTES, msgTemplate);
+            this.check = check;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        long[] testAll(ByteBuffer records, int count, int recordLength, long[] invalid) {
+            for (int i = 0, position = offset; i < count; i++, position += recordLength) {
+                if (!passes(records.getLong(position))) {
+                    invalid = mark(invalid, count, i);
+                }
+            }
+            return invalid;
+        }
+
+        @Override
+        boolean test(ByteBuffer records, int record) {
+            return passes(records.getLong(record + offset));
+        }
+
+        private boolean passes(long value) {
+            return check == Check.POSITIVE ? value > 0L : Validate.isInRange(value, start, end);
+        }
+
+        @Override
+        FailureDetails failure(ByteBuffer records, int record, long index) {
+            return details(check, records.getLong(record + offset), start, end, msgTemplate);
+        }
+    }
+
+    private static final class DoubleRange extends Field {
+        private final double start;
+        private final double end;
+        private final Check check;
+
+        DoubleRange(int offset, Check check, double start, double end, String msgTemplate) {
+            super(offset, Double.BYTES, msgTemplate);
+            this.check = check;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        long[] testAll(ByteBuffer records, int count, int recordLength, long[] invalid) {
+            for (int i = 0, position = offset; i < count; i++, position += recordLength) {
+                if (!passes(records.getDouble(position))) {
+                    invalid = mark(invalid, count, i);
+                }
+            }
+            return invalid;
+        }
+
+        @Override
+        boolean test(ByteBuffer records, int record) {
+            return passes(records.getDouble(record + offset));
+        }
+
+        private boolean passes(double value) {
+            return check == Check.POSITIVE ? value > 0D : Validate.isInRange(value, start, end);
+        }
+
+        @Override
+        FailureDetails failure(ByteBuffer records, int record, long index) {
+            return details(check, records.getDouble(record + offset), start, end, msgTemplate);
+        }
+    }
+
+    private static final class Text extends Field {
+        private final boolean printable;
+
+        Text(int offset, int length, boolean printable, String msgTemplate) {
+            super(offset, Validate.positive(length, "The field length is not positive"), msgTemplate);
+            this.printable = printable;
+        }
+
+        @Override
+        long[] testAll(ByteBuffer records, int count, int recordLength, long[] invalid) {
+            for (int i = 0, position = 0; i < count; i++, position += recordLength) {
+                if (!test(records, position)) {
+                    invalid = mark(invalid, count, i);
+                }
+            }
+            return invalid;
+        }
+
+        @Override
+        boolean test(ByteBuffer records, int record) {
+            int from = record + offset;
+            int to = from + length;
+            if (printable) {
+                for (int i = from; i < to; i++) {
+                    byte b = records.get(i);
+                    if (b < ' ' || b > '~') {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            for (int i = from; i < to; i++) {
+                byte b = records.get(i);
+                if (b > ' ' && b != 0x7f) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        FailureDetails failure(ByteBuffer records, int record, long index) {
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                bytes[i] = records.get(record + offset + i);
+            }
+            String text = new String(bytes, StandardCharsets.US_ASCII);
+            if (printable) {
+                return new FailureDetails(Check.ARGUMENT, text, null, null,
+                        msgTemplate != null ? msgTemplate : DEFAULT_ASCII_MESSAGE, new Object[]{text});
+            }
+            return msgTemplate != null
+                    ? new FailureDetails(Check.NOT_BLANK, text, null, null, msgTemplate, new Object[]{text})
+                    : new FailureDetails(Check.NOT_BLANK, text, null, null, Validate.DEFAULT_NOT_BLANK_MESSAGE, null);
+        }
+    }
+
+    private static final class Custom extends Field {
+        private final RecordPredicate predicate;
+
+        Custom(RecordPredicate predicate, String msg) {
+            super(-1, 0, Validate.notNull(msg, "The message is null"));
+            this.predicate = Validate.notNull(predicate, "The predicate is null");
+        }
+
+        @Override
+        long[] testAll(ByteBuffer records, int count, int recordLength, long[] invalid) {
+            for (int i = 0, position = 0; i < count; i++, position += recordLength) {
+                if (!predicate.test(records, position)) {
+                    invalid = mark(invalid, count, i);
+                }
+            }
+            return invalid;
+        }
+
+        @Override
+        boolean test(ByteBuffer records, int record) {
+            return predicate.test(records, record);
+        }
+
+        @Override
+        FailureDetails failure(ByteBuffer records, int record, long index) {
+            return new FailureDetails(Check.ARGUMENT, index, null, null, msgTemplate);
+        }
+    }
+
+    private static FailureDetails details(Check check, Object value, Object start, Object end, String msgTemplate) {
+        if (msgTemplate != null) {
+            return new FailureDetails(check, value, start, end, msgTemplate, new Object[]{value});
+        }
+        if (check == Check.POSITIVE) {
+            return new FailureDetails(check, value, null, null, Validate.DEFAULT_POSITIVE_MESSAGE,
+                    new Object[]{value});
+        }
+        return new FailureDetails(check, value, start, end, Validate.DEFAULT_IN_RANGE_MESSAGE,
+                new Object[]{value, start, end});
+    }
+}
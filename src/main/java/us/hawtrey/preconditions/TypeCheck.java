@@ -0,0 +1,224 @@
+package us.hawtrey.preconditions;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@link Validate#instanceOfType(Object, Class)} and {@link Validate#assignableFromClass(Class, Class)} checks
+ * for one fixed type, meant to be held in a {@code static final} field.
+ * <p>
+ * The JVM checks a class against a superclass in constant time, but an interface or array type is searched in the
+ * list of secondary supertypes, with a one-entry cache that is rewritten whenever the same class is checked against
+ * another interface. A check for an interface or array type therefore caches its result per checked class in a
+ * {@code ClassValue}. The cache is owned by the check and the results are stored with the checked classes, so
+ * neither the type nor the checked classes are kept from being unloaded.
+ *
+ * <pre>
+ *     private static final TypeCheck&lt;Plugin&gt; PLUGIN = TypeCheck.of(Plugin.class);
+ *
+ *     Class&lt;? extends Plugin&gt; pluginClass = PLUGIN.assignableFromClass(loaded, "%s is not a Plugin", name);
+ * </pre>
+ *
+ * @param <T> the checked type.
+ */
+public final class TypeCheck<T> {
+    private static final Object[] NULL_ARGS = null;
+
+    private static final ClassValue<TypeCheck<?>> CHECKS = new ClassValue<TypeCheck<?>>() {
+        @Override
+        protected TypeCheck<?> computeValue(Class<?> type) {
+            return new TypeCheck<>(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final ClassValue<Boolean> assignable;
+
+    private TypeCheck(Class<T> type) {
+        this.type = type;
+        this.assignable = isSecondary(type) ? new ClassValue<Boolean>() {
+            @Override
+            protected Boolean computeValue(Class<?> checked) {
+                return type.isAssignableFrom(checked);
+            }
+        } : null;
+    }
+
+    /**
+     * Returns the check of the type, created once per type.
+     *
+     * @param type the checked type.
+     * @param <T>  the checked type.
+     * @return the check of the type.
+     * @throws NullPointerException thrown if the type is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeCheck<T> of(Class<T> type) {
+        return (TypeCheck<T>) CHECKS.get(Validate.notNull(type, "The checked type is null"));
+    }
+
+    static boolean isInstance(Class<?> type, Object reference) {
+        return isSecondary(type) ? CHECKS.get(type).isInstance(reference) : type.isInstance(reference);
+    }
+
+    static boolean isAssignableFrom(Class<?> type, Class<?> checked) {
+        return isSecondary(type) ? CHECKS.get(type).isAssignableFrom(checked) : type.isAssignableFrom(checked);
+    }
+
+    private static boolean isSecondary(Class<?> type) {
+        return type.isInterface() || type.isArray();
+    }
+
+    /**
+     * @return the checked type.
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * @param reference the object to check.
+     * @return {@code true} if the object is an instance of the type.
+     */
+    public boolean isInstance(Object reference) {
+        return reference != null && isAssignableFrom(reference.getClass());
+    }
+
+    /**
+     * @param checked the class to check.
+     * @return {@code true} if the class is the type or a subtype of it.
+     */
+    public boolean isAssignableFrom(Class<?> checked) {
+        return checked == type || (assignable == null ? type.isAssignableFrom(checked) : assignable.get(checked));
+    }
+
+    /**
+     * Validate that the reference object is an instance of the type.
+     *
+     * @param reference the reference object to validate.
+     * @return the reference object, as the type.
+     * @throws NullPointerException     thrown if the reference object is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference object is not an instance of the type.
+     */
+    public T instanceOfType(Object reference) {
+        return instanceOfType(reference, Validate.DEFAULT_INSTANCE_OF_MESSAGE, NULL_ARGS);
+    }
+
+    /**
+     * Validate that the reference object is an instance of the type.
+     *
+     * @param reference the reference object to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference object, as the type.
+     * @throws NullPointerException     thrown if the reference object is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference object is not an instance of the type.
+     */
+    public T instanceOfType(Object reference, String msg) {
+        return instanceOfType(reference, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validate that the reference object is an instance of the type.
+     *
+     * @param reference   the reference object to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the reference object, as the type.
+     * @throws NullPointerException     thrown if the reference object is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference object is not an instance of the type.
+     */
+    @SuppressWarnings("unchecked")
+    public T instanceOfType(Object reference, String msgTemplate, Object... msgArgs) {
+        if (isInstance(reference)) {
+            PreconditionsMetrics.checked(Check.INSTANCE_OF_TYPE);
+            return (T) reference;
+        }
+        return (T) Validate.instanceOfType(reference, type, msgTemplate, msgArgs);
+    }
+
+    /**
+     * Validate that the reference object is an instance of the type.
+     *
+     * @param reference   the reference object to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference object, as the type.
+     * @throws NullPointerException     thrown if the reference object is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference object is not an instance of the type.
+     */
+    @SuppressWarnings("unchecked")
+    public T instanceOfTypeLazy(Object reference, Supplier<String> msgSupplier) {
+        if (isInstance(reference)) {
+            PreconditionsMetrics.checked(Check.INSTANCE_OF_TYPE);
+            return (T) reference;
+        }
+        return (T) Validate.instanceOfTypeLazy(reference, type, msgSupplier);
+    }
+
+    /**
+     * Validates that the reference class can be cast to the type.
+     *
+     * @param reference the {@code Class} to validate.
+     * @return the reference {@code Class}, as a subtype of the type.
+     * @throws NullPointerException     thrown if the reference {@code Class} is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference {@code Class} is not assignable to the type.
+     */
+    public Class<? extends T> assignableFromClass(Class<?> reference) {
+        return assignableFromClass(reference, Validate.DEFAULT_ASSIGNABLE_FROM_MESSAGE, NULL_ARGS);
+    }
+
+    /**
+     * Validates that the reference class can be cast to the type.
+     *
+     * @param reference the {@code Class} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code Class}, as a subtype of the type.
+     * @throws NullPointerException     thrown if the reference {@code Class} is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference {@code Class} is not assignable to the type.
+     */
+    public Class<? extends T> assignableFromClass(Class<?> reference, String msg) {
+        return assignableFromClass(reference, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validates that the reference class can be cast to the type.
+     *
+     * @param reference   the {@code Class} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the reference {@code Class}, as a subtype of the type.
+     * @throws NullPointerException     thrown if the reference {@code Class} is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference {@code Class} is not assignable to the type.
+     */
+    @SuppressWarnings("unchecked")
+    public Class<? extends T> assignableFromClass(Class<?> reference, String msgTemplate, Object... msgArgs) {
+        if (reference != null && isAssignableFrom(reference)) {
+            PreconditionsMetrics.checked(Check.ASSIGNABLE_FROM_CLASS);
+            return (Class<? extends T>) reference;
+        }
+        Validate.assignableFromClass(type, reference, msgTemplate, msgArgs);
+        return (Class<? extends T>) reference;
+    }
+
+    /**
+     * Validates that the reference class can be cast to the type.
+     *
+     * @param reference   the {@code Class} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code Class}, as a subtype of the type.
+     * @throws NullPointerException     thrown if the reference {@code Class} is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference {@code Class} is not assignable to the type.
+     */
+    @SuppressWarnings("unchecked")
+    public Class<? extends T> assignableFromClassLazy(Class<?> reference, Supplier<String> msgSupplier) {
+        if (reference != null && isAssignableFrom(reference)) {
+            PreconditionsMetrics.checked(Check.ASSIGNABLE_FROM_CLASS);
+            return (Class<? extends T>) reference;
+        }
+        Validate.assignableFromClassLazy(type, reference, msgSupplier);
+        return (Class<? extends T>) reference;
+    }
+
+    @Override
+    public String toString() {
+        return "TypeCheck[" + type.getName() + "]";
+    }
+}
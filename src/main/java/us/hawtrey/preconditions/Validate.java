@@ -1,39 +1,122 @@
 package us.hawtrey.preconditions;
 
+import java.nio.ByteBuffer;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-
-import static java.lang.String.format;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @SuppressWarnings({"unused", "WeakerAccess"})
 public class Validate {
     private static final Object[] NULL_ARGS = null;
 
-    private static final String POSITION_INDEX_TYPE = "position";
-    private static final String ELEMENT_INDEX_TYPE = "element";
+    static final String POSITION_INDEX_TYPE = "position";
+    static final String ELEMENT_INDEX_TYPE = "element";
 
-    private static final String DEFAULT_NOT_NULL_MESSAGE = "The validated Object is null";
-    private static final String DEFAULT_NOT_BLANK_MESSAGE = "The validated String is blank";
-    private static final String DEFAULT_ARGUMENT_MESSAGE = "The validated argument expression is false";
-    private static final String DEFAULT_EMPTY_MAP_MESSAGE = "The validated map is empty";
-    private static final String DEFAULT_EMPTY_COLLECTION_MESSAGE = "The validated collection is empty";
-    private static final String DEFAULT_VALID_INDEX_MAP_MESSAGE =
+    static final String DEFAULT_NOT_NULL_MESSAGE = "The validated Object is null";
+    static final String DEFAULT_NOT_BLANK_MESSAGE = "The validated String is blank";
+    static final String DEFAULT_ARGUMENT_MESSAGE = "The validated argument expression is false";
+    static final String DEFAULT_EMPTY_MAP_MESSAGE = "The validated map is empty";
+    static final String DEFAULT_EMPTY_COLLECTION_MESSAGE = "The validated collection is empty";
+    static final String DEFAULT_VALID_INDEX_MAP_MESSAGE =
             "The %s index (%s) is invalid for a map with size (%s)";
-    private static final String DEFAULT_VALID_INDEX_COLLECTION_MESSAGE =
+    static final String DEFAULT_VALID_INDEX_COLLECTION_MESSAGE =
             "The %s index (%s) is invalid for a collection with size (%s)";
-    private static final String DEFAULT_VALID_INDEX_STRING_MESSAGE =
+    static final String DEFAULT_VALID_INDEX_STRING_MESSAGE =
             "The %s index (%s) is invalid for the String: %s";
-    private static final String DEFAULT_IN_RANGE_MESSAGE = "The value %s is not in the range of %s to %s";
-    private static final String DEFAULT_POSITIVE_MESSAGE = "The value (%s) is not positive";
-    private static final String DEFAULT_POSITIVE_OR_ZERO_MESSAGE = "The value (%s) is not positive or zero";
-    private static final String DEFAULT_NEGATIVE_MESSAGE = "The value (%s) is not negative";
-    private static final String DEFAULT_NUMBER_VALUE = "The value (%s) is not %s";
-    private static final String DEFAULT_NEGATIVE_OR_ZERO_MESSAGE = "The value (%s) is not negative or zero";
-    private static final String DEFAULT_INSTANCE_OF_MESSAGE =
+    static final String DEFAULT_IN_RANGE_MESSAGE = "The value %s is not in the range of %s to %s";
+    static final String DEFAULT_MATCHES_MESSAGE = "The value %s does not match the pattern %s";
+    static final String DEFAULT_POSITIVE_MESSAGE = "The value (%s) is not positive";
+    static final String DEFAULT_POSITIVE_OR_ZERO_MESSAGE = "The value (%s) is not positive or zero";
+    static final String DEFAULT_NEGATIVE_MESSAGE = "The value (%s) is not negative";
+    static final String DEFAULT_NUMBER_VALUE = "The value (%s) is not %s";
+    static final String DEFAULT_NEGATIVE_OR_ZERO_MESSAGE = "The value (%s) is not negative or zero";
+    static final String DEFAULT_INSTANCE_OF_MESSAGE =
             "The validated object is not an instance of the given class";
-    private static final String DEFAULT_ASSIGNABLE_FROM_MESSAGE =
+    static final String DEFAULT_ASSIGNABLE_FROM_MESSAGE =
             "The validated class cannot be assigned from the given class";
-    private static final String NULL_STRING = "null";
+
+    /**
+     * Returns a new collector that runs the checks of this class and records every failure instead of throwing.
+     *
+     * @return a new, empty {@link ValidationCollector}.
+     */
+    public static ValidationCollector collect() {
+        return new ValidationCollector();
+    }
+
+    /**
+     * Returns a stream of the elements of the reference stream that runs the check on each element as it is
+     * consumed. The check usually calls {@code Validate} methods or a {@link Validator}, such as
+     * {@code Validate.elements(records, RECORD::validate)}.
+     * <p>
+     * The first element that fails stops the stream with a {@link ValidationElementException} holding its index in
+     * encounter order and the exception thrown by the check. Parallel streams split like the reference stream, and
+     * once an element fails the other parts stop checking their elements. Closing the returned stream closes the
+     * reference stream.
+     *
+     * @param reference the stream to validate.
+     * @param check     the check of each element, which throws if the element is invalid.
+     * @return the stream of the validated elements.
+     * @throws NullPointerException thrown if the reference stream or the check is {@code null}.
+     */
+    public static <T> Stream<T> elements(Stream<T> reference, Consumer<? super T> check) {
+        notNull(reference, "The validated stream is null");
+        return StreamSupport.stream(elements(reference.spliterator(), check), reference.isParallel())
+                .onClose(reference::close);
+    }
+
+    /**
+     * Returns a spliterator of the elements of the reference spliterator that runs the check on each element as it
+     * is traversed, with the semantics of {@link #elements(Stream, Consumer)}.
+     *
+     * @param reference the spliterator to validate.
+     * @param check     the check of each element, which throws if the element is invalid.
+     * @return the spliterator of the validated elements.
+     * @throws NullPointerException thrown if the reference spliterator or the check is {@code null}.
+     */
+    public static <T> Spliterator<T> elements(Spliterator<T> reference, Consumer<? super T> check) {
+        return ElementValidation.spliterator(notNull(reference, "The validated spliterator is null"),
+                notNull(check, "The element check is null"));
+    }
+
+    /**
+     * Returns a collector that runs the check on each element before passing it to the downstream collector.
+     * The first element that fails stops the collection with a {@link ValidationElementException}. Its index
+     * counts the elements collected before it by the same container, which is the index in the stream for
+     * sequential streams; use {@link #elements(Stream, Consumer)} for the index in a parallel stream.
+     *
+     * @param check      the check of each element, which throws if the element is invalid.
+     * @param downstream the collector of the validated elements.
+     * @return the validating collector.
+     * @throws NullPointerException thrown if the check or the downstream collector is {@code null}.
+     */
+    public static <T, A, R> Collector<T, ?, R> validatingCollector(Consumer<? super T> check,
+                                                                   Collector<? super T, A, R> downstream) {
+        return ElementValidation.collector(notNull(check, "The element check is null"),
+                notNull(downstream, "The downstream collector is null"));
+    }
+
+    /**
+     * Returns a collector that runs the check on each element and collects the validated elements into a
+     * {@link java.util.List}, with the semantics of {@link #validatingCollector(Consumer, Collector)}.
+     *
+     * @param check the check of each element, which throws if the element is invalid.
+     * @return the validating collector.
+     * @throws NullPointerException thrown if the check is {@code null}.
+     */
+    public static <T> Collector<T, ?, List<T>> validatingCollector(Consumer<? super T> check) {
+        return validatingCollector(check, Collectors.toList());
+    }
 
     /**
      * Validates that the reference {@code Object} is not null.
@@ -68,8 +151,79 @@ public class Validate {
      * @throws NullPointerException thrown if the reference {@code Object} is null.
      */
     public static <T> T notNull(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NOT_NULL);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_NULL, null, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the reference {@code Object} is not null.
+     *
+     * @param reference   the {@code Object} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code Object} if it is valid.
+     * @throws NullPointerException thrown if the reference {@code Object} is null.
+     */
+    public static <T> T notNullLazy(T reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NOT_NULL);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_NULL, null, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the reference {@code Object} is not null.
+     *
+     * @param reference   the {@code Object} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code Object} if it is valid.
+     * @throws NullPointerException thrown if the reference {@code Object} is null.
+     */
+    public static <T> T notNull(T reference, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.NOT_NULL);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_NULL, null, null, null, msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the reference {@code Object} is not null.
+     *
+     * @param reference   the {@code Object} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code Object} if it is valid.
+     * @throws NullPointerException thrown if the reference {@code Object} is null.
+     */
+    public static <T> T notNull(T reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.NOT_NULL);
         if (reference == null) {
-            throw new NullPointerException(format(msgTemplate, msgArgs));
+            throw nullPointer(Check.NOT_NULL, null, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the reference {@code Object} is not null.
+     *
+     * @param reference   the {@code Object} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code Object} if it is valid.
+     * @throws NullPointerException thrown if the reference {@code Object} is null.
+     */
+    public static <T> T notNull(T reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.NOT_NULL);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_NULL, null, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
         }
         return reference;
     }
@@ -107,8 +261,115 @@ public class Validate {
      * @throws IllegalArgumentException thrown if the reference {@code String} is null.
      */
     public static String notBlank(String reference, String msgTemplate, Object... msgArgs) {
-        if (notNull(reference, msgTemplate, msgArgs).trim().length() == 0) {
-            throw new IllegalArgumentException(format(msgTemplate, msgArgs));
+        PreconditionsMetrics.checked(Check.NOT_BLANK);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_BLANK, null, null, null, msgTemplate, msgArgs);
+        }
+        if (isBlank(reference)) {
+            throw illegalArgument(Check.NOT_BLANK, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the reference {@code String} is not null and not empty or just whitespace.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code String} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code String} is null.
+     */
+    public static String notBlankLazy(String reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NOT_BLANK);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_BLANK, null, null, null, msgSupplied(msgSupplier));
+        }
+        if (isBlank(reference)) {
+            throw illegalArgument(Check.NOT_BLANK, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the reference {@code String} is not null and not empty or just whitespace.
+     * A function that only uses its argument does not capture the reference, so it is not allocated per call.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgFunction the function of the reference that builds the message for the exception, only invoked if
+     *                    the validation fails.
+     * @return the reference {@code String} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code String} is null.
+     */
+    public static String notBlankLazy(String reference, Function<? super String, String> msgFunction) {
+        PreconditionsMetrics.checked(Check.NOT_BLANK);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_BLANK, null, null, null, msgApplied(msgFunction, null));
+        }
+        if (isBlank(reference)) {
+            throw illegalArgument(Check.NOT_BLANK, reference, null, null, msgApplied(msgFunction, reference));
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the reference {@code String} is not null and not empty or just whitespace.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code String} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code String} is null.
+     */
+    public static String notBlank(String reference, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.NOT_BLANK);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_BLANK, null, null, null, msgTemplate, msgArg1);
+        }
+        if (isBlank(reference)) {
+            throw illegalArgument(Check.NOT_BLANK, reference, null, null, msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the reference {@code String} is not null and not empty or just whitespace.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code String} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code String} is null.
+     */
+    public static String notBlank(String reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.NOT_BLANK);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_BLANK, null, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (isBlank(reference)) {
+            throw illegalArgument(Check.NOT_BLANK, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the reference {@code String} is not null and not empty or just whitespace.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code String} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code String} is null.
+     */
+    public static String notBlank(String reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.NOT_BLANK);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_BLANK, null, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (isBlank(reference)) {
+            throw illegalArgument(Check.NOT_BLANK, reference, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
         }
         return reference;
     }
@@ -149,767 +410,5145 @@ public class Validate {
      * @throws IllegalArgumentException thrown if the reference {@code String} is null
      */
     public static <T> T argument(T reference, boolean argument, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.ARGUMENT);
         if (!argument) {
-            throw new IllegalArgumentException(format(msgTemplate, msgArgs));
+            throw illegalArgument(Check.ARGUMENT, reference, null, null, msgTemplate, msgArgs);
         }
         return reference;
     }
 
     /**
-     * Validate that the reference {@code Map} is not empty.
+     * Validates that the argument is {@code true}.
      *
-     * @param reference the {@code Map} to validate.
-     * @return the reference {@code Map} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Map} is empty.
+     * @param reference   the {@code Object} returned if the argument is {@code true}.
+     * @param argument    the {@code boolean} to evaluate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code Object} if the argument is valid
+     * @throws IllegalArgumentException thrown if the reference {@code String} is null
      */
-    public static <T extends Map> T notEmpty(T reference) {
-        return notEmpty(reference, DEFAULT_EMPTY_MAP_MESSAGE, NULL_ARGS);
+    public static <T> T argumentLazy(T reference, boolean argument, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.ARGUMENT);
+        if (!argument) {
+            throw illegalArgument(Check.ARGUMENT, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
     }
 
     /**
-     * Validate that the reference {@code Map} is not empty.
+     * Validates that the argument is {@code true}.
+     * A function that only uses its argument does not capture the reference, so it is not allocated per call.
      *
-     * @param reference the {@code Map} to validate.
-     * @param msg       the message to use for the exception.
-     * @return the reference {@code Map} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Map} is empty.
+     * @param reference   the {@code Object} returned if the argument is {@code true}.
+     * @param argument    the {@code boolean} to evaluate.
+     * @param msgFunction the function of the reference that builds the message for the exception, only invoked if
+     *                    the validation fails.
+     * @return the reference {@code Object} if the argument is valid
+     * @throws IllegalArgumentException thrown if the reference {@code String} is null
      */
-    public static <T extends Map> T notEmpty(T reference, String msg) {
-        return notEmpty(reference, msg, NULL_ARGS);
+    public static <T> T argumentLazy(T reference, boolean argument, Function<? super T, String> msgFunction) {
+        PreconditionsMetrics.checked(Check.ARGUMENT);
+        if (!argument) {
+            throw illegalArgument(Check.ARGUMENT, reference, null, null, msgApplied(msgFunction, reference));
+        }
+        return reference;
     }
 
     /**
-     * Validate that the reference {@code Map} is not empty.
+     * Validates that the argument is {@code true}.
      *
-     * @param reference   the {@code Map} to validate.
+     * @param reference   the {@code Object} returned if the argument is {@code true}.
+     * @param argument    the {@code boolean} to evaluate.
      * @param msgTemplate the message template used to format the message for the exception.
-     * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the reference {@code Map} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Map} is empty.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code Object} if the argument is valid
+     * @throws IllegalArgumentException thrown if the reference {@code String} is null
      */
-    public static <T extends Map> T notEmpty(T reference, String msgTemplate, Object... msgArgs) {
-        if (notNull(reference, msgTemplate, msgArgs).isEmpty()) {
-            throw new IllegalArgumentException(format(msgTemplate, msgArgs));
+    public static <T> T argument(T reference, boolean argument, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.ARGUMENT);
+        if (!argument) {
+            throw illegalArgument(Check.ARGUMENT, reference, null, null, msgTemplate, msgArg1);
         }
         return reference;
     }
 
     /**
-     * Validate that the reference {@code Collection} is not empty.
-     *
-     * @param reference the {@code Collection} to validate.
-     * @return the reference {@code Collection} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Collection} is empty.
-     */
-    public static <T extends Collection> T notEmpty(T reference) {
-        return notEmpty(reference, DEFAULT_EMPTY_COLLECTION_MESSAGE, NULL_ARGS);
-    }
-
-    /**
-     * Validate that the reference {@code Collection} is not empty.
+     * Validates that the argument is {@code true}.
      *
-     * @param reference the {@code Collection} to validate.
-     * @param msg       the message to use for the exception.
-     * @return the reference {@code Collection} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Collection} is empty.
+     * @param reference   the {@code Object} returned if the argument is {@code true}.
+     * @param argument    the {@code boolean} to evaluate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code Object} if the argument is valid
+     * @throws IllegalArgumentException thrown if the reference {@code String} is null
      */
-    public static <T extends Collection> T notEmpty(T reference, String msg) {
-        return notEmpty(reference, msg, NULL_ARGS);
+    public static <T> T argument(T reference, boolean argument, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.ARGUMENT);
+        if (!argument) {
+            throw illegalArgument(Check.ARGUMENT, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
     }
 
     /**
-     * Validate that the reference {@code Collection} is not empty.
+     * Validates that the argument is {@code true}.
      *
-     * @param reference   the {@code Collection} to validate.
+     * @param reference   the {@code Object} returned if the argument is {@code true}.
+     * @param argument    the {@code boolean} to evaluate.
      * @param msgTemplate the message template used to format the message for the exception.
-     * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the reference {@code Collection} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Collection} is empty.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code Object} if the argument is valid
+     * @throws IllegalArgumentException thrown if the reference {@code String} is null
      */
-    public static <T extends Collection> T notEmpty(T reference, String msgTemplate, Object... msgArgs) {
-        if (notNull(reference, msgTemplate, msgArgs).isEmpty()) {
-            throw new IllegalArgumentException(format(msgTemplate, msgArgs));
+    public static <T> T argument(T reference, boolean argument, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.ARGUMENT);
+        if (!argument) {
+            throw illegalArgument(Check.ARGUMENT, reference, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
         }
         return reference;
     }
 
     /**
-     * Validate that {@code index} specifies a valid element index in the reference {@code Map}.
-     * An element index may range from zero, inclusive, to {@code Map.size()}, exclusive.
+     * Validate that the reference {@code Map} is not empty.
      *
      * @param reference the {@code Map} to validate.
-     * @param index     the element index to use in the validation
      * @return the reference {@code Map} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
+     * @throws IllegalArgumentException thrown if the reference {@code Map} is empty.
      */
-    public static <T extends Map> T elementIndex(T reference, int index) {
-        return elementIndex(reference, index, DEFAULT_VALID_INDEX_MAP_MESSAGE, ELEMENT_INDEX_TYPE, index, msgSize(reference));
+    public static <T extends Map> T notEmpty(T reference) {
+        return notEmpty(reference, DEFAULT_EMPTY_MAP_MESSAGE, NULL_ARGS);
     }
 
     /**
-     * Validate that {@code index} specifies a valid element index in the reference {@code Map}.
-     * An element index may range from zero, inclusive, to {@code Map.size()}, exclusive.
+     * Validate that the reference {@code Map} is not empty.
      *
      * @param reference the {@code Map} to validate.
-     * @param index     the element index to use in the validation
      * @param msg       the message to use for the exception.
      * @return the reference {@code Map} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
+     * @throws IllegalArgumentException thrown if the reference {@code Map} is empty.
      */
-    public static <T extends Map> T elementIndex(T reference, int index, String msg) {
-        return elementIndex(reference, index, msg, NULL_ARGS);
+    public static <T extends Map> T notEmpty(T reference, String msg) {
+        return notEmpty(reference, msg, NULL_ARGS);
     }
 
     /**
-     * Validate that {@code index} specifies a valid element index in the reference {@code Map}.
-     * An element index may range from zero, inclusive, to {@code Map.size()}, exclusive.
+     * Validate that the reference {@code Map} is not empty.
      *
      * @param reference   the {@code Map} to validate.
-     * @param index       the element index to use in the validation
      * @param msgTemplate the message template used to format the message for the exception.
      * @param msgArgs     the message arguments used to format the message for the exception.
      * @return the reference {@code Map} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
+     * @throws IllegalArgumentException thrown if the reference {@code Map} is empty.
      */
-    public static <T extends Map> T elementIndex(T reference, int index, String msgTemplate, Object... msgArgs) {
-        if (!(positiveOrZero(index, msgTemplate, msgArgs) < notNull(reference, msgTemplate, msgArgs).size())) {
-            throw new IndexOutOfBoundsException(format(msgTemplate, msgArgs));
+    public static <T extends Map> T notEmpty(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_EMPTY, null, null, null, msgTemplate, msgArgs);
+        }
+        if (reference.isEmpty()) {
+            throw illegalArgument(Check.NOT_EMPTY, reference, null, null, msgTemplate, msgArgs);
         }
         return reference;
     }
 
     /**
-     * Validate that {@code index} specifies a valid element index in the reference {@code Collection}.
-     * An element index may range from zero, inclusive, to {@code Collection.size()}, exclusive.
+     * Validate that the reference {@code Map} is not empty.
+     *
+     * @param reference   the {@code Map} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Map} is empty.
+     */
+    public static <T extends Map> T notEmptyLazy(T reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_EMPTY, null, null, null, msgSupplied(msgSupplier));
+        }
+        if (reference.isEmpty()) {
+            throw illegalArgument(Check.NOT_EMPTY, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Map} is not empty.
+     * A function that only uses its argument does not capture the reference, so it is not allocated per call.
+     *
+     * @param reference   the {@code Map} to validate.
+     * @param msgFunction the function of the reference that builds the message for the exception, only invoked if
+     *                    the validation fails.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Map} is empty.
+     */
+    public static <T extends Map> T notEmptyLazy(T reference, Function<? super T, String> msgFunction) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_EMPTY, null, null, null, msgApplied(msgFunction, null));
+        }
+        if (reference.isEmpty()) {
+            throw illegalArgument(Check.NOT_EMPTY, reference, null, null, msgApplied(msgFunction, reference));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Map} is not empty.
+     *
+     * @param reference   the {@code Map} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Map} is empty.
+     */
+    public static <T extends Map> T notEmpty(T reference, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_EMPTY, null, null, null, msgTemplate, msgArg1);
+        }
+        if (reference.isEmpty()) {
+            throw illegalArgument(Check.NOT_EMPTY, reference, null, null, msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Map} is not empty.
+     *
+     * @param reference   the {@code Map} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Map} is empty.
+     */
+    public static <T extends Map> T notEmpty(T reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_EMPTY, null, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (reference.isEmpty()) {
+            throw illegalArgument(Check.NOT_EMPTY, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Map} is not empty.
+     *
+     * @param reference   the {@code Map} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Map} is empty.
+     */
+    public static <T extends Map> T notEmpty(T reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_EMPTY, null, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (reference.isEmpty()) {
+            throw illegalArgument(Check.NOT_EMPTY, reference, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Collection} is not empty.
      *
      * @param reference the {@code Collection} to validate.
-     * @param index     the element index to use in the validation
      * @return the reference {@code Collection} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     * @throws IllegalArgumentException thrown if the reference {@code Collection} is empty.
      */
-    public static <T extends Collection> T elementIndex(T reference, int index) {
-        return elementIndex(reference, index, DEFAULT_VALID_INDEX_COLLECTION_MESSAGE, ELEMENT_INDEX_TYPE, index, msgSize(reference));
+    public static <T extends Collection> T notEmpty(T reference) {
+        return notEmpty(reference, DEFAULT_EMPTY_COLLECTION_MESSAGE, NULL_ARGS);
     }
 
     /**
-     * Validate that {@code index} specifies a valid element index in the reference {@code Collection}.
-     * An element index may range from zero, inclusive, to {@code Collection.size()}, exclusive.
+     * Validate that the reference {@code Collection} is not empty.
      *
      * @param reference the {@code Collection} to validate.
-     * @param index     the element index to use in the validation
      * @param msg       the message to use for the exception.
      * @return the reference {@code Collection} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     * @throws IllegalArgumentException thrown if the reference {@code Collection} is empty.
      */
-    public static <T extends Collection> T elementIndex(T reference, int index, String msg) {
-        return elementIndex(reference, index, msg, NULL_ARGS);
+    public static <T extends Collection> T notEmpty(T reference, String msg) {
+        return notEmpty(reference, msg, NULL_ARGS);
     }
 
     /**
-     * Validate that {@code index} specifies a valid element index in the reference {@code Collection}.
-     * An element index may range from zero, inclusive, to {@code Collection.size()}, exclusive.
+     * Validate that the reference {@code Collection} is not empty.
      *
      * @param reference   the {@code Collection} to validate.
-     * @param index       the element index to use in the validation
      * @param msgTemplate the message template used to format the message for the exception.
      * @param msgArgs     the message arguments used to format the message for the exception.
      * @return the reference {@code Collection} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     * @throws IllegalArgumentException thrown if the reference {@code Collection} is empty.
      */
-    public static <T extends Collection> T elementIndex(T reference, int index, String msgTemplate, Object... msgArgs) {
-        if (!(positiveOrZero(index, msgTemplate, msgArgs) < notNull(reference, msgTemplate, msgArgs).size())) {
-            throw new IndexOutOfBoundsException(format(msgTemplate, msgArgs));
+    public static <T extends Collection> T notEmpty(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_EMPTY, null, null, null, msgTemplate, msgArgs);
+        }
+        if (reference.isEmpty()) {
+            throw illegalArgument(Check.NOT_EMPTY, reference, null, null, msgTemplate, msgArgs);
         }
         return reference;
     }
 
     /**
-     * Validate that {@code index} specifies a valid element index in the reference {@code String}.
-     * An element index may range from zero, inclusive, to {@code String.length()}, exclusive.
+     * Validate that the reference {@code Collection} is not empty.
      *
-     * @param reference the {@code String} to validate.
+     * @param reference   the {@code Collection} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Collection} is empty.
+     */
+    public static <T extends Collection> T notEmptyLazy(T reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_EMPTY, null, null, null, msgSupplied(msgSupplier));
+        }
+        if (reference.isEmpty()) {
+            throw illegalArgument(Check.NOT_EMPTY, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Collection} is not empty.
+     * A function that only uses its argument does not capture the reference, so it is not allocated per call.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param msgFunction the function of the reference that builds the message for the exception, only invoked if
+     *                    the validation fails.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Collection} is empty.
+     */
+    public static <T extends Collection> T notEmptyLazy(T reference, Function<? super T, String> msgFunction) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_EMPTY, null, null, null, msgApplied(msgFunction, null));
+        }
+        if (reference.isEmpty()) {
+            throw illegalArgument(Check.NOT_EMPTY, reference, null, null, msgApplied(msgFunction, reference));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Collection} is not empty.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Collection} is empty.
+     */
+    public static <T extends Collection> T notEmpty(T reference, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_EMPTY, null, null, null, msgTemplate, msgArg1);
+        }
+        if (reference.isEmpty()) {
+            throw illegalArgument(Check.NOT_EMPTY, reference, null, null, msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Collection} is not empty.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Collection} is empty.
+     */
+    public static <T extends Collection> T notEmpty(T reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_EMPTY, null, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (reference.isEmpty()) {
+            throw illegalArgument(Check.NOT_EMPTY, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Collection} is not empty.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Collection} is empty.
+     */
+    public static <T extends Collection> T notEmpty(T reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            throw nullPointer(Check.NOT_EMPTY, null, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (reference.isEmpty()) {
+            throw illegalArgument(Check.NOT_EMPTY, reference, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code Map}.
+     * An element index may range from zero, inclusive, to {@code Map.size()}, exclusive.
+     *
+     * @param reference the {@code Map} to validate.
      * @param index     the element index to use in the validation
-     * @return the reference {@code String} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
      */
-    public static String elementIndex(String reference, int index) {
-        return elementIndex(reference, index, DEFAULT_VALID_INDEX_STRING_MESSAGE, ELEMENT_INDEX_TYPE, index, msgSafe(reference));
+    public static <T extends Map> T elementIndex(T reference, int index) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference),
+                    DEFAULT_VALID_INDEX_MAP_MESSAGE, ELEMENT_INDEX_TYPE, index, sizeOf(reference));
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null,
+                    DEFAULT_VALID_INDEX_MAP_MESSAGE, ELEMENT_INDEX_TYPE, index, sizeOf(reference));
+        }
+        if (!(index < reference.size())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.size(),
+                    DEFAULT_VALID_INDEX_MAP_MESSAGE, ELEMENT_INDEX_TYPE, index, sizeOf(reference));
+        }
+        return reference;
     }
 
     /**
-     * Validate that {@code index} specifies a valid element index in the reference {@code String}.
-     * An element index may range from zero, inclusive, to {@code String.length()}, exclusive.
+     * Validate that {@code index} specifies a valid element index in the reference {@code Map}.
+     * An element index may range from zero, inclusive, to {@code Map.size()}, exclusive.
      *
-     * @param reference the {@code String} to validate.
+     * @param reference the {@code Map} to validate.
      * @param index     the element index to use in the validation
      * @param msg       the message to use for the exception.
-     * @return the reference {@code String} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
      */
-    public static String elementIndex(String reference, int index, String msg) {
+    public static <T extends Map> T elementIndex(T reference, int index, String msg) {
         return elementIndex(reference, index, msg, NULL_ARGS);
     }
 
     /**
-     * Validate that {@code index} specifies a valid element index in the reference {@code String}.
-     * An element index may range from zero, inclusive, to {@code String.length()}, exclusive.
+     * Validate that {@code index} specifies a valid element index in the reference {@code Map}.
+     * An element index may range from zero, inclusive, to {@code Map.size()}, exclusive.
      *
-     * @param reference   the {@code String} to validate.
+     * @param reference   the {@code Map} to validate.
      * @param index       the element index to use in the validation
      * @param msgTemplate the message template used to format the message for the exception.
      * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the reference {@code String} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
      */
-    public static String elementIndex(String reference, int index, String msgTemplate, Object... msgArgs) {
-        if (!(positiveOrZero(index, msgTemplate, msgArgs) < notNull(reference, msgTemplate, msgArgs).length())) {
-            throw new IndexOutOfBoundsException(format(msgTemplate, msgArgs));
+    public static <T extends Map> T elementIndex(T reference, int index, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArgs);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArgs);
+        }
+        if (!(index < reference.size())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.size(), msgTemplate, msgArgs);
         }
         return reference;
     }
 
     /**
-     * Validate that {@code index} specifies a valid position index in the reference {@code Map}.
-     * A position index may range from zero, inclusive, to {@code Map.size()}, inclusive.
+     * Validate that {@code index} specifies a valid element index in the reference {@code Map}.
+     * An element index may range from zero, inclusive, to {@code Map.size()}, exclusive.
      *
-     * @param reference the {@code Map} to validate.
-     * @param index     the position index to use in the validation
+     * @param reference   the {@code Map} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
      * @return the reference {@code Map} if it is valid.
      * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
      */
-    public static <T extends Map> T positionIndex(T reference, int index) {
-        return positionIndex(reference, index, DEFAULT_VALID_INDEX_MAP_MESSAGE, POSITION_INDEX_TYPE, index, msgSize(reference));
+    public static <T extends Map> T elementIndexLazy(T reference, int index, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference), msgSupplied(msgSupplier));
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgSupplied(msgSupplier));
+        }
+        if (!(index < reference.size())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.size(), msgSupplied(msgSupplier));
+        }
+        return reference;
     }
 
     /**
-     * Validate that {@code index} specifies a valid position index in the reference {@code Map}.
-     * A position index may range from zero, inclusive, to {@code Map.size()}, inclusive.
+     * Validate that {@code index} specifies a valid element index in the reference {@code Map}.
+     * An element index may range from zero, inclusive, to {@code Map.size()}, exclusive.
      *
-     * @param reference the {@code Map} to validate.
-     * @param index     the position index to use in the validation
-     * @param msg       the message to use for the exception.
+     * @param reference   the {@code Map} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
      * @return the reference {@code Map} if it is valid.
      * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
      */
-    public static <T extends Map> T positionIndex(T reference, int index, String msg) {
-        return positionIndex(reference, index, msg, NULL_ARGS);
+    public static <T extends Map> T elementIndex(T reference, int index, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArg1);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArg1);
+        }
+        if (!(index < reference.size())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.size(), msgTemplate, msgArg1);
+        }
+        return reference;
     }
 
     /**
-     * Validate that {@code index} specifies a valid position index in the reference {@code Map}.
-     * A position index may range from zero, inclusive, to {@code Map.size()}, inclusive.
+     * Validate that {@code index} specifies a valid element index in the reference {@code Map}.
+     * An element index may range from zero, inclusive, to {@code Map.size()}, exclusive.
+     *
+     * @param reference   the {@code Map} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
+     */
+    public static <T extends Map> T elementIndex(T reference, int index, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArg1, msgArg2);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (!(index < reference.size())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.size(), msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code Map}.
+     * An element index may range from zero, inclusive, to {@code Map.size()}, exclusive.
+     *
+     * @param reference   the {@code Map} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
+     */
+    public static <T extends Map> T elementIndex(T reference, int index, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference),
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (!(index < reference.size())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.size(),
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code Collection}.
+     * An element index may range from zero, inclusive, to {@code Collection.size()}, exclusive.
+     *
+     * @param reference the {@code Collection} to validate.
+     * @param index     the element index to use in the validation
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T elementIndex(T reference, int index) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference),
+                    DEFAULT_VALID_INDEX_COLLECTION_MESSAGE, ELEMENT_INDEX_TYPE, index, sizeOf(reference));
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null,
+                    DEFAULT_VALID_INDEX_COLLECTION_MESSAGE, ELEMENT_INDEX_TYPE, index, sizeOf(reference));
+        }
+        if (!(index < reference.size())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.size(),
+                    DEFAULT_VALID_INDEX_COLLECTION_MESSAGE, ELEMENT_INDEX_TYPE, index, sizeOf(reference));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code Collection}.
+     * An element index may range from zero, inclusive, to {@code Collection.size()}, exclusive.
+     *
+     * @param reference the {@code Collection} to validate.
+     * @param index     the element index to use in the validation
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T elementIndex(T reference, int index, String msg) {
+        return elementIndex(reference, index, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code Collection}.
+     * An element index may range from zero, inclusive, to {@code Collection.size()}, exclusive.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T elementIndex(T reference, int index, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArgs);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArgs);
+        }
+        if (!(index < reference.size())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.size(), msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code Collection}.
+     * An element index may range from zero, inclusive, to {@code Collection.size()}, exclusive.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T elementIndexLazy(T reference, int index, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference), msgSupplied(msgSupplier));
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgSupplied(msgSupplier));
+        }
+        if (!(index < reference.size())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.size(), msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code Collection}.
+     * An element index may range from zero, inclusive, to {@code Collection.size()}, exclusive.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T elementIndex(T reference, int index, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArg1);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArg1);
+        }
+        if (!(index < reference.size())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.size(), msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code Collection}.
+     * An element index may range from zero, inclusive, to {@code Collection.size()}, exclusive.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T elementIndex(T reference, int index, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArg1, msgArg2);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (!(index < reference.size())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.size(), msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code Collection}.
+     * An element index may range from zero, inclusive, to {@code Collection.size()}, exclusive.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T elementIndex(T reference, int index, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference),
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (!(index < reference.size())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.size(),
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code String}.
+     * An element index may range from zero, inclusive, to {@code String.length()}, exclusive.
+     *
+     * @param reference the {@code String} to validate.
+     * @param index     the element index to use in the validation
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String elementIndex(String reference, int index) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference),
+                    DEFAULT_VALID_INDEX_STRING_MESSAGE, ELEMENT_INDEX_TYPE, index, reference);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null,
+                    DEFAULT_VALID_INDEX_STRING_MESSAGE, ELEMENT_INDEX_TYPE, index, reference);
+        }
+        if (!(index < reference.length())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.length(),
+                    DEFAULT_VALID_INDEX_STRING_MESSAGE, ELEMENT_INDEX_TYPE, index, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code String}.
+     * An element index may range from zero, inclusive, to {@code String.length()}, exclusive.
+     *
+     * @param reference the {@code String} to validate.
+     * @param index     the element index to use in the validation
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String elementIndex(String reference, int index, String msg) {
+        return elementIndex(reference, index, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code String}.
+     * An element index may range from zero, inclusive, to {@code String.length()}, exclusive.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String elementIndex(String reference, int index, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArgs);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArgs);
+        }
+        if (!(index < reference.length())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.length(), msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code String}.
+     * An element index may range from zero, inclusive, to {@code String.length()}, exclusive.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String elementIndexLazy(String reference, int index, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference), msgSupplied(msgSupplier));
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgSupplied(msgSupplier));
+        }
+        if (!(index < reference.length())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.length(), msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code String}.
+     * An element index may range from zero, inclusive, to {@code String.length()}, exclusive.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String elementIndex(String reference, int index, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArg1);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArg1);
+        }
+        if (!(index < reference.length())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.length(), msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code String}.
+     * An element index may range from zero, inclusive, to {@code String.length()}, exclusive.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String elementIndex(String reference, int index, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArg1, msgArg2);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (!(index < reference.length())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.length(), msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid element index in the reference {@code String}.
+     * An element index may range from zero, inclusive, to {@code String.length()}, exclusive.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param index       the element index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String elementIndex(String reference, int index, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.ELEMENT_INDEX, index, 0, sizeOf(reference),
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (!(index < reference.length())) {
+            throw indexOutOfBounds(Check.ELEMENT_INDEX, index, 0, reference.length(),
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Map}.
+     * A position index may range from zero, inclusive, to {@code Map.size()}, inclusive.
+     *
+     * @param reference the {@code Map} to validate.
+     * @param index     the position index to use in the validation
+     * @return the reference {@code Map} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
+     */
+    public static <T extends Map> T positionIndex(T reference, int index) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference),
+                    DEFAULT_VALID_INDEX_MAP_MESSAGE, POSITION_INDEX_TYPE, index, sizeOf(reference));
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null,
+                    DEFAULT_VALID_INDEX_MAP_MESSAGE, POSITION_INDEX_TYPE, index, sizeOf(reference));
+        }
+        if (index > reference.size()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.size(),
+                    DEFAULT_VALID_INDEX_MAP_MESSAGE, POSITION_INDEX_TYPE, index, sizeOf(reference));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Map}.
+     * A position index may range from zero, inclusive, to {@code Map.size()}, inclusive.
+     *
+     * @param reference the {@code Map} to validate.
+     * @param index     the position index to use in the validation
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
+     */
+    public static <T extends Map> T positionIndex(T reference, int index, String msg) {
+        return positionIndex(reference, index, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Map}.
+     * A position index may range from zero, inclusive, to {@code Map.size()}, inclusive.
+     *
+     * @param reference   the {@code Map} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
+     */
+    public static <T extends Map> T positionIndex(T reference, int index, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArgs);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArgs);
+        }
+        if (index > reference.size()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.size(), msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Map}.
+     * A position index may range from zero, inclusive, to {@code Map.size()}, inclusive.
+     *
+     * @param reference   the {@code Map} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
+     */
+    public static <T extends Map> T positionIndexLazy(T reference, int index, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference), msgSupplied(msgSupplier));
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgSupplied(msgSupplier));
+        }
+        if (index > reference.size()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.size(), msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Map}.
+     * A position index may range from zero, inclusive, to {@code Map.size()}, inclusive.
+     *
+     * @param reference   the {@code Map} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
+     */
+    public static <T extends Map> T positionIndex(T reference, int index, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArg1);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArg1);
+        }
+        if (index > reference.size()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.size(), msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Map}.
+     * A position index may range from zero, inclusive, to {@code Map.size()}, inclusive.
+     *
+     * @param reference   the {@code Map} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
+     */
+    public static <T extends Map> T positionIndex(T reference, int index, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArg1, msgArg2);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (index > reference.size()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.size(), msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Map}.
+     * A position index may range from zero, inclusive, to {@code Map.size()}, inclusive.
+     *
+     * @param reference   the {@code Map} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code Map} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
+     */
+    public static <T extends Map> T positionIndex(T reference, int index, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference),
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (index > reference.size()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.size(),
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Collection}.
+     * A position index may range from zero, inclusive, to {@code Collection.size()}, inclusive.
+     *
+     * @param reference the {@code Collection} to validate.
+     * @param index     the position index to use in the validation
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T positionIndex(T reference, int index) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference),
+                    DEFAULT_VALID_INDEX_COLLECTION_MESSAGE, POSITION_INDEX_TYPE, index, sizeOf(reference));
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null,
+                    DEFAULT_VALID_INDEX_COLLECTION_MESSAGE, POSITION_INDEX_TYPE, index, sizeOf(reference));
+        }
+        if (index > reference.size()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.size(),
+                    DEFAULT_VALID_INDEX_COLLECTION_MESSAGE, POSITION_INDEX_TYPE, index, sizeOf(reference));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Collection}.
+     * A position index may range from zero, inclusive, to {@code Collection.size()}, inclusive.
+     *
+     * @param reference the {@code Collection} to validate.
+     * @param index     the position index to use in the validation
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T positionIndex(T reference, int index, String msg) {
+        return positionIndex(reference, index, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Collection}.
+     * A position index may range from zero, inclusive, to {@code Collection.size()}, inclusive.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T positionIndex(T reference, int index, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArgs);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArgs);
+        }
+        if (index > reference.size()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.size(), msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Collection}.
+     * A position index may range from zero, inclusive, to {@code Collection.size()}, inclusive.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T positionIndexLazy(T reference, int index, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference), msgSupplied(msgSupplier));
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgSupplied(msgSupplier));
+        }
+        if (index > reference.size()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.size(), msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Collection}.
+     * A position index may range from zero, inclusive, to {@code Collection.size()}, inclusive.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T positionIndex(T reference, int index, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArg1);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArg1);
+        }
+        if (index > reference.size()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.size(), msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Collection}.
+     * A position index may range from zero, inclusive, to {@code Collection.size()}, inclusive.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T positionIndex(T reference, int index, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArg1, msgArg2);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (index > reference.size()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.size(), msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code Collection}.
+     * A position index may range from zero, inclusive, to {@code Collection.size()}, inclusive.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code Collection} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     */
+    public static <T extends Collection> T positionIndex(T reference, int index, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference),
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (index > reference.size()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.size(),
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code String}.
+     * A position index may range from zero, inclusive, to {@code String.length()}, inclusive.
+     *
+     * @param reference the {@code String} to validate.
+     * @param index     the position index to use in the validation
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String positionIndex(String reference, int index) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference),
+                    DEFAULT_VALID_INDEX_STRING_MESSAGE, POSITION_INDEX_TYPE, index, reference);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null,
+                    DEFAULT_VALID_INDEX_STRING_MESSAGE, POSITION_INDEX_TYPE, index, reference);
+        }
+        if (index > reference.length()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.length(),
+                    DEFAULT_VALID_INDEX_STRING_MESSAGE, POSITION_INDEX_TYPE, index, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code String}.
+     * A position index may range from zero, inclusive, to {@code String.length()}, inclusive.
+     *
+     * @param reference the {@code String} to validate.
+     * @param index     the position index to use in the validation
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String positionIndex(String reference, int index, String msg) {
+        return positionIndex(reference, index, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code String}.
+     * A position index may range from zero, inclusive, to {@code String.length()}, inclusive.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String positionIndex(String reference, int index, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArgs);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArgs);
+        }
+        if (index > reference.length()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.length(), msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code String}.
+     * A position index may range from zero, inclusive, to {@code String.length()}, inclusive.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String positionIndexLazy(String reference, int index, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference), msgSupplied(msgSupplier));
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgSupplied(msgSupplier));
+        }
+        if (index > reference.length()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.length(), msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code String}.
+     * A position index may range from zero, inclusive, to {@code String.length()}, inclusive.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String positionIndex(String reference, int index, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArg1);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArg1);
+        }
+        if (index > reference.length()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.length(), msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code String}.
+     * A position index may range from zero, inclusive, to {@code String.length()}, inclusive.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String positionIndex(String reference, int index, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference), msgTemplate, msgArg1, msgArg2);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (index > reference.length()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.length(), msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that {@code index} specifies a valid position index in the reference {@code String}.
+     * A position index may range from zero, inclusive, to {@code String.length()}, inclusive.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param index       the position index to use in the validation
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code String} if it is valid.
+     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     */
+    public static String positionIndex(String reference, int index, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            throw illegalArgument(Check.POSITION_INDEX, index, 0, sizeOf(reference),
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (reference == null) {
+            throw nullPointer(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (index > reference.length()) {
+            throw indexOutOfBounds(Check.POSITION_INDEX, index, 0, reference.length(),
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference the {@code Number} to validate.
+     * @param start     the starting {@code Number} for the range.
+     * @param end       the ending {@code Number} for the range.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} falls outside of the range.
+     */
+    public static <T extends Comparable<T>> T inRange(T reference, T start, T end) {
+        return inRange(reference, start, end, DEFAULT_IN_RANGE_MESSAGE, reference, start, end);
+    }
+
+    /**
+     * Validate that the reference {@code Number} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference the {@code Number} to validate.
+     * @param start     the starting {@code Number} for the range.
+     * @param end       the ending {@code Number} for the range.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} falls outside of the range.
+     */
+    public static <T extends Comparable<T>> T inRange(T reference, T start, T end, String msg) {
+        return inRange(reference, start, end, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validate that the reference {@code Number} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param start       the starting {@code Number} for the range.
+     * @param end         the ending {@code Number} for the range.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} falls outside of the range.
+     */
+    public static <T extends Comparable<T>> T inRange(T reference, T start, T end, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (reference == null) {
+            throw nullPointer(Check.IN_RANGE, null, start, end, msgTemplate, msgArgs);
+        }
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param start       the starting {@code Number} for the range.
+     * @param end         the ending {@code Number} for the range.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} falls outside of the range.
+     */
+    public static <T extends Comparable<T>> T inRangeLazy(T reference, T start, T end, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (reference == null) {
+            throw nullPointer(Check.IN_RANGE, null, start, end, msgSupplied(msgSupplier));
+        }
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     * A function that only uses its argument does not capture the reference, so it is not allocated per call.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param start       the starting {@code Number} for the range.
+     * @param end         the ending {@code Number} for the range.
+     * @param msgFunction the function of the reference that builds the message for the exception, only invoked if
+     *                    the validation fails.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} falls outside of the range.
+     */
+    public static <T extends Comparable<T>> T inRangeLazy(T reference, T start, T end,
+                                                          Function<? super T, String> msgFunction) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (reference == null) {
+            throw nullPointer(Check.IN_RANGE, null, start, end, msgApplied(msgFunction, null));
+        }
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end, msgApplied(msgFunction, reference));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param start       the starting {@code Number} for the range.
+     * @param end         the ending {@code Number} for the range.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} falls outside of the range.
+     */
+    public static <T extends Comparable<T>> T inRange(T reference, T start, T end, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (reference == null) {
+            throw nullPointer(Check.IN_RANGE, null, start, end, msgTemplate, msgArg1);
+        }
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end, msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param start       the starting {@code Number} for the range.
+     * @param end         the ending {@code Number} for the range.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} falls outside of the range.
+     */
+    public static <T extends Comparable<T>> T inRange(T reference, T start, T end, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (reference == null) {
+            throw nullPointer(Check.IN_RANGE, null, start, end, msgTemplate, msgArg1, msgArg2);
+        }
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param start       the starting {@code Number} for the range.
+     * @param end         the ending {@code Number} for the range.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} falls outside of the range.
+     */
+    public static <T extends Comparable<T>> T inRange(T reference, T start, T end, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (reference == null) {
+            throw nullPointer(Check.IN_RANGE, null, start, end, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
+    }
+
+    static <T extends Comparable<T>> boolean isInRange(T reference, T start, T end) {
+        if (start == null || end == null) {
+            return false;
+        }
+        int sComp = reference.compareTo(start);
+        if (sComp == 0) {
+            return true;
+        }
+        int eComp = reference.compareTo(end);
+        return sComp > 0 && eComp < 0;
+    }
+
+    static boolean isInRange(int reference, int start, int end) {
+        return reference == start || (reference > start && reference < end);
+    }
+
+    static boolean isInRange(long reference, long start, long end) {
+        return reference == start || (reference > start && reference < end);
+    }
+
+    static boolean isInRange(double reference, double start, double end) {
+        return reference == start || (reference > start && reference < end);
+    }
+
+    /**
+     * Validate that the reference {@code int} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference the {@code int} to validate.
+     * @param start     the starting {@code int} for the range.
+     * @param end       the ending {@code int} for the range.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} falls outside of the range.
+     */
+    public static int inIntRange(int reference, int start, int end) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end,
+                    DEFAULT_IN_RANGE_MESSAGE, reference, start, end);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference the {@code int} to validate.
+     * @param start     the starting {@code int} for the range.
+     * @param end       the ending {@code int} for the range.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} falls outside of the range.
+     */
+    public static int inIntRange(int reference, int start, int end, String msg) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference   the {@code int} to validate.
+     * @param start       the starting {@code int} for the range.
+     * @param end         the ending {@code int} for the range.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} falls outside of the range.
+     */
+    public static int inIntRangeLazy(int reference, int start, int end, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference the {@code long} to validate.
+     * @param start     the starting {@code long} for the range.
+     * @param end       the ending {@code long} for the range.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} falls outside of the range.
+     */
+    public static long inLongRange(long reference, long start, long end) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end,
+                    DEFAULT_IN_RANGE_MESSAGE, reference, start, end);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference the {@code long} to validate.
+     * @param start     the starting {@code long} for the range.
+     * @param end       the ending {@code long} for the range.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} falls outside of the range.
+     */
+    public static long inLongRange(long reference, long start, long end, String msg) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference   the {@code long} to validate.
+     * @param start       the starting {@code long} for the range.
+     * @param end         the ending {@code long} for the range.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} falls outside of the range.
+     */
+    public static long inLongRangeLazy(long reference, long start, long end, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference the {@code double} to validate.
+     * @param start     the starting {@code double} for the range.
+     * @param end       the ending {@code double} for the range.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} falls outside of the range.
+     */
+    public static double inDoubleRange(double reference, double start, double end) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end,
+                    DEFAULT_IN_RANGE_MESSAGE, reference, start, end);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference the {@code double} to validate.
+     * @param start     the starting {@code double} for the range.
+     * @param end       the ending {@code double} for the range.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} falls outside of the range.
+     */
+    public static double inDoubleRange(double reference, double start, double end, String msg) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} falls within the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference   the {@code double} to validate.
+     * @param start       the starting {@code double} for the range.
+     * @param end         the ending {@code double} for the range.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} falls outside of the range.
+     */
+    public static double inDoubleRangeLazy(double reference, double start, double end, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!isInRange(reference, start, end)) {
+            throw illegalArgument(Check.IN_RANGE, reference, start, end, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} is greater than {@code 0}.
+     *
+     * @param reference the {@code int} to validate.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} is less than or equal to {@code 0}.
+     */
+    public static int positive(int reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, DEFAULT_POSITIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} is greater than {@code 0}.
+     *
+     * @param reference the {@code int} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} is less than or equal to {@code 0}.
+     */
+    public static int positive(int reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} is greater than {@code 0}.
+     *
+     * @param reference   the {@code int} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} is less than or equal to {@code 0}.
+     */
+    public static int positiveLazy(int reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code short} is greater than {@code 0}.
+     *
+     * @param reference the {@code short} to validate.
+     * @return the reference {@code short} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code short} is less than or equal to {@code 0}.
+     */
+    public static short positive(short reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, DEFAULT_POSITIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code short} is greater than {@code 0}.
+     *
+     * @param reference the {@code short} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code short} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code short} is less than or equal to {@code 0}.
+     */
+    public static short positive(short reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code short} is greater than {@code 0}.
+     *
+     * @param reference   the {@code short} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code short} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code short} is less than or equal to {@code 0}.
+     */
+    public static short positiveLazy(short reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code byte} is greater than {@code 0}.
+     *
+     * @param reference the {@code byte} to validate.
+     * @return the reference {@code byte} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code byte} is less than or equal to {@code 0}.
+     */
+    public static byte positive(byte reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, DEFAULT_POSITIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code byte} is greater than {@code 0}.
+     *
+     * @param reference the {@code byte} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code byte} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code byte} is less than or equal to {@code 0}.
+     */
+    public static byte positive(byte reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code byte} is greater than {@code 0}.
+     *
+     * @param reference   the {@code byte} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code byte} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code byte} is less than or equal to {@code 0}.
+     */
+    public static byte positiveLazy(byte reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} is greater than {@code 0}.
+     *
+     * @param reference the {@code long} to validate.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} is less than or equal to {@code 0}.
+     */
+    public static long positive(long reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, DEFAULT_POSITIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} is greater than {@code 0}.
+     *
+     * @param reference the {@code long} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} is less than or equal to {@code 0}.
+     */
+    public static long positive(long reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} is greater than {@code 0}.
+     *
+     * @param reference   the {@code long} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} is less than or equal to {@code 0}.
+     */
+    public static long positiveLazy(long reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code float} is greater than {@code 0}.
+     *
+     * @param reference the {@code float} to validate.
+     * @return the reference {@code float} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code float} is less than or equal to {@code 0}.
+     */
+    public static float positive(float reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, DEFAULT_POSITIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code float} is greater than {@code 0}.
+     *
+     * @param reference the {@code float} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code float} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code float} is less than or equal to {@code 0}.
+     */
+    public static float positive(float reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code float} is greater than {@code 0}.
+     *
+     * @param reference   the {@code float} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code float} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code float} is less than or equal to {@code 0}.
+     */
+    public static float positiveLazy(float reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} is greater than {@code 0}.
+     *
+     * @param reference the {@code double} to validate.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} is less than or equal to {@code 0}.
+     */
+    public static double positive(double reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, DEFAULT_POSITIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} is greater than {@code 0}.
+     *
+     * @param reference the {@code double} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} is less than or equal to {@code 0}.
+     */
+    public static double positive(double reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} is greater than {@code 0}.
+     *
+     * @param reference   the {@code double} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} is less than or equal to {@code 0}.
+     */
+    public static double positiveLazy(double reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than {@code 0}.
+     *
+     * @param reference the {@code Number} to validate.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than or equal to {@code 0}.
+     */
+    public static <T extends Number> T positive(T reference) {
+        return positive(reference, DEFAULT_POSITIVE_MESSAGE, reference);
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than {@code 0}.
+     *
+     * @param reference the {@code Number} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than or equal to {@code 0}.
+     */
+    public static <T extends Number> T positive(T reference, String msg) {
+        return positive(reference, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than or equal to {@code 0}.
+     */
+    public static <T extends Number> T positive(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (reference == null) {
+            throw nullPointer(Check.POSITIVE, null, null, null, msgTemplate, msgArgs);
+        }
+        if (!(reference.doubleValue() > 0.0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than or equal to {@code 0}.
+     */
+    public static <T extends Number> T positiveLazy(T reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (reference == null) {
+            throw nullPointer(Check.POSITIVE, null, null, null, msgSupplied(msgSupplier));
+        }
+        if (!(reference.doubleValue() > 0.0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than or equal to {@code 0}.
+     */
+    public static <T extends Number> T positive(T reference, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (reference == null) {
+            throw nullPointer(Check.POSITIVE, null, null, null, msgTemplate, msgArg1);
+        }
+        if (!(reference.doubleValue() > 0.0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than or equal to {@code 0}.
+     */
+    public static <T extends Number> T positive(T reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (reference == null) {
+            throw nullPointer(Check.POSITIVE, null, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (!(reference.doubleValue() > 0.0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than or equal to {@code 0}.
+     */
+    public static <T extends Number> T positive(T reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (reference == null) {
+            throw nullPointer(Check.POSITIVE, null, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (!(reference.doubleValue() > 0.0)) {
+            throw illegalArgument(Check.POSITIVE, reference, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code int} to validate.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} is less than {@code 0}.
+     */
+    public static int positiveOrZero(int reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null,
+                    DEFAULT_POSITIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code int} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} is less than {@code 0}.
+     */
+    public static int positiveOrZero(int reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} is greater than or equal to {@code 0}.
+     *
+     * @param reference   the {@code int} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} is less than {@code 0}.
+     */
+    public static int positiveOrZeroLazy(int reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code short} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code short} to validate.
+     * @return the reference {@code short} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code short} is less than {@code 0}.
+     */
+    public static short positiveOrZero(short reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null,
+                    DEFAULT_POSITIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code short} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code short} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code short} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code short} is less than {@code 0}.
+     */
+    public static short positiveOrZero(short reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code short} is greater than or equal to {@code 0}.
+     *
+     * @param reference   the {@code short} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code short} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code short} is less than {@code 0}.
+     */
+    public static short positiveOrZeroLazy(short reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code byte} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code byte} to validate.
+     * @return the reference {@code byte} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code byte} is less than {@code 0}.
+     */
+    public static byte positiveOrZero(byte reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null,
+                    DEFAULT_POSITIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code byte} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code byte} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code byte} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code byte} is less than {@code 0}.
+     */
+    public static byte positiveOrZero(byte reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code byte} is greater than or equal to {@code 0}.
+     *
+     * @param reference   the {@code byte} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code byte} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code byte} is less than {@code 0}.
+     */
+    public static byte positiveOrZeroLazy(byte reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code long} to validate.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} is less than {@code 0}.
+     */
+    public static long positiveOrZero(long reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null,
+                    DEFAULT_POSITIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code long} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} is less than {@code 0}.
+     */
+    public static long positiveOrZero(long reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} is greater than or equal to {@code 0}.
+     *
+     * @param reference   the {@code long} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} is less than {@code 0}.
+     */
+    public static long positiveOrZeroLazy(long reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code float} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code float} to validate.
+     * @return the reference {@code float} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code float} is less than {@code 0}.
+     */
+    public static float positiveOrZero(float reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null,
+                    DEFAULT_POSITIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code float} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code float} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code float} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code float} is less than {@code 0}.
+     */
+    public static float positiveOrZero(float reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code float} is greater than or equal to {@code 0}.
+     *
+     * @param reference   the {@code float} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code float} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code float} is less than {@code 0}.
+     */
+    public static float positiveOrZeroLazy(float reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code double} to validate.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} is less than {@code 0}.
+     */
+    public static double positiveOrZero(double reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null,
+                    DEFAULT_POSITIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code double} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} is less than {@code 0}.
+     */
+    public static double positiveOrZero(double reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} is greater than or equal to {@code 0}.
+     *
+     * @param reference   the {@code double} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} is less than {@code 0}.
+     */
+    public static double positiveOrZeroLazy(double reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code Number} to validate.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than {@code 0}.
+     */
+    public static <T extends Number> T positiveOrZero(T reference) {
+        return positiveOrZero(reference, DEFAULT_POSITIVE_OR_ZERO_MESSAGE, reference);
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than or equal to {@code 0}.
+     *
+     * @param reference the {@code Number} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than {@code 0}.
+     */
+    public static <T extends Number> T positiveOrZero(T reference, String msg) {
+        return positiveOrZero(reference, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than or equal to {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than {@code 0}.
+     */
+    public static <T extends Number> T positiveOrZero(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (reference == null) {
+            throw nullPointer(Check.POSITIVE_OR_ZERO, null, null, null, msgTemplate, msgArgs);
+        }
+        if (!(reference.doubleValue() >= 0.0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than or equal to {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than {@code 0}.
+     */
+    public static <T extends Number> T positiveOrZeroLazy(T reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (reference == null) {
+            throw nullPointer(Check.POSITIVE_OR_ZERO, null, null, null, msgSupplied(msgSupplier));
+        }
+        if (!(reference.doubleValue() >= 0.0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than or equal to {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than {@code 0}.
+     */
+    public static <T extends Number> T positiveOrZero(T reference, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (reference == null) {
+            throw nullPointer(Check.POSITIVE_OR_ZERO, null, null, null, msgTemplate, msgArg1);
+        }
+        if (!(reference.doubleValue() >= 0.0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than or equal to {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than {@code 0}.
+     */
+    public static <T extends Number> T positiveOrZero(T reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (reference == null) {
+            throw nullPointer(Check.POSITIVE_OR_ZERO, null, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (!(reference.doubleValue() >= 0.0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is greater than or equal to {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than {@code 0}.
+     */
+    public static <T extends Number> T positiveOrZero(T reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (reference == null) {
+            throw nullPointer(Check.POSITIVE_OR_ZERO, null, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (!(reference.doubleValue() >= 0.0)) {
+            throw illegalArgument(Check.POSITIVE_OR_ZERO, reference, null, null,
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} is less than {@code 0}.
+     *
+     * @param reference the {@code int} to validate.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} is greater than or equal to {@code 0}.
+     */
+    public static int negative(int reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, DEFAULT_NEGATIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} is less than {@code 0}.
+     *
+     * @param reference the {@code int} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} is greater than or equal to {@code 0}.
+     */
+    public static int negative(int reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} is less than {@code 0}.
+     *
+     * @param reference   the {@code int} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} is greater than or equal to {@code 0}.
+     */
+    public static int negativeLazy(int reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code short} is less than {@code 0}.
+     *
+     * @param reference the {@code short} to validate.
+     * @return the reference {@code short} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code short} is greater than or equal to {@code 0}.
+     */
+    public static short negative(short reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, DEFAULT_NEGATIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code short} is less than {@code 0}.
+     *
+     * @param reference the {@code short} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code short} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code short} is greater than or equal to {@code 0}.
+     */
+    public static short negative(short reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code short} is less than {@code 0}.
+     *
+     * @param reference   the {@code short} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code short} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code short} is greater than or equal to {@code 0}.
+     */
+    public static short negativeLazy(short reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code byte} is less than {@code 0}.
+     *
+     * @param reference the {@code byte} to validate.
+     * @return the reference {@code byte} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code byte} is greater than or equal to {@code 0}.
+     */
+    public static byte negative(byte reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, DEFAULT_NEGATIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code byte} is less than {@code 0}.
+     *
+     * @param reference the {@code byte} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code byte} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code byte} is greater than or equal to {@code 0}.
+     */
+    public static byte negative(byte reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code byte} is less than {@code 0}.
+     *
+     * @param reference   the {@code byte} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code byte} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code byte} is greater than or equal to {@code 0}.
+     */
+    public static byte negativeLazy(byte reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} is less than {@code 0}.
+     *
+     * @param reference the {@code long} to validate.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} is greater than or equal to {@code 0}.
+     */
+    public static long negative(long reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, DEFAULT_NEGATIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} is less than {@code 0}.
+     *
+     * @param reference the {@code long} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} is greater than or equal to {@code 0}.
+     */
+    public static long negative(long reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} is less than {@code 0}.
+     *
+     * @param reference   the {@code long} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} is greater than or equal to {@code 0}.
+     */
+    public static long negativeLazy(long reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code float} is less than {@code 0}.
+     *
+     * @param reference the {@code float} to validate.
+     * @return the reference {@code float} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code float} is greater than or equal to {@code 0}.
+     */
+    public static float negative(float reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, DEFAULT_NEGATIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code float} is less than {@code 0}.
+     *
+     * @param reference the {@code float} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code float} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code float} is greater than or equal to {@code 0}.
+     */
+    public static float negative(float reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code float} is less than {@code 0}.
+     *
+     * @param reference   the {@code float} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code float} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code float} is greater than or equal to {@code 0}.
+     */
+    public static float negativeLazy(float reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} is less than {@code 0}.
+     *
+     * @param reference the {@code double} to validate.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} is greater than or equal to {@code 0}.
+     */
+    public static double negative(double reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, DEFAULT_NEGATIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} is less than {@code 0}.
+     *
+     * @param reference the {@code double} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} is greater than or equal to {@code 0}.
+     */
+    public static double negative(double reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} is less than {@code 0}.
+     *
+     * @param reference   the {@code double} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} is greater than or equal to {@code 0}.
+     */
+    public static double negativeLazy(double reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than {@code 0}.
+     *
+     * @param reference the {@code Number} to validate.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than or equal to {@code 0}.
+     */
+    public static <T extends Number> T negative(T reference) {
+        return negative(reference, DEFAULT_NEGATIVE_MESSAGE, reference);
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than {@code 0}.
+     *
+     * @param reference the {@code Number} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than or equal to {@code 0}.
+     */
+    public static <T extends Number> T negative(T reference, String msg) {
+        return negative(reference, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than or equal to {@code 0}.
+     */
+    public static <T extends Number> T negative(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (reference == null) {
+            throw nullPointer(Check.NEGATIVE, null, null, null, msgTemplate, msgArgs);
+        }
+        if (!(reference.doubleValue() < 0.0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than or equal to {@code 0}.
+     */
+    public static <T extends Number> T negativeLazy(T reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (reference == null) {
+            throw nullPointer(Check.NEGATIVE, null, null, null, msgSupplied(msgSupplier));
+        }
+        if (!(reference.doubleValue() < 0.0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than or equal to {@code 0}.
+     */
+    public static <T extends Number> T negative(T reference, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (reference == null) {
+            throw nullPointer(Check.NEGATIVE, null, null, null, msgTemplate, msgArg1);
+        }
+        if (!(reference.doubleValue() < 0.0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than or equal to {@code 0}.
+     */
+    public static <T extends Number> T negative(T reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (reference == null) {
+            throw nullPointer(Check.NEGATIVE, null, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (!(reference.doubleValue() < 0.0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than or equal to {@code 0}.
+     */
+    public static <T extends Number> T negative(T reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (reference == null) {
+            throw nullPointer(Check.NEGATIVE, null, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (!(reference.doubleValue() < 0.0)) {
+            throw illegalArgument(Check.NEGATIVE, reference, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code int} to validate.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} is greater than {@code 0}.
+     */
+    public static int negativeOrZero(int reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null,
+                    DEFAULT_NEGATIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code int} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} is greater than {@code 0}.
+     */
+    public static int negativeOrZero(int reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code int} is less than or equal to {@code 0}.
+     *
+     * @param reference   the {@code int} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code int} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code int} is greater than {@code 0}.
+     */
+    public static int negativeOrZeroLazy(int reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code short} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code short} to validate.
+     * @return the reference {@code short} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code short} is greater than {@code 0}.
+     */
+    public static short negativeOrZero(short reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null,
+                    DEFAULT_NEGATIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code short} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code short} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code short} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code short} is greater than {@code 0}.
+     */
+    public static short negativeOrZero(short reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code short} is less than or equal to {@code 0}.
+     *
+     * @param reference   the {@code short} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code short} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code short} is greater than {@code 0}.
+     */
+    public static short negativeOrZeroLazy(short reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code byte} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code byte} to validate.
+     * @return the reference {@code byte} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code byte} is greater than {@code 0}.
+     */
+    public static byte negativeOrZero(byte reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null,
+                    DEFAULT_NEGATIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code byte} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code byte} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code byte} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code byte} is greater than {@code 0}.
+     */
+    public static byte negativeOrZero(byte reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code byte} is less than or equal to {@code 0}.
+     *
+     * @param reference   the {@code byte} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code byte} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code byte} is greater than {@code 0}.
+     */
+    public static byte negativeOrZeroLazy(byte reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code long} to validate.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} is greater than {@code 0}.
+     */
+    public static long negativeOrZero(long reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null,
+                    DEFAULT_NEGATIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code long} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} is greater than {@code 0}.
+     */
+    public static long negativeOrZero(long reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code long} is less than or equal to {@code 0}.
+     *
+     * @param reference   the {@code long} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code long} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code long} is greater than {@code 0}.
+     */
+    public static long negativeOrZeroLazy(long reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code float} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code float} to validate.
+     * @return the reference {@code float} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code float} is greater than {@code 0}.
+     */
+    public static float negativeOrZero(float reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null,
+                    DEFAULT_NEGATIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code float} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code float} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code float} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code float} is greater than {@code 0}.
+     */
+    public static float negativeOrZero(float reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code float} is less than or equal to {@code 0}.
+     *
+     * @param reference   the {@code float} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code float} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code float} is greater than {@code 0}.
+     */
+    public static float negativeOrZeroLazy(float reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code double} to validate.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} is greater than {@code 0}.
+     */
+    public static double negativeOrZero(double reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null,
+                    DEFAULT_NEGATIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code double} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} is greater than {@code 0}.
+     */
+    public static double negativeOrZero(double reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code double} is less than or equal to {@code 0}.
+     *
+     * @param reference   the {@code double} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code double} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code double} is greater than {@code 0}.
+     */
+    public static double negativeOrZeroLazy(double reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code Number} to validate.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than {@code 0}.
+     */
+    public static <T extends Number> T negativeOrZero(T reference) {
+        return negativeOrZero(reference, DEFAULT_NEGATIVE_OR_ZERO_MESSAGE, reference);
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than or equal to {@code 0}.
+     *
+     * @param reference the {@code Number} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than {@code 0}.
+     */
+    public static <T extends Number> T negativeOrZero(T reference, String msg) {
+        return negativeOrZero(reference, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than or equal to {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than {@code 0}.
+     */
+    public static <T extends Number> T negativeOrZero(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (reference == null) {
+            throw nullPointer(Check.NEGATIVE_OR_ZERO, null, null, null, msgTemplate, msgArgs);
+        }
+        if (!(reference.doubleValue() <= 0.0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than or equal to {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than {@code 0}.
+     */
+    public static <T extends Number> T negativeOrZeroLazy(T reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (reference == null) {
+            throw nullPointer(Check.NEGATIVE_OR_ZERO, null, null, null, msgSupplied(msgSupplier));
+        }
+        if (!(reference.doubleValue() <= 0.0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than or equal to {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than {@code 0}.
+     */
+    public static <T extends Number> T negativeOrZero(T reference, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (reference == null) {
+            throw nullPointer(Check.NEGATIVE_OR_ZERO, null, null, null, msgTemplate, msgArg1);
+        }
+        if (!(reference.doubleValue() <= 0.0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than or equal to {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than {@code 0}.
+     */
+    public static <T extends Number> T negativeOrZero(T reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (reference == null) {
+            throw nullPointer(Check.NEGATIVE_OR_ZERO, null, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (!(reference.doubleValue() <= 0.0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference {@code Number} is less than or equal to {@code 0}.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference {@code Number} if it is valid.
+     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than {@code 0}.
+     */
+    public static <T extends Number> T negativeOrZero(T reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (reference == null) {
+            throw nullPointer(Check.NEGATIVE_OR_ZERO, null, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (!(reference.doubleValue() <= 0.0)) {
+            throw illegalArgument(Check.NEGATIVE_OR_ZERO, reference, null, null,
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     *
+     * @param reference the {@code String} to validate.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int intValue(String reference) {
+        return intValue(reference, DEFAULT_NUMBER_VALUE, reference, "an int");
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     *
+     * @param reference the {@code String} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int intValue(String reference, String msg) {
+        return intValue(reference, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int intValue(String reference, String msgTemplate, Object... msgArgs) {
+        return intValue((CharSequence) reference, msgTemplate, msgArgs);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int intValueLazy(String reference, Supplier<String> msgSupplier) {
+        return intValueLazy((CharSequence) reference, msgSupplier);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int intValue(String reference, String msgTemplate, Object msgArg1) {
+        return intValue((CharSequence) reference, msgTemplate, msgArg1);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int intValue(String reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        return intValue((CharSequence) reference, msgTemplate, msgArg1, msgArg2);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int intValue(String reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        return intValue((CharSequence) reference, msgTemplate, msgArg1, msgArg2, msgArg3);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code int}.
+     *
+     * @param reference the {@code CharSequence} to validate.
+     * @return the {@code int} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code int}.
+     */
+    public static int intValue(CharSequence reference) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, DEFAULT_NUMBER_VALUE, String.valueOf(reference), "an int");
+        }
+        return NumberParser.parseInt(reference, 0);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code int}.
+     *
+     * @param reference the {@code CharSequence} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the {@code int} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code int}.
+     */
+    public static int intValue(CharSequence reference, String msg) {
+        return intValue(reference, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code int}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the {@code int} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code int}.
+     */
+    public static int intValue(CharSequence reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArgs);
+        }
+        return NumberParser.parseInt(reference, 0);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code int}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code int} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code int}.
+     */
+    public static int intValueLazy(CharSequence reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgSupplied(msgSupplier));
+        }
+        return NumberParser.parseInt(reference, 0);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code int}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the {@code int} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code int}.
+     */
+    public static int intValue(CharSequence reference, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArg1);
+        }
+        return NumberParser.parseInt(reference, 0);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code int}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the {@code int} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code int}.
+     */
+    public static int intValue(CharSequence reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArg1, msgArg2);
+        }
+        return NumberParser.parseInt(reference, 0);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code int}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the {@code int} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code int}.
+     */
+    public static int intValue(CharSequence reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return NumberParser.parseInt(reference, 0);
+    }
+
+    /**
+     * Validates that the characters of the reference array from the offset are a valid {@code int}.
+     *
+     * @param reference the {@code char} array to validate.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@code int} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code int}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
+     */
+    public static int intValue(char[] reference, int offset, int length) {
+        return intValue(NumberParser.chars(reference, offset, length));
+    }
+
+    /**
+     * Validates that the characters of the reference array from the offset are a valid {@code int}.
+     *
+     * @param reference the {@code char} array to validate.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @param msg       the message to use for the exception.
+     * @return the {@code int} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code int}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
+     */
+    public static int intValue(char[] reference, int offset, int length, String msg) {
+        return intValue(NumberParser.chars(reference, offset, length), msg);
+    }
+
+    /**
+     * Validates that the characters of the reference array from the offset are a valid {@code int}.
+     *
+     * @param reference   the {@code char} array to validate.
+     * @param offset      the index of the first character.
+     * @param length      the number of characters.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the {@code int} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code int}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
+     */
+    public static int intValue(char[] reference, int offset, int length, String msgTemplate, Object... msgArgs) {
+        return intValue(NumberParser.chars(reference, offset, length), msgTemplate, msgArgs);
+    }
+
+    /**
+     * Validates that the characters of the reference array from the offset are a valid {@code int}.
+     *
+     * @param reference   the {@code char} array to validate.
+     * @param offset      the index of the first character.
+     * @param length      the number of characters.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code int} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code int}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
+     */
+    public static int intValueLazy(char[] reference, int offset, int length, Supplier<String> msgSupplier) {
+        return intValueLazy(NumberParser.chars(reference, offset, length), msgSupplier);
+    }
+
+    /**
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code int}.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param reference the {@code ByteBuffer} to validate.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@code int} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code int}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
+     */
+    public static int intValue(ByteBuffer reference, int position, int limit) {
+        return intValue(NumberParser.ascii(reference, position, limit));
+    }
+
+    /**
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code int}.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param reference the {@code ByteBuffer} to validate.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @param msg       the message to use for the exception.
+     * @return the {@code int} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code int}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
+     */
+    public static int intValue(ByteBuffer reference, int position, int limit, String msg) {
+        return intValue(NumberParser.ascii(reference, position, limit), msg);
+    }
+
+    /**
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code int}.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param reference   the {@code ByteBuffer} to validate.
+     * @param position    the index of the first byte.
+     * @param limit       the index after the last byte.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the {@code int} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code int}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
+     */
+    public static int intValue(ByteBuffer reference, int position, int limit, String msgTemplate, Object... msgArgs) {
+        return intValue(NumberParser.ascii(reference, position, limit), msgTemplate, msgArgs);
+    }
+
+    /**
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code int}.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param reference   the {@code ByteBuffer} to validate.
+     * @param position    the index of the first byte.
+     * @param limit       the index after the last byte.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code int} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code int}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
+     */
+    public static int intValueLazy(ByteBuffer reference, int position, int limit, Supplier<String> msgSupplier) {
+        return intValueLazy(NumberParser.ascii(reference, position, limit), msgSupplier);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     * The strict validation ensures that reference {@code String} represents a whole number.
+     *
+     * @param reference the {@code String} to validate.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int strictlyIntValue(String reference) {
+        return strictlyIntValue(reference, DEFAULT_NUMBER_VALUE, reference, "a strict int");
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     * The strict validation ensures that reference {@code String} represents a whole number.
+     *
+     * @param reference the {@code String} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int strictlyIntValue(String reference, String msg) {
+        return strictlyIntValue(reference, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     * The strict validation ensures that reference {@code String} represents a whole number.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int strictlyIntValue(String reference, String msgTemplate, Object... msgArgs) {
+        Double dub = doubleValue(reference, msgTemplate, msgArgs);
+        if (!dub.toString().endsWith(".0")) {
+            throw numberFormat(Check.NUMBER_VALUE, reference, null, null, msgTemplate, msgArgs);
+        }
+        return dub.intValue();
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     * The strict validation ensures that reference {@code String} represents a whole number.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int strictlyIntValueLazy(String reference, Supplier<String> msgSupplier) {
+        Double dub = doubleValueLazy(reference, msgSupplier);
+        if (!dub.toString().endsWith(".0")) {
+            throw numberFormat(Check.NUMBER_VALUE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return dub.intValue();
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     * The strict validation ensures that reference {@code String} represents a whole number.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int strictlyIntValue(String reference, String msgTemplate, Object msgArg1) {
+        Double dub = doubleValue(reference, msgTemplate, msgArg1);
+        if (!dub.toString().endsWith(".0")) {
+            throw numberFormat(Check.NUMBER_VALUE, reference, null, null, msgTemplate, msgArg1);
+        }
+        return dub.intValue();
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     * The strict validation ensures that reference {@code String} represents a whole number.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int strictlyIntValue(String reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        Double dub = doubleValue(reference, msgTemplate, msgArg1, msgArg2);
+        if (!dub.toString().endsWith(".0")) {
+            throw numberFormat(Check.NUMBER_VALUE, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return dub.intValue();
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code int}.
+     * The strict validation ensures that reference {@code String} represents a whole number.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the {@code int} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     */
+    public static int strictlyIntValue(String reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        Double dub = doubleValue(reference, msgTemplate, msgArg1, msgArg2, msgArg3);
+        if (!dub.toString().endsWith(".0")) {
+            throw numberFormat(Check.NUMBER_VALUE, reference, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return dub.intValue();
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code long}.
+     *
+     * @param reference the {@code String} to validate.
+     * @return the {@code long} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code long}.
+     */
+    public static long longValue(String reference) {
+        return longValue(reference, DEFAULT_NUMBER_VALUE, reference, "a long");
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code long}.
+     *
+     * @param reference the {@code String} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the {@code long} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code long}.
+     */
+    public static long longValue(String reference, String msg) {
+        return longValue(reference, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code long}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the {@code long} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code long}.
+     */
+    public static long longValue(String reference, String msgTemplate, Object... msgArgs) {
+        return longValue((CharSequence) reference, msgTemplate, msgArgs);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code long}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code long} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code long}.
+     */
+    public static long longValueLazy(String reference, Supplier<String> msgSupplier) {
+        return longValueLazy((CharSequence) reference, msgSupplier);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code long}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the {@code long} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code long}.
+     */
+    public static long longValue(String reference, String msgTemplate, Object msgArg1) {
+        return longValue((CharSequence) reference, msgTemplate, msgArg1);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code long}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the {@code long} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code long}.
+     */
+    public static long longValue(String reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        return longValue((CharSequence) reference, msgTemplate, msgArg1, msgArg2);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code long}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the {@code long} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code long}.
+     */
+    public static long longValue(String reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        return longValue((CharSequence) reference, msgTemplate, msgArg1, msgArg2, msgArg3);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code long}.
+     *
+     * @param reference the {@code CharSequence} to validate.
+     * @return the {@code long} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code long}.
+     */
+    public static long longValue(CharSequence reference) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, DEFAULT_NUMBER_VALUE, String.valueOf(reference), "a long");
+        }
+        return NumberParser.parseLong(reference, 0L);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code long}.
+     *
+     * @param reference the {@code CharSequence} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the {@code long} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code long}.
+     */
+    public static long longValue(CharSequence reference, String msg) {
+        return longValue(reference, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code long}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the {@code long} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code long}.
+     */
+    public static long longValue(CharSequence reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArgs);
+        }
+        return NumberParser.parseLong(reference, 0L);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code long}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code long} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code long}.
+     */
+    public static long longValueLazy(CharSequence reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgSupplied(msgSupplier));
+        }
+        return NumberParser.parseLong(reference, 0L);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code long}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the {@code long} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code long}.
+     */
+    public static long longValue(CharSequence reference, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArg1);
+        }
+        return NumberParser.parseLong(reference, 0L);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code long}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the {@code long} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code long}.
+     */
+    public static long longValue(CharSequence reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArg1, msgArg2);
+        }
+        return NumberParser.parseLong(reference, 0L);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code long}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the {@code long} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code long}.
+     */
+    public static long longValue(CharSequence reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return NumberParser.parseLong(reference, 0L);
+    }
+
+    /**
+     * Validates that the characters of the reference array from the offset are a valid {@code long}.
+     *
+     * @param reference the {@code char} array to validate.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@code long} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code long}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
+     */
+    public static long longValue(char[] reference, int offset, int length) {
+        return longValue(NumberParser.chars(reference, offset, length));
+    }
+
+    /**
+     * Validates that the characters of the reference array from the offset are a valid {@code long}.
+     *
+     * @param reference the {@code char} array to validate.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @param msg       the message to use for the exception.
+     * @return the {@code long} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code long}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
+     */
+    public static long longValue(char[] reference, int offset, int length, String msg) {
+        return longValue(NumberParser.chars(reference, offset, length), msg);
+    }
+
+    /**
+     * Validates that the characters of the reference array from the offset are a valid {@code long}.
+     *
+     * @param reference   the {@code char} array to validate.
+     * @param offset      the index of the first character.
+     * @param length      the number of characters.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the {@code long} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code long}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
+     */
+    public static long longValue(char[] reference, int offset, int length, String msgTemplate, Object... msgArgs) {
+        return longValue(NumberParser.chars(reference, offset, length), msgTemplate, msgArgs);
+    }
+
+    /**
+     * Validates that the characters of the reference array from the offset are a valid {@code long}.
+     *
+     * @param reference   the {@code char} array to validate.
+     * @param offset      the index of the first character.
+     * @param length      the number of characters.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code long} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code long}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
+     */
+    public static long longValueLazy(char[] reference, int offset, int length, Supplier<String> msgSupplier) {
+        return longValueLazy(NumberParser.chars(reference, offset, length), msgSupplier);
+    }
+
+    /**
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code long}.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param reference the {@code ByteBuffer} to validate.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@code long} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code long}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
+     */
+    public static long longValue(ByteBuffer reference, int position, int limit) {
+        return longValue(NumberParser.ascii(reference, position, limit));
+    }
+
+    /**
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code long}.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param reference the {@code ByteBuffer} to validate.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @param msg       the message to use for the exception.
+     * @return the {@code long} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code long}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
+     */
+    public static long longValue(ByteBuffer reference, int position, int limit, String msg) {
+        return longValue(NumberParser.ascii(reference, position, limit), msg);
+    }
+
+    /**
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code long}.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param reference   the {@code ByteBuffer} to validate.
+     * @param position    the index of the first byte.
+     * @param limit       the index after the last byte.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the {@code long} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code long}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
+     */
+    public static long longValue(ByteBuffer reference, int position, int limit, String msgTemplate, Object... msgArgs) {
+        return longValue(NumberParser.ascii(reference, position, limit), msgTemplate, msgArgs);
+    }
+
+    /**
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code long}.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param reference   the {@code ByteBuffer} to validate.
+     * @param position    the index of the first byte.
+     * @param limit       the index after the last byte.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code long} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code long}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
+     */
+    public static long longValueLazy(ByteBuffer reference, int position, int limit, Supplier<String> msgSupplier) {
+        return longValueLazy(NumberParser.ascii(reference, position, limit), msgSupplier);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code float}.
+     *
+     * @param reference the {@code String} to validate.
+     * @return the {@code float} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code float}.
+     */
+    public static float floatValue(String reference) {
+        return floatValue(reference, DEFAULT_NUMBER_VALUE, reference, "a float");
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code float}.
+     *
+     * @param reference the {@code String} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the {@code float} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code float}.
+     */
+    public static float floatValue(String reference, String msg) {
+        return floatValue(reference, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code float}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the {@code float} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code float}.
+     */
+    public static float floatValue(String reference, String msgTemplate, Object... msgArgs) {
+        return floatValue((CharSequence) reference, msgTemplate, msgArgs);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code float}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code float} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code float}.
+     */
+    public static float floatValueLazy(String reference, Supplier<String> msgSupplier) {
+        return floatValueLazy((CharSequence) reference, msgSupplier);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code float}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the {@code float} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code float}.
+     */
+    public static float floatValue(String reference, String msgTemplate, Object msgArg1) {
+        return floatValue((CharSequence) reference, msgTemplate, msgArg1);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code float}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the {@code float} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code float}.
+     */
+    public static float floatValue(String reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        return floatValue((CharSequence) reference, msgTemplate, msgArg1, msgArg2);
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code float}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the {@code float} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code float}.
+     */
+    public static float floatValue(String reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        return floatValue((CharSequence) reference, msgTemplate, msgArg1, msgArg2, msgArg3);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code float}.
+     *
+     * @param reference the {@code CharSequence} to validate.
+     * @return the {@code float} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code float}.
+     */
+    public static float floatValue(CharSequence reference) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, DEFAULT_NUMBER_VALUE, String.valueOf(reference), "a float");
+        }
+        return (float) NumberParser.parseDouble(reference, 0D);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code float}.
+     *
+     * @param reference the {@code CharSequence} to validate.
+     * @param msg       the message to use for the exception.
+     * @return the {@code float} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code float}.
+     */
+    public static float floatValue(CharSequence reference, String msg) {
+        return floatValue(reference, msg, NULL_ARGS);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code float}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArgs     the message arguments used to format the message for the exception.
+     * @return the {@code float} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code float}.
+     */
+    public static float floatValue(CharSequence reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArgs);
+        }
+        return (float) NumberParser.parseDouble(reference, 0D);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code float}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code float} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code float}.
+     */
+    public static float floatValueLazy(CharSequence reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgSupplied(msgSupplier));
+        }
+        return (float) NumberParser.parseDouble(reference, 0D);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code float}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the {@code float} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code float}.
+     */
+    public static float floatValue(CharSequence reference, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArg1);
+        }
+        return (float) NumberParser.parseDouble(reference, 0D);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code float}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the {@code float} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code float}.
+     */
+    public static float floatValue(CharSequence reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArg1, msgArg2);
+        }
+        return (float) NumberParser.parseDouble(reference, 0D);
+    }
+
+    /**
+     * Validates that the reference {@code CharSequence} is a valid {@code float}.
      *
-     * @param reference   the {@code Map} to validate.
-     * @param index       the position index to use in the validation
+     * @param reference   the {@code CharSequence} to validate.
      * @param msgTemplate the message template used to format the message for the exception.
-     * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the reference {@code Map} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Map}.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the {@code float} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code float}.
      */
-    public static <T extends Map> T positionIndex(T reference, int index, String msgTemplate, Object... msgArgs) {
-        if (positiveOrZero(index, msgTemplate, msgArgs) > notNull(reference, msgTemplate, msgArgs).size()) {
-            throw new IndexOutOfBoundsException(format(msgTemplate, msgArgs));
+    public static float floatValue(CharSequence reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArg1, msgArg2, msgArg3);
         }
-        return reference;
+        return (float) NumberParser.parseDouble(reference, 0D);
     }
 
     /**
-     * Validate that {@code index} specifies a valid position index in the reference {@code Collection}.
-     * A position index may range from zero, inclusive, to {@code Collection.size()}, inclusive.
+     * Validates that the characters of the reference array from the offset are a valid {@code float}.
      *
-     * @param reference the {@code Collection} to validate.
-     * @param index     the position index to use in the validation
-     * @return the reference {@code Collection} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     * @param reference the {@code char} array to validate.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@code float} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code float}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
      */
-    public static <T extends Collection> T positionIndex(T reference, int index) {
-        return positionIndex(reference, index, DEFAULT_VALID_INDEX_COLLECTION_MESSAGE, POSITION_INDEX_TYPE, index, msgSize(reference));
+    public static float floatValue(char[] reference, int offset, int length) {
+        return floatValue(NumberParser.chars(reference, offset, length));
     }
 
     /**
-     * Validate that {@code index} specifies a valid position index in the reference {@code Collection}.
-     * A position index may range from zero, inclusive, to {@code Collection.size()}, inclusive.
+     * Validates that the characters of the reference array from the offset are a valid {@code float}.
      *
-     * @param reference the {@code Collection} to validate.
-     * @param index     the position index to use in the validation
+     * @param reference the {@code char} array to validate.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
      * @param msg       the message to use for the exception.
-     * @return the reference {@code Collection} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     * @return the {@code float} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code float}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
      */
-    public static <T extends Collection> T positionIndex(T reference, int index, String msg) {
-        return positionIndex(reference, index, msg, NULL_ARGS);
+    public static float floatValue(char[] reference, int offset, int length, String msg) {
+        return floatValue(NumberParser.chars(reference, offset, length), msg);
     }
 
     /**
-     * Validate that {@code index} specifies a valid position index in the reference {@code Collection}.
-     * A position index may range from zero, inclusive, to {@code Collection.size()}, inclusive.
+     * Validates that the characters of the reference array from the offset are a valid {@code float}.
      *
-     * @param reference   the {@code Collection} to validate.
-     * @param index       the position index to use in the validation
+     * @param reference   the {@code char} array to validate.
+     * @param offset      the index of the first character.
+     * @param length      the number of characters.
      * @param msgTemplate the message template used to format the message for the exception.
      * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the reference {@code Collection} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code Collection}.
+     * @return the {@code float} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code float}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
      */
-    public static <T extends Collection> T positionIndex(T reference, int index, String msgTemplate, Object... msgArgs) {
-        if (positiveOrZero(index, msgTemplate, msgArgs) > notNull(reference, msgTemplate, msgArgs).size()) {
-            throw new IndexOutOfBoundsException(format(msgTemplate, msgArgs));
-        }
-        return reference;
+    public static float floatValue(char[] reference, int offset, int length, String msgTemplate, Object... msgArgs) {
+        return floatValue(NumberParser.chars(reference, offset, length), msgTemplate, msgArgs);
     }
 
     /**
-     * Validate that {@code index} specifies a valid position index in the reference {@code String}.
-     * A position index may range from zero, inclusive, to {@code String.length()}, inclusive.
+     * Validates that the characters of the reference array from the offset are a valid {@code float}.
      *
-     * @param reference the {@code String} to validate.
-     * @param index     the position index to use in the validation
-     * @return the reference {@code String} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     * @param reference   the {@code char} array to validate.
+     * @param offset      the index of the first character.
+     * @param length      the number of characters.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code float} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code float}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
      */
-    public static String positionIndex(String reference, int index) {
-        return positionIndex(reference, index, DEFAULT_VALID_INDEX_STRING_MESSAGE, POSITION_INDEX_TYPE, index, msgSafe(reference));
+    public static float floatValueLazy(char[] reference, int offset, int length, Supplier<String> msgSupplier) {
+        return floatValueLazy(NumberParser.chars(reference, offset, length), msgSupplier);
     }
 
     /**
-     * Validate that {@code index} specifies a valid position index in the reference {@code String}.
-     * A position index may range from zero, inclusive, to {@code String.length()}, inclusive.
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code float}.
+     * The position and limit of the buffer are not changed.
      *
-     * @param reference the {@code String} to validate.
-     * @param index     the position index to use in the validation
+     * @param reference the {@code ByteBuffer} to validate.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@code float} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code float}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
+     */
+    public static float floatValue(ByteBuffer reference, int position, int limit) {
+        return floatValue(NumberParser.ascii(reference, position, limit));
+    }
+
+    /**
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code float}.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param reference the {@code ByteBuffer} to validate.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
      * @param msg       the message to use for the exception.
-     * @return the reference {@code String} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     * @return the {@code float} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code float}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
      */
-    public static String positionIndex(String reference, int index, String msg) {
-        return positionIndex(reference, index, msg, NULL_ARGS);
+    public static float floatValue(ByteBuffer reference, int position, int limit, String msg) {
+        return floatValue(NumberParser.ascii(reference, position, limit), msg);
     }
 
     /**
-     * Validate that {@code index} specifies a valid position index in the reference {@code String}.
-     * A position index may range from zero, inclusive, to {@code String.length()}, inclusive.
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code float}.
+     * The position and limit of the buffer are not changed.
      *
-     * @param reference   the {@code String} to validate.
-     * @param index       the position index to use in the validation
+     * @param reference   the {@code ByteBuffer} to validate.
+     * @param position    the index of the first byte.
+     * @param limit       the index after the last byte.
      * @param msgTemplate the message template used to format the message for the exception.
      * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the reference {@code String} if it is valid.
-     * @throws IndexOutOfBoundsException thrown if the {@code index} is not valid for the reference {@code String}.
+     * @return the {@code float} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code float}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
      */
-    public static String positionIndex(String reference, int index, String msgTemplate, Object... msgArgs) {
-        if (positiveOrZero(index, msgTemplate, msgArgs) > notNull(reference, msgTemplate, msgArgs).length()) {
-            throw new IndexOutOfBoundsException(format(msgTemplate, msgArgs));
-        }
-        return reference;
+    public static float floatValue(ByteBuffer reference, int position, int limit, String msgTemplate, Object... msgArgs) {
+        return floatValue(NumberParser.ascii(reference, position, limit), msgTemplate, msgArgs);
     }
 
     /**
-     * Validate that the reference {@code Number} falls within the range.
-     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code float}.
+     * The position and limit of the buffer are not changed.
      *
-     * @param reference the {@code Number} to validate.
-     * @param start     the starting {@code Number} for the range.
-     * @param end       the ending {@code Number} for the range.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} falls outside of the range.
+     * @param reference   the {@code ByteBuffer} to validate.
+     * @param position    the index of the first byte.
+     * @param limit       the index after the last byte.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code float} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code float}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
      */
-    public static <T extends Comparable<T>> T inRange(T reference, T start, T end) {
-        return inRange(reference, start, end, DEFAULT_IN_RANGE_MESSAGE, msgSafe(reference), msgSafe(start), msgSafe(end));
+    public static float floatValueLazy(ByteBuffer reference, int position, int limit, Supplier<String> msgSupplier) {
+        return floatValueLazy(NumberParser.ascii(reference, position, limit), msgSupplier);
     }
 
     /**
-     * Validate that the reference {@code Number} falls within the range.
-     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     * Validates that the reference {@code String} is a valid {@code double}.
      *
-     * @param reference the {@code Number} to validate.
-     * @param start     the starting {@code Number} for the range.
-     * @param end       the ending {@code Number} for the range.
+     * @param reference the {@code String} to validate.
+     * @return the {@code double} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code double}.
+     */
+    public static double doubleValue(String reference) {
+        return doubleValue(reference, DEFAULT_NUMBER_VALUE, reference, "a double");
+    }
+
+    /**
+     * Validates that the reference {@code String} is a valid {@code double}.
+     *
+     * @param reference the {@code String} to validate.
      * @param msg       the message to use for the exception.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} falls outside of the range.
+     * @return the {@code double} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code double}.
      */
-    public static <T extends Comparable<T>> T inRange(T reference, T start, T end, String msg) {
-        return inRange(reference, start, end, msg, NULL_ARGS);
+    public static double doubleValue(String reference, String msg) {
+        return doubleValue(reference, msg, NULL_ARGS);
     }
 
     /**
-     * Validate that the reference {@code Number} falls within the range.
-     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     * Validates that the reference {@code String} is a valid {@code double}.
      *
-     * @param reference   the {@code Number} to validate.
-     * @param start       the starting {@code Number} for the range.
-     * @param end         the ending {@code Number} for the range.
+     * @param reference   the {@code String} to validate.
      * @param msgTemplate the message template used to format the message for the exception.
      * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} falls outside of the range.
+     * @return the {@code double} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code double}.
      */
-    public static <T extends Comparable<T>> T inRange(T reference, T start, T end, String msgTemplate, Object... msgArgs) {
-        notNull(reference, msgTemplate, msgArgs);
-        if (!isInRange(reference, start, end)) {
-            throw new IllegalArgumentException(format(msgTemplate, msgArgs));
-        }
-        return reference;
+    public static double doubleValue(String reference, String msgTemplate, Object... msgArgs) {
+        return doubleValue((CharSequence) reference, msgTemplate, msgArgs);
     }
 
-    private static <T extends Comparable<T>> boolean isInRange(T reference, T start, T end) {
-        if (start == null || end == null) {
-            return false;
-        }
-        int sComp = reference.compareTo(start);
-        if (sComp == 0) {
-            return true;
-        }
-        int eComp = reference.compareTo(end);
-        return sComp > 0 && eComp < 0;
+    /**
+     * Validates that the reference {@code String} is a valid {@code double}.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code double} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code double}.
+     */
+    public static double doubleValueLazy(String reference, Supplier<String> msgSupplier) {
+        return doubleValueLazy((CharSequence) reference, msgSupplier);
     }
 
     /**
-     * Validate that the reference {@code Number} is greater than {@code 0}.
+     * Validates that the reference {@code String} is a valid {@code double}.
      *
-     * @param reference the {@code Number} to validate.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than or equal to {@code 0}.
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the {@code double} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code double}.
      */
-    public static <T extends Number> T positive(T reference) {
-        return positive(reference, DEFAULT_POSITIVE_MESSAGE, msgSafe(reference));
+    public static double doubleValue(String reference, String msgTemplate, Object msgArg1) {
+        return doubleValue((CharSequence) reference, msgTemplate, msgArg1);
     }
 
     /**
-     * Validate that the reference {@code Number} is greater than {@code 0}.
+     * Validates that the reference {@code String} is a valid {@code double}.
      *
-     * @param reference the {@code Number} to validate.
-     * @param msg       the message to use for the exception.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than or equal to {@code 0}.
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the {@code double} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code double}.
      */
-    public static <T extends Number> T positive(T reference, String msg) {
-        return positive(reference, msg, NULL_ARGS);
+    public static double doubleValue(String reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        return doubleValue((CharSequence) reference, msgTemplate, msgArg1, msgArg2);
     }
 
     /**
-     * Validate that the reference {@code Number} is greater than {@code 0}.
+     * Validates that the reference {@code String} is a valid {@code double}.
      *
-     * @param reference   the {@code Number} to validate.
+     * @param reference   the {@code String} to validate.
      * @param msgTemplate the message template used to format the message for the exception.
-     * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than or equal to {@code 0}.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the {@code double} value of the reference {@code String}.
+     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code double}.
      */
-    public static <T extends Number> T positive(T reference, String msgTemplate, Object... msgArgs) {
-        if (!(notNull(reference, msgTemplate, msgArgs).doubleValue() > 0.0)) {
-            throw new IllegalArgumentException(format(msgTemplate, msgArgs));
-        }
-        return reference;
+    public static double doubleValue(String reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        return doubleValue((CharSequence) reference, msgTemplate, msgArg1, msgArg2, msgArg3);
     }
 
     /**
-     * Validate that the reference {@code Number} is greater than or equal to {@code 0}.
+     * Validates that the reference {@code CharSequence} is a valid {@code double}.
      *
-     * @param reference the {@code Number} to validate.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than {@code 0}.
+     * @param reference the {@code CharSequence} to validate.
+     * @return the {@code double} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code double}.
      */
-    public static <T extends Number> T positiveOrZero(T reference) {
-        return positiveOrZero(reference, DEFAULT_POSITIVE_OR_ZERO_MESSAGE, msgSafe(reference));
+    public static double doubleValue(CharSequence reference) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, DEFAULT_NUMBER_VALUE, String.valueOf(reference), "a double");
+        }
+        return NumberParser.parseDouble(reference, 0D);
     }
 
     /**
-     * Validate that the reference {@code Number} is greater than or equal to {@code 0}.
+     * Validates that the reference {@code CharSequence} is a valid {@code double}.
      *
-     * @param reference the {@code Number} to validate.
+     * @param reference the {@code CharSequence} to validate.
      * @param msg       the message to use for the exception.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than {@code 0}.
+     * @return the {@code double} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code double}.
      */
-    public static <T extends Number> T positiveOrZero(T reference, String msg) {
-        return positiveOrZero(reference, msg, NULL_ARGS);
+    public static double doubleValue(CharSequence reference, String msg) {
+        return doubleValue(reference, msg, NULL_ARGS);
     }
 
     /**
-     * Validate that the reference {@code Number} is greater than or equal to {@code 0}.
+     * Validates that the reference {@code CharSequence} is a valid {@code double}.
      *
-     * @param reference   the {@code Number} to validate.
+     * @param reference   the {@code CharSequence} to validate.
      * @param msgTemplate the message template used to format the message for the exception.
      * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} is less than {@code 0}.
+     * @return the {@code double} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code double}.
      */
-    public static <T extends Number> T positiveOrZero(T reference, String msgTemplate, Object... msgArgs) {
-        if (!(notNull(reference, msgTemplate, msgArgs).doubleValue() >= 0.0)) {
-            throw new IllegalArgumentException(format(msgTemplate, msgArgs));
+    public static double doubleValue(CharSequence reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArgs);
         }
-        return reference;
+        return NumberParser.parseDouble(reference, 0D);
     }
 
     /**
-     * Validate that the reference {@code Number} is less than {@code 0}.
+     * Validates that the reference {@code CharSequence} is a valid {@code double}.
      *
-     * @param reference the {@code Number} to validate.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than or equal to {@code 0}.
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code double} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code double}.
      */
-    public static <T extends Number> T negative(T reference) {
-        return negative(reference, DEFAULT_NEGATIVE_MESSAGE, msgSafe(reference));
+    public static double doubleValueLazy(CharSequence reference, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgSupplied(msgSupplier));
+        }
+        return NumberParser.parseDouble(reference, 0D);
     }
 
     /**
-     * Validate that the reference {@code Number} is less than {@code 0}.
+     * Validates that the reference {@code CharSequence} is a valid {@code double}.
      *
-     * @param reference the {@code Number} to validate.
-     * @param msg       the message to use for the exception.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than or equal to {@code 0}.
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the {@code double} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code double}.
      */
-    public static <T extends Number> T negative(T reference, String msg) {
-        return negative(reference, msg, NULL_ARGS);
+    public static double doubleValue(CharSequence reference, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArg1);
+        }
+        return NumberParser.parseDouble(reference, 0D);
     }
 
     /**
-     * Validate that the reference {@code Number} is less than {@code 0}.
+     * Validates that the reference {@code CharSequence} is a valid {@code double}.
      *
-     * @param reference   the {@code Number} to validate.
+     * @param reference   the {@code CharSequence} to validate.
      * @param msgTemplate the message template used to format the message for the exception.
-     * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than or equal to {@code 0}.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the {@code double} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code double}.
      */
-    public static <T extends Number> T negative(T reference, String msgTemplate, Object... msgArgs) {
-        if (!(notNull(reference, msgTemplate, msgArgs).doubleValue() < 0.0)) {
-            throw new IllegalArgumentException(format(msgTemplate, msgArgs));
+    public static double doubleValue(CharSequence reference, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArg1, msgArg2);
         }
-        return reference;
+        return NumberParser.parseDouble(reference, 0D);
     }
 
     /**
-     * Validate that the reference {@code Number} is less than or equal to {@code 0}.
+     * Validates that the reference {@code CharSequence} is a valid {@code double}.
      *
-     * @param reference the {@code Number} to validate.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than {@code 0}.
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the {@code double} value of the reference {@code CharSequence}.
+     * @throws NumberFormatException thrown if the reference {@code CharSequence} is not a valid {@code double}.
      */
-    public static <T extends Number> T negativeOrZero(T reference) {
-        return negativeOrZero(reference, DEFAULT_NEGATIVE_OR_ZERO_MESSAGE, msgSafe(reference));
+    public static double doubleValue(CharSequence reference, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (!NumberParser.isNumber(reference)) {
+            throw numberFailure(reference, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return NumberParser.parseDouble(reference, 0D);
     }
 
     /**
-     * Validate that the reference {@code Number} is less than or equal to {@code 0}.
+     * Validates that the characters of the reference array from the offset are a valid {@code double}.
      *
-     * @param reference the {@code Number} to validate.
+     * @param reference the {@code char} array to validate.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
+     * @return the {@code double} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code double}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
+     */
+    public static double doubleValue(char[] reference, int offset, int length) {
+        return doubleValue(NumberParser.chars(reference, offset, length));
+    }
+
+    /**
+     * Validates that the characters of the reference array from the offset are a valid {@code double}.
+     *
+     * @param reference the {@code char} array to validate.
+     * @param offset    the index of the first character.
+     * @param length    the number of characters.
      * @param msg       the message to use for the exception.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than {@code 0}.
+     * @return the {@code double} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code double}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
      */
-    public static <T extends Number> T negativeOrZero(T reference, String msg) {
-        return negativeOrZero(reference, msg, NULL_ARGS);
+    public static double doubleValue(char[] reference, int offset, int length, String msg) {
+        return doubleValue(NumberParser.chars(reference, offset, length), msg);
     }
 
     /**
-     * Validate that the reference {@code Number} is less than or equal to {@code 0}.
+     * Validates that the characters of the reference array from the offset are a valid {@code double}.
      *
-     * @param reference   the {@code Number} to validate.
+     * @param reference   the {@code char} array to validate.
+     * @param offset      the index of the first character.
+     * @param length      the number of characters.
      * @param msgTemplate the message template used to format the message for the exception.
      * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the reference {@code Number} if it is valid.
-     * @throws IllegalArgumentException thrown if the reference {@code Number} is greater than {@code 0}.
+     * @return the {@code double} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code double}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
      */
-    public static <T extends Number> T negativeOrZero(T reference, String msgTemplate, Object... msgArgs) {
-        if (!(notNull(reference, msgTemplate, msgArgs).doubleValue() <= 0.0)) {
-            throw new IllegalArgumentException(format(msgTemplate, msgArgs));
-        }
-        return reference;
+    public static double doubleValue(char[] reference, int offset, int length, String msgTemplate, Object... msgArgs) {
+        return doubleValue(NumberParser.chars(reference, offset, length), msgTemplate, msgArgs);
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code int}.
+     * Validates that the characters of the reference array from the offset are a valid {@code double}.
      *
-     * @param reference the {@code String} to validate.
-     * @return the {@code int} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     * @param reference   the {@code char} array to validate.
+     * @param offset      the index of the first character.
+     * @param length      the number of characters.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code double} value of the characters.
+     * @throws NumberFormatException     thrown if the characters are not a valid {@code double}.
+     * @throws IndexOutOfBoundsException thrown if the offset and length are outside of the array.
      */
-    public static int intValue(String reference) {
-        return intValue(reference, DEFAULT_NUMBER_VALUE, msgSafe(reference), "an int");
+    public static double doubleValueLazy(char[] reference, int offset, int length, Supplier<String> msgSupplier) {
+        return doubleValueLazy(NumberParser.chars(reference, offset, length), msgSupplier);
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code int}.
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code double}.
+     * The position and limit of the buffer are not changed.
      *
-     * @param reference the {@code String} to validate.
+     * @param reference the {@code ByteBuffer} to validate.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
+     * @return the {@code double} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code double}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
+     */
+    public static double doubleValue(ByteBuffer reference, int position, int limit) {
+        return doubleValue(NumberParser.ascii(reference, position, limit));
+    }
+
+    /**
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code double}.
+     * The position and limit of the buffer are not changed.
+     *
+     * @param reference the {@code ByteBuffer} to validate.
+     * @param position  the index of the first byte.
+     * @param limit     the index after the last byte.
      * @param msg       the message to use for the exception.
-     * @return the {@code int} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     * @return the {@code double} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code double}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
      */
-    public static int intValue(String reference, String msg) {
-        return intValue(reference, msg, NULL_ARGS);
+    public static double doubleValue(ByteBuffer reference, int position, int limit, String msg) {
+        return doubleValue(NumberParser.ascii(reference, position, limit), msg);
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code int}.
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code double}.
+     * The position and limit of the buffer are not changed.
      *
-     * @param reference   the {@code String} to validate.
+     * @param reference   the {@code ByteBuffer} to validate.
+     * @param position    the index of the first byte.
+     * @param limit       the index after the last byte.
      * @param msgTemplate the message template used to format the message for the exception.
      * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the {@code int} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     * @return the {@code double} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code double}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
      */
-    public static int intValue(String reference, String msgTemplate, Object... msgArgs) {
-        return (int) doubleValue(reference, msgTemplate, msgArgs);
+    public static double doubleValue(ByteBuffer reference, int position, int limit, String msgTemplate, Object... msgArgs) {
+        return doubleValue(NumberParser.ascii(reference, position, limit), msgTemplate, msgArgs);
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code int}.
-     * The strict validation ensures that reference {@code String} represents a whole number.
+     * Validates that the ASCII bytes of the reference buffer between the positions are a valid {@code double}.
+     * The position and limit of the buffer are not changed.
      *
-     * @param reference the {@code String} to validate.
-     * @return the {@code int} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     * @param reference   the {@code ByteBuffer} to validate.
+     * @param position    the index of the first byte.
+     * @param limit       the index after the last byte.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the {@code double} value of the bytes.
+     * @throws NumberFormatException     thrown if the bytes are not a valid {@code double}.
+     * @throws IndexOutOfBoundsException thrown if the positions are outside of the limit of the buffer.
+     */
+    public static double doubleValueLazy(ByteBuffer reference, int position, int limit, Supplier<String> msgSupplier) {
+        return doubleValueLazy(NumberParser.ascii(reference, position, limit), msgSupplier);
+    }
+
+    /**
+     * Validates that the whole reference character sequence matches the regular expression. The expression is
+     * compiled once and cached, and simple expressions are matched without the regex engine.
+     *
+     * @param reference the character sequence to validate.
+     * @param regex     the regular expression the whole sequence must match.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the regular expression is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
      */
-    public static int strictlyIntValue(String reference) {
-        return strictlyIntValue(reference, DEFAULT_NUMBER_VALUE, msgSafe(reference), "a strict int");
+    public static <T extends CharSequence> T matches(T reference, String regex) {
+        return matches(reference, regex, DEFAULT_MATCHES_MESSAGE, reference, regex);
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code int}.
-     * The strict validation ensures that reference {@code String} represents a whole number.
+     * Validates that the whole reference character sequence matches the regular expression. The expression is
+     * compiled once and cached, and simple expressions are matched without the regex engine.
      *
-     * @param reference the {@code String} to validate.
+     * @param reference the character sequence to validate.
+     * @param regex     the regular expression the whole sequence must match.
      * @param msg       the message to use for the exception.
-     * @return the {@code int} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the regular expression is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
      */
-    public static int strictlyIntValue(String reference, String msg) {
-        return strictlyIntValue(reference, msg, NULL_ARGS);
+    public static <T extends CharSequence> T matches(T reference, String regex, String msg) {
+        return matches(reference, regex, msg, NULL_ARGS);
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code int}.
-     * The strict validation ensures that reference {@code String} represents a whole number.
+     * Validates that the whole reference character sequence matches the regular expression. The expression is
+     * compiled once and cached, and simple expressions are matched without the regex engine.
      *
-     * @param reference   the {@code String} to validate.
+     * @param reference   the character sequence to validate.
+     * @param regex       the regular expression the whole sequence must match.
      * @param msgTemplate the message template used to format the message for the exception.
      * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the {@code int} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code int}.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the regular expression is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
      */
-    public static int strictlyIntValue(String reference, String msgTemplate, Object... msgArgs) {
-        Double dub = doubleValue(reference, msgTemplate, msgArgs);
-        if (!dub.toString().endsWith(".0")) {
-            throw new NumberFormatException(format(msgTemplate, msgArgs));
+    public static <T extends CharSequence> T matches(T reference, String regex, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.MATCHES);
+        if (regex == null || reference == null) {
+            throw nullPointer(Check.MATCHES, reference, null, null, msgTemplate, msgArgs);
         }
-        return dub.intValue();
+        if (!PatternMatcher.of(regex).matches(reference)) {
+            throw illegalArgument(Check.MATCHES, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code long}.
+     * Validates that the whole reference character sequence matches the regular expression. The expression is
+     * compiled once and cached, and simple expressions are matched without the regex engine.
      *
-     * @param reference the {@code String} to validate.
-     * @return the {@code long} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code long}.
+     * @param reference   the character sequence to validate.
+     * @param regex       the regular expression the whole sequence must match.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the regular expression is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
      */
-    public static long longValue(String reference) {
-        return longValue(reference, DEFAULT_NUMBER_VALUE, msgSafe(reference), "a long");
+    public static <T extends CharSequence> T matchesLazy(T reference, String regex, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.MATCHES);
+        if (regex == null || reference == null) {
+            throw nullPointer(Check.MATCHES, reference, null, null, msgSupplied(msgSupplier));
+        }
+        if (!PatternMatcher.of(regex).matches(reference)) {
+            throw illegalArgument(Check.MATCHES, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code long}.
+     * Validates that the whole reference character sequence matches the regular expression. The expression is
+     * compiled once and cached, and simple expressions are matched without the regex engine.
      *
-     * @param reference the {@code String} to validate.
-     * @param msg       the message to use for the exception.
-     * @return the {@code long} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code long}.
+     * @param reference   the character sequence to validate.
+     * @param regex       the regular expression the whole sequence must match.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the regular expression is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
      */
-    public static long longValue(String reference, String msg) {
-        return longValue(reference, msg, NULL_ARGS);
+    public static <T extends CharSequence> T matches(T reference, String regex, String msgTemplate,
+                                                     Object msgArg1) {
+        PreconditionsMetrics.checked(Check.MATCHES);
+        if (regex == null || reference == null) {
+            throw nullPointer(Check.MATCHES, reference, null, null, msgTemplate, msgArg1);
+        }
+        if (!PatternMatcher.of(regex).matches(reference)) {
+            throw illegalArgument(Check.MATCHES, reference, null, null, msgTemplate, msgArg1);
+        }
+        return reference;
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code long}.
+     * Validates that the whole reference character sequence matches the regular expression. The expression is
+     * compiled once and cached, and simple expressions are matched without the regex engine.
      *
-     * @param reference   the {@code String} to validate.
+     * @param reference   the character sequence to validate.
+     * @param regex       the regular expression the whole sequence must match.
      * @param msgTemplate the message template used to format the message for the exception.
-     * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the {@code long} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code long}.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the regular expression is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
      */
-    public static long longValue(String reference, String msgTemplate, Object... msgArgs) {
-        return (long) doubleValue(reference, msgTemplate, msgArgs);
+    public static <T extends CharSequence> T matches(T reference, String regex, String msgTemplate,
+                                                     Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.MATCHES);
+        if (regex == null || reference == null) {
+            throw nullPointer(Check.MATCHES, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (!PatternMatcher.of(regex).matches(reference)) {
+            throw illegalArgument(Check.MATCHES, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code float}.
+     * Validates that the whole reference character sequence matches the regular expression. The expression is
+     * compiled once and cached, and simple expressions are matched without the regex engine.
      *
-     * @param reference the {@code String} to validate.
-     * @return the {@code float} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code float}.
+     * @param reference   the character sequence to validate.
+     * @param regex       the regular expression the whole sequence must match.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the regular expression is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
      */
-    public static float floatValue(String reference) {
-        return floatValue(reference, DEFAULT_NUMBER_VALUE, msgSafe(reference), "a float");
+    public static <T extends CharSequence> T matches(T reference, String regex, String msgTemplate,
+                                                     Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.MATCHES);
+        if (regex == null || reference == null) {
+            throw nullPointer(Check.MATCHES, reference, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (!PatternMatcher.of(regex).matches(reference)) {
+            throw illegalArgument(Check.MATCHES, reference, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        return reference;
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code float}.
+     * Validates that the whole reference character sequence matches the pattern. A {@link Matcher} is reused per
+     * thread, and a pattern without flags takes the fast paths of {@link #matches(CharSequence, String)}.
      *
-     * @param reference the {@code String} to validate.
+     * @param reference the character sequence to validate.
+     * @param pattern   the pattern the whole sequence must match.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the pattern is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
+     */
+    public static <T extends CharSequence> T matches(T reference, Pattern pattern) {
+        return matches(reference, pattern, DEFAULT_MATCHES_MESSAGE, reference, pattern);
+    }
+
+    /**
+     * Validates that the whole reference character sequence matches the pattern. A {@link Matcher} is reused per
+     * thread, and a pattern without flags takes the fast paths of {@link #matches(CharSequence, String)}.
+     *
+     * @param reference the character sequence to validate.
+     * @param pattern   the pattern the whole sequence must match.
      * @param msg       the message to use for the exception.
-     * @return the {@code float} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code float}.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the pattern is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
      */
-    public static float floatValue(String reference, String msg) {
-        return floatValue(reference, msg, NULL_ARGS);
+    public static <T extends CharSequence> T matches(T reference, Pattern pattern, String msg) {
+        return matches(reference, pattern, msg, NULL_ARGS);
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code float}.
+     * Validates that the whole reference character sequence matches the pattern. A {@link Matcher} is reused per
+     * thread, and a pattern without flags takes the fast paths of {@link #matches(CharSequence, String)}.
      *
-     * @param reference   the {@code String} to validate.
+     * @param reference   the character sequence to validate.
+     * @param pattern     the pattern the whole sequence must match.
      * @param msgTemplate the message template used to format the message for the exception.
      * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the {@code float} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code float}.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the pattern is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
      */
-    public static float floatValue(String reference, String msgTemplate, Object... msgArgs) {
-        return (float) doubleValue(reference, msgTemplate, msgArgs);
+    public static <T extends CharSequence> T matches(T reference, Pattern pattern, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.MATCHES);
+        if (pattern == null || reference == null) {
+            throw nullPointer(Check.MATCHES, reference, null, null, msgTemplate, msgArgs);
+        }
+        if (!PatternMatcher.matches(pattern, reference)) {
+            throw illegalArgument(Check.MATCHES, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code double}.
+     * Validates that the whole reference character sequence matches the pattern. A {@link Matcher} is reused per
+     * thread, and a pattern without flags takes the fast paths of {@link #matches(CharSequence, String)}.
      *
-     * @param reference the {@code String} to validate.
-     * @return the {@code double} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code double}.
+     * @param reference   the character sequence to validate.
+     * @param pattern     the pattern the whole sequence must match.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the pattern is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
      */
-    public static double doubleValue(String reference) {
-        return doubleValue(reference, DEFAULT_NUMBER_VALUE, msgSafe(reference), "a double");
+    public static <T extends CharSequence> T matchesLazy(T reference, Pattern pattern, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.MATCHES);
+        if (pattern == null || reference == null) {
+            throw nullPointer(Check.MATCHES, reference, null, null, msgSupplied(msgSupplier));
+        }
+        if (!PatternMatcher.matches(pattern, reference)) {
+            throw illegalArgument(Check.MATCHES, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code double}.
+     * Validates that the whole reference character sequence matches the pattern. A {@link Matcher} is reused per
+     * thread, and a pattern without flags takes the fast paths of {@link #matches(CharSequence, String)}.
      *
-     * @param reference the {@code String} to validate.
-     * @param msg       the message to use for the exception.
-     * @return the {@code double} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code double}.
+     * @param reference   the character sequence to validate.
+     * @param pattern     the pattern the whole sequence must match.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the pattern is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
      */
-    public static double doubleValue(String reference, String msg) {
-        return doubleValue(reference, msg, NULL_ARGS);
+    public static <T extends CharSequence> T matches(T reference, Pattern pattern, String msgTemplate,
+                                                     Object msgArg1) {
+        PreconditionsMetrics.checked(Check.MATCHES);
+        if (pattern == null || reference == null) {
+            throw nullPointer(Check.MATCHES, reference, null, null, msgTemplate, msgArg1);
+        }
+        if (!PatternMatcher.matches(pattern, reference)) {
+            throw illegalArgument(Check.MATCHES, reference, null, null, msgTemplate, msgArg1);
+        }
+        return reference;
     }
 
     /**
-     * Validates that the reference {@code String} is a valid {@code double}.
+     * Validates that the whole reference character sequence matches the pattern. A {@link Matcher} is reused per
+     * thread, and a pattern without flags takes the fast paths of {@link #matches(CharSequence, String)}.
      *
-     * @param reference   the {@code String} to validate.
+     * @param reference   the character sequence to validate.
+     * @param pattern     the pattern the whole sequence must match.
      * @param msgTemplate the message template used to format the message for the exception.
-     * @param msgArgs     the message arguments used to format the message for the exception.
-     * @return the {@code double} value of the reference {@code String}.
-     * @throws NumberFormatException thrown if the reference {@code String} is not a valid {@code double}.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the pattern is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
      */
-    public static double doubleValue(String reference, String msgTemplate, Object... msgArgs) {
-        notBlank(reference, msgTemplate, msgArgs);
-        Double dub = Assure.doubleOrNull(reference);
-        if (dub == null) {
-            throw new NumberFormatException(format(msgTemplate, msgArgs));
+    public static <T extends CharSequence> T matches(T reference, Pattern pattern, String msgTemplate,
+                                                     Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.MATCHES);
+        if (pattern == null || reference == null) {
+            throw nullPointer(Check.MATCHES, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (!PatternMatcher.matches(pattern, reference)) {
+            throw illegalArgument(Check.MATCHES, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the whole reference character sequence matches the pattern. A {@link Matcher} is reused per
+     * thread, and a pattern without flags takes the fast paths of {@link #matches(CharSequence, String)}.
+     *
+     * @param reference   the character sequence to validate.
+     * @param pattern     the pattern the whole sequence must match.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference character sequence if it matches.
+     * @throws NullPointerException     thrown if the reference or the pattern is {@code null}.
+     * @throws IllegalArgumentException thrown if the reference character sequence does not match.
+     */
+    public static <T extends CharSequence> T matches(T reference, Pattern pattern, String msgTemplate,
+                                                     Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.MATCHES);
+        if (pattern == null || reference == null) {
+            throw nullPointer(Check.MATCHES, reference, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (!PatternMatcher.matches(pattern, reference)) {
+            throw illegalArgument(Check.MATCHES, reference, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
         }
-        return dub;
+        return reference;
     }
 
     /**
@@ -948,8 +5587,99 @@ public class Validate {
      * @throws IllegalArgumentException thrown if the reference object is not a valid instance of type {@code Class}.
      */
     public static <T> T instanceOfType(T reference, Class<?> type, String msgTemplate, Object... msgArgs) {
-        if (!(notNull(type, msgTemplate, msgArgs).isInstance(notNull(reference, msgTemplate, msgArgs)))) {
-            throw new IllegalArgumentException(format(msgTemplate, msgArgs));
+        PreconditionsMetrics.checked(Check.INSTANCE_OF_TYPE);
+        if (type == null || reference == null) {
+            throw nullPointer(Check.INSTANCE_OF_TYPE, reference, null, null, msgTemplate, msgArgs);
+        }
+        if (!TypeCheck.isInstance(type, reference)) {
+            throw illegalArgument(Check.INSTANCE_OF_TYPE, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference object is an instance of the specified {@code Class}.
+     *
+     * @param reference   the reference object to validate.
+     * @param type        the {@code Class} the reference object is validated against.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference object.
+     * @throws IllegalArgumentException thrown if the reference object is not a valid instance of type {@code Class}.
+     */
+    public static <T> T instanceOfTypeLazy(T reference, Class<?> type, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.INSTANCE_OF_TYPE);
+        if (type == null || reference == null) {
+            throw nullPointer(Check.INSTANCE_OF_TYPE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        if (!TypeCheck.isInstance(type, reference)) {
+            throw illegalArgument(Check.INSTANCE_OF_TYPE, reference, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference object is an instance of the specified {@code Class}.
+     *
+     * @param reference   the reference object to validate.
+     * @param type        the {@code Class} the reference object is validated against.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference object.
+     * @throws IllegalArgumentException thrown if the reference object is not a valid instance of type {@code Class}.
+     */
+    public static <T> T instanceOfType(T reference, Class<?> type, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.INSTANCE_OF_TYPE);
+        if (type == null || reference == null) {
+            throw nullPointer(Check.INSTANCE_OF_TYPE, reference, null, null, msgTemplate, msgArg1);
+        }
+        if (!TypeCheck.isInstance(type, reference)) {
+            throw illegalArgument(Check.INSTANCE_OF_TYPE, reference, null, null, msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference object is an instance of the specified {@code Class}.
+     *
+     * @param reference   the reference object to validate.
+     * @param type        the {@code Class} the reference object is validated against.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference object.
+     * @throws IllegalArgumentException thrown if the reference object is not a valid instance of type {@code Class}.
+     */
+    public static <T> T instanceOfType(T reference, Class<?> type, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.INSTANCE_OF_TYPE);
+        if (type == null || reference == null) {
+            throw nullPointer(Check.INSTANCE_OF_TYPE, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (!TypeCheck.isInstance(type, reference)) {
+            throw illegalArgument(Check.INSTANCE_OF_TYPE, reference, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validate that the reference object is an instance of the specified {@code Class}.
+     *
+     * @param reference   the reference object to validate.
+     * @param type        the {@code Class} the reference object is validated against.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference object.
+     * @throws IllegalArgumentException thrown if the reference object is not a valid instance of type {@code Class}.
+     */
+    public static <T> T instanceOfType(T reference, Class<?> type, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.INSTANCE_OF_TYPE);
+        if (type == null || reference == null) {
+            throw nullPointer(Check.INSTANCE_OF_TYPE, reference, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (!TypeCheck.isInstance(type, reference)) {
+            throw illegalArgument(Check.INSTANCE_OF_TYPE, reference, null, null,
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
         }
         return reference;
     }
@@ -990,21 +5720,207 @@ public class Validate {
      * @throws IllegalArgumentException thrown if type {@code Class} is not assignable to the reference super {@code Class}.
      */
     public static Class<?> assignableFromClass(Class<?> reference, Class<?> type, String msgTemplate, Object... msgArgs) {
-        if (!(notNull(reference, msgTemplate, msgArgs).isAssignableFrom(notNull(type, msgTemplate, msgArgs)))) {
-            throw new IllegalArgumentException(format(msgTemplate, msgArgs));
+        PreconditionsMetrics.checked(Check.ASSIGNABLE_FROM_CLASS);
+        if (reference == null || type == null) {
+            throw nullPointer(Check.ASSIGNABLE_FROM_CLASS, type, null, null, msgTemplate, msgArgs);
+        }
+        if (!TypeCheck.isAssignableFrom(reference, type)) {
+            throw illegalArgument(Check.ASSIGNABLE_FROM_CLASS, type, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the typed class can be cast to the reference class, if not, throws an exception.
+     *
+     * @param reference   the super {@code Class} to validate against.
+     * @param type        the {@code Class} to check.
+     * @param msgSupplier the supplier of the message for the exception, only invoked if the validation fails.
+     * @return the reference super {@code Class}.
+     * @throws IllegalArgumentException thrown if type {@code Class} is not assignable to the reference super {@code Class}.
+     */
+    public static Class<?> assignableFromClassLazy(Class<?> reference, Class<?> type, Supplier<String> msgSupplier) {
+        PreconditionsMetrics.checked(Check.ASSIGNABLE_FROM_CLASS);
+        if (reference == null || type == null) {
+            throw nullPointer(Check.ASSIGNABLE_FROM_CLASS, type, null, null, msgSupplied(msgSupplier));
+        }
+        if (!TypeCheck.isAssignableFrom(reference, type)) {
+            throw illegalArgument(Check.ASSIGNABLE_FROM_CLASS, type, null, null, msgSupplied(msgSupplier));
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the typed class can be cast to the reference class, if not, throws an exception.
+     *
+     * @param reference   the super {@code Class} to validate against.
+     * @param type        the {@code Class} to check.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @return the reference super {@code Class}.
+     * @throws IllegalArgumentException thrown if type {@code Class} is not assignable to the reference super {@code Class}.
+     */
+    public static Class<?> assignableFromClass(Class<?> reference, Class<?> type, String msgTemplate, Object msgArg1) {
+        PreconditionsMetrics.checked(Check.ASSIGNABLE_FROM_CLASS);
+        if (reference == null || type == null) {
+            throw nullPointer(Check.ASSIGNABLE_FROM_CLASS, type, null, null, msgTemplate, msgArg1);
+        }
+        if (!TypeCheck.isAssignableFrom(reference, type)) {
+            throw illegalArgument(Check.ASSIGNABLE_FROM_CLASS, type, null, null, msgTemplate, msgArg1);
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the typed class can be cast to the reference class, if not, throws an exception.
+     *
+     * @param reference   the super {@code Class} to validate against.
+     * @param type        the {@code Class} to check.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @return the reference super {@code Class}.
+     * @throws IllegalArgumentException thrown if type {@code Class} is not assignable to the reference super {@code Class}.
+     */
+    public static Class<?> assignableFromClass(Class<?> reference, Class<?> type, String msgTemplate, Object msgArg1, Object msgArg2) {
+        PreconditionsMetrics.checked(Check.ASSIGNABLE_FROM_CLASS);
+        if (reference == null || type == null) {
+            throw nullPointer(Check.ASSIGNABLE_FROM_CLASS, type, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        if (!TypeCheck.isAssignableFrom(reference, type)) {
+            throw illegalArgument(Check.ASSIGNABLE_FROM_CLASS, type, null, null, msgTemplate, msgArg1, msgArg2);
+        }
+        return reference;
+    }
+
+    /**
+     * Validates that the typed class can be cast to the reference class, if not, throws an exception.
+     *
+     * @param reference   the super {@code Class} to validate against.
+     * @param type        the {@code Class} to check.
+     * @param msgTemplate the message template used to format the message for the exception.
+     * @param msgArg1     the first message argument used to format the message for the exception.
+     * @param msgArg2     the second message argument used to format the message for the exception.
+     * @param msgArg3     the third message argument used to format the message for the exception.
+     * @return the reference super {@code Class}.
+     * @throws IllegalArgumentException thrown if type {@code Class} is not assignable to the reference super {@code Class}.
+     */
+    public static Class<?> assignableFromClass(Class<?> reference, Class<?> type, String msgTemplate, Object msgArg1, Object msgArg2, Object msgArg3) {
+        PreconditionsMetrics.checked(Check.ASSIGNABLE_FROM_CLASS);
+        if (reference == null || type == null) {
+            throw nullPointer(Check.ASSIGNABLE_FROM_CLASS, type, null, null, msgTemplate, msgArg1, msgArg2, msgArg3);
+        }
+        if (!TypeCheck.isAssignableFrom(reference, type)) {
+            throw illegalArgument(Check.ASSIGNABLE_FROM_CLASS, type, null, null,
+                    msgTemplate, msgArg1, msgArg2, msgArg3);
         }
         return reference;
     }
 
-    private static String msgSafe(Object reference) {
-        return (reference == null) ? NULL_STRING : String.valueOf(reference);
+    private static RuntimeException numberFailure(CharSequence reference, String message) {
+        if (reference == null) {
+            return nullPointer(Check.NUMBER_VALUE, null, null, null, message);
+        }
+        String value = reference.toString();
+        if (isBlank(value)) {
+            return illegalArgument(Check.NUMBER_VALUE, value, null, null, message);
+        }
+        return numberFormat(Check.NUMBER_VALUE, value, null, null, message);
+    }
+
+    private static RuntimeException numberFailure(CharSequence reference, String msgTemplate, Object... msgArgs) {
+        if (reference == null) {
+            return nullPointer(Check.NUMBER_VALUE, null, null, null, msgTemplate, msgArgs);
+        }
+        String value = reference.toString();
+        if (isBlank(value)) {
+            return illegalArgument(Check.NUMBER_VALUE, value, null, null, msgTemplate, msgArgs);
+        }
+        return numberFormat(Check.NUMBER_VALUE, value, null, null, msgTemplate, msgArgs);
+    }
+
+    static boolean isBlank(String reference) {
+        for (int i = 0; i < reference.length(); i++) {
+            if (reference.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String msgSupplied(Supplier<String> msgSupplier) {
+        return (msgSupplier == null) ? null : msgSupplier.get();
+    }
+
+    private static <T> String msgApplied(Function<? super T, String> msgFunction, T reference) {
+        return (msgFunction == null) ? null : msgFunction.apply(reference);
+    }
+
+    static <T extends Map> Integer sizeOf(T reference) {
+        return (reference == null) ? null : reference.size();
+    }
+
+    static <T extends Collection> Integer sizeOf(T reference) {
+        return (reference == null) ? null : reference.size();
+    }
+
+    static Integer sizeOf(String reference) {
+        return (reference == null) ? null : reference.length();
+    }
+
+    private static NullPointerException nullPointer(Check check, Object value, Object start, Object end,
+                                                    String message) {
+        PreconditionsMetrics.failed(check);
+        FailureDetails details = new FailureDetails(check, value, start, end, message);
+        return ValidationEvents.failed(ExceptionFactories.current().nullPointer(details), details);
+    }
+
+    private static NullPointerException nullPointer(Check check, Object value, Object start, Object end,
+                                                    String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.failed(check);
+        FailureDetails details = new FailureDetails(check, value, start, end, msgTemplate, msgArgs);
+        return ValidationEvents.failed(ExceptionFactories.current().nullPointer(details), details);
+    }
+
+    private static IllegalArgumentException illegalArgument(Check check, Object value, Object start, Object end,
+                                                            String message) {
+        PreconditionsMetrics.failed(check);
+        FailureDetails details = new FailureDetails(check, value, start, end, message);
+        return ValidationEvents.failed(ExceptionFactories.current().illegalArgument(details), details);
+    }
+
+    private static IllegalArgumentException illegalArgument(Check check, Object value, Object start, Object end,
+                                                            String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.failed(check);
+        FailureDetails details = new FailureDetails(check, value, start, end, msgTemplate, msgArgs);
+        return ValidationEvents.failed(ExceptionFactories.current().illegalArgument(details), details);
+    }
+
+    private static IndexOutOfBoundsException indexOutOfBounds(Check check, Object value, Object start, Object end,
+                                                              String message) {
+        PreconditionsMetrics.failed(check);
+        FailureDetails details = new FailureDetails(check, value, start, end, message);
+        return ValidationEvents.failed(ExceptionFactories.current().indexOutOfBounds(details), details);
+    }
+
+    private static IndexOutOfBoundsException indexOutOfBounds(Check check, Object value, Object start, Object end,
+                                                              String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.failed(check);
+        FailureDetails details = new FailureDetails(check, value, start, end, msgTemplate, msgArgs);
+        return ValidationEvents.failed(ExceptionFactories.current().indexOutOfBounds(details), details);
     }
 
-    private static <T extends Map> String msgSize(T reference) {
-        return (reference == null) ? NULL_STRING : String.valueOf(reference.size());
+    private static NumberFormatException numberFormat(Check check, Object value, Object start, Object end,
+                                                      String message) {
+        PreconditionsMetrics.failed(check);
+        FailureDetails details = new FailureDetails(check, value, start, end, message);
+        return ValidationEvents.failed(ExceptionFactories.current().numberFormat(details), details);
     }
 
-    private static <T extends Collection> String msgSize(T reference) {
-        return (reference == null) ? NULL_STRING : String.valueOf(reference.size());
+    private static NumberFormatException numberFormat(Check check, Object value, Object start, Object end,
+                                                      String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.failed(check);
+        FailureDetails details = new FailureDetails(check, value, start, end, msgTemplate, msgArgs);
+        return ValidationEvents.failed(ExceptionFactories.current().numberFormat(details), details);
     }
 }
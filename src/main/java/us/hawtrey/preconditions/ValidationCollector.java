@@ -0,0 +1,1487 @@
+package us.hawtrey.preconditions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the checks of {@link Validate} and records every failure instead of throwing on the first one.
+ * <p>
+ * The checks have the same semantics and default messages as in {@code Validate}, and return the same values,
+ * except that the number checks return {@code 0} for an invalid value. A failure is stored in a few parallel
+ * arrays, so recording it creates no exception and its message is only formatted when it is requested.
+ * The collector can be {@link #reset()} and reused, for example once per record of a batch, and
+ * {@link #throwIfFailed()} raises a single {@link ValidationFailuresException} for all recorded failures.
+ * <p>
+ * Each check takes either no message or a message template with arguments. The primitive sign checks take a
+ * plain message instead, as a template overload would be ambiguous with the {@code Number} one.
+ * <p>
+ * A collector is not thread safe; use one per thread.
+ */
+@SuppressWarnings({"unused", "WeakerAccess"})
+public final class ValidationCollector {
+    private static final Object[] NULL_ARGS = null;
+    private static final int INITIAL_CAPACITY = 8;
+
+    private Check[] checks = new Check[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private Object[] starts = new Object[INITIAL_CAPACITY];
+    private Object[] ends = new Object[INITIAL_CAPACITY];
+    private String[] templates = new String[INITIAL_CAPACITY];
+    private Object[][] args = new Object[INITIAL_CAPACITY][];
+    private int size;
+
+    ValidationCollector() {
+    }
+
+    /**
+     * @return the number of recorded failures.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if no failure was recorded.
+     */
+    public boolean isValid() {
+        return size == 0;
+    }
+
+    /**
+     * @param index the index of the failure, in the order it was recorded.
+     * @return the kind of check that failed.
+     * @throws IndexOutOfBoundsException thrown if there is no failure at the index.
+     */
+    public Check getCheck(int index) {
+        return checks[checkIndex(index)];
+    }
+
+    /**
+     * @param index the index of the failure, in the order it was recorded.
+     * @return the value that failed the check.
+     * @throws IndexOutOfBoundsException thrown if there is no failure at the index.
+     */
+    public Object getValue(int index) {
+        return values[checkIndex(index)];
+    }
+
+    /**
+     * @param index the index of the failure, in the order it was recorded.
+     * @return the message describing the failure, formatted on each call.
+     * @throws IndexOutOfBoundsException thrown if there is no failure at the index.
+     */
+    public String getMessage(int index) {
+        checkIndex(index);
+        return MessageTemplate.format(templates[index], args[index]);
+    }
+
+    /**
+     * @param index the index of the failure, in the order it was recorded.
+     * @return the details of the failure.
+     * @throws IndexOutOfBoundsException thrown if there is no failure at the index.
+     */
+    public FailureDetails getFailure(int index) {
+        checkIndex(index);
+        return new FailureDetails(checks[index], values[index], starts[index], ends[index],
+                templates[index], args[index]);
+    }
+
+    /**
+     * @return the details of every recorded failure, in the order they were recorded.
+     */
+    public List<FailureDetails> getFailures() {
+        List<FailureDetails> failures = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            failures.add(getFailure(i));
+        }
+        return Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * Forgets the recorded failures, keeping the buffers for the next use.
+     *
+     * @return this collector.
+     */
+    public ValidationCollector reset() {
+        Arrays.fill(values, 0, size, null);
+        Arrays.fill(starts, 0, size, null);
+        Arrays.fill(ends, 0, size, null);
+        Arrays.fill(args, 0, size, null);
+        size = 0;
+        return this;
+    }
+
+    /**
+     * Throws a single exception describing every recorded failure, if there is any.
+     *
+     * @throws ValidationFailuresException thrown if a failure was recorded.
+     */
+    public void throwIfFailed() {
+        if (size > 0) {
+            throw new ValidationFailuresException(getFailures());
+        }
+    }
+
+    /**
+     * Records a failure if the reference {@code Object} is null.
+     *
+     * @param reference the {@code Object} to validate.
+     * @return the reference {@code Object}.
+     */
+    public <T> T notNull(T reference) {
+        PreconditionsMetrics.checked(Check.NOT_NULL);
+        if (reference == null) {
+            fail(Check.NOT_NULL, null, null, null, Validate.DEFAULT_NOT_NULL_MESSAGE, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Object} is null.
+     *
+     * @param reference   the {@code Object} to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Object}.
+     */
+    public <T> T notNull(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NOT_NULL);
+        if (reference == null) {
+            fail(Check.NOT_NULL, null, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code String} is null or blank.
+     *
+     * @param reference the {@code String} to validate.
+     * @return the reference {@code String}.
+     */
+    public String notBlank(String reference) {
+        PreconditionsMetrics.checked(Check.NOT_BLANK);
+        if (reference == null) {
+            fail(Check.NOT_BLANK, null, null, null, Validate.DEFAULT_NOT_BLANK_MESSAGE, NULL_ARGS);
+        } else if (Validate.isBlank(reference)) {
+            fail(Check.NOT_BLANK, reference, null, null, Validate.DEFAULT_NOT_BLANK_MESSAGE, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code String} is null or blank.
+     *
+     * @param reference   the {@code String} to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code String}.
+     */
+    public String notBlank(String reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NOT_BLANK);
+        if (reference == null) {
+            fail(Check.NOT_BLANK, null, null, null, msgTemplate, msgArgs);
+        } else if (Validate.isBlank(reference)) {
+            fail(Check.NOT_BLANK, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the argument is {@code false}.
+     *
+     * @param reference the {@code Object} returned.
+     * @param argument  the {@code boolean} to evaluate.
+     * @return the reference {@code Object}.
+     */
+    public <T> T argument(T reference, boolean argument) {
+        PreconditionsMetrics.checked(Check.ARGUMENT);
+        if (!argument) {
+            fail(Check.ARGUMENT, reference, null, null, Validate.DEFAULT_ARGUMENT_MESSAGE, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the argument is {@code false}.
+     *
+     * @param reference   the {@code Object} returned.
+     * @param argument    the {@code boolean} to evaluate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Object}.
+     */
+    public <T> T argument(T reference, boolean argument, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.ARGUMENT);
+        if (!argument) {
+            fail(Check.ARGUMENT, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Map} is null or empty.
+     *
+     * @param reference the {@code Map} to validate.
+     * @return the reference {@code Map}.
+     */
+    public <T extends Map> T notEmpty(T reference) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            fail(Check.NOT_EMPTY, null, null, null, Validate.DEFAULT_EMPTY_MAP_MESSAGE, NULL_ARGS);
+        } else if (reference.isEmpty()) {
+            fail(Check.NOT_EMPTY, reference, null, null, Validate.DEFAULT_EMPTY_MAP_MESSAGE, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Map} is null or empty.
+     *
+     * @param reference   the {@code Map} to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Map}.
+     */
+    public <T extends Map> T notEmpty(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            fail(Check.NOT_EMPTY, null, null, null, msgTemplate, msgArgs);
+        } else if (reference.isEmpty()) {
+            fail(Check.NOT_EMPTY, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Collection} is null or empty.
+     *
+     * @param reference the {@code Collection} to validate.
+     * @return the reference {@code Collection}.
+     */
+    public <T extends Collection> T notEmpty(T reference) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            fail(Check.NOT_EMPTY, null, null, null, Validate.DEFAULT_EMPTY_COLLECTION_MESSAGE, NULL_ARGS);
+        } else if (reference.isEmpty()) {
+            fail(Check.NOT_EMPTY, reference, null, null, Validate.DEFAULT_EMPTY_COLLECTION_MESSAGE, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Collection} is null or empty.
+     *
+     * @param reference   the {@code Collection} to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Collection}.
+     */
+    public <T extends Collection> T notEmpty(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NOT_EMPTY);
+        if (reference == null) {
+            fail(Check.NOT_EMPTY, null, null, null, msgTemplate, msgArgs);
+        } else if (reference.isEmpty()) {
+            fail(Check.NOT_EMPTY, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the index is not a valid element index of the reference {@code Map}.
+     *
+     * @param reference the {@code Map} the index refers to.
+     * @param index     the index to validate.
+     * @return the reference {@code Map}.
+     */
+    public <T extends Map> T elementIndex(T reference, int index) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            fail(Check.ELEMENT_INDEX, index, 0, Validate.sizeOf(reference),
+                    Validate.DEFAULT_VALID_INDEX_MAP_MESSAGE,
+                    Validate.ELEMENT_INDEX_TYPE, index, Validate.sizeOf(reference));
+        } else if (reference == null) {
+            fail(Check.ELEMENT_INDEX, index, 0, null,
+                    Validate.DEFAULT_VALID_INDEX_MAP_MESSAGE,
+                    Validate.ELEMENT_INDEX_TYPE, index, Validate.sizeOf(reference));
+        } else if (!(index < reference.size())) {
+            fail(Check.ELEMENT_INDEX, index, 0, reference.size(),
+                    Validate.DEFAULT_VALID_INDEX_MAP_MESSAGE,
+                    Validate.ELEMENT_INDEX_TYPE, index, Validate.sizeOf(reference));
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the index is not a valid element index of the reference {@code Map}.
+     *
+     * @param reference   the {@code Map} the index refers to.
+     * @param index       the index to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Map}.
+     */
+    public <T extends Map> T elementIndex(T reference, int index, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            fail(Check.ELEMENT_INDEX, index, 0, Validate.sizeOf(reference), msgTemplate, msgArgs);
+        } else if (reference == null) {
+            fail(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArgs);
+        } else if (!(index < reference.size())) {
+            fail(Check.ELEMENT_INDEX, index, 0, reference.size(), msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the index is not a valid element index of the reference {@code Collection}.
+     *
+     * @param reference the {@code Collection} the index refers to.
+     * @param index     the index to validate.
+     * @return the reference {@code Collection}.
+     */
+    public <T extends Collection> T elementIndex(T reference, int index) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            fail(Check.ELEMENT_INDEX, index, 0, Validate.sizeOf(reference),
+                    Validate.DEFAULT_VALID_INDEX_COLLECTION_MESSAGE,
+                    Validate.ELEMENT_INDEX_TYPE, index, Validate.sizeOf(reference));
+        } else if (reference == null) {
+            fail(Check.ELEMENT_INDEX, index, 0, null,
+                    Validate.DEFAULT_VALID_INDEX_COLLECTION_MESSAGE,
+                    Validate.ELEMENT_INDEX_TYPE, index, Validate.sizeOf(reference));
+        } else if (!(index < reference.size())) {
+            fail(Check.ELEMENT_INDEX, index, 0, reference.size(),
+                    Validate.DEFAULT_VALID_INDEX_COLLECTION_MESSAGE,
+                    Validate.ELEMENT_INDEX_TYPE, index, Validate.sizeOf(reference));
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the index is not a valid element index of the reference {@code Collection}.
+     *
+     * @param reference   the {@code Collection} the index refers to.
+     * @param index       the index to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Collection}.
+     */
+    public <T extends Collection> T elementIndex(T reference, int index, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            fail(Check.ELEMENT_INDEX, index, 0, Validate.sizeOf(reference), msgTemplate, msgArgs);
+        } else if (reference == null) {
+            fail(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArgs);
+        } else if (!(index < reference.size())) {
+            fail(Check.ELEMENT_INDEX, index, 0, reference.size(), msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the index is not a valid element index of the reference {@code String}.
+     *
+     * @param reference the {@code String} the index refers to.
+     * @param index     the index to validate.
+     * @return the reference {@code String}.
+     */
+    public String elementIndex(String reference, int index) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            fail(Check.ELEMENT_INDEX, index, 0, Validate.sizeOf(reference),
+                    Validate.DEFAULT_VALID_INDEX_STRING_MESSAGE, Validate.ELEMENT_INDEX_TYPE, index, reference);
+        } else if (reference == null) {
+            fail(Check.ELEMENT_INDEX, index, 0, null,
+                    Validate.DEFAULT_VALID_INDEX_STRING_MESSAGE, Validate.ELEMENT_INDEX_TYPE, index, reference);
+        } else if (!(index < reference.length())) {
+            fail(Check.ELEMENT_INDEX, index, 0, reference.length(),
+                    Validate.DEFAULT_VALID_INDEX_STRING_MESSAGE, Validate.ELEMENT_INDEX_TYPE, index, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the index is not a valid element index of the reference {@code String}.
+     *
+     * @param reference   the {@code String} the index refers to.
+     * @param index       the index to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code String}.
+     */
+    public String elementIndex(String reference, int index, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.ELEMENT_INDEX);
+        if (index < 0) {
+            fail(Check.ELEMENT_INDEX, index, 0, Validate.sizeOf(reference), msgTemplate, msgArgs);
+        } else if (reference == null) {
+            fail(Check.ELEMENT_INDEX, index, 0, null, msgTemplate, msgArgs);
+        } else if (!(index < reference.length())) {
+            fail(Check.ELEMENT_INDEX, index, 0, reference.length(), msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the index is not a valid position index of the reference {@code Map}.
+     *
+     * @param reference the {@code Map} the index refers to.
+     * @param index     the index to validate.
+     * @return the reference {@code Map}.
+     */
+    public <T extends Map> T positionIndex(T reference, int index) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            fail(Check.POSITION_INDEX, index, 0, Validate.sizeOf(reference),
+                    Validate.DEFAULT_VALID_INDEX_MAP_MESSAGE,
+                    Validate.POSITION_INDEX_TYPE, index, Validate.sizeOf(reference));
+        } else if (reference == null) {
+            fail(Check.POSITION_INDEX, index, 0, null,
+                    Validate.DEFAULT_VALID_INDEX_MAP_MESSAGE,
+                    Validate.POSITION_INDEX_TYPE, index, Validate.sizeOf(reference));
+        } else if (index > reference.size()) {
+            fail(Check.POSITION_INDEX, index, 0, reference.size(),
+                    Validate.DEFAULT_VALID_INDEX_MAP_MESSAGE,
+                    Validate.POSITION_INDEX_TYPE, index, Validate.sizeOf(reference));
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the index is not a valid position index of the reference {@code Map}.
+     *
+     * @param reference   the {@code Map} the index refers to.
+     * @param index       the index to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Map}.
+     */
+    public <T extends Map> T positionIndex(T reference, int index, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            fail(Check.POSITION_INDEX, index, 0, Validate.sizeOf(reference), msgTemplate, msgArgs);
+        } else if (reference == null) {
+            fail(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArgs);
+        } else if (index > reference.size()) {
+            fail(Check.POSITION_INDEX, index, 0, reference.size(), msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the index is not a valid position index of the reference {@code Collection}.
+     *
+     * @param reference the {@code Collection} the index refers to.
+     * @param index     the index to validate.
+     * @return the reference {@code Collection}.
+     */
+    public <T extends Collection> T positionIndex(T reference, int index) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            fail(Check.POSITION_INDEX, index, 0, Validate.sizeOf(reference),
+                    Validate.DEFAULT_VALID_INDEX_COLLECTION_MESSAGE,
+                    Validate.POSITION_INDEX_TYPE, index, Validate.sizeOf(reference));
+        } else if (reference == null) {
+            fail(Check.POSITION_INDEX, index, 0, null,
+                    Validate.DEFAULT_VALID_INDEX_COLLECTION_MESSAGE,
+                    Validate.POSITION_INDEX_TYPE, index, Validate.sizeOf(reference));
+        } else if (index > reference.size()) {
+            fail(Check.POSITION_INDEX, index, 0, reference.size(),
+                    Validate.DEFAULT_VALID_INDEX_COLLECTION_MESSAGE,
+                    Validate.POSITION_INDEX_TYPE, index, Validate.sizeOf(reference));
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the index is not a valid position index of the reference {@code Collection}.
+     *
+     * @param reference   the {@code Collection} the index refers to.
+     * @param index       the index to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Collection}.
+     */
+    public <T extends Collection> T positionIndex(T reference, int index, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            fail(Check.POSITION_INDEX, index, 0, Validate.sizeOf(reference), msgTemplate, msgArgs);
+        } else if (reference == null) {
+            fail(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArgs);
+        } else if (index > reference.size()) {
+            fail(Check.POSITION_INDEX, index, 0, reference.size(), msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the index is not a valid position index of the reference {@code String}.
+     *
+     * @param reference the {@code String} the index refers to.
+     * @param index     the index to validate.
+     * @return the reference {@code String}.
+     */
+    public String positionIndex(String reference, int index) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            fail(Check.POSITION_INDEX, index, 0, Validate.sizeOf(reference),
+                    Validate.DEFAULT_VALID_INDEX_STRING_MESSAGE, Validate.POSITION_INDEX_TYPE, index, reference);
+        } else if (reference == null) {
+            fail(Check.POSITION_INDEX, index, 0, null,
+                    Validate.DEFAULT_VALID_INDEX_STRING_MESSAGE, Validate.POSITION_INDEX_TYPE, index, reference);
+        } else if (index > reference.length()) {
+            fail(Check.POSITION_INDEX, index, 0, reference.length(),
+                    Validate.DEFAULT_VALID_INDEX_STRING_MESSAGE, Validate.POSITION_INDEX_TYPE, index, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the index is not a valid position index of the reference {@code String}.
+     *
+     * @param reference   the {@code String} the index refers to.
+     * @param index       the index to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code String}.
+     */
+    public String positionIndex(String reference, int index, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.POSITION_INDEX);
+        if (index < 0) {
+            fail(Check.POSITION_INDEX, index, 0, Validate.sizeOf(reference), msgTemplate, msgArgs);
+        } else if (reference == null) {
+            fail(Check.POSITION_INDEX, index, 0, null, msgTemplate, msgArgs);
+        } else if (index > reference.length()) {
+            fail(Check.POSITION_INDEX, index, 0, reference.length(), msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference is null or not in the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference the {@code Comparable} to validate.
+     * @param start     the start of the range.
+     * @param end       the end of the range.
+     * @return the reference {@code Comparable}.
+     */
+    public <T extends Comparable<T>> T inRange(T reference, T start, T end) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (reference == null) {
+            fail(Check.IN_RANGE, null, start, end, Validate.DEFAULT_IN_RANGE_MESSAGE, reference, start, end);
+        } else if (!Validate.isInRange(reference, start, end)) {
+            fail(Check.IN_RANGE, reference, start, end, Validate.DEFAULT_IN_RANGE_MESSAGE, reference, start, end);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference is null or not in the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference   the {@code Comparable} to validate.
+     * @param start       the start of the range.
+     * @param end         the end of the range.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Comparable}.
+     */
+    public <T extends Comparable<T>> T inRange(T reference, T start, T end, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (reference == null) {
+            fail(Check.IN_RANGE, null, start, end, msgTemplate, msgArgs);
+        } else if (!Validate.isInRange(reference, start, end)) {
+            fail(Check.IN_RANGE, reference, start, end, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code int} is not in the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference the {@code int} to validate.
+     * @param start     the start of the range.
+     * @param end       the end of the range.
+     * @return the reference {@code int}.
+     */
+    public int inIntRange(int reference, int start, int end) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!Validate.isInRange(reference, start, end)) {
+            fail(Check.IN_RANGE, reference, start, end, Validate.DEFAULT_IN_RANGE_MESSAGE, reference, start, end);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code int} is not in the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference   the {@code int} to validate.
+     * @param start       the start of the range.
+     * @param end         the end of the range.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code int}.
+     */
+    public int inIntRange(int reference, int start, int end, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!Validate.isInRange(reference, start, end)) {
+            fail(Check.IN_RANGE, reference, start, end, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code long} is not in the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference the {@code long} to validate.
+     * @param start     the start of the range.
+     * @param end       the end of the range.
+     * @return the reference {@code long}.
+     */
+    public long inLongRange(long reference, long start, long end) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!Validate.isInRange(reference, start, end)) {
+            fail(Check.IN_RANGE, reference, start, end, Validate.DEFAULT_IN_RANGE_MESSAGE, reference, start, end);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code long} is not in the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference   the {@code long} to validate.
+     * @param start       the start of the range.
+     * @param end         the end of the range.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code long}.
+     */
+    public long inLongRange(long reference, long start, long end, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!Validate.isInRange(reference, start, end)) {
+            fail(Check.IN_RANGE, reference, start, end, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code double} is not in the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference the {@code double} to validate.
+     * @param start     the start of the range.
+     * @param end       the end of the range.
+     * @return the reference {@code double}.
+     */
+    public double inDoubleRange(double reference, double start, double end) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!Validate.isInRange(reference, start, end)) {
+            fail(Check.IN_RANGE, reference, start, end, Validate.DEFAULT_IN_RANGE_MESSAGE, reference, start, end);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code double} is not in the range.
+     * The range is from {@code start}, inclusive, to {@code end}, exclusive.
+     *
+     * @param reference   the {@code double} to validate.
+     * @param start       the start of the range.
+     * @param end         the end of the range.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code double}.
+     */
+    public double inDoubleRange(double reference, double start, double end, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.IN_RANGE);
+        if (!Validate.isInRange(reference, start, end)) {
+            fail(Check.IN_RANGE, reference, start, end, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code int} is not positive.
+     *
+     * @param reference the {@code int} to validate.
+     * @return the reference {@code int}.
+     */
+    public int positive(int reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            fail(Check.POSITIVE, reference, null, null, Validate.DEFAULT_POSITIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code int} is not positive.
+     *
+     * @param reference the {@code int} to validate.
+     * @param msg       the message of the failure.
+     * @return the reference {@code int}.
+     */
+    public int positive(int reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            fail(Check.POSITIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code long} is not positive.
+     *
+     * @param reference the {@code long} to validate.
+     * @return the reference {@code long}.
+     */
+    public long positive(long reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            fail(Check.POSITIVE, reference, null, null, Validate.DEFAULT_POSITIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code long} is not positive.
+     *
+     * @param reference the {@code long} to validate.
+     * @param msg       the message of the failure.
+     * @return the reference {@code long}.
+     */
+    public long positive(long reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            fail(Check.POSITIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code double} is not positive.
+     *
+     * @param reference the {@code double} to validate.
+     * @return the reference {@code double}.
+     */
+    public double positive(double reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            fail(Check.POSITIVE, reference, null, null, Validate.DEFAULT_POSITIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code double} is not positive.
+     *
+     * @param reference the {@code double} to validate.
+     * @param msg       the message of the failure.
+     * @return the reference {@code double}.
+     */
+    public double positive(double reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (!(reference > 0)) {
+            fail(Check.POSITIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Number} is null or not positive.
+     *
+     * @param reference the {@code Number} to validate.
+     * @return the reference {@code Number}.
+     */
+    public <T extends Number> T positive(T reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (reference == null) {
+            fail(Check.POSITIVE, null, null, null, Validate.DEFAULT_POSITIVE_MESSAGE, reference);
+        } else if (!(reference.doubleValue() > 0.0)) {
+            fail(Check.POSITIVE, reference, null, null, Validate.DEFAULT_POSITIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Number} is null or not positive.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Number}.
+     */
+    public <T extends Number> T positive(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.POSITIVE);
+        if (reference == null) {
+            fail(Check.POSITIVE, null, null, null, msgTemplate, msgArgs);
+        } else if (!(reference.doubleValue() > 0.0)) {
+            fail(Check.POSITIVE, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code int} is not positive or zero.
+     *
+     * @param reference the {@code int} to validate.
+     * @return the reference {@code int}.
+     */
+    public int positiveOrZero(int reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            fail(Check.POSITIVE_OR_ZERO, reference, null, null, Validate.DEFAULT_POSITIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code int} is not positive or zero.
+     *
+     * @param reference the {@code int} to validate.
+     * @param msg       the message of the failure.
+     * @return the reference {@code int}.
+     */
+    public int positiveOrZero(int reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            fail(Check.POSITIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code long} is not positive or zero.
+     *
+     * @param reference the {@code long} to validate.
+     * @return the reference {@code long}.
+     */
+    public long positiveOrZero(long reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            fail(Check.POSITIVE_OR_ZERO, reference, null, null, Validate.DEFAULT_POSITIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code long} is not positive or zero.
+     *
+     * @param reference the {@code long} to validate.
+     * @param msg       the message of the failure.
+     * @return the reference {@code long}.
+     */
+    public long positiveOrZero(long reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            fail(Check.POSITIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code double} is not positive or zero.
+     *
+     * @param reference the {@code double} to validate.
+     * @return the reference {@code double}.
+     */
+    public double positiveOrZero(double reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            fail(Check.POSITIVE_OR_ZERO, reference, null, null, Validate.DEFAULT_POSITIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code double} is not positive or zero.
+     *
+     * @param reference the {@code double} to validate.
+     * @param msg       the message of the failure.
+     * @return the reference {@code double}.
+     */
+    public double positiveOrZero(double reference, String msg) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (!(reference >= 0)) {
+            fail(Check.POSITIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Number} is null or not positive or zero.
+     *
+     * @param reference the {@code Number} to validate.
+     * @return the reference {@code Number}.
+     */
+    public <T extends Number> T positiveOrZero(T reference) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (reference == null) {
+            fail(Check.POSITIVE_OR_ZERO, null, null, null, Validate.DEFAULT_POSITIVE_OR_ZERO_MESSAGE, reference);
+        } else if (!(reference.doubleValue() >= 0.0)) {
+            fail(Check.POSITIVE_OR_ZERO, reference, null, null, Validate.DEFAULT_POSITIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Number} is null or not positive or zero.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Number}.
+     */
+    public <T extends Number> T positiveOrZero(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.POSITIVE_OR_ZERO);
+        if (reference == null) {
+            fail(Check.POSITIVE_OR_ZERO, null, null, null, msgTemplate, msgArgs);
+        } else if (!(reference.doubleValue() >= 0.0)) {
+            fail(Check.POSITIVE_OR_ZERO, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code int} is not negative.
+     *
+     * @param reference the {@code int} to validate.
+     * @return the reference {@code int}.
+     */
+    public int negative(int reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            fail(Check.NEGATIVE, reference, null, null, Validate.DEFAULT_NEGATIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code int} is not negative.
+     *
+     * @param reference the {@code int} to validate.
+     * @param msg       the message of the failure.
+     * @return the reference {@code int}.
+     */
+    public int negative(int reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            fail(Check.NEGATIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code long} is not negative.
+     *
+     * @param reference the {@code long} to validate.
+     * @return the reference {@code long}.
+     */
+    public long negative(long reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            fail(Check.NEGATIVE, reference, null, null, Validate.DEFAULT_NEGATIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code long} is not negative.
+     *
+     * @param reference the {@code long} to validate.
+     * @param msg       the message of the failure.
+     * @return the reference {@code long}.
+     */
+    public long negative(long reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            fail(Check.NEGATIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code double} is not negative.
+     *
+     * @param reference the {@code double} to validate.
+     * @return the reference {@code double}.
+     */
+    public double negative(double reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            fail(Check.NEGATIVE, reference, null, null, Validate.DEFAULT_NEGATIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code double} is not negative.
+     *
+     * @param reference the {@code double} to validate.
+     * @param msg       the message of the failure.
+     * @return the reference {@code double}.
+     */
+    public double negative(double reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (!(reference < 0)) {
+            fail(Check.NEGATIVE, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Number} is null or not negative.
+     *
+     * @param reference the {@code Number} to validate.
+     * @return the reference {@code Number}.
+     */
+    public <T extends Number> T negative(T reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (reference == null) {
+            fail(Check.NEGATIVE, null, null, null, Validate.DEFAULT_NEGATIVE_MESSAGE, reference);
+        } else if (!(reference.doubleValue() < 0.0)) {
+            fail(Check.NEGATIVE, reference, null, null, Validate.DEFAULT_NEGATIVE_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Number} is null or not negative.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Number}.
+     */
+    public <T extends Number> T negative(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NEGATIVE);
+        if (reference == null) {
+            fail(Check.NEGATIVE, null, null, null, msgTemplate, msgArgs);
+        } else if (!(reference.doubleValue() < 0.0)) {
+            fail(Check.NEGATIVE, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code int} is not negative or zero.
+     *
+     * @param reference the {@code int} to validate.
+     * @return the reference {@code int}.
+     */
+    public int negativeOrZero(int reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            fail(Check.NEGATIVE_OR_ZERO, reference, null, null, Validate.DEFAULT_NEGATIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code int} is not negative or zero.
+     *
+     * @param reference the {@code int} to validate.
+     * @param msg       the message of the failure.
+     * @return the reference {@code int}.
+     */
+    public int negativeOrZero(int reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            fail(Check.NEGATIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code long} is not negative or zero.
+     *
+     * @param reference the {@code long} to validate.
+     * @return the reference {@code long}.
+     */
+    public long negativeOrZero(long reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            fail(Check.NEGATIVE_OR_ZERO, reference, null, null, Validate.DEFAULT_NEGATIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code long} is not negative or zero.
+     *
+     * @param reference the {@code long} to validate.
+     * @param msg       the message of the failure.
+     * @return the reference {@code long}.
+     */
+    public long negativeOrZero(long reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            fail(Check.NEGATIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code double} is not negative or zero.
+     *
+     * @param reference the {@code double} to validate.
+     * @return the reference {@code double}.
+     */
+    public double negativeOrZero(double reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            fail(Check.NEGATIVE_OR_ZERO, reference, null, null, Validate.DEFAULT_NEGATIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code double} is not negative or zero.
+     *
+     * @param reference the {@code double} to validate.
+     * @param msg       the message of the failure.
+     * @return the reference {@code double}.
+     */
+    public double negativeOrZero(double reference, String msg) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (!(reference <= 0)) {
+            fail(Check.NEGATIVE_OR_ZERO, reference, null, null, msg, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Number} is null or not negative or zero.
+     *
+     * @param reference the {@code Number} to validate.
+     * @return the reference {@code Number}.
+     */
+    public <T extends Number> T negativeOrZero(T reference) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (reference == null) {
+            fail(Check.NEGATIVE_OR_ZERO, null, null, null, Validate.DEFAULT_NEGATIVE_OR_ZERO_MESSAGE, reference);
+        } else if (!(reference.doubleValue() <= 0.0)) {
+            fail(Check.NEGATIVE_OR_ZERO, reference, null, null, Validate.DEFAULT_NEGATIVE_OR_ZERO_MESSAGE, reference);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Number} is null or not negative or zero.
+     *
+     * @param reference   the {@code Number} to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Number}.
+     */
+    public <T extends Number> T negativeOrZero(T reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NEGATIVE_OR_ZERO);
+        if (reference == null) {
+            fail(Check.NEGATIVE_OR_ZERO, null, null, null, msgTemplate, msgArgs);
+        } else if (!(reference.doubleValue() <= 0.0)) {
+            fail(Check.NEGATIVE_OR_ZERO, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code CharSequence} is not a valid {@code int}.
+     *
+     * @param reference the {@code CharSequence} to validate.
+     * @return the {@code int} value of the reference, or {@code 0} if it is not valid.
+     */
+    public int intValue(CharSequence reference) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (NumberParser.isNumber(reference)) {
+            return NumberParser.parseInt(reference, 0);
+        }
+        numberFailure(reference, Validate.DEFAULT_NUMBER_VALUE, String.valueOf(reference), "an int");
+        return 0;
+    }
+
+    /**
+     * Records a failure if the reference {@code CharSequence} is not a valid {@code int}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the {@code int} value of the reference, or {@code 0} if it is not valid.
+     */
+    public int intValue(CharSequence reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (NumberParser.isNumber(reference)) {
+            return NumberParser.parseInt(reference, 0);
+        }
+        numberFailure(reference, msgTemplate, msgArgs);
+        return 0;
+    }
+
+    /**
+     * Records a failure if the reference {@code CharSequence} is not a valid {@code long}.
+     *
+     * @param reference the {@code CharSequence} to validate.
+     * @return the {@code long} value of the reference, or {@code 0} if it is not valid.
+     */
+    public long longValue(CharSequence reference) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (NumberParser.isNumber(reference)) {
+            return NumberParser.parseLong(reference, 0L);
+        }
+        numberFailure(reference, Validate.DEFAULT_NUMBER_VALUE, String.valueOf(reference), "a long");
+        return 0;
+    }
+
+    /**
+     * Records a failure if the reference {@code CharSequence} is not a valid {@code long}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the {@code long} value of the reference, or {@code 0} if it is not valid.
+     */
+    public long longValue(CharSequence reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (NumberParser.isNumber(reference)) {
+            return NumberParser.parseLong(reference, 0L);
+        }
+        numberFailure(reference, msgTemplate, msgArgs);
+        return 0;
+    }
+
+    /**
+     * Records a failure if the reference {@code CharSequence} is not a valid {@code float}.
+     *
+     * @param reference the {@code CharSequence} to validate.
+     * @return the {@code float} value of the reference, or {@code 0} if it is not valid.
+     */
+    public float floatValue(CharSequence reference) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (NumberParser.isNumber(reference)) {
+            return (float) NumberParser.parseDouble(reference, 0D);
+        }
+        numberFailure(reference, Validate.DEFAULT_NUMBER_VALUE, String.valueOf(reference), "a float");
+        return 0;
+    }
+
+    /**
+     * Records a failure if the reference {@code CharSequence} is not a valid {@code float}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the {@code float} value of the reference, or {@code 0} if it is not valid.
+     */
+    public float floatValue(CharSequence reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (NumberParser.isNumber(reference)) {
+            return (float) NumberParser.parseDouble(reference, 0D);
+        }
+        numberFailure(reference, msgTemplate, msgArgs);
+        return 0;
+    }
+
+    /**
+     * Records a failure if the reference {@code CharSequence} is not a valid {@code double}.
+     *
+     * @param reference the {@code CharSequence} to validate.
+     * @return the {@code double} value of the reference, or {@code 0} if it is not valid.
+     */
+    public double doubleValue(CharSequence reference) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (NumberParser.isNumber(reference)) {
+            return NumberParser.parseDouble(reference, 0D);
+        }
+        numberFailure(reference, Validate.DEFAULT_NUMBER_VALUE, String.valueOf(reference), "a double");
+        return 0;
+    }
+
+    /**
+     * Records a failure if the reference {@code CharSequence} is not a valid {@code double}.
+     *
+     * @param reference   the {@code CharSequence} to validate.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the {@code double} value of the reference, or {@code 0} if it is not valid.
+     */
+    public double doubleValue(CharSequence reference, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.NUMBER_VALUE);
+        if (NumberParser.isNumber(reference)) {
+            return NumberParser.parseDouble(reference, 0D);
+        }
+        numberFailure(reference, msgTemplate, msgArgs);
+        return 0;
+    }
+
+    /**
+     * Records a failure if the reference {@code Object} is null or not an instance of the type.
+     *
+     * @param reference the {@code Object} to validate.
+     * @param type      the type the reference must be an instance of.
+     * @return the reference {@code Object}.
+     */
+    public <T> T instanceOfType(T reference, Class<?> type) {
+        PreconditionsMetrics.checked(Check.INSTANCE_OF_TYPE);
+        if (type == null || reference == null) {
+            fail(Check.INSTANCE_OF_TYPE, reference, null, null, Validate.DEFAULT_INSTANCE_OF_MESSAGE, NULL_ARGS);
+        } else if (!TypeCheck.isInstance(type, reference)) {
+            fail(Check.INSTANCE_OF_TYPE, reference, null, null, Validate.DEFAULT_INSTANCE_OF_MESSAGE, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Object} is null or not an instance of the type.
+     *
+     * @param reference   the {@code Object} to validate.
+     * @param type        the type the reference must be an instance of.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Object}.
+     */
+    public <T> T instanceOfType(T reference, Class<?> type, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.INSTANCE_OF_TYPE);
+        if (type == null || reference == null) {
+            fail(Check.INSTANCE_OF_TYPE, reference, null, null, msgTemplate, msgArgs);
+        } else if (!TypeCheck.isInstance(type, reference)) {
+            fail(Check.INSTANCE_OF_TYPE, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Class} is null or cannot be assigned from the type.
+     *
+     * @param reference the {@code Class} to validate.
+     * @param type      the type that must be assignable to the reference.
+     * @return the reference {@code Class}.
+     */
+    public Class<?> assignableFromClass(Class<?> reference, Class<?> type) {
+        PreconditionsMetrics.checked(Check.ASSIGNABLE_FROM_CLASS);
+        if (reference == null || type == null) {
+            fail(Check.ASSIGNABLE_FROM_CLASS, type, null, null, Validate.DEFAULT_ASSIGNABLE_FROM_MESSAGE, NULL_ARGS);
+        } else if (!TypeCheck.isAssignableFrom(reference, type)) {
+            fail(Check.ASSIGNABLE_FROM_CLASS, type, null, null, Validate.DEFAULT_ASSIGNABLE_FROM_MESSAGE, NULL_ARGS);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference {@code Class} is null or cannot be assigned from the type.
+     *
+     * @param reference   the {@code Class} to validate.
+     * @param type        the type that must be assignable to the reference.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference {@code Class}.
+     */
+    public Class<?> assignableFromClass(Class<?> reference, Class<?> type, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.ASSIGNABLE_FROM_CLASS);
+        if (reference == null || type == null) {
+            fail(Check.ASSIGNABLE_FROM_CLASS, type, null, null, msgTemplate, msgArgs);
+        } else if (!TypeCheck.isAssignableFrom(reference, type)) {
+            fail(Check.ASSIGNABLE_FROM_CLASS, type, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference character sequence is null or does not match the regular expression.
+     *
+     * @param reference the character sequence to validate.
+     * @param regex     the regular expression the whole sequence must match.
+     * @return the reference character sequence.
+     */
+    public <T extends CharSequence> T matches(T reference, String regex) {
+        return matches(reference, regex, Validate.DEFAULT_MATCHES_MESSAGE, reference, regex);
+    }
+
+    /**
+     * Records a failure if the reference character sequence is null or does not match the regular expression.
+     *
+     * @param reference   the character sequence to validate.
+     * @param regex       the regular expression the whole sequence must match.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference character sequence.
+     */
+    public <T extends CharSequence> T matches(T reference, String regex, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.MATCHES);
+        if (reference == null || regex == null || !PatternMatcher.of(regex).matches(reference)) {
+            fail(Check.MATCHES, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    /**
+     * Records a failure if the reference character sequence is null or does not match the pattern.
+     *
+     * @param reference the character sequence to validate.
+     * @param pattern   the pattern the whole sequence must match.
+     * @return the reference character sequence.
+     */
+    public <T extends CharSequence> T matches(T reference, Pattern pattern) {
+        return matches(reference, pattern, Validate.DEFAULT_MATCHES_MESSAGE, reference, pattern);
+    }
+
+    /**
+     * Records a failure if the reference character sequence is null or does not match the pattern.
+     *
+     * @param reference   the character sequence to validate.
+     * @param pattern     the pattern the whole sequence must match.
+     * @param msgTemplate the message template used to format the message of the failure.
+     * @param msgArgs     the message arguments used to format the message of the failure.
+     * @return the reference character sequence.
+     */
+    public <T extends CharSequence> T matches(T reference, Pattern pattern, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.checked(Check.MATCHES);
+        if (reference == null || pattern == null || !PatternMatcher.matches(pattern, reference)) {
+            fail(Check.MATCHES, reference, null, null, msgTemplate, msgArgs);
+        }
+        return reference;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("The failure index (" + index
+                    + ") is invalid for a collector with size (" + size + ")");
+        }
+        return index;
+    }
+
+    private void numberFailure(CharSequence reference, String msgTemplate, Object... msgArgs) {
+        if (reference == null) {
+            fail(Check.NUMBER_VALUE, null, null, null, msgTemplate, msgArgs);
+        } else {
+            fail(Check.NUMBER_VALUE, reference.toString(), null, null, msgTemplate, msgArgs);
+        }
+    }
+
+    private void fail(Check check, Object value, Object start, Object end, String msgTemplate, Object... msgArgs) {
+        PreconditionsMetrics.failed(check);
+        if (size == checks.length) {
+            int capacity = size * 2;
+            checks = Arrays.copyOf(checks, capacity);
+            values = Arrays.copyOf(values, capacity);
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            templates = Arrays.copyOf(templates, capacity);
+            args = Arrays.copyOf(args, capacity);
+        }
+        checks[size] = check;
+        values[size] = value;
+        starts[size] = start;
+        ends[size] = end;
+        templates[size] = msgTemplate;
+        args[size] = msgArgs;
+        size++;
+    }
+}
@@ -0,0 +1,47 @@
+package us.hawtrey.preconditions;
+
+/**
+ * The {@link IllegalArgumentException} thrown when an element of a stream validated by
+ * {@link Validate#elements(java.util.stream.Stream, java.util.function.Consumer)} or
+ * {@link Validate#validatingCollector(java.util.function.Consumer, java.util.stream.Collector)} fails its check.
+ * The exception thrown by the check is the cause, and the message is rendered lazily.
+ */
+public class ValidationElementException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+
+    private final long index;
+    private final transient Object element;
+
+    /**
+     * Creates the exception for the element.
+     *
+     * @param index   the index of the element, or {@code -1} if it is unknown.
+     * @param element the element that failed its check.
+     * @param cause   the exception thrown by the check.
+     */
+    public ValidationElementException(long index, Object element, RuntimeException cause) {
+        super(Validate.notNull(cause, "The cause is null"));
+        this.index = index;
+        this.element = element;
+    }
+
+    /**
+     * @return the index of the element in encounter order, or {@code -1} if it is unknown.
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the element that failed its check.
+     */
+    public Object getElement() {
+        return element;
+    }
+
+    @Override
+    public String getMessage() {
+        return (index < 0 ? "An element" : "The element at index " + index) + " is invalid: "
+                + getCause().getMessage();
+    }
+}
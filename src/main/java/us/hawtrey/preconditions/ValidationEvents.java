@@ -0,0 +1,91 @@
+package us.hawtrey.preconditions;
+
+/**
+ * Emits the Java Flight Recorder events of the library when a recording enables them.
+ * <p>
+ * The events are disabled by default. While no recording enables them the checks only read a flag: the flags are
+ * updated by a recording listener, and {@code jdk.jfr} is only loaded when it is present, so the library still runs
+ * on JVMs without it. A recording enables them by name:
+ * <ul>
+ * <li>{@code us.hawtrey.preconditions.ValidationFailure}: a failed {@link Validate} check, with its {@link Check},
+ * the value rendered to at most {@value #MAX_VALUE_LENGTH} characters, the message template and the class that
+ * called the check.</li>
+ * <li>{@code us.hawtrey.preconditions.AssureConversion}: the duration of a sample of the {@link Assure} number
+ * conversions.</li>
+ * <li>{@code us.hawtrey.preconditions.PredicateCheck}: the duration of a sample of the predicates of
+ * {@link Validator.Builder#check(java.util.function.Predicate)}.</li>
+ * </ul>
+ * One call in {@code us.hawtrey.preconditions.timingSampleRate} (64 unless set) is timed.
+ */
+final class ValidationEvents {
+    static final int MAX_VALUE_LENGTH = 64;
+    static final int SAMPLE_RATE = Math.max(1, Integer.getInteger("us.hawtrey.preconditions.timingSampleRate", 64));
+
+    static volatile boolean failures;
+    static volatile boolean conversions;
+    static volatile boolean predicates;
+
+    static {
+        if (isFlightRecorderPresent()) {
+            FlightRecorderEvents.install();
+        }
+    }
+
+    private ValidationEvents() {
+    }
+
+    /**
+     * Records the failure if the failure event is enabled.
+     *
+     * @return the exception.
+     */
+    static <X extends RuntimeException> X failed(X exception, FailureDetails details) {
+        if (failures) {
+            FlightRecorderEvents.failure(details, exception);
+        }
+        return exception;
+    }
+
+    /**
+     * @return the started event if this conversion is sampled, otherwise {@code null}.
+     */
+    static Object beginConversion() {
+        return conversions ? FlightRecorderEvents.beginConversion() : null;
+    }
+
+    static void endConversion(Object event, String conversion, CharSequence input) {
+        if (event != null) {
+            FlightRecorderEvents.endConversion(event, conversion, input);
+        }
+    }
+
+    /**
+     * @return the started event if this predicate is sampled, otherwise {@code null}.
+     */
+    static Object beginPredicate() {
+        return predicates ? FlightRecorderEvents.beginPredicate() : null;
+    }
+
+    static void endPredicate(Object event, Object predicate, boolean passed) {
+        if (event != null) {
+            FlightRecorderEvents.endPredicate(event, predicate, passed);
+        }
+    }
+
+    static String render(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = String.valueOf(value);
+        return (text.length() <= MAX_VALUE_LENGTH) ? text : text.substring(0, MAX_VALUE_LENGTH - 3) + "...";
+    }
+
+    private static boolean isFlightRecorderPresent() {
+        try {
+            Class.forName("jdk.jfr.FlightRecorder", false, ValidationEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package us.hawtrey.preconditions;
+
+/**
+ * Implemented by every exception thrown by {@link Validate}.
+ * It exposes the failed check and the raw values involved, so callers do not have to parse the message.
+ * The message itself is only rendered when {@link #getMessage()} is called.
+ */
+public interface ValidationFailure {
+
+    /**
+     * @return the kind of check that failed.
+     */
+    Check getCheck();
+
+    /**
+     * @return the value that failed the check; see {@link Check} for what it holds per kind.
+     */
+    Object getValue();
+
+    /**
+     * @return the start of the valid range, or {@code null} if the check has no range.
+     */
+    Object getStart();
+
+    /**
+     * @return the end of the valid range, or {@code null} if the check has no range.
+     */
+    Object getEnd();
+
+    /**
+     * @return the message describing the failure.
+     */
+    String getMessage();
+}
@@ -0,0 +1,47 @@
+package us.hawtrey.preconditions;
+
+import java.util.List;
+
+/**
+ * The {@link IllegalArgumentException} thrown by {@link ValidationCollector#throwIfFailed()} for all the failures
+ * recorded by the collector. The message lists the first failures and is rendered lazily.
+ */
+public class ValidationFailuresException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+    private static final int MAX_LISTED_FAILURES = 10;
+
+    private final List<FailureDetails> failures;
+    private String message;
+
+    /**
+     * Creates the exception for the failures.
+     *
+     * @param failures the details of the failures, in the order they were recorded.
+     */
+    public ValidationFailuresException(List<FailureDetails> failures) {
+        this.failures = Validate.notEmpty(failures, "The failures are empty");
+    }
+
+    /**
+     * @return the details of the failures, in the order they were recorded.
+     */
+    public List<FailureDetails> getFailures() {
+        return failures;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null) {
+            StringBuilder builder = new StringBuilder();
+            builder.append(failures.size()).append(failures.size() == 1 ? " validation failed" : " validations failed");
+            for (int i = 0; i < failures.size() && i < MAX_LISTED_FAILURES; i++) {
+                builder.append(i == 0 ? ": " : "; ").append(failures.get(i).getMessage());
+            }
+            if (failures.size() > MAX_LISTED_FAILURES) {
+                builder.append("; and ").append(failures.size() - MAX_LISTED_FAILURES).append(" more");
+            }
+            message = builder.toString();
+        }
+        return message;
+    }
+}
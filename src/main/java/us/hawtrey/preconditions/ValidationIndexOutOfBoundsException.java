@@ -0,0 +1,85 @@
+package us.hawtrey.preconditions;
+
+/**
+ * The {@link IndexOutOfBoundsException} thrown by {@link Validate} when an index is outside of the validated object.
+ * The message is rendered lazily, so creating the exception performs no string conversion of its values.
+ */
+public class ValidationIndexOutOfBoundsException extends IndexOutOfBoundsException implements ValidationFailure {
+    private static final long serialVersionUID = 1L;
+
+    private final FailureDetails details;
+    private final boolean writableStackTrace;
+
+    /**
+     * Creates the exception with a literal message.
+     *
+     * @param check   the kind of check that failed.
+     * @param value   the value that failed the check.
+     * @param start   the start of the valid range, or {@code null}.
+     * @param end     the end of the valid range, or {@code null}.
+     * @param message the message of the exception.
+     */
+    public ValidationIndexOutOfBoundsException(Check check, Object value, Object start, Object end, String message) {
+        this(new FailureDetails(check, value, start, end, message), true);
+    }
+
+    /**
+     * Creates the exception with a message that is formatted from the template when it is first requested.
+     *
+     * @param check       the kind of check that failed.
+     * @param value       the value that failed the check.
+     * @param start       the start of the valid range, or {@code null}.
+     * @param end         the end of the valid range, or {@code null}.
+     * @param msgTemplate the message template used to format the message.
+     * @param msgArgs     the message arguments used to format the message.
+     */
+    public ValidationIndexOutOfBoundsException(Check check, Object value, Object start, Object end, String msgTemplate, Object... msgArgs) {
+        this(new FailureDetails(check, value, start, end, msgTemplate, msgArgs), true);
+    }
+
+    /**
+     * Creates the exception from the details of a failure.
+     * Without a writable stack trace the exception skips {@link #fillInStackTrace()}, which is most of the cost of
+     * creating it, and reports an empty stack trace.
+     *
+     * @param details            the details of the failure.
+     * @param writableStackTrace whether the stack trace is filled in.
+     */
+    public ValidationIndexOutOfBoundsException(FailureDetails details, boolean writableStackTrace) {
+        this.details = details;
+        this.writableStackTrace = writableStackTrace;
+        if (writableStackTrace) {
+            super.fillInStackTrace();
+        }
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return (details != null && writableStackTrace) ? super.fillInStackTrace() : this;
+    }
+
+    @Override
+    public Check getCheck() {
+        return details.getCheck();
+    }
+
+    @Override
+    public Object getValue() {
+        return details.getValue();
+    }
+
+    @Override
+    public Object getStart() {
+        return details.getStart();
+    }
+
+    @Override
+    public Object getEnd() {
+        return details.getEnd();
+    }
+
+    @Override
+    public String getMessage() {
+        return details.getMessage();
+    }
+}
@@ -0,0 +1,863 @@
+package us.hawtrey.preconditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * A fixed sequence of {@link Validate} checks on the properties of a type, built once and applied to many values.
+ * <p>
+ * A validator is immutable and thread safe. Each check is a small final step that reads its property and calls the
+ * matching {@code Validate} method directly with the message chosen when the validator was built, so applying it
+ * does not go through the overload chains or rebuild message arguments. The exceptions are created by the current
+ * {@link ExceptionFactory}, and {@link #validate(Object, ValidationCollector)} records the failures instead.
+ *
+ * <pre>
+ *     private static final Validator&lt;Order&gt; ORDER = Validator.&lt;Order&gt;builder()
+ *             .notBlank(Order::getId, "The order id is blank")
+ *             .inIntRange(Order::getQuantity, 1, 1000)
+ *             .check(order -&gt; !order.isShipped() || order.isPaid(), "The order is shipped unpaid")
+ *             .build();
+ * </pre>
+ *
+ * @param <T> the type of the validated values.
+ */
+public final class Validator<T> {
+    private static final Object[] NULL_ARGS = null;
+
+    private final Step<T>[] steps;
+    private final PreconditionsMetrics.Counter counter;
+
+    private Validator(Step<T>[] steps, PreconditionsMetrics.Counter counter) {
+        this.steps = steps;
+        this.counter = counter;
+    }
+
+    /**
+     * @param <T> the type of the validated values.
+     * @return a new builder without any check.
+     */
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Returns the validator of the {@link Constraints} annotations on the fields and methods of the class and its
+     * superclasses. The annotations are read once per class and the validator is cached with the class.
+     *
+     * @param type the class of the validated values.
+     * @param <T>  the type of the validated values.
+     * @return the validator of the class.
+     * @throws IllegalArgumentException thrown if a constraint does not apply to the type of its property.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Validator<T> forClass(Class<T> type) {
+        return (Validator<T>) BeanValidators.forClass(Validate.notNull(type));
+    }
+
+    /**
+     * Applies the checks in order and throws on the first failure.
+     *
+     * @param value the value to validate.
+     * @return the value if it is valid.
+     * @throws NullPointerException     thrown if the value is null, or a check on a null property failed.
+     * @throws IllegalArgumentException thrown if a check failed.
+     */
+    public T validate(T value) {
+        if (counter == null) {
+            return check(value);
+        }
+        try {
+            check(value);
+        } catch (RuntimeException e) {
+            counter.failed();
+            throw e;
+        }
+        counter.passed();
+        return value;
+    }
+
+    /**
+     * Applies every check and records the failures in the collector.
+     *
+     * @param value     the value to validate.
+     * @param collector the collector recording the failures.
+     * @return {@code true} if no failure was recorded for the value.
+     */
+    public boolean validate(T value, ValidationCollector collector) {
+        int size = collector.size();
+        if (collector.notNull(value) != null) {
+            for (Step<T> step : steps) {
+                step.collect(value, collector);
+            }
+        }
+        boolean valid = collector.size() == size;
+        if (counter != null) {
+            counter.record(valid);
+        }
+        return valid;
+    }
+
+    private T check(T value) {
+        Validate.notNull(value);
+        for (Step<T> step : steps) {
+            step.validate(value);
+        }
+        return value;
+    }
+
+    /**
+     * Collects the checks of a {@link Validator}. A builder is not thread safe, the validators it builds are.
+     *
+     * @param <T> the type of the validated values.
+     */
+    public static final class Builder<T> {
+        private final List<Step<T>> steps = new ArrayList<>();
+        private String name;
+
+        private Builder() {
+        }
+
+        /**
+         * Names the validator, so each value it validates is counted by the {@link PreconditionsMetrics.Counter} of
+         * that name when the metrics are enabled.
+         *
+         * @param name the name of the counter.
+         * @return this builder.
+         */
+        public Builder<T> name(String name) {
+            this.name = Validate.notBlank(name, "The validator name is blank");
+            return this;
+        }
+
+        /**
+         * Adds a check that the property is not null.
+         *
+         * @param property the function reading the property.
+         * @return this builder.
+         */
+        public Builder<T> notNull(Function<? super T, ?> property) {
+            return add(new NotNull<>(property, null, null));
+        }
+
+        /**
+         * Adds a check that the property is not null.
+         *
+         * @param property    the function reading the property.
+         * @param msgTemplate the message template used to format the message for the exception.
+         * @param msgArgs     the message arguments used to format the message for the exception.
+         * @return this builder.
+         */
+        public Builder<T> notNull(Function<? super T, ?> property, String msgTemplate, Object... msgArgs) {
+            return add(new NotNull<>(property, msgTemplate, msgArgs));
+        }
+
+        /**
+         * Adds a check that the {@code String} property is not null or blank.
+         *
+         * @param property the function reading the property.
+         * @return this builder.
+         */
+        public Builder<T> notBlank(Function<? super T, String> property) {
+            return add(new NotBlank<>(property, null, null));
+        }
+
+        /**
+         * Adds a check that the {@code String} property is not null or blank.
+         *
+         * @param property    the function reading the property.
+         * @param msgTemplate the message template used to format the message for the exception.
+         * @param msgArgs     the message arguments used to format the message for the exception.
+         * @return this builder.
+         */
+        public Builder<T> notBlank(Function<? super T, String> property, String msgTemplate, Object... msgArgs) {
+            return add(new NotBlank<>(property, msgTemplate, msgArgs));
+        }
+
+        /**
+         * Adds a check that the property is in the range from {@code start}, inclusive, to {@code end}, exclusive.
+         *
+         * @param property the function reading the property.
+         * @param start    the start of the range.
+         * @param end      the end of the range.
+         * @param <C>      the type of the property.
+         * @return this builder.
+         */
+        public <C extends Comparable<C>> Builder<T> inRange(Function<? super T, C> property, C start, C end) {
+            return add(new InRange<>(property, start, end, null, null));
+        }
+
+        /**
+         * Adds a check that the property is in the range from {@code start}, inclusive, to {@code end}, exclusive.
+         *
+         * @param property    the function reading the property.
+         * @param start       the start of the range.
+         * @param end         the end of the range.
+         * @param msgTemplate the message template used to format the message for the exception.
+         * @param msgArgs     the message arguments used to format the message for the exception.
+         * @param <C>         the type of the property.
+         * @return this builder.
+         */
+        public <C extends Comparable<C>> Builder<T> inRange(Function<? super T, C> property, C start, C end,
+                                                            String msgTemplate, Object... msgArgs) {
+            return add(new InRange<>(property, start, end, msgTemplate, msgArgs));
+        }
+
+        /**
+         * Adds a check that the {@code int} property is in the range from {@code start}, inclusive, to {@code end},
+         * exclusive.
+         *
+         * @param property the function reading the property.
+         * @param start    the start of the range.
+         * @param end      the end of the range.
+         * @return this builder.
+         */
+        public Builder<T> inIntRange(ToIntFunction<? super T> property, int start, int end) {
+            return add(new InIntRange<>(property, start, end, null, null));
+        }
+
+        /**
+         * Adds a check that the {@code int} property is in the range from {@code start}, inclusive, to {@code end},
+         * exclusive.
+         *
+         * @param property the function reading the property.
+         * @param start    the start of the range.
+         * @param end      the end of the range.
+         * @param msg      the message for the exception.
+         * @return this builder.
+         */
+        public Builder<T> inIntRange(ToIntFunction<? super T> property, int start, int end, String msg) {
+            return add(new InIntRange<>(property, start, end, msg, NULL_ARGS));
+        }
+
+        /**
+         * Adds a check that the {@code long} property is in the range from {@code start}, inclusive, to
+         * {@code end}, exclusive.
+         *
+         * @param property the function reading the property.
+         * @param start    the start of the range.
+         * @param end      the end of the range.
+         * @return this builder.
+         */
+        public Builder<T> inLongRange(ToLongFunction<? super T> property, long start, long end) {
+            return add(new InLongRange<>(property, start, end, null, null));
+        }
+
+        /**
+         * Adds a check that the {@code long} property is in the range from {@code start}, inclusive, to
+         * {@code end}, exclusive.
+         *
+         * @param property the function reading the property.
+         * @param start    the start of the range.
+         * @param end      the end of the range.
+         * @param msg      the message for the exception.
+         * @return this builder.
+         */
+        public Builder<T> inLongRange(ToLongFunction<? super T> property, long start, long end, String msg) {
+            return add(new InLongRange<>(property, start, end, msg, NULL_ARGS));
+        }
+
+        /**
+         * Adds a check that the {@code double} property is in the range from {@code start}, inclusive, to
+         * {@code end}, exclusive.
+         *
+         * @param property the function reading the property.
+         * @param start    the start of the range.
+         * @param end      the end of the range.
+         * @return this builder.
+         */
+        public Builder<T> inDoubleRange(ToDoubleFunction<? super T> property, double start, double end) {
+            return add(new InDoubleRange<>(property, start, end, null, null));
+        }
+
+        /**
+         * Adds a check that the {@code double} property is in the range from {@code start}, inclusive, to
+         * {@code end}, exclusive.
+         *
+         * @param property the function reading the property.
+         * @param start    the start of the range.
+         * @param end      the end of the range.
+         * @param msg      the message for the exception.
+         * @return this builder.
+         */
+        public Builder<T> inDoubleRange(ToDoubleFunction<? super T> property, double start, double end, String msg) {
+            return add(new InDoubleRange<>(property, start, end, msg, NULL_ARGS));
+        }
+
+        /**
+         * Adds a check that the {@code Number} property is not null and positive.
+         *
+         * @param property the function reading the property.
+         * @return this builder.
+         */
+        public Builder<T> positive(Function<? super T, ? extends Number> property) {
+            return add(new Sign<>(property, Check.POSITIVE, null, null));
+        }
+
+        /**
+         * Adds a check that the {@code Number} property is not null and positive.
+         *
+         * @param property    the function reading the property.
+         * @param msgTemplate the message template used to format the message for the exception.
+         * @param msgArgs     the message arguments used to format the message for the exception.
+         * @return this builder.
+         */
+        public Builder<T> positive(Function<? super T, ? extends Number> property, String msgTemplate,
+                                   Object... msgArgs) {
+            return add(new Sign<>(property, Check.POSITIVE, msgTemplate, msgArgs));
+        }
+
+        /**
+         * Adds a check that the integral primitive property is positive, reading it without boxing.
+         *
+         * @param property the function reading the property.
+         * @param msg      the message for the exception, or {@code null} for the default message.
+         * @return this builder.
+         */
+        Builder<T> positiveLong(ToLongFunction<? super T> property, String msg) {
+            return add(new PositiveLong<>(property, msg));
+        }
+
+        /**
+         * Adds a check that the floating point primitive property is positive, reading it without boxing.
+         *
+         * @param property the function reading the property.
+         * @param msg      the message for the exception, or {@code null} for the default message.
+         * @return this builder.
+         */
+        Builder<T> positiveDouble(ToDoubleFunction<? super T> property, String msg) {
+            return add(new PositiveDouble<>(property, msg));
+        }
+
+        /**
+         * Adds a check that the {@code Number} property is not null and positive or zero.
+         *
+         * @param property the function reading the property.
+         * @return this builder.
+         */
+        public Builder<T> positiveOrZero(Function<? super T, ? extends Number> property) {
+            return add(new Sign<>(property, Check.POSITIVE_OR_ZERO, null, null));
+        }
+
+        /**
+         * Adds a check that the {@code Number} property is not null and positive or zero.
+         *
+         * @param property    the function reading the property.
+         * @param msgTemplate the message template used to format the message for the exception.
+         * @param msgArgs     the message arguments used to format the message for the exception.
+         * @return this builder.
+         */
+        public Builder<T> positiveOrZero(Function<? super T, ? extends Number> property, String msgTemplate,
+                                         Object... msgArgs) {
+            return add(new Sign<>(property, Check.POSITIVE_OR_ZERO, msgTemplate, msgArgs));
+        }
+
+        /**
+         * Adds a check that the {@code Number} property is not null and negative.
+         *
+         * @param property the function reading the property.
+         * @return this builder.
+         */
+        public Builder<T> negative(Function<? super T, ? extends Number> property) {
+            return add(new Sign<>(property, Check.NEGATIVE, null, null));
+        }
+
+        /**
+         * Adds a check that the {@code Number} property is not null and negative.
+         *
+         * @param property    the function reading the property.
+         * @param msgTemplate the message template used to format the message for the exception.
+         * @param msgArgs     the message arguments used to format the message for the exception.
+         * @return this builder.
+         */
+        public Builder<T> negative(Function<? super T, ? extends Number> property, String msgTemplate,
+                                   Object... msgArgs) {
+            return add(new Sign<>(property, Check.NEGATIVE, msgTemplate, msgArgs));
+        }
+
+        /**
+         * Adds a check that the {@code Number} property is not null and negative or zero.
+         *
+         * @param property the function reading the property.
+         * @return this builder.
+         */
+        public Builder<T> negativeOrZero(Function<? super T, ? extends Number> property) {
+            return add(new Sign<>(property, Check.NEGATIVE_OR_ZERO, null, null));
+        }
+
+        /**
+         * Adds a check that the {@code Number} property is not null and negative or zero.
+         *
+         * @param property    the function reading the property.
+         * @param msgTemplate the message template used to format the message for the exception.
+         * @param msgArgs     the message arguments used to format the message for the exception.
+         * @return this builder.
+         */
+        public Builder<T> negativeOrZero(Function<? super T, ? extends Number> property, String msgTemplate,
+                                         Object... msgArgs) {
+            return add(new Sign<>(property, Check.NEGATIVE_OR_ZERO, msgTemplate, msgArgs));
+        }
+
+        /**
+         * Adds a check that the property is not null and an instance of the type.
+         *
+         * @param property the function reading the property.
+         * @param type     the type the property must be an instance of.
+         * @return this builder.
+         */
+        public Builder<T> instanceOfType(Function<? super T, ?> property, Class<?> type) {
+            return add(new InstanceOfType<>(property, Validate.notNull(type), null, null));
+        }
+
+        /**
+         * Adds a check that the property is not null and an instance of the type.
+         *
+         * @param property    the function reading the property.
+         * @param type        the type the property must be an instance of.
+         * @param msgTemplate the message template used to format the message for the exception.
+         * @param msgArgs     the message arguments used to format the message for the exception.
+         * @return this builder.
+         */
+        public Builder<T> instanceOfType(Function<? super T, ?> property, Class<?> type,
+                                         String msgTemplate, Object... msgArgs) {
+            return add(new InstanceOfType<>(property, Validate.notNull(type), msgTemplate, msgArgs));
+        }
+
+        /**
+         * Adds a check that the predicate accepts the value, reported as a failed {@link Check#ARGUMENT}.
+         *
+         * @param predicate the predicate the value must satisfy.
+         * @return this builder.
+         */
+        public Builder<T> check(Predicate<? super T> predicate) {
+            return add(new Argument<>(predicate, null, null));
+        }
+
+        /**
+         * Adds a check that the predicate accepts the value, reported as a failed {@link Check#ARGUMENT}.
+         *
+         * @param predicate   the predicate the value must satisfy.
+         * @param msgTemplate the message template used to format the message for the exception.
+         * @param msgArgs     the message arguments used to format the message for the exception.
+         * @return this builder.
+         */
+        public Builder<T> check(Predicate<? super T> predicate, String msgTemplate, Object... msgArgs) {
+            return add(new Argument<>(predicate, msgTemplate, msgArgs));
+        }
+
+        /**
+         * @return a validator applying the checks added so far, in the order they were added.
+         */
+        public Validator<T> build() {
+            PreconditionsMetrics.Counter counter = (name != null && PreconditionsMetrics.ENABLED)
+                    ? PreconditionsMetrics.counter(name)
+                    : null;
+            @SuppressWarnings("unchecked")
+            Step<T>[] array = (Step<T>[]) steps.toArray(new Step<?>[0]);
+            return new Validator<>(array, counter);
+        }
+
+        private Builder<T> add(Step<T> step) {
+            steps.add(step);
+            return this;
+        }
+    }
+
+    /**
+     * One check of a validator. A {@code null} template selects the default message of the check.
+     */
+    private abstract static class Step<T> {
+        final String msgTemplate;
+        final Object[] msgArgs;
+
+        Step(String msgTemplate, Object[] msgArgs) {
+            this.msgTemplate = msgTemplate;
+            this.msgArgs = msgArgs;
+        }
+
+        abstract void validate(T value);
+
+        abstract void collect(T value, ValidationCollector collector);
+    }
+
+    private static final class NotNull<T> extends Step<T> {
+        private final Function<? super T, ?> property;
+
+        NotNull(Function<? super T, ?> property, String msgTemplate, Object[] msgArgs) {
+            super(msgTemplate, msgArgs);
+            this.property = Validate.notNull(property);
+        }
+
+        @Override
+        void validate(T value) {
+            if (msgTemplate == null) {
+                Validate.notNull(property.apply(value));
+            } else {
+                Validate.notNull(property.apply(value), msgTemplate, msgArgs);
+            }
+        }
+
+        @Override
+        void collect(T value, ValidationCollector collector) {
+            if (msgTemplate == null) {
+                collector.notNull(property.apply(value));
+            } else {
+                collector.notNull(property.apply(value), msgTemplate, msgArgs);
+            }
+        }
+    }
+
+    private static final class NotBlank<T> extends Step<T> {
+        private final Function<? super T, String> property;
+
+        NotBlank(Function<? super T, String> property, String msgTemplate, Object[] msgArgs) {
+            super(msgTemplate, msgArgs);
+            this.property = Validate.notNull(property);
+        }
+
+        @Override
+        void validate(T value) {
+            if (msgTemplate == null) {
+                Validate.notBlank(property.apply(value));
+            } else {
+                Validate.notBlank(property.apply(value), msgTemplate, msgArgs);
+            }
+        }
+
+        @Override
+        void collect(T value, ValidationCollector collector) {
+            if (msgTemplate == null) {
+                collector.notBlank(property.apply(value));
+            } else {
+                collector.notBlank(property.apply(value), msgTemplate, msgArgs);
+            }
+        }
+    }
+
+    private static final class InRange<T, C extends Comparable<C>> extends Step<T> {
+        private final Function<? super T, C> property;
+        private final C start;
+        private final C end;
+
+        InRange(Function<? super T, C> property, C start, C end, String msgTemplate, Object[] msgArgs) {
+            super(msgTemplate, msgArgs);
+            this.property = Validate.notNull(property);
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        void validate(T value) {
+            if (msgTemplate == null) {
+                Validate.inRange(property.apply(value), start, end);
+            } else {
+                Validate.inRange(property.apply(value), start, end, msgTemplate, msgArgs);
+            }
+        }
+
+        @Override
+        void collect(T value, ValidationCollector collector) {
+            if (msgTemplate == null) {
+                collector.inRange(property.apply(value), start, end);
+            } else {
+                collector.inRange(property.apply(value), start, end, msgTemplate, msgArgs);
+            }
+        }
+    }
+
+    private static final class InIntRange<T> extends Step<T> {
+        private final ToIntFunction<? super T> property;
+        private final int start;
+        private final int end;
+
+        InIntRange(ToIntFunction<? super T> property, int start, int end, String msgTemplate, Object[] msgArgs) {
+            super(msgTemplate, msgArgs);
+            this.property = Validate.notNull(property);
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        void validate(T value) {
+            if (msgTemplate == null) {
+                Validate.inIntRange(property.applyAsInt(value), start, end);
+            } else {
+                Validate.inIntRange(property.applyAsInt(value), start, end, msgTemplate);
+            }
+        }
+
+        @Override
+        void collect(T value, ValidationCollector collector) {
+            if (msgTemplate == null) {
+                collector.inIntRange(property.applyAsInt(value), start, end);
+            } else {
+                collector.inIntRange(property.applyAsInt(value), start, end, msgTemplate, msgArgs);
+            }
+        }
+    }
+
+    private static final class InLongRange<T> extends Step<T> {
+        private final ToLongFunction<? super T> property;
+        private final long start;
+        private final long end;
+
+        InLongRange(ToLongFunction<? super T> property, long start, long end, String msgTemplate, Object[] msgArgs) {
+            super(msgTemplate, msgArgs);
+            this.property = Validate.notNull(property);
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        void validate(T value) {
+            if (msgTemplate == null) {
+                Validate.inLongRange(property.applyAsLong(value), start, end);
+            } else {
+                Validate.inLongRange(property.applyAsLong(value), start, end, msgTemplate);
+            }
+        }
+
+        @Override
+        void collect(T value, ValidationCollector collector) {
+            if (msgTemplate == null) {
+                collector.inLongRange(property.applyAsLong(value), start, end);
+            } else {
+                collector.inLongRange(property.applyAsLong(value), start, end, msgTemplate, msgArgs);
+            }
+        }
+    }
+
+    private static final class InDoubleRange<T> extends Step<T> {
+        private final ToDoubleFunction<? super T> property;
+        private final double start;
+        private final double end;
+
+        InDoubleRange(ToDoubleFunction<? super T> property, double start, double end,
+                      String msgTemplate, Object[] msgArgs) {
+            super(msgTemplate, msgArgs);
+            this.property = Validate.notNull(property);
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        void validate(T value) {
+            if (msgTemplate == null) {
+                Validate.inDoubleRange(property.applyAsDouble(value), start, end);
+            } else {
+                Validate.inDoubleRange(property.applyAsDouble(value), start, end, msgTemplate);
+            }
+        }
+
+        @Override
+        void collect(T value, ValidationCollector collector) {
+            if (msgTemplate == null) {
+                collector.inDoubleRange(property.applyAsDouble(value), start, end);
+            } else {
+                collector.inDoubleRange(property.applyAsDouble(value), start, end, msgTemplate, msgArgs);
+            }
+        }
+    }
+
+    private static final class PositiveLong<T> extends Step<T> {
+        private final ToLongFunction<? super T> property;
+
+        PositiveLong(ToLongFunction<? super T> property, String msg) {
+            super(msg, NULL_ARGS);
+            this.property = Validate.notNull(property);
+        }
+
+        @Override
+        void validate(T value) {
+            if (msgTemplate == null) {
+                Validate.positive(property.applyAsLong(value));
+            } else {
+                Validate.positive(property.applyAsLong(value), msgTemplate);
+            }
+        }
+
+        @Override
+        void collect(T value, ValidationCollector collector) {
+            if (msgTemplate == null) {
+                collector.positive(property.applyAsLong(value));
+            } else {
+                collector.positive(property.applyAsLong(value), msgTemplate);
+            }
+        }
+    }
+
+    private static final class PositiveDouble<T> extends Step<T> {
+        private final ToDoubleFunction<? super T> property;
+
+        PositiveDouble(ToDoubleFunction<? super T> property, String msg) {
+            super(msg, NULL_ARGS);
+            this.property = Validate.notNull(property);
+        }
+
+        @Override
+        void validate(T value) {
+            if (msgTemplate == null) {
+                Validate.positive(property.applyAsDouble(value));
+            } else {
+                Validate.positive(property.applyAsDouble(value), msgTemplate);
+            }
+        }
+
+        @Override
+        void collect(T value, ValidationCollector collector) {
+            if (msgTemplate == null) {
+                collector.positive(property.applyAsDouble(value));
+            } else {
+                collector.positive(property.applyAsDouble(value), msgTemplate);
+            }
+        }
+    }
+
+    private static final class Sign<T> extends Step<T> {
+        private final Function<? super T, ? extends Number> property;
+        private final Check check;
+
+        Sign(Function<? super T, ? extends Number> property, Check check, String msgTemplate, Object[] msgArgs) {
+            super(msgTemplate, msgArgs);
+            this.property = Validate.notNull(property);
+            this.check = check;
+        }
+
+        @Override
+        void validate(T value) {
+            Number number = property.apply(value);
+            switch (check) {
+                case POSITIVE:
+                    if (msgTemplate == null) {
+                        Validate.positive(number);
+                    } else {
+                        Validate.positive(number, msgTemplate, msgArgs);
+                    }
+                    break;
+                case POSITIVE_OR_ZERO:
+                    if (msgTemplate == null) {
+                        Validate.positiveOrZero(number);
+                    } else {
+                        Validate.positiveOrZero(number, msgTemplate, msgArgs);
+                    }
+                    break;
+                case NEGATIVE:
+                    if (msgTemplate == null) {
+                        Validate.negative(number);
+                    } else {
+                        Validate.negative(number, msgTemplate, msgArgs);
+                    }
+                    break;
+                default:
+                    if (msgTemplate == null) {
+                        Validate.negativeOrZero(number);
+                    } else {
+                        Validate.negativeOrZero(number, msgTemplate, msgArgs);
+                    }
+                    break;
+            }
+        }
+
+        @Override
+        void collect(T value, ValidationCollector collector) {
+            Number number = property.apply(value);
+            switch (check) {
+                case POSITIVE:
+                    if (msgTemplate == null) {
+                        collector.positive(number);
+                    } else {
+                        collector.positive(number, msgTemplate, msgArgs);
+                    }
+                    break;
+                case POSITIVE_OR_ZERO:
+                    if (msgTemplate == null) {
+                        collector.positiveOrZero(number);
+                    } else {
+                        collector.positiveOrZero(number, msgTemplate, msgArgs);
+                    }
+                    break;
+                case NEGATIVE:
+                    if (msgTemplate == null) {
+                        collector.negative(number);
+                    } else {
+                        collector.negative(number, msgTemplate, msgArgs);
+                    }
+                    break;
+                default:
+                    if (msgTemplate == null) {
+                        collector.negativeOrZero(number);
+                    } else {
+                        collector.negativeOrZero(number, msgTemplate, msgArgs);
+                    }
+                    break;
+            }
+        }
+    }
+
+    private static final class InstanceOfType<T> extends Step<T> {
+        private final Function<? super T, ?> property;
+        private final Class<?> type;
+
+        InstanceOfType(Function<? super T, ?> property, Class<?> type, String msgTemplate, Object[] msgArgs) {
+            super(msgTemplate, msgArgs);
+            this.property = Validate.notNull(property);
+            this.type = type;
+        }
+
+        @Override
+        void validate(T value) {
+            if (msgTemplate == null) {
+                Validate.instanceOfType(property.apply(value), type);
+            } else {
+                Validate.instanceOfType(property.apply(value), type, msgTemplate, msgArgs);
+            }
+        }
+
+        @Override
+        void collect(T value, ValidationCollector collector) {
+            if (msgTemplate == null) {
+                collector.instanceOfType(property.apply(value), type);
+            } else {
+                collector.instanceOfType(property.apply(value), type, msgTemplate, msgArgs);
+            }
+        }
+    }
+
+    private static final class Argument<T> extends Step<T> {
+        private final Predicate<? super T> predicate;
+
+        Argument(Predicate<? super T> predicate, String msgTemplate, Object[] msgArgs) {
+            super(msgTemplate, msgArgs);
+            this.predicate = Validate.notNull(predicate);
+        }
+
+        @Override
+        void validate(T value) {
+            if (msgTemplate == null) {
+                Validate.argument(value, test(value));
+            } else {
+                Validate.argument(value, test(value), msgTemplate, msgArgs);
+            }
+        }
+
+        @Override
+        void collect(T value, ValidationCollector collector) {
+            if (msgTemplate == null) {
+                collector.argument(value, test(value));
+            } else {
+                collector.argument(value, test(value), msgTemplate, msgArgs);
+            }
+        }
+
+        private boolean test(T value) {
+            Object event = ValidationEvents.beginPredicate();
+            boolean passed = predicate.test(value);
+            ValidationEvents.endPredicate(event, predicate, passed);
+            return passed;
+        }
+    }
+}
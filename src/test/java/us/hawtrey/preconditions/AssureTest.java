@@ -3,19 +3,28 @@ package us.hawtrey.preconditions;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -87,6 +96,55 @@ public class AssureTest {
             // success
         }
 
+        assertNotSame(foo, Assure.notNull(null, FakeClass.class));
+        FakeClass bar = new FakeClass();
+        assertSame(bar, Assure.notNull(bar, FakeClass.class));
+
+        try {
+            Assure.notNull(null, Integer.class);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("java.lang.Integer"));
+            assertTrue(e.getCause() instanceof NoSuchMethodException);
+        }
+
+        try {
+            Assure.notNull(null, AbstractList.class);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("not a concrete class"));
+        }
+
+        try {
+            Assure.notNull(null, (Class<Object>) null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void assureNotNullWithDefaultSupplier() throws Exception {
+        FakeClass foo = Assure.notNullLazy(null, FakeClass::new);
+        assertNotNull(foo);
+        assertSame(foo, Assure.notNullLazy(foo, () -> {
+            throw new AssertionError("The supplier should not be called");
+        }));
+        assertNull(Assure.notNullLazy(null, () -> null));
+        assertEquals("x", Assure.notNull("x", null));
+        try {
+            Assure.notNull((Object) null, null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+
+        try {
+            Assure.notNullLazy(null, (Supplier<Object>) null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
     }
 
     @Test
@@ -127,6 +185,99 @@ public class AssureTest {
         assertNotNull(json);
     }
 
+    @Test
+    public void assureReadOnlyList() throws Exception {
+        assertSame(Collections.emptyList(), Assure.readOnlyList(null));
+
+        List<String> view = Assure.readOnlyList(inputArrayList);
+        assertEquals(inputArrayList, view);
+        assertSame(view, Assure.readOnlyList(view));
+        inputArrayList.add("more");
+        assertEquals(5, view.size());
+        try {
+            view.add("fails");
+            fail("Should have thrown UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // success
+        }
+
+        List<String> linked = Assure.readOnlyList(new LinkedList<>(inputArrayList));
+        assertSame(linked, Assure.readOnlyList(linked));
+    }
+
+    @Test
+    public void assureReadOnlySet() throws Exception {
+        assertSame(Collections.emptySet(), Assure.readOnlySet(null));
+
+        Set<String> input = new HashSet<>(inputArrayList);
+        Set<String> view = Assure.readOnlySet(input);
+        assertEquals(input, view);
+        assertSame(view, Assure.readOnlySet(view));
+        try {
+            view.add("fails");
+            fail("Should have thrown UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void assureReadOnlyMap() throws Exception {
+        assertSame(Collections.emptyMap(), Assure.readOnlyMap(null));
+
+        Map<String, Integer> input = new HashMap<>();
+        input.put("one", 1);
+        Map<String, Integer> view = Assure.readOnlyMap(input);
+        assertEquals(input, view);
+        assertSame(view, Assure.readOnlyMap(view));
+        try {
+            view.put("two", 2);
+            fail("Should have thrown UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void assurePresizedCopies() throws Exception {
+        assertSame(inputArrayList, Assure.arrayList(inputArrayList, 100));
+        ArrayList<String> list = Assure.arrayList(new HashSet<>(inputArrayList), 100);
+        assertEquals(2, list.size());
+        assertTrue(list.containsAll(inputArrayList));
+        assertTrue(Assure.arrayList(null, 10).isEmpty());
+
+        HashSet<String> set = new HashSet<>(inputArrayList);
+        assertSame(set, Assure.hashSet(set, 100));
+        assertEquals(set, Assure.hashSet(inputArrayList, 1));
+        assertTrue(Assure.hashSet(null, 0).isEmpty());
+
+        HashMap<String, Integer> map = new HashMap<>();
+        assertSame(map, Assure.hashMap(map, 100));
+        TreeMap<String, Integer> sorted = new TreeMap<>();
+        sorted.put("one", 1);
+        assertEquals(sorted, Assure.hashMap(sorted, 1000));
+        assertTrue(Assure.hashMap(null, 3).isEmpty());
+
+        try {
+            Assure.arrayList(inputArrayList, -1);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        try {
+            Assure.hashSet(null, -1);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        try {
+            Assure.hashMap(null, -1);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+    }
+
     @Test
     public void assureUpperLowers() throws Exception {
         String input = "Foo Bar Baz";
@@ -147,6 +298,22 @@ public class AssureTest {
         assertNull(Assure.trimmedUpperOrNull(null));
     }
 
+    @Test
+    public void assureMatches() throws Exception {
+        assertEquals("AB-12345", Assure.matchesOrDefault("AB-12345", "[A-Z]{2}-\\d{5}", "none"));
+        assertEquals("none", Assure.matchesOrDefault("AB-1234", "[A-Z]{2}-\\d{5}", "none"));
+        assertEquals("none", Assure.matchesOrDefault(null, "[A-Z]{2}-\\d{5}", "none"));
+        assertEquals("ABC", Assure.matchesOrDefault("ABC", Pattern.compile("abc", Pattern.CASE_INSENSITIVE), null));
+        assertNull(Assure.matchesOrDefault("abd", Pattern.compile("abc", Pattern.CASE_INSENSITIVE), null));
+
+        try {
+            Assure.matchesOrDefault("a", (String) null, "b");
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+
     @Test
     public void assureNumbers() throws Exception {
         assertEquals(123, Assure.intValue("123"));
@@ -168,6 +335,7 @@ public class AssureTest {
 
         assertEquals(1, Assure.intValue("abc", 1));
         assertEquals(2L, Assure.longValue("1.2.3", 2L));
+        assertEquals(9007199254740993L, Assure.longValue("abc", 9007199254740993L));
         assertEquals(3.4D, Assure.doubleValue("1-2", 3.4), 0D);
         assertEquals(5.67F, Assure.floatValue("1 2", 5.67F), 0D);
 
@@ -178,4 +346,54 @@ public class AssureTest {
         assertNull(Assure.doubleOrNull("."));
         assertNull(Assure.doubleOrNull("-."));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void assureExactNumbers() throws Exception {
+        assertEquals(9007199254740993L, Assure.longValue("9007199254740993"));
+        assertEquals(Long.MAX_VALUE, Assure.longValue("9223372036854775807"));
+        assertEquals(Long.MIN_VALUE, Assure.longValue(" -9223372036854775808 "));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), Assure.longOrNull("99999999999999999999"));
+        assertEquals(Integer.MAX_VALUE, Assure.intValue("3000000000"));
+        assertEquals(Integer.MIN_VALUE, Assure.intValue("-1e20"));
+        assertEquals(12, Assure.intValue("12.9"));
+        assertEquals(-12, Assure.intValue("-12.9"));
+        assertEquals(1500L, Assure.longValue("1.5e3"));
+        assertEquals(Integer.valueOf(255), Assure.integerOrNull("0xFFp0"));
+
+        assertEquals(0.1D, Assure.doubleValue("\t0.1\n"), 0D);
+        assertEquals(1.7976931348623157E308D, Assure.doubleValue("1.7976931348623157E308"), 0D);
+        assertEquals(Double.NEGATIVE_INFINITY, Assure.doubleValue("-Infinity"), 0D);
+        assertTrue(Double.isNaN(Assure.doubleValue("NaN")));
+        assertEquals(2.5D, Assure.doubleValue("2.5f"), 0D);
+        assertNull(Assure.doubleOrNull("1e"));
+        assertNull(Assure.doubleOrNull("NaNd"));
+        assertNull(Assure.doubleOrNull("0x"));
+    }
+
+    @Test
+    public void assureNumberBuffers() throws Exception {
+        assertEquals(Long.MIN_VALUE, Assure.longValue(new StringBuilder("-9223372036854775808")));
+        assertNull(Assure.integerOrNull(new StringBuilder("1 2")));
+
+        char[] chars = "a,17,b".toCharArray();
+        assertEquals(17, Assure.intValue(chars, 2, 2));
+        assertEquals(5, Assure.intValue(chars, 0, 4, 5));
+        assertEquals(3L, Assure.longValue((char[]) null, 0, 0, 3L));
+
+        ByteBuffer buffer = ByteBuffer.wrap("n: 0.25 \n".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(0.25D, Assure.doubleValue(buffer, 2, buffer.limit()), 0D);
+        assertEquals(Float.valueOf(0.25F), Assure.floatOrNull(buffer, 3, 7));
+        assertNull(Assure.doubleOrNull(buffer, 0, 7));
+        assertEquals(0, buffer.position());
+
+        ByteBuffer utf8 = ByteBuffer.wrap("\u00bd".getBytes(StandardCharsets.UTF_8));
+        assertNull(Assure.longOrNull(utf8, 0, utf8.limit()));
+
+        try {
+            Assure.intValue(chars, 4, 3);
+            fail("Range past the array");
+        } catch (IndexOutOfBoundsException e) {
+            // success
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package us.hawtrey.preconditions;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class AsyncCheckTest {
+    private static final Set<Integer> EXISTING = new HashSet<>(Arrays.asList(1, 2, 3, 5, 8, 13));
+    private static final Executor DIRECT = Runnable::run;
+
+    private final List<Set<Integer>> lookups = Collections.synchronizedList(new ArrayList<>());
+
+    private Set<Integer> existing(Set<Integer> ids) {
+        lookups.add(new HashSet<>(ids));
+        Set<Integer> found = new HashSet<>(ids);
+        found.retainAll(EXISTING);
+        return found;
+    }
+
+    @Test
+    public void testValidate() throws Exception {
+        AsyncCheck<Integer> check = AsyncCheck.<Integer>batched(this::existing)
+                .maxDelay(0, TimeUnit.MILLISECONDS)
+                .executor(DIRECT)
+                .build();
+
+        assertEquals(Integer.valueOf(5), check.validate(5).get());
+        try {
+            check.validate(4).get();
+            fail("Should have thrown ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ValidationIllegalArgumentException);
+            ValidationIllegalArgumentException cause = (ValidationIllegalArgumentException) e.getCause();
+            assertSame(Check.ARGUMENT, cause.getCheck());
+            assertEquals(4, cause.getValue());
+            assertEquals("The value (4) was rejected by the lookup", cause.getMessage());
+        }
+        assertEquals(2, lookups.size());
+    }
+
+    @Test
+    public void testValidateNull() throws Exception {
+        AsyncCheck<Integer> check = AsyncCheck.<Integer>batched(this::existing).executor(DIRECT).build();
+        try {
+            check.validate(null).get();
+            fail("Should have thrown ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof ValidationNullPointerException);
+        }
+        assertTrue(lookups.isEmpty());
+    }
+
+    @Test
+    public void testMessage() throws Exception {
+        AsyncCheck<Integer> check = AsyncCheck.<Integer>batched(this::existing)
+                .maxDelay(0, TimeUnit.MILLISECONDS)
+                .executor(DIRECT)
+                .message("No order found for id %s")
+                .build();
+        try {
+            check.validate(7).get();
+            fail("Should have thrown ExecutionException");
+        } catch (ExecutionException e) {
+            assertEquals("No order found for id 7", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testBatchedBySize() throws Exception {
+        AsyncCheck<Integer> check = AsyncCheck.<Integer>batched(this::existing)
+                .maxBatchSize(4)
+                .maxDelay(1, TimeUnit.HOURS)
+                .executor(DIRECT)
+                .build();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            futures.add(check.validate(i));
+        }
+
+        assertEquals(Arrays.asList(new HashSet<>(Arrays.asList(1, 2, 3, 4)), new HashSet<>(Arrays.asList(5, 6, 7, 8))),
+                lookups);
+        assertEquals(Integer.valueOf(1), futures.get(0).get());
+        assertTrue(futures.get(3).isCompletedExceptionally());
+        assertEquals(Integer.valueOf(8), futures.get(7).get());
+    }
+
+    @Test
+    public void testBatchedByDelay() throws Exception {
+        AsyncCheck<Integer> check = AsyncCheck.<Integer>batched(this::existing)
+                .maxBatchSize(100)
+                .maxDelay(20, TimeUnit.MILLISECONDS)
+                .build();
+        CompletableFuture<Integer> first = check.validate(1);
+        CompletableFuture<Integer> second = check.validate(2);
+        CompletableFuture<Integer> duplicate = check.validate(1);
+
+        assertFalse(first.isDone());
+        assertEquals(Integer.valueOf(1), first.get(10, TimeUnit.SECONDS));
+        assertEquals(Integer.valueOf(2), second.get(10, TimeUnit.SECONDS));
+        assertSame(first, duplicate);
+        assertEquals(Collections.singletonList(new HashSet<>(Arrays.asList(1, 2))), lookups);
+    }
+
+    @Test
+    public void testCoalescesConcurrentChecks() throws Exception {
+        AsyncCheck<Integer> check = AsyncCheck.<Integer>batched(this::existing)
+                .maxBatchSize(16)
+                .maxDelay(50, TimeUnit.MILLISECONDS)
+                .build();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Integer>> futures = Collections.synchronizedList(new ArrayList<>());
+        List<Thread> callers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int base = t * 4;
+            Thread caller = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 4; i++) {
+                    futures.add(check.validate(base + i));
+                }
+            });
+            caller.start();
+            callers.add(caller);
+        }
+        start.countDown();
+        for (Thread caller : callers) {
+            caller.join();
+        }
+        for (CompletableFuture<Integer> future : futures) {
+            future.handle((value, e) -> value).get(10, TimeUnit.SECONDS);
+        }
+
+        assertEquals(32, futures.size());
+        int looked = 0;
+        for (Set<Integer> lookup : lookups) {
+            assertTrue(lookup.size() <= 16);
+            looked += lookup.size();
+        }
+        assertEquals(32, looked);
+        assertTrue(lookups.size() < 32);
+    }
+
+    @Test
+    public void testValidateAll() throws Exception {
+        AsyncCheck<Integer> check = AsyncCheck.<Integer>batched(this::existing)
+                .maxBatchSize(3)
+                .maxDelay(1, TimeUnit.HOURS)
+                .build();
+
+        assertEquals(Arrays.asList(13, 1, 8), check.validateAll(Arrays.asList(13, 1, 8)).get(10, TimeUnit.SECONDS));
+        assertEquals(1, lookups.size());
+        try {
+            check.validateAll(Arrays.asList(1, 4, 6)).get(10, TimeUnit.SECONDS);
+            fail("Should have thrown ExecutionException");
+        } catch (ExecutionException e) {
+            assertEquals(4, ((ValidationFailure) e.getCause()).getValue());
+        }
+    }
+
+    @Test
+    public void testLookupThrows() throws Exception {
+        IllegalStateException failure = new IllegalStateException("store down");
+        AsyncCheck<Integer> check = AsyncCheck.<Integer>batched(ids -> {
+            throw failure;
+        }).maxBatchSize(2).executor(DIRECT).build();
+        CompletableFuture<Integer> first = check.validate(1);
+        CompletableFuture<Integer> second = check.validate(2);
+        try {
+            first.get();
+            fail("Should have thrown ExecutionException");
+        } catch (ExecutionException e) {
+            assertSame(failure, e.getCause());
+        }
+        try {
+            second.get();
+            fail("Should have thrown ExecutionException");
+        } catch (ExecutionException e) {
+            assertSame(failure, e.getCause());
+        }
+    }
+
+    @Test
+    public void testOf() throws Exception {
+        AtomicInteger tests = new AtomicInteger();
+        AsyncCheck<String> check = AsyncCheck.<String>of(value -> {
+            tests.incrementAndGet();
+            return !value.isEmpty();
+        }).executor(DIRECT).build();
+
+        assertEquals("a", check.validate("a").get());
+        assertTrue(check.validate("").isCompletedExceptionally());
+        assertEquals(2, tests.get());
+    }
+
+    @Test
+    public void testRejectedExecution() throws TimeoutException, InterruptedException {
+        AsyncCheck<Integer> check = AsyncCheck.<Integer>batched(this::existing)
+                .maxDelay(0, TimeUnit.MILLISECONDS)
+                .executor(task -> {
+                    throw new RejectedExecutionException("shut down");
+                })
+                .build();
+        try {
+            check.validate(1).get(10, TimeUnit.SECONDS);
+            fail("Should have thrown ExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+    }
+
+    @Test
+    public void testBuilderArguments() {
+        try {
+            AsyncCheck.batched(null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+        try {
+            AsyncCheck.<Integer>batched(this::existing).maxBatchSize(0);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        try {
+            AsyncCheck.<Integer>batched(this::existing).maxDelay(-1, TimeUnit.MILLISECONDS);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        try {
+            AsyncCheck.<Integer>batched(this::existing).executor(null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package us.hawtrey.preconditions;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class BeanValidatorsTest {
+
+    @Test
+    public void validateValidBean() throws Exception {
+        Account account = new Account();
+        assertSame(account, Validator.forClass(Account.class).validate(account));
+        assertSame(Validator.forClass(Account.class), Validator.forClass(Account.class));
+    }
+
+    @Test
+    public void validateFieldsAndMethods() throws Exception {
+        Account account = new Account();
+        account.id = null;
+        try {
+            Validator.forClass(Account.class).validate(account);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("The account id is null", e.getMessage());
+        }
+
+        account = new Account();
+        account.name = " ";
+        try {
+            Validator.forClass(Account.class).validate(account);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals(Validate.DEFAULT_NOT_BLANK_MESSAGE, e.getMessage());
+        }
+
+        account = new Account();
+        account.age = 150;
+        try {
+            Validator.forClass(Account.class).validate(account);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The value 150 is not in the range of 0 to 130", e.getMessage());
+        }
+
+        account = new Account();
+        account.tags = Collections.emptyList();
+        try {
+            Validator.forClass(Account.class).validate(account);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("An account has one to three tags", e.getMessage());
+        }
+    }
+
+    @Test
+    public void collectEveryFailure() throws Exception {
+        Account account = new Account();
+        account.id = null;
+        account.balance = -1D;
+        account.limit = null;
+        account.codes = new int[0];
+        account.tags = null;
+
+        ValidationCollector collector = Validate.collect();
+        assertFalse(Validator.forClass(Account.class).validate(account, collector));
+        assertEquals(5, collector.size());
+        assertEquals(Check.NOT_NULL, collector.getCheck(0));
+        assertEquals(Check.POSITIVE, collector.getCheck(1));
+        assertEquals(Check.IN_RANGE, collector.getCheck(2));
+        assertEquals(0, collector.getValue(3));
+        assertEquals(Check.IN_RANGE, collector.getCheck(4));
+    }
+
+    @Test
+    public void validateGettersAndPrimitives() throws Exception {
+        Order order = new Order();
+        assertSame(order, Validator.forClass(Order.class).validate(order));
+
+        order.quantity = 0;
+        order.price = -1F;
+        order.count = 0;
+        order.sku = "";
+        ValidationCollector collector = Validate.collect();
+        assertFalse(Validator.forClass(Order.class).validate(order, collector));
+        assertEquals(4, collector.size());
+        assertEquals(Check.POSITIVE, collector.getCheck(0));
+        assertEquals(0L, collector.getValue(0));
+        assertEquals("The count is not positive", collector.getMessage(0));
+        // the order of the methods is unspecified
+        Map<Check, Object> methods = new EnumMap<>(Check.class);
+        for (int i = 1; i < 4; i++) {
+            methods.put(collector.getCheck(i), collector.getValue(i));
+        }
+        assertEquals(0L, methods.get(Check.IN_RANGE));
+        assertEquals(-1D, methods.get(Check.POSITIVE));
+        assertEquals("", methods.get(Check.NOT_BLANK));
+
+        order = new Order();
+        order.price = 0F;
+        try {
+            Validator.forClass(Order.class).validate(order);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The value (0.0) is not positive", e.getMessage());
+        }
+    }
+
+    @Test
+    public void rejectInvalidConstraints() throws Exception {
+        try {
+            Validator.forClass(BlankNumber.class);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+
+        try {
+            Validator.forClass(PrimitiveNotNull.class);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+
+        try {
+            Validator.forClass(null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+
+    private static class Entity {
+        @Constraints.NotNull(message = "The account id is null")
+        Long id = 1L;
+    }
+
+    private static final class Account extends Entity {
+        @Constraints.NotBlank
+        private String name = "ACME";
+        @Constraints.Range(start = 0, end = 130)
+        private int age = 30;
+        @Constraints.Positive
+        private double balance = 10D;
+        @Constraints.Range(start = 0, end = 1000)
+        private Long limit = 100L;
+        @Constraints.Size(start = 1)
+        private int[] codes = {1, 2};
+        private List<String> tags = Arrays.asList("a", "b");
+
+        @Constraints.Size(start = 1, end = 4, message = "An account has one to three tags")
+        List<String> tags() {
+            return tags;
+        }
+    }
+
+    private static final class Order {
+        private int quantity = 5;
+        private float price = 9.99F;
+        @Constraints.Positive(message = "The count is not positive")
+        private short count = 1;
+        private String sku = "SKU-1";
+
+        @Constraints.Range(start = 1, end = 10)
+        private int quantity() {
+            return quantity;
+        }
+
+        @Constraints.Positive
+        float price() {
+            return price;
+        }
+
+        @Constraints.NotBlank
+        public String getSku() {
+            return sku;
+        }
+    }
+
+    private static final class BlankNumber {
+        @Constraints.NotBlank
+        private int number;
+    }
+
+    private static final class PrimitiveNotNull {
+        @Constraints.NotNull
+        private long number;
+    }
+}
@@ -0,0 +1,87 @@
+package us.hawtrey.preconditions;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CheckLevelTest {
+
+    @After
+    public void disable() {
+        CheckLevel.DEBUG.setEnabled(false);
+        CheckLevel.PARANOID.setEnabled(false);
+    }
+
+    @Test
+    public void defaults() {
+        assertTrue(CheckLevel.ALWAYS.isEnabled());
+        assertFalse(CheckLevel.DEBUG.isEnabled());
+        assertFalse(CheckLevel.PARANOID.isEnabled());
+    }
+
+    @Test
+    public void setEnabled() {
+        CheckLevel.PARANOID.setEnabled(true);
+        assertTrue(CheckLevel.PARANOID.isEnabled());
+        assertFalse(CheckLevel.DEBUG.isEnabled());
+
+        CheckLevel.DEBUG.setEnabled(true);
+        CheckLevel.PARANOID.setEnabled(false);
+        assertTrue(CheckLevel.DEBUG.isEnabled());
+        assertFalse(CheckLevel.PARANOID.isEnabled());
+
+        CheckLevel.ALWAYS.setEnabled(true);
+        assertTrue(CheckLevel.ALWAYS.isEnabled());
+    }
+
+    @Test
+    public void setEnabledAlwaysFalse() {
+        try {
+            CheckLevel.ALWAYS.setEnabled(false);
+            fail("Should have thrown UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+            // success
+        }
+        assertTrue(CheckLevel.ALWAYS.isEnabled());
+    }
+
+    @Test
+    public void check() {
+        AtomicInteger runs = new AtomicInteger();
+        CheckLevel.ALWAYS.check(runs::incrementAndGet);
+        CheckLevel.DEBUG.check(runs::incrementAndGet);
+        assertEquals(1, runs.get());
+
+        CheckLevel.DEBUG.setEnabled(true);
+        CheckLevel.DEBUG.check(runs::incrementAndGet);
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void checkFailed() {
+        CheckLevel.PARANOID.check(() -> Validate.notBlank(" "));
+
+        CheckLevel.PARANOID.setEnabled(true);
+        try {
+            CheckLevel.PARANOID.check(() -> Validate.notBlank(" "));
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void isNamed() {
+        assertFalse(CheckLevel.isNamed(CheckLevel.DEBUG, null));
+        assertFalse(CheckLevel.isNamed(CheckLevel.DEBUG, ""));
+        assertFalse(CheckLevel.isNamed(CheckLevel.DEBUG, "PARANOID"));
+        assertTrue(CheckLevel.isNamed(CheckLevel.DEBUG, "DEBUG"));
+        assertTrue(CheckLevel.isNamed(CheckLevel.PARANOID, "debug, paranoid"));
+    }
+}
@@ -0,0 +1,180 @@
+package us.hawtrey.preconditions;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ElementValidationTest {
+    private static final Consumer<String> NOT_BLANK = Validate::notBlank;
+
+    @Test
+    public void elements() {
+        List<String> names = Validate.elements(Stream.of("a", "b", "c"), NOT_BLANK).collect(Collectors.toList());
+        assertEquals(Arrays.asList("a", "b", "c"), names);
+    }
+
+    @Test
+    public void stopAfterFailedPart() {
+        AtomicInteger visited = new AtomicInteger();
+        Spliterator<String> source = Stream.of("a", " ", "c", "d", "e", "f", "g", "h").parallel()
+                .peek(name -> visited.incrementAndGet())
+                .spliterator();
+        Spliterator<String> suffix = Validate.elements(source, NOT_BLANK);
+        Spliterator<String> prefix = suffix.trySplit();
+        try {
+            prefix.forEachRemaining(name -> {
+            });
+            fail("Should have thrown ValidationElementException");
+        } catch (ValidationElementException e) {
+            assertEquals(1, e.getIndex());
+        }
+        int visitedByPrefix = visited.get();
+
+        suffix.forEachRemaining(name -> fail("passed on " + name + " after a failure"));
+        assertEquals(visitedByPrefix, visited.get());
+    }
+
+    @Test
+    public void elementsFailed() {
+        try {
+            Validate.elements(Stream.of("a", "b", " ", "d"), NOT_BLANK).forEach(name -> {
+            });
+            fail("Should have thrown ValidationElementException");
+        } catch (ValidationElementException e) {
+            assertEquals(2, e.getIndex());
+            assertEquals(" ", e.getElement());
+            assertTrue(e.getCause() instanceof ValidationIllegalArgumentException);
+            assertEquals("The element at index 2 is invalid: The validated String is blank", e.getMessage());
+        }
+
+        try {
+            Validate.elements(Stream.of("a", null), NOT_BLANK).iterator().forEachRemaining(name -> {
+            });
+            fail("Should have thrown ValidationElementException");
+        } catch (ValidationElementException e) {
+            assertEquals(1, e.getIndex());
+            assertNull(e.getElement());
+            assertTrue(e.getCause() instanceof NullPointerException);
+        }
+    }
+
+    @Test
+    public void elementsLazy() {
+        AtomicInteger checked = new AtomicInteger();
+        Stream<String> stream = Validate.elements(Stream.of("a", "b", " ", "d"), name -> {
+            checked.incrementAndGet();
+            Validate.notBlank(name);
+        });
+        assertEquals(0, checked.get());
+        assertEquals(Arrays.asList("a", "b"), stream.limit(2).collect(Collectors.toList()));
+        assertEquals(2, checked.get());
+    }
+
+    @Test
+    public void elementsParallel() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            values.add(i);
+        }
+        Consumer<Integer> positiveOrZero = Validate::positiveOrZero;
+        assertEquals(99_999L * 100_000 / 2, Validate.elements(values.parallelStream(), positiveOrZero)
+                .mapToLong(Integer::longValue).sum());
+    }
+
+    @Test
+    public void elementsParallelIndex() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            values.add(i == 77_777 ? -i : i);
+        }
+        Consumer<Integer> positiveOrZero = Validate::positiveOrZero;
+        try {
+            Validate.elements(values.parallelStream(), positiveOrZero).forEach(value -> {
+            });
+            fail("Should have thrown ValidationElementException");
+        } catch (ValidationElementException e) {
+            assertEquals(77_777, e.getIndex());
+            assertEquals(-77_777, e.getElement());
+        }
+
+        Spliterator<Integer> unsized = Spliterators.spliteratorUnknownSize(values.iterator(), Spliterator.ORDERED);
+        try {
+            StreamSupport.stream(Validate.elements(unsized, positiveOrZero), true).forEach(value -> {
+            });
+            fail("Should have thrown ValidationElementException");
+        } catch (ValidationElementException e) {
+            assertEquals(77_777, e.getIndex());
+        }
+    }
+
+    @Test
+    public void elementsClose() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Validate.elements(Stream.of("a").onClose(() -> closed.set(true)), NOT_BLANK).close();
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void elementsNull() {
+        try {
+            Validate.elements((Stream<String>) null, NOT_BLANK);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+        try {
+            Validate.elements(Stream.of("a"), null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void validatingCollector() {
+        assertEquals(Arrays.asList("a", "b"), Stream.of("a", "b").collect(Validate.validatingCollector(NOT_BLANK)));
+        assertEquals("a,b", Stream.of("a", "b").collect(Validate.validatingCollector(NOT_BLANK,
+                Collectors.joining(","))));
+        try {
+            Stream.of("a", "b", "c", "").collect(Validate.validatingCollector(NOT_BLANK));
+            fail("Should have thrown ValidationElementException");
+        } catch (ValidationElementException e) {
+            assertEquals(3, e.getIndex());
+            assertEquals("", e.getElement());
+        }
+    }
+
+    @Test
+    public void validatingCollectorParallel() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            values.add(i);
+        }
+        Consumer<Integer> positiveOrZero = Validate::positiveOrZero;
+        List<Integer> collected = values.parallelStream().collect(Validate.validatingCollector(positiveOrZero));
+        assertEquals(values, collected);
+    }
+
+    @Test
+    public void unknownIndex() {
+        ValidationElementException e = new ValidationElementException(-1, "x", new IllegalArgumentException("bad"));
+        assertEquals("An element is invalid: bad", e.getMessage());
+        assertSame("x", e.getElement());
+    }
+}
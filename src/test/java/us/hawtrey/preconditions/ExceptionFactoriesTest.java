@@ -0,0 +1,174 @@
+package us.hawtrey.preconditions;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ExceptionFactoriesTest {
+
+    @After
+    public void tearDown() throws Exception {
+        ExceptionFactories.setDefault(ExceptionFactories.fullStackTrace());
+    }
+
+    @Test
+    public void fullStackTrace() throws Exception {
+        try {
+            Validate.intValue("12x");
+            fail("Should have thrown NumberFormatException");
+        } catch (ValidationNumberFormatException e) {
+            assertTrue(e.getStackTrace().length > 0);
+            assertEquals("12x", e.getValue());
+        }
+    }
+
+    @Test
+    public void stackless() throws Exception {
+        ExceptionFactories.setDefault(ExceptionFactories.stackless());
+        try {
+            Validate.intValue("12x");
+            fail("Should have thrown NumberFormatException");
+        } catch (ValidationNumberFormatException e) {
+            assertEquals(0, e.getStackTrace().length);
+            assertEquals("12x", e.getValue());
+            assertEquals("The value (12x) is not an int", e.getMessage());
+            assertEquals(0, e.fillInStackTrace().getStackTrace().length);
+        }
+    }
+
+    @Test
+    public void cachedConstantMessage() throws Exception {
+        ExceptionFactories.setDefault(ExceptionFactories.cached());
+        IllegalArgumentException first = notBlankFailure(" ");
+        IllegalArgumentException second = notBlankFailure("");
+        assertSame(first, second);
+        assertEquals("The name is blank", first.getMessage());
+        assertEquals(0, first.getStackTrace().length);
+        assertNull(((ValidationFailure) first).getValue());
+        assertEquals(Check.NOT_BLANK, ((ValidationFailure) first).getCheck());
+    }
+
+    @Test
+    public void cachedFormattedMessage() throws Exception {
+        ExceptionFactories.setDefault(ExceptionFactories.cached());
+        try {
+            Validate.positive(-1);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (ValidationIllegalArgumentException e) {
+            assertEquals(-1, e.getValue());
+            assertEquals(0, e.getStackTrace().length);
+        }
+        assertNotSame(positiveFailure(), positiveFailure());
+    }
+
+    @Test
+    public void serializeDetails() throws Exception {
+        Thread thread = new Thread("worker");
+        FailureDetails details = new FailureDetails(Check.ARGUMENT, thread, 1, Check.ARGUMENT, "The thread %s is %s",
+                new Object[]{thread, Thread.State.NEW});
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(new ValidationIllegalArgumentException(details, true));
+        }
+        ValidationIllegalArgumentException copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (ValidationIllegalArgumentException) in.readObject();
+        }
+
+        assertEquals(details.getMessage(), copy.getMessage());
+        assertEquals("The thread " + thread + " is NEW", copy.getMessage());
+        assertEquals(thread.toString(), copy.getValue());
+        assertEquals(Check.ARGUMENT, copy.getCheck());
+        assertEquals(1, copy.getStart());
+        assertSame(Check.ARGUMENT, copy.getEnd());
+    }
+
+    @Test
+    public void scopedFactory() throws Exception {
+        int depth = ExceptionFactories.call(ExceptionFactories.stackless(), () -> {
+            try {
+                Validate.notNull(null);
+                return -1;
+            } catch (NullPointerException e) {
+                return e.getStackTrace().length;
+            }
+        });
+        assertEquals(0, depth);
+        assertSame(ExceptionFactories.fullStackTrace(), ExceptionFactories.current());
+
+        try {
+            ExceptionFactories.run(ExceptionFactories.stackless(), () -> {
+                throw new IllegalStateException("escaped");
+            });
+            fail("Should have thrown IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertSame(ExceptionFactories.fullStackTrace(), ExceptionFactories.current());
+        }
+    }
+
+    @Test
+    public void customFactory() throws Exception {
+        ExceptionFactories.setDefault(new ExceptionFactory() {
+            @Override
+            public NullPointerException nullPointer(FailureDetails details) {
+                return new NullPointerException("custom " + details.getCheck());
+            }
+
+            @Override
+            public IllegalArgumentException illegalArgument(FailureDetails details) {
+                return new IllegalArgumentException("custom " + details.getCheck());
+            }
+
+            @Override
+            public IndexOutOfBoundsException indexOutOfBounds(FailureDetails details) {
+                return new IndexOutOfBoundsException("custom " + details.getCheck());
+            }
+
+            @Override
+            public NumberFormatException numberFormat(FailureDetails details) {
+                return new NumberFormatException("custom " + details.getCheck());
+            }
+        });
+        try {
+            Validate.elementIndex("abc", 3);
+            fail("Should have thrown IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("custom ELEMENT_INDEX", e.getMessage());
+        }
+        try {
+            ExceptionFactories.setDefault(null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+
+    private static IllegalArgumentException notBlankFailure(String name) {
+        try {
+            Validate.notBlank(name, "The name is blank");
+            throw new AssertionError("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    private static IllegalArgumentException positiveFailure() {
+        try {
+            Validate.positive(0);
+            throw new AssertionError("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+}
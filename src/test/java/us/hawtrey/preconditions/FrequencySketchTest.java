@@ -0,0 +1,45 @@
+package us.hawtrey.preconditions;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FrequencySketchTest {
+
+    @Test
+    public void testFrequency() {
+        FrequencySketch sketch = new FrequencySketch(512);
+        for (int i = 0; i < 5; i++) {
+            sketch.increment("hot".hashCode());
+        }
+        sketch.increment("warm".hashCode());
+
+        assertEquals(5, sketch.frequency("hot".hashCode()));
+        assertEquals(1, sketch.frequency("warm".hashCode()));
+        assertEquals(0, sketch.frequency("cold".hashCode()));
+    }
+
+    @Test
+    public void testSaturates() {
+        FrequencySketch sketch = new FrequencySketch(512);
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(42);
+        }
+
+        assertEquals(15, sketch.frequency(42));
+    }
+
+    @Test
+    public void testAges() {
+        FrequencySketch sketch = new FrequencySketch(64);
+        for (int i = 0; i < 12; i++) {
+            sketch.increment(-1);
+        }
+        for (int i = 0; i < 640; i++) {
+            sketch.increment(i);
+        }
+
+        assertTrue(sketch.frequency(-1) <= 6);
+    }
+}
@@ -0,0 +1,225 @@
+package us.hawtrey.preconditions;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MemoizedCheckTest {
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private boolean isEven(Integer value) {
+        calls.incrementAndGet();
+        return value % 2 == 0;
+    }
+
+    @Test
+    public void testTest() {
+        MemoizedCheck<Integer> check = MemoizedCheck.of(this::isEven).build();
+
+        assertTrue(check.test(2));
+        assertFalse(check.test(3));
+        assertTrue(check.test(2));
+        assertFalse(check.test(3));
+        assertEquals(2, calls.get());
+        assertEquals(2, check.size());
+
+        MemoizedCheck.Stats stats = check.stats();
+        assertEquals(2, stats.getHitCount());
+        assertEquals(2, stats.getMissCount());
+        assertEquals(0, stats.getEvictionCount());
+        assertEquals(0.5, stats.getHitRate(), 0.0);
+    }
+
+    @Test
+    public void testNullValue() {
+        MemoizedCheck<String> check = MemoizedCheck.<String>of(value -> value == null).build();
+
+        assertTrue(check.test(null));
+        assertTrue(check.test(null));
+        assertEquals(0, check.size());
+        assertEquals(0, check.stats().getMissCount());
+    }
+
+    @Test
+    public void testValidate() {
+        MemoizedCheck<Integer> check = MemoizedCheck.of(this::isEven).build();
+
+        assertEquals(Integer.valueOf(4), check.validate(4));
+        assertEquals(Integer.valueOf(4), check.validate(4, "not even"));
+        assertEquals(Integer.valueOf(4), check.validate(4, "%s is not even", 4));
+        assertEquals(Integer.valueOf(4), check.validateLazy(4, () -> "not even"));
+        try {
+            check.validate(5);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (ValidationIllegalArgumentException e) {
+            assertSame(Check.ARGUMENT, e.getCheck());
+            assertEquals(Validate.DEFAULT_ARGUMENT_MESSAGE, e.getMessage());
+        }
+        try {
+            check.validate(5, "%s is not even", 5);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("5 is not even", e.getMessage());
+        }
+        try {
+            check.validateLazy(5, () -> "odd");
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("odd", e.getMessage());
+        }
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testPredicateThrows() {
+        MemoizedCheck<String> check = MemoizedCheck.<String>of(value -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("lookup failed");
+        }).build();
+        for (int i = 0; i < 2; i++) {
+            try {
+                check.test("a");
+                fail("Should have thrown IllegalStateException");
+            } catch (IllegalStateException e) {
+                // success
+            }
+        }
+        assertEquals(2, calls.get());
+        assertEquals(0, check.size());
+    }
+
+    @Test
+    public void testBounded() {
+        MemoizedCheck<Integer> check = MemoizedCheck.of(this::isEven).maximumSize(100).build();
+        for (int i = 0; i < 10_000; i++) {
+            check.test(i);
+        }
+
+        assertTrue(check.size() <= 100);
+        assertEquals(10_000 - check.size(), check.stats().getEvictionCount());
+    }
+
+    @Test
+    public void testKeepsFrequentValues() {
+        MemoizedCheck<Integer> check = MemoizedCheck.of(this::isEven).maximumSize(100).build();
+        for (int round = 0; round < 5; round++) {
+            for (int hot = 0; hot < 50; hot++) {
+                check.test(hot);
+            }
+        }
+        for (int scan = 1000; scan < 20_000; scan++) {
+            check.test(scan);
+        }
+        calls.set(0);
+        for (int hot = 0; hot < 50; hot++) {
+            check.test(hot);
+        }
+
+        assertTrue("The scan evicted " + calls.get() + " hot values", calls.get() <= 5);
+    }
+
+    @Test
+    public void testMaximumSizeOne() {
+        MemoizedCheck<Integer> check = MemoizedCheck.of(this::isEven).maximumSize(1).build();
+        check.test(1);
+        check.test(2);
+        check.test(3);
+
+        assertEquals(1, check.size());
+        assertEquals(2, check.stats().getEvictionCount());
+    }
+
+    @Test
+    public void testExpireAfterWrite() {
+        AtomicLong now = new AtomicLong();
+        MemoizedCheck<Integer> check = MemoizedCheck.of(this::isEven)
+                .expireAfterWrite(10, TimeUnit.SECONDS)
+                .ticker(now::get)
+                .build();
+        check.test(2);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        check.test(2);
+        assertEquals(1, calls.get());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        check.test(2);
+        assertEquals(2, calls.get());
+        assertEquals(1, check.size());
+        assertEquals(1, check.stats().getEvictionCount());
+
+        check.test(2);
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void testInvalidateAll() {
+        MemoizedCheck<Integer> check = MemoizedCheck.of(this::isEven).build();
+        check.test(1);
+        check.test(2);
+        check.invalidateAll();
+
+        assertEquals(0, check.size());
+        check.test(1);
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void testConcurrent() throws InterruptedException {
+        MemoizedCheck<Integer> check = MemoizedCheck.of(this::isEven).maximumSize(64).build();
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger wrong = new AtomicInteger();
+        for (int t = 0; t < 4; t++) {
+            int seed = t;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    int value = (i * 31 + seed) % 200;
+                    if (check.test(value) != (value % 2 == 0)) {
+                        wrong.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(0, wrong.get());
+        assertTrue(check.size() <= 64);
+        MemoizedCheck.Stats stats = check.stats();
+        assertEquals(200_000, stats.getHitCount() + stats.getMissCount());
+    }
+
+    @Test
+    public void testBuilderArguments() {
+        try {
+            MemoizedCheck.of(null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+        try {
+            MemoizedCheck.of(this::isEven).maximumSize(0);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        try {
+            MemoizedCheck.of(this::isEven).expireAfterWrite(0, TimeUnit.SECONDS);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+    }
+}
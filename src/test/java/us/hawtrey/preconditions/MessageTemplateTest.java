@@ -0,0 +1,95 @@
+package us.hawtrey.preconditions;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MessageTemplateTest {
+
+    @After
+    public void tearDown() throws Exception {
+        MessageTemplate.setFormatterSyntax(false);
+    }
+
+    @Test
+    public void formatPlaceholders() throws Exception {
+        assertEquals("The value (12) is not an int", MessageTemplate.format("The value (%s) is not %s", 12, "an int"));
+        assertEquals("null and null", MessageTemplate.format("%s and %s", null, null));
+        assertEquals("no placeholders", MessageTemplate.format("no placeholders"));
+        assertEquals("no placeholders", MessageTemplate.format("no placeholders", (Object[]) null));
+        assertEquals("100% of " + System.lineSeparator() + "x", MessageTemplate.format("100%% of %n%s", "x"));
+        assertEquals("null", MessageTemplate.format(null));
+    }
+
+    @Test
+    public void formatMismatchedArguments() throws Exception {
+        assertEquals("a and %s", MessageTemplate.format("%s and %s", "a"));
+        assertEquals("a [b, c]", MessageTemplate.format("%s", "a", "b", "c"));
+        assertEquals("constant [1]", MessageTemplate.format("constant", 1));
+    }
+
+    @Test
+    public void formatThrowingArgument() throws Exception {
+        Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("broken");
+            }
+        };
+        String message = MessageTemplate.format("value %s", broken);
+        assertTrue(message, message.startsWith("value <"));
+        assertTrue(message, message.endsWith(" threw java.lang.IllegalStateException>"));
+    }
+
+    @Test
+    public void formatWithoutArguments() throws Exception {
+        assertEquals("value null", MessageTemplate.format("value %s", (Object[]) null));
+        assertEquals(String.format("value %s and %s", (Object[]) null),
+                MessageTemplate.format("value %s and %s", (Object[]) null));
+        assertEquals("value %s", MessageTemplate.format("value %s"));
+        try {
+            Validate.notNull(null, "value %s");
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            assertEquals("value null", e.getMessage());
+        }
+    }
+
+    @Test
+    public void formatFormatterSyntax() throws Exception {
+        assertEquals("0042 and 1.50", MessageTemplate.format("%04d and %.2f", 42, 1.5));
+        assertEquals("%d [x]", MessageTemplate.format("%d", "x"));
+
+        assertEquals("null", MessageTemplate.format("%s", (Object[]) null));
+        MessageTemplate.setFormatterSyntax(true);
+        assertEquals("null", MessageTemplate.format("%s", (Object[]) null));
+    }
+
+    @Test
+    public void formatValidateMessages() throws Exception {
+        try {
+            Validate.notBlank(" ", "%s is blank for %s", "name");
+            fail("notBlank");
+        } catch (IllegalArgumentException e) {
+            assertEquals("name is blank for %s", e.getMessage());
+        }
+
+        try {
+            Validate.argument("abc", false, "%d%% done", 50);
+            fail("argument");
+        } catch (IllegalArgumentException e) {
+            assertEquals("50% done", e.getMessage());
+        }
+    }
+
+    @Test
+    public void compileIsCached() throws Exception {
+        MessageTemplate template = MessageTemplate.compile("cached %s");
+        assertTrue(template == MessageTemplate.compile("cached %s"));
+        assertEquals("cached x", template.render("x"));
+        assertEquals("cached %s", template.toString());
+    }
+}
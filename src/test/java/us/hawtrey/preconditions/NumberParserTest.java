@@ -0,0 +1,82 @@
+package us.hawtrey.preconditions;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class NumberParserTest {
+    private static final String[] SAMPLES = {
+            "0", "-0", "+0", "00012", "1.", ".5", "-.5", "1e10", "1E-10", "1e+3", "2.5e-3d", "7F", "1.0D",
+            "123456789012345678901234567890", "0.000000000000000000000000000001", "4.9e-324", "2e-324",
+            "1.7976931348623157E308", "1.8e308", "9007199254740993", "0.1", "0.3", "3.141592653589793",
+            "NaN", "-Infinity", "+Infinity", "0x1p4", "0X1.8P1", " \t42\n", "1e400", "1e-400",
+            "", " ", "-", "+", ".", "-.", "e5", "1e", "1e+", "1.2.3", "1-2", "1 2", "1ff", "NaNf", "Inf",
+            "0x", "0xg", "--1", "1,000", "١٢"
+    };
+
+    @Test
+    public void matchesDoubleValueOf() throws Exception {
+        for (String sample : SAMPLES) {
+            assertMatches(sample);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            assertMatches(Double.toString(Double.longBitsToDouble(random.nextLong())));
+            assertMatches(Double.toString(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20)));
+            assertMatches(Long.toString(random.nextLong() % 1000000000000L) + "." + random.nextInt(1000000));
+        }
+    }
+
+    @Test
+    public void parseLongIsExact() throws Exception {
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            long value = random.nextLong();
+            assertEquals(value, NumberParser.parseLong(Long.toString(value), 0L));
+            assertEquals(value, NumberParser.parseLong(" " + value + ".99 ", 0L));
+        }
+        assertEquals(Long.MIN_VALUE, NumberParser.parseLong("-9223372036854775809", 0L));
+        assertEquals(Long.MAX_VALUE, NumberParser.parseLong("9223372036854775808", 0L));
+        assertEquals(7L, NumberParser.parseLong("1x", 7L));
+        assertEquals(7L, NumberParser.parseLong(null, 7L));
+        assertEquals(9007199254740993L, NumberParser.parseLong("abc", 9007199254740993L));
+        assertEquals(9007199254740993L, NumberParser.parseLong("0xZ", 9007199254740993L));
+    }
+
+    @Test
+    public void parseIntSaturates() throws Exception {
+        assertEquals(Integer.MAX_VALUE, NumberParser.parseInt("2147483648", 0));
+        assertEquals(Integer.MIN_VALUE, NumberParser.parseInt("-2147483649", 0));
+        assertEquals(0, NumberParser.parseInt("NaN", 5));
+        assertEquals(5, NumberParser.parseInt("Na", 5));
+    }
+
+    @Test
+    public void parseCharSequence() throws Exception {
+        StringBuilder builder = new StringBuilder("  -12.75  ");
+        assertTrue(NumberParser.isNumber(builder));
+        assertEquals(-12.75D, NumberParser.parseDouble(builder, 0D), 0D);
+        assertEquals(-12L, NumberParser.parseLong(builder, 0L));
+        assertFalse(NumberParser.isNumber(null));
+    }
+
+    private static void assertMatches(String sample) {
+        Double expected;
+        try {
+            expected = Double.valueOf(sample);
+        } catch (NumberFormatException e) {
+            expected = null;
+        }
+        assertEquals(sample, expected != null, NumberParser.isNumber(sample));
+        if (expected != null) {
+            assertEquals(sample, Double.doubleToLongBits(expected),
+                    Double.doubleToLongBits(NumberParser.parseDouble(sample, 0D)));
+        } else {
+            assertEquals(sample, -1D, NumberParser.parseDouble(sample, -1D), 0D);
+        }
+    }
+}
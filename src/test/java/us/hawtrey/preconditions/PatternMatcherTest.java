@@ -0,0 +1,162 @@
+package us.hawtrey.preconditions;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PatternMatcherTest {
+    private static final String[] REGEXES = {
+            "", "abc", "a\\.b", "\\+1", "ABC.*", "x.*", ".*", "[A-Z]{3}-\\d{5}", "\\w+", "\\w*", "\\d{2,4}x\\d?",
+            "[^a]{2}", "[-a]+", "[a-]+", "[^-a]*", "[a-z_][a-z0-9_]*", "\\s*\\S+", "\\D+\\d+", "[\\d.]+", "a?b?c",
+            "a{0,2}b", "a{3,}", "[+-]?\\d+", ".", "..", "[\\w-]+@[\\w-]+\\.[a-z]{2,6}", "\\W\\w", "[ \\t]*x",
+            "a*a", "(ab)+", "^x$", "a+?", "a*+", "a|b", "\\d+\\d", "\\w+\\.com", ".*x", "[a-z&&[^e]]+", "\\p{L}+",
+            "caf\u00e9", "\\Qa.b\\E", "[]a]", "a{2", "\\bx"};
+    private static final String[] INPUTS = {
+            "", "a", "abc", "abcd", "a.b", "axb", "+1", "ABC", "ABCdef", "ABC\ndef", "ABC\r", "ABC\r\n", "ABC\u0085",
+            "ABC\u2028", "ABC\u00e9", "XYZ-12345", "XYZ-1234", "xyz-12345", "hello_World9", "hello world", "12x",
+            "1234x5", "12345x", "bb", "ab", "\ud83d\ude00\ud83d\ude00", "\ud83d\ude00", "\ud83d", "-a-", "a-", "bcd",
+            "name_1", "1name", "   word", " \t x", "abc123", "1.5.9", "c", "bc", "aac", "aab", "b", "aaaa",
+            "+12", "-7", "x", "\n", "ab", "user-1@host-2.org", "user@host.c", "!a", "\u00e9a", "aaa", "ababab",
+            "example.com", "xx", "abcde", "caf\u00e9", "]", "a{2"};
+
+    @Test
+    public void matchesLikePattern() throws Exception {
+        for (String regex : REGEXES) {
+            for (String input : INPUTS) {
+                assertMatches(regex, input);
+            }
+        }
+    }
+
+    @Test
+    public void matchesLikePatternForGeneratedExpressions() throws Exception {
+        Random random = new Random(42);
+        String[] elements = {"a", "b", "-", ".", "\\.", "\\d", "\\w", "\\s", "\\D", "\\S", "[ab]", "[^a]", "[a-c]",
+                "[\\d_]", "[-b]", "[^\\s]", "x"};
+        String[] quantifiers = {"", "", "?", "*", "+", "{2}", "{1,3}", "{0,}", "{2,}"};
+        char[] alphabet = {'a', 'b', 'c', 'x', '-', '.', '_', '1', '9', ' ', '\n', '\u00e9', '\u0085', '\u2028'};
+        for (int n = 0; n < 2000; n++) {
+            StringBuilder regex = new StringBuilder();
+            for (int i = random.nextInt(4) + 1; i > 0; i--) {
+                regex.append(elements[random.nextInt(elements.length)])
+                        .append(quantifiers[random.nextInt(quantifiers.length)]);
+            }
+            for (int m = 0; m < 20; m++) {
+                StringBuilder input = new StringBuilder();
+                for (int i = random.nextInt(7); i > 0; i--) {
+                    input.append(alphabet[random.nextInt(alphabet.length)]);
+                }
+                assertMatches(regex.toString(), input.toString());
+            }
+        }
+    }
+
+    @Test
+    public void fastPaths() throws Exception {
+        assertEquals("Literal", kind("a\\.b-c"));
+        assertEquals("Prefix", kind("ABC.*"));
+        assertEquals("Atoms", kind("[A-Z]{3}-\\d{5}"));
+        assertEquals("Atoms", kind("[a-z_][a-z0-9_]*"));
+        assertEquals("Regex", kind("\\d+\\d"));
+        assertEquals("Regex", kind("(ab)+"));
+        assertEquals("Regex", kind("a+?"));
+        assertEquals("Regex", kind("caf\u00e9"));
+    }
+
+    @Test
+    public void cachesCompiledExpressions() throws Exception {
+        assertSame(PatternMatcher.of("[a-z]+\\d"), PatternMatcher.of("[a-z]+\\d"));
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(PatternMatcher.of("x{" + i + "}").matches(repeat('x', i)));
+        }
+    }
+
+    @Test
+    public void invalidExpression() throws Exception {
+        try {
+            PatternMatcher.of("[a-");
+            fail("Should have thrown PatternSyntaxException");
+        } catch (PatternSyntaxException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void matchesCompiledPattern() throws Exception {
+        Pattern plain = Pattern.compile("\\d+-\\d+");
+        assertTrue(PatternMatcher.matches(plain, "12-34"));
+        assertFalse(PatternMatcher.matches(plain, "12-x"));
+
+        Pattern caseInsensitive = Pattern.compile("abc", Pattern.CASE_INSENSITIVE);
+        assertTrue(PatternMatcher.matches(caseInsensitive, "ABC"));
+        assertTrue(PatternMatcher.matches(caseInsensitive, "abc"));
+        assertFalse(PatternMatcher.matches(caseInsensitive, "abd"));
+
+        Pattern dotAll = Pattern.compile("a.*", Pattern.DOTALL);
+        assertTrue(PatternMatcher.matches(dotAll, "a\nb"));
+        assertFalse(PatternMatcher.matches(Pattern.compile("a.*"), "a\nb"));
+    }
+
+    @Test
+    public void reusedMatcherInNestedMatch() throws Exception {
+        Pattern pattern = Pattern.compile("(a)+", Pattern.CASE_INSENSITIVE);
+        CharSequence nested = new CharSequence() {
+            private final String value = "aAa";
+
+            @Override
+            public int length() {
+                return value.length();
+            }
+
+            @Override
+            public char charAt(int index) {
+                assertFalse(PatternMatcher.matches(pattern, "b"));
+                return value.charAt(index);
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                return value.subSequence(start, end);
+            }
+
+            @Override
+            public String toString() {
+                return value;
+            }
+        };
+        assertTrue(PatternMatcher.matches(pattern, nested));
+        assertTrue(PatternMatcher.matches(pattern, "AA"));
+    }
+
+    private static void assertMatches(String regex, String input) {
+        boolean expected;
+        try {
+            expected = Pattern.matches(regex, input);
+        } catch (PatternSyntaxException e) {
+            return;
+        }
+        assertEquals("/" + regex + "/ on \"" + input + "\"", expected, PatternMatcher.of(regex).matches(input));
+        assertEquals("/" + regex + "/ compiled on \"" + input + "\"", expected,
+                PatternMatcher.matches(Pattern.compile(regex), new StringBuilder(input)));
+    }
+
+    private static String kind(String regex) {
+        return PatternMatcher.compile(regex).getClass().getSimpleName();
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder repeated = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            repeated.append(c);
+        }
+        return repeated.toString();
+    }
+}
@@ -0,0 +1,149 @@
+package us.hawtrey.preconditions;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Runs with {@code us.hawtrey.preconditions.metrics=true}, set by the {@code metrics-test} surefire execution.
+ */
+public class PreconditionsMetricsTest {
+    private final PreconditionsMetrics metrics = PreconditionsMetrics.getInstance();
+
+    @Before
+    public void reset() {
+        metrics.reset();
+    }
+
+    @Test
+    public void countValidateChecks() throws Exception {
+        assertTrue(metrics.isEnabled());
+        Validate.notNull("a");
+        Validate.notNull("b", "The value is null");
+        Validate.notBlank("c");
+        Validate.longValue("12");
+        try {
+            Validate.notBlankLazy(" ", () -> "blank");
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        try {
+            Validate.intValue("1x");
+            fail("Should have thrown NumberFormatException");
+        } catch (NumberFormatException e) {
+            // success
+        }
+
+        Map<String, Long> checks = metrics.getChecks();
+        assertEquals(Long.valueOf(2L), checks.get("NOT_NULL"));
+        assertEquals(Long.valueOf(2L), checks.get("NOT_BLANK"));
+        assertEquals(Long.valueOf(2L), checks.get("NUMBER_VALUE"));
+        assertEquals(Long.valueOf(1L), metrics.getPasses().get("NOT_BLANK"));
+        assertEquals(Long.valueOf(1L), metrics.getFailures().get("NUMBER_VALUE"));
+        assertFalse(metrics.getFailures().containsKey("NOT_NULL"));
+    }
+
+    @Test
+    public void countCollectorChecks() throws Exception {
+        ValidationCollector collector = Validate.collect();
+        collector.positive(1);
+        collector.positive(-1);
+        collector.elementIndex(Collections.emptyList(), 0);
+        assertEquals(Long.valueOf(2L), metrics.getChecks().get("POSITIVE"));
+        assertEquals(Long.valueOf(1L), metrics.getFailures().get("POSITIVE"));
+        assertEquals(Long.valueOf(1L), metrics.getFailures().get("ELEMENT_INDEX"));
+    }
+
+    @Test
+    public void countCollectorNumberChecks() throws Exception {
+        ValidationCollector collector = Validate.collect();
+        collector.intValue("0x10");
+        collector.intValue("0x10", "not an int");
+        collector.longValue("12");
+        collector.floatValue("1.5", "not a float");
+        collector.doubleValue("abc");
+        assertEquals(Long.valueOf(5L), metrics.getChecks().get("NUMBER_VALUE"));
+        assertEquals(Long.valueOf(3L), metrics.getFailures().get("NUMBER_VALUE"));
+    }
+
+    @Test
+    public void countNamedValidators() throws Exception {
+        Validator<String> validator = Validator.<String>builder()
+                .name("metrics.test")
+                .check(s -> !s.isEmpty())
+                .build();
+        validator.validate("a");
+        try {
+            validator.validate("");
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        validator.validate("", Validate.collect());
+
+        PreconditionsMetrics.Counter counter = PreconditionsMetrics.counter("metrics.test");
+        assertSame(counter, PreconditionsMetrics.counter("metrics.test"));
+        assertEquals(3L, counter.getChecks());
+        assertEquals(1L, counter.getPasses());
+        assertEquals(2L, counter.getFailures());
+        assertTrue(counter.record(true));
+        assertEquals(Long.valueOf(2L), metrics.getPasses().get("metrics.test"));
+        counter.passed(10);
+        counter.failed(3);
+        assertEquals(17L, counter.getChecks());
+        assertEquals(12L, counter.getPasses());
+        assertEquals(5L, counter.getFailures());
+
+        try {
+            PreconditionsMetrics.counter("NOT_NULL");
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void countRecords() throws Exception {
+        RecordValidator validator = RecordValidator.builder(16)
+                .inIntRange(8, 1, 1000)
+                .chunkSize(7 * 16)
+                .name("records.test")
+                .build();
+        ByteBuffer records = ByteBuffer.allocate(100 * 16);
+        for (int i = 0; i < 100; i++) {
+            records.putInt(i * 16 + 8, (i == 3 || i == 50) ? 0 : i + 1);
+        }
+        validator.validate(records);
+
+        PreconditionsMetrics.Counter counter = PreconditionsMetrics.counter("records.test");
+        assertEquals(100L, counter.getChecks());
+        assertEquals(2L, counter.getFailures());
+    }
+
+    @Test
+    public void exposeThroughJmx() throws Exception {
+        Validate.notNull("a");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(PreconditionsMetrics.OBJECT_NAME);
+        assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+        TabularData checks = (TabularData) server.getAttribute(name, "Checks");
+        assertEquals(1L, checks.get(new Object[]{"NOT_NULL"}).get("value"));
+
+        server.invoke(name, "reset", null, null);
+        assertTrue(metrics.getChecks().isEmpty());
+    }
+}
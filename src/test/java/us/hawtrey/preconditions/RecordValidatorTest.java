@@ -0,0 +1,296 @@
+package us.hawtrey.preconditions;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class RecordValidatorTest {
+    private static final int LENGTH = 32;
+
+    private static final RecordValidator TRADES = RecordValidator.builder(LENGTH)
+            .positiveLong(0, "The trade id %s is not positive")
+            .inIntRange(8, 1, 1000)
+            .positiveDouble(12)
+            .notBlank(20, 12)
+            .build();
+
+    @Test
+    public void validRecords() throws Exception {
+        ByteBuffer records = records(100, ByteOrder.BIG_ENDIAN);
+        RecordValidator.Result result = TRADES.validate(records);
+
+        assertTrue(result.isValid());
+        assertEquals(100, result.getRecordCount());
+        assertEquals(0, result.getInvalidRecordCount());
+        assertTrue(result.getFailures().isEmpty());
+        assertEquals(0, records.position());
+        result.throwIfFailed();
+    }
+
+    @Test
+    public void failingRecords() throws Exception {
+        ByteBuffer records = records(100, ByteOrder.BIG_ENDIAN);
+        records.putLong(7 * LENGTH, -7L);
+        records.putInt(7 * LENGTH + 8, 1000);
+        records.putDouble(42 * LENGTH + 12, Double.NaN);
+        text(records, 99 * LENGTH + 20, "            ");
+        RecordValidator.Result result = TRADES.validate(records);
+
+        assertFalse(result.isValid());
+        assertEquals(100, result.getRecordCount());
+        assertEquals(3, result.getInvalidRecordCount());
+        List<RecordFailure> failures = result.getFailures();
+        assertEquals(4, failures.size());
+
+        assertEquals(7, failures.get(0).getRecord());
+        assertEquals(7 * LENGTH, failures.get(0).getOffset());
+        assertEquals(0, failures.get(0).getField());
+        assertEquals(Check.POSITIVE, failures.get(0).getDetails().getCheck());
+        assertEquals(-7L, failures.get(0).getDetails().getValue());
+        assertEquals("The record 7 at offset 224 is invalid: The trade id -7 is not positive",
+                failures.get(0).getMessage());
+
+        assertEquals(Check.IN_RANGE, failures.get(1).getDetails().getCheck());
+        assertEquals(8, failures.get(1).getField());
+        assertEquals("The value 1000 is not in the range of 1 to 1000", failures.get(1).getDetails().getMessage());
+
+        assertEquals(42, failures.get(2).getRecord());
+        assertEquals("The value (NaN) is not positive", failures.get(2).getDetails().getMessage());
+
+        assertEquals(99 * LENGTH, failures.get(3).getOffset());
+        assertEquals(Check.NOT_BLANK, failures.get(3).getDetails().getCheck());
+        assertEquals("            ", failures.get(3).getDetails().getValue());
+
+        try {
+            result.throwIfFailed();
+            fail("Should have thrown ValidationFailuresException");
+        } catch (ValidationFailuresException e) {
+            assertEquals(4, e.getFailures().size());
+            assertTrue(e.getMessage().startsWith("4 validations failed: The record 7 at offset 224 is invalid"));
+        }
+    }
+
+    @Test
+    public void failuresInOrderAcrossChunks() throws Exception {
+        RecordValidator validator = RecordValidator.builder(LENGTH)
+                .inIntRange(8, 1, 1000)
+                .chunkSize(3 * LENGTH + 5)
+                .maxFailures(50)
+                .pool(new ForkJoinPool(4))
+                .build();
+        ByteBuffer records = records(1000, ByteOrder.BIG_ENDIAN);
+        for (int i = 0; i < 1000; i += 7) {
+            records.putInt(i * LENGTH + 8, 0);
+        }
+        RecordValidator.Result result = validator.validate(records);
+
+        assertEquals(1000, result.getRecordCount());
+        assertEquals(143, result.getInvalidRecordCount());
+        assertEquals(50, result.getFailures().size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals(i * 7L, result.getFailures().get(i).getRecord());
+        }
+    }
+
+    @Test
+    public void byteOrderAndBufferPosition() throws Exception {
+        RecordValidator validator = RecordValidator.builder(LENGTH)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .inLongRange(0, 1L, 1_000_000L)
+                .inDoubleRange(12, 0D, 100D)
+                .build();
+        ByteBuffer records = records(10, ByteOrder.LITTLE_ENDIAN);
+        assertTrue(validator.validate(records).isValid());
+        assertEquals(10, TRADES.validate(records).getInvalidRecordCount());
+
+        records.position(2 * LENGTH);
+        records.putLong(5 * LENGTH, 0L);
+        RecordValidator.Result result = validator.validate(records);
+        assertEquals(8, result.getRecordCount());
+        assertEquals(3, result.getFailures().get(0).getRecord());
+        assertEquals(3 * LENGTH, result.getFailures().get(0).getOffset());
+        assertEquals(2 * LENGTH, records.position());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, records.order());
+    }
+
+    @Test
+    public void asciiAndRecordChecks() throws Exception {
+        RecordValidator validator = RecordValidator.builder(LENGTH)
+                .ascii(20, 12)
+                .check((buffer, offset) -> buffer.getInt(offset + 8) <= buffer.getLong(offset), "quantity over id")
+                .build();
+        ByteBuffer records = records(5, ByteOrder.BIG_ENDIAN);
+        records.put(LENGTH + 25, (byte) 0);
+        records.putLong(3 * LENGTH, 1L);
+        RecordValidator.Result result = validator.validate(records);
+
+        assertEquals(2, result.getInvalidRecordCount());
+        assertEquals(Check.ARGUMENT, result.getFailures().get(0).getDetails().getCheck());
+        assertEquals("The text (SKU-0\u0000" + "000001) is not printable ASCII",
+                result.getFailures().get(0).getDetails().getMessage());
+        assertEquals(-1, result.getFailures().get(1).getField());
+        assertEquals(3L, result.getFailures().get(1).getDetails().getValue());
+        assertEquals("The record 3 at offset 96 is invalid: quantity over id", result.getFailures().get(1).getMessage());
+    }
+
+    @Test
+    public void countNoRecordsWhenDisabled() throws Exception {
+        RecordValidator validator = RecordValidator.builder(LENGTH)
+                .inIntRange(8, 1, 1000)
+                .chunkSize(7 * LENGTH)
+                .name("records.test")
+                .build();
+        ByteBuffer records = records(100, ByteOrder.BIG_ENDIAN);
+        records.putInt(3 * LENGTH + 8, 0);
+        records.putInt(50 * LENGTH + 8, 0);
+        validator.validate(records);
+
+        PreconditionsMetrics.Counter counter = PreconditionsMetrics.counter("records.test");
+        assertFalse(PreconditionsMetrics.getInstance().isEnabled());
+        assertEquals(0L, counter.getChecks());
+        assertEquals(0L, counter.getFailures());
+    }
+
+    @Test
+    public void noListedFailures() throws Exception {
+        RecordValidator validator = RecordValidator.builder(LENGTH).inIntRange(8, 1, 2).maxFailures(0).build();
+        RecordValidator.Result result = validator.validate(records(10, ByteOrder.BIG_ENDIAN));
+        assertEquals(9, result.getInvalidRecordCount());
+        assertTrue(result.getFailures().isEmpty());
+        try {
+            result.throwIfFailed();
+            fail("Should have thrown ValidationFailuresException");
+        } catch (ValidationFailuresException e) {
+            assertEquals("1 validation failed: The number of invalid records is 9", e.getMessage());
+        }
+    }
+
+    @Test
+    public void validateFile() throws Exception {
+        RecordValidator validator = RecordValidator.builder(LENGTH)
+                .positiveLong(0)
+                .inIntRange(8, 1, 1000)
+                .chunkSize(4096)
+                .build();
+        ByteBuffer records = records(10_000, ByteOrder.BIG_ENDIAN);
+        records.putInt(1234 * LENGTH + 8, 5000);
+        records.putLong(9999 * LENGTH, 0L);
+        Path file = Files.createTempFile("records", ".bin");
+        try {
+            Files.write(file, records.array());
+            RecordValidator.Result result = validator.validate(file);
+
+            assertEquals(10_000, result.getRecordCount());
+            assertEquals(2, result.getInvalidRecordCount());
+            assertEquals(1234L * LENGTH, result.getFailures().get(0).getOffset());
+            assertEquals(5000, result.getFailures().get(0).getDetails().getValue());
+            assertEquals(9999L * LENGTH, result.getFailures().get(1).getOffset());
+
+            Files.write(file, new byte[LENGTH + 1]);
+            try {
+                validator.validate(file);
+                fail("Should have thrown IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                assertEquals("The file length (33) is not a multiple of the record length (32)", e.getMessage());
+            }
+
+            Files.write(file, new byte[0]);
+            assertEquals(0, validator.validate(file).getRecordCount());
+        } finally {
+            Files.delete(file);
+        }
+        try {
+            validator.validate(file);
+            fail("Should have thrown NoSuchFileException");
+        } catch (NoSuchFileException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void builderArguments() throws Exception {
+        try {
+            RecordValidator.builder(0);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        try {
+            RecordValidator.builder(LENGTH).positiveLong(28);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The field at offset (28) with length (8) does not fit in a record of length (32)",
+                    e.getMessage());
+        }
+        try {
+            RecordValidator.builder(LENGTH).inIntRange(-1, 0, 1);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        try {
+            RecordValidator.builder(LENGTH).notBlank(20, 0);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        try {
+            RecordValidator.builder(LENGTH).check(null, "message");
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+        try {
+            RecordValidator.builder(LENGTH).chunkSize(0);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        try {
+            TRADES.validate(ByteBuffer.allocate(LENGTH - 1));
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        try {
+            TRADES.validate((Path) null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+
+    /**
+     * Valid trades: a long id, an int quantity, a double price and a 12 byte SKU code.
+     */
+    private static ByteBuffer records(int count, ByteOrder order) {
+        ByteBuffer records = ByteBuffer.allocate(count * LENGTH).order(order);
+        for (int i = 0; i < count; i++) {
+            int offset = i * LENGTH;
+            records.putLong(offset, i + 1L);
+            records.putInt(offset + 8, i % 999 + 1);
+            records.putDouble(offset + 12, 9.99D);
+            text(records, offset + 20, String.format("SKU-%08d", i));
+        }
+        return records;
+    }
+
+    private static void text(ByteBuffer records, int offset, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < bytes.length; i++) {
+            records.put(offset + i, bytes[i]);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package us.hawtrey.preconditions;
+
+import org.junit.Test;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TypeCheckTest {
+    private static final TypeCheck<Collection> COLLECTION = TypeCheck.of(Collection.class);
+
+    @Test
+    public void of() {
+        assertSame(COLLECTION, TypeCheck.of(Collection.class));
+        assertSame(Collection.class, COLLECTION.getType());
+        assertEquals("TypeCheck[java.util.Collection]", COLLECTION.toString());
+        try {
+            TypeCheck.of(null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void isInstance() {
+        assertTrue(COLLECTION.isInstance(new ArrayList<>()));
+        assertFalse(COLLECTION.isInstance("a"));
+        assertFalse(COLLECTION.isInstance(null));
+
+        assertTrue(TypeCheck.of(AbstractList.class).isInstance(new ArrayList<>()));
+        assertFalse(TypeCheck.of(AbstractList.class).isInstance("a"));
+        assertTrue(TypeCheck.of(Object[].class).isInstance(new String[0]));
+        assertFalse(TypeCheck.of(String[].class).isInstance(new Object[0]));
+        assertTrue(TypeCheck.of(Serializable[].class).isInstance(new String[0]));
+    }
+
+    @Test
+    public void isAssignableFrom() {
+        assertTrue(COLLECTION.isAssignableFrom(Collection.class));
+        assertTrue(COLLECTION.isAssignableFrom(List.class));
+        assertTrue(COLLECTION.isAssignableFrom(ArrayList.class));
+        assertFalse(COLLECTION.isAssignableFrom(String.class));
+        assertFalse(COLLECTION.isAssignableFrom(Object.class));
+        // the cached result is the same when asked again
+        assertTrue(COLLECTION.isAssignableFrom(ArrayList.class));
+        assertFalse(COLLECTION.isAssignableFrom(String.class));
+        assertFalse(TypeCheck.of(RandomAccess.class).isAssignableFrom(Collection.class));
+    }
+
+    @Test
+    public void instanceOfType() {
+        List<String> list = new ArrayList<>();
+        Collection collection = COLLECTION.instanceOfType(list);
+        assertSame(list, collection);
+        assertSame(list, COLLECTION.instanceOfType(list, "The value is not a collection"));
+        assertSame(list, COLLECTION.instanceOfType(list, "%s is not a collection", "value"));
+        assertSame(list, COLLECTION.instanceOfTypeLazy(list, () -> "The value is not a collection"));
+
+        try {
+            COLLECTION.instanceOfType("a", "%s is not a collection", "value");
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("value is not a collection", e.getMessage());
+        }
+        try {
+            COLLECTION.instanceOfTypeLazy("a", () -> "not a collection");
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("not a collection", e.getMessage());
+        }
+        try {
+            COLLECTION.instanceOfType(null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void assignableFromClass() {
+        Class<? extends Collection> type = COLLECTION.assignableFromClass(ArrayList.class);
+        assertSame(ArrayList.class, type);
+        assertSame(List.class, COLLECTION.assignableFromClass(List.class, "Not a collection"));
+        assertSame(List.class, COLLECTION.assignableFromClassLazy(List.class, () -> "Not a collection"));
+
+        try {
+            COLLECTION.assignableFromClass(String.class, "%s is not a collection", "String");
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("String is not a collection", e.getMessage());
+        }
+        try {
+            COLLECTION.assignableFromClass(null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void validateUsesCache() {
+        assertSame(Collection.class, Validate.assignableFromClass(Collection.class, ArrayList.class));
+        List<String> list = new ArrayList<>();
+        assertSame(list, Validate.instanceOfType(list, RandomAccess.class));
+        try {
+            Validate.instanceOfType("a", RandomAccess.class);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+        try {
+            Validate.assignableFromClass(RandomAccess.class, String.class);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+    }
+}
@@ -3,12 +3,17 @@ package us.hawtrey.preconditions;
 import org.junit.Test;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
 @SuppressWarnings({"ConstantConditions", "unused", "unchecked"})
@@ -387,6 +392,90 @@ public class ValidateTest {
         }
     }
 
+    @Test
+    public void checkPrimitiveSigns() throws Exception {
+        int i = Validate.positive(1);
+        long l = Validate.positiveOrZero(0L);
+        float f = Validate.negative(-1.5F);
+        double d = Validate.negativeOrZero(-0.0D);
+        assertEquals(1, i);
+        assertEquals(0L, l);
+        assertEquals(-1.5F, f, 0F);
+        assertEquals(-0.0D, d, 0D);
+        assertEquals(Long.MAX_VALUE, Validate.positive(Long.MAX_VALUE, "long"));
+
+        try {
+            Validate.positive(Long.MIN_VALUE);
+            fail("Should fail since value is negative");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The value (" + Long.MIN_VALUE + ") is not positive", e.getMessage());
+        }
+
+        try {
+            Validate.positiveOrZero(Double.NaN, "NaN");
+            fail("Should fail since NaN is not a number");
+        } catch (IllegalArgumentException e) {
+            assertEquals("NaN", e.getMessage());
+        }
+
+        try {
+            Validate.negativeLazy(0, () -> "zero");
+            fail("Should fail since value is zero");
+        } catch (IllegalArgumentException e) {
+            assertEquals("zero", e.getMessage());
+        }
+    }
+
+    @Test
+    public void checkShortAndByteSigns() throws Exception {
+        short aShort = 7;
+        byte aByte = -7;
+        short s = Validate.positive(aShort);
+        short sz = Validate.positiveOrZero((short) 0, "short");
+        byte b = Validate.negative(aByte);
+        byte bz = Validate.negativeOrZeroLazy(aByte, () -> "byte");
+        assertEquals(7, s);
+        assertEquals(0, sz);
+        assertEquals(-7, b);
+        assertEquals(-7, bz);
+
+        try {
+            Validate.positive(aByte);
+            fail("Should fail since value is negative");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The value (-7) is not positive", e.getMessage());
+        }
+    }
+
+    @Test
+    public void checkPrimitiveRange() throws Exception {
+        assertEquals(0, Validate.inIntRange(0, 0, 10));
+        assertEquals(9L, Validate.inLongRange(9L, 0L, 10L, "long"));
+        assertEquals(0.5D, Validate.inDoubleRangeLazy(0.5D, 0D, 1D, () -> "double"), 0D);
+        assertEquals(2, Validate.inIntRange(2, 2, 2));
+
+        try {
+            Validate.inIntRange(10, 0, 10);
+            fail("end is exclusive");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The value 10 is not in the range of 0 to 10", e.getMessage());
+        }
+
+        try {
+            Validate.inLongRange(-1L, 0L, 10L, "below start");
+            fail("below start");
+        } catch (IllegalArgumentException e) {
+            assertEquals("below start", e.getMessage());
+        }
+
+        try {
+            Validate.inDoubleRange(Double.NaN, 0D, 1D);
+            fail("NaN is never in range");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+    }
+
     @Test
     public void checkNumber() throws Exception {
         Double d = Validate.doubleValue("1.23", "Double 1.23");
@@ -455,6 +544,102 @@ public class ValidateTest {
         }
     }
 
+    @Test
+    public void checkNumberBuffers() throws Exception {
+        StringBuilder builder = new StringBuilder(" 9007199254740993 ");
+        assertEquals(9007199254740993L, Validate.longValue(builder));
+        assertEquals(2.5D, Validate.doubleValue(new StringBuilder("2.5"), "Builder"), 0D);
+
+        char[] chars = "id=1042;".toCharArray();
+        assertEquals(1042, Validate.intValue(chars, 3, 4));
+
+        ByteBuffer buffer = ByteBuffer.wrap("x=-12.5e1;".getBytes(StandardCharsets.US_ASCII));
+        assertEquals(-125F, Validate.floatValue(buffer, 2, 9, "Buffer"), 0F);
+        assertEquals(0, buffer.position());
+
+        try {
+            Validate.intValue(new StringBuilder("12x"), "The id %s is invalid", "a");
+            fail("Invalid builder");
+        } catch (ValidationNumberFormatException e) {
+            assertEquals("12x", e.getValue());
+            assertEquals("The id a is invalid", e.getMessage());
+        }
+
+        try {
+            Validate.longValue(chars, 0, 4);
+            fail("Invalid characters");
+        } catch (ValidationNumberFormatException e) {
+            assertEquals("The value (id=1) is not a long", e.getMessage());
+        }
+
+        try {
+            Validate.doubleValueLazy(ByteBuffer.wrap(new byte[]{' ', ' '}), 0, 2, () -> "Blank");
+            fail("Blank buffer");
+        } catch (ValidationIllegalArgumentException e) {
+            assertEquals("Blank", e.getMessage());
+        }
+
+        try {
+            Validate.intValue((char[]) null, 0, 0);
+            fail("null characters");
+        } catch (NullPointerException e) {
+            // success
+        }
+
+        try {
+            Validate.intValue(buffer, 2, 11);
+            fail("Positions past the limit");
+        } catch (IndexOutOfBoundsException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void checkMatches() throws Exception {
+        assertEquals("AB-12345", Validate.matches("AB-12345", "[A-Z]{2}-\\d{5}"));
+        assertEquals("order-7", Validate.matches("order-7", "order.*", "invalid order %s", "order-7"));
+        StringBuilder builder = new StringBuilder("x1");
+        assertEquals(builder, Validate.matches(builder, Pattern.compile("\\w\\d")));
+        assertEquals("ABC", Validate.matches("ABC", Pattern.compile("abc", Pattern.CASE_INSENSITIVE), "valid"));
+
+        try {
+            Validate.matches("AB-1234", "[A-Z]{2}-\\d{5}");
+            fail("invalid matches");
+        } catch (ValidationIllegalArgumentException e) {
+            assertEquals(Check.MATCHES, e.getCheck());
+            assertEquals("AB-1234", e.getValue());
+            assertEquals("The value AB-1234 does not match the pattern [A-Z]{2}-\\d{5}", e.getMessage());
+        }
+
+        try {
+            Validate.matches("ab", Pattern.compile("(ab)+c"), "The code %s is invalid", "ab");
+            fail("invalid matches");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The code ab is invalid", e.getMessage());
+        }
+
+        try {
+            Validate.matches(null, "a");
+            fail("null matches");
+        } catch (NullPointerException e) {
+            // success
+        }
+
+        try {
+            Validate.matches("a", (String) null);
+            fail("null regex");
+        } catch (NullPointerException e) {
+            // success
+        }
+
+        try {
+            Validate.matches("a", (Pattern) null);
+            fail("null pattern");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+
     @Test
     public void checkInstanceOf() throws Exception {
         assertEquals("foo", Validate.instanceOfType("foo", String.class, "valid string"));
@@ -507,6 +692,182 @@ public class ValidateTest {
         }
     }
 
+    @Test
+    public void checkSuppliedMessage() throws Exception {
+        Supplier<String> unused = () -> {
+            throw new AssertionError("message supplier invoked on a passing check");
+        };
+        assertEquals("abc", Validate.notNullLazy("abc", unused));
+        assertEquals("abc", Validate.notBlankLazy("abc", unused));
+        assertEquals(Integer.valueOf(5), Validate.inRangeLazy(5, 0, 10, unused));
+        assertEquals(1, Validate.positiveLazy(1, unused));
+        assertEquals(12, Validate.intValueLazy("12", unused));
+
+        try {
+            Validate.notBlankLazy(" \t ", () -> "supplied");
+            fail("notBlank whitespace");
+        } catch (IllegalArgumentException e) {
+            assertEquals("supplied", e.getMessage());
+        }
+
+        try {
+            Validate.elementIndexLazy(new ArrayList<String>(), 0, () -> "supplied");
+            fail("elementIndex empty list");
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals("supplied", e.getMessage());
+        }
+
+        try {
+            Validate.notNullLazy(null, (Supplier<String>) null);
+            fail("notNull with null supplier");
+        } catch (NullPointerException e) {
+            assertNull(e.getMessage());
+        }
+    }
+
+    @Test
+    public void checkFunctionMessage() throws Exception {
+        assertEquals("abc", Validate.notBlankLazy("abc", (String value) -> {
+            throw new AssertionError("message function invoked on a passing check");
+        }));
+
+        try {
+            Validate.inRangeLazy(12, 0, 10, value -> "The value " + value + " is too big");
+            fail("inRange");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The value 12 is too big", e.getMessage());
+        }
+
+        try {
+            Validate.notEmptyLazy(new ArrayList<String>(), (List<String> value) -> "empty " + value);
+            fail("notEmpty");
+        } catch (IllegalArgumentException e) {
+            assertEquals("empty []", e.getMessage());
+        }
+
+        try {
+            Validate.argumentLazy("abc", false, value -> value + " is rejected");
+            fail("argument");
+        } catch (IllegalArgumentException e) {
+            assertEquals("abc is rejected", e.getMessage());
+        }
+    }
+
+    @Test
+    public void checkNullMessage() throws Exception {
+        try {
+            Validate.notNull(null, null);
+            fail("notNull");
+        } catch (NullPointerException e) {
+            assertNull(e.getMessage());
+        }
+
+        try {
+            Validate.argument("abc", false, null);
+            fail("argument");
+        } catch (IllegalArgumentException e) {
+            assertNull(e.getMessage());
+        }
+    }
+
+    @Test
+    public void checkFixedArityMessage() throws Exception {
+        assertEquals(" a ", Validate.notBlank(" a ", "%s", "unused"));
+
+        try {
+            Validate.argument("abc", false, "one %s", 1);
+            fail("argument");
+        } catch (IllegalArgumentException e) {
+            assertEquals("one 1", e.getMessage());
+        }
+
+        try {
+            Validate.negative(1L, "two %s %s", 1, "b");
+            fail("negative");
+        } catch (IllegalArgumentException e) {
+            assertEquals("two 1 b", e.getMessage());
+        }
+
+        try {
+            Validate.doubleValue("x", "three %s %s %s", 1, "b", 'c');
+            fail("doubleValue");
+        } catch (NumberFormatException e) {
+            assertEquals("three 1 b c", e.getMessage());
+        }
+    }
+
+    @Test
+    public void checkValidationFailure() throws Exception {
+        List<String> input = new ArrayList<>();
+        input.add("foo");
+
+        try {
+            Validate.elementIndex(input, 3);
+            fail("invalid index");
+        } catch (ValidationIndexOutOfBoundsException e) {
+            assertEquals(Check.ELEMENT_INDEX, e.getCheck());
+            assertEquals(3, e.getValue());
+            assertEquals(0, e.getStart());
+            assertEquals(1, e.getEnd());
+            assertEquals("The element index (3) is invalid for a collection with size (1)", e.getMessage());
+        }
+
+        try {
+            Validate.positionIndex("abc", -1);
+            fail("negative index");
+        } catch (ValidationIllegalArgumentException e) {
+            assertEquals(Check.POSITION_INDEX, e.getCheck());
+            assertEquals(3, e.getEnd());
+            assertEquals("The position index (-1) is invalid for the String: abc", e.getMessage());
+        }
+
+        try {
+            Validate.inRange(11L, 0L, 10L);
+            fail("out of range");
+        } catch (ValidationIllegalArgumentException e) {
+            assertEquals(Check.IN_RANGE, e.getCheck());
+            assertEquals(11L, e.getValue());
+            assertEquals(0L, e.getStart());
+            assertEquals(10L, e.getEnd());
+        }
+
+        try {
+            Validate.positive((Integer) null);
+            fail("null number");
+        } catch (ValidationNullPointerException e) {
+            assertEquals(Check.POSITIVE, e.getCheck());
+            assertEquals("The value (null) is not positive", e.getMessage());
+        }
+
+        try {
+            Validate.intValue("1x");
+            fail("not a number");
+        } catch (ValidationNumberFormatException e) {
+            assertEquals(Check.NUMBER_VALUE, e.getCheck());
+            assertEquals("1x", e.getValue());
+            assertEquals("The value (1x) is not an int", e.getMessage());
+        }
+
+        int[] renderCount = {0};
+        Object lazy = new Object() {
+            @Override
+            public String toString() {
+                renderCount[0]++;
+                return "lazy";
+            }
+        };
+        try {
+            Validate.argument("abc", false, "rendered %s", lazy);
+            fail("argument");
+        } catch (ValidationIllegalArgumentException e) {
+            assertEquals(0, renderCount[0]);
+            assertEquals(Check.ARGUMENT, e.getCheck());
+            assertEquals("rendered lazy", e.getMessage());
+            assertEquals("rendered lazy", e.getMessage());
+            assertEquals(1, renderCount[0]);
+        }
+    }
+
     private <T extends List> T castIt(List<String> input, Class<T> clazz) {
         return (T) (Validate.assignableFromClass(clazz, input.getClass())).cast(input);
     }
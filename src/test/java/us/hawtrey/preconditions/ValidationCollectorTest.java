@@ -0,0 +1,129 @@
+package us.hawtrey.preconditions;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ValidationCollectorTest {
+
+    @Test
+    public void collectPassingChecks() throws Exception {
+        ValidationCollector collector = Validate.collect();
+        List<String> list = Collections.singletonList("a");
+        assertEquals("name", collector.notBlank("name"));
+        assertSame(list, collector.notEmpty(list));
+        assertSame(list, collector.elementIndex(list, 0));
+        assertEquals("abc", collector.positionIndex("abc", 3));
+        assertEquals(Integer.valueOf(5), collector.inRange(5, 1, 10));
+        assertEquals(5, collector.inIntRange(5, 1, 10));
+        assertEquals(2L, collector.positive(2L));
+        assertEquals(9007199254740993L, collector.longValue("9007199254740993"));
+        assertEquals("x", collector.instanceOfType("x", CharSequence.class));
+        assertEquals("AB-12", collector.matches("AB-12", "[A-Z]+-\\d+"));
+        assertTrue(collector.isValid());
+        collector.throwIfFailed();
+    }
+
+    @Test
+    public void countNothingWhenMetricsDisabled() throws Exception {
+        PreconditionsMetrics metrics = PreconditionsMetrics.getInstance();
+        assertFalse(metrics.isEnabled());
+        ValidationCollector collector = Validate.collect();
+        collector.positive(-1);
+        collector.intValue("0x10");
+        collector.notBlank(" ");
+        assertEquals(3, collector.getFailures().size());
+        assertTrue(metrics.getChecks().isEmpty());
+        assertTrue(metrics.getFailures().isEmpty());
+    }
+
+    @Test
+    public void collectEveryFailure() throws Exception {
+        ValidationCollector collector = Validate.collect();
+        assertNull(collector.notNull(null));
+        assertEquals(" ", collector.notBlank(" ", "The name of record %s is blank", 12));
+        collector.elementIndex(new ArrayList<>(), 0);
+        collector.positionIndex(new HashMap<>(), -1);
+        collector.inLongRange(10L, 1L, 10L);
+        collector.negative(1);
+        collector.positiveOrZero((Integer) null);
+        assertEquals(0, collector.intValue(new StringBuilder("12x")));
+        collector.assignableFromClass(String.class, Object.class);
+        assertEquals("12", collector.matches("12", Pattern.compile("[a-z]+")));
+
+        assertFalse(collector.isValid());
+        assertEquals(10, collector.size());
+        assertEquals(Check.NOT_NULL, collector.getCheck(0));
+        assertEquals("The name of record 12 is blank", collector.getMessage(1));
+        assertEquals("The element index (0) is invalid for a collection with size (0)", collector.getMessage(2));
+        assertEquals(Check.POSITION_INDEX, collector.getCheck(3));
+        assertEquals(-1, collector.getValue(3));
+        assertEquals("The value 10 is not in the range of 1 to 10", collector.getMessage(4));
+        assertEquals(1, collector.getValue(5));
+        assertEquals(Check.POSITIVE_OR_ZERO, collector.getCheck(6));
+        assertEquals("The value (12x) is not an int", collector.getMessage(7));
+        assertEquals(Object.class, collector.getFailure(8).getValue());
+        assertEquals(Check.MATCHES, collector.getCheck(9));
+        assertEquals("The value 12 does not match the pattern [a-z]+", collector.getMessage(9));
+
+        try {
+            collector.getCheck(10);
+            fail("Should have thrown IndexOutOfBoundsException");
+        } catch (IndexOutOfBoundsException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void throwAggregatedFailure() throws Exception {
+        ValidationCollector collector = Validate.collect();
+        collector.notBlank("", "The name is blank");
+        collector.positive(0, "The amount is not positive");
+        try {
+            collector.throwIfFailed();
+            fail("Should have thrown ValidationFailuresException");
+        } catch (ValidationFailuresException e) {
+            assertEquals("2 validations failed: The name is blank; The amount is not positive", e.getMessage());
+            assertEquals(2, e.getFailures().size());
+            assertEquals(Check.POSITIVE, e.getFailures().get(1).getCheck());
+        }
+
+        for (int i = 0; i < 12; i++) {
+            collector.argument(i, false, "Failure %s", i);
+        }
+        try {
+            collector.throwIfFailed();
+            fail("Should have thrown ValidationFailuresException");
+        } catch (ValidationFailuresException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("14 validations failed: The name is blank;"));
+            assertTrue(e.getMessage(), e.getMessage().endsWith("Failure 7; and 4 more"));
+        }
+    }
+
+    @Test
+    public void resetAndReuse() throws Exception {
+        ValidationCollector collector = Validate.collect();
+        for (int i = 0; i < 100; i++) {
+            collector.notNull(null);
+        }
+        assertEquals(100, collector.size());
+        assertSame(collector, collector.reset());
+        assertTrue(collector.isValid());
+        collector.throwIfFailed();
+
+        collector.notEmpty(new HashMap<>());
+        assertEquals(1, collector.size());
+        assertEquals("The validated map is empty", collector.getMessage(0));
+    }
+}
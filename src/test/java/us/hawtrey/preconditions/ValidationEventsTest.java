@@ -0,0 +1,109 @@
+package us.hawtrey.preconditions;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Runs with {@code us.hawtrey.preconditions.timingSampleRate=1}, set by the {@code metrics-test} surefire execution.
+ */
+public class ValidationEventsTest {
+
+    @Test
+    public void disabledWithoutRecording() throws Exception {
+        assertFalse(ValidationEvents.failures);
+        assertEquals(null, ValidationEvents.beginConversion());
+        assertEquals(null, ValidationEvents.beginPredicate());
+    }
+
+    @Test
+    public void recordFailures() throws Exception {
+        List<RecordedEvent> events = record("us.hawtrey.preconditions.ValidationFailure", () -> {
+            try {
+                Validate.notBlank("   ", "The name of %s is blank", "ACME");
+                fail("Should have thrown IllegalArgumentException");
+            } catch (IllegalArgumentException e) {
+                // success
+            }
+            ExceptionFactories.run(ExceptionFactories.stackless(), () -> {
+                try {
+                    Validate.inIntRange(42, 0, 10);
+                    fail("Should have thrown IllegalArgumentException");
+                } catch (IllegalArgumentException e) {
+                    // success
+                }
+            });
+            Validate.notNull("passes");
+        });
+
+        assertEquals(2, events.size());
+        RecordedEvent blank = events.get(0);
+        assertEquals("NOT_BLANK", blank.getString("check"));
+        assertEquals("   ", blank.getString("value"));
+        assertEquals("The name of %s is blank", blank.getString("template"));
+        assertEquals(ValidationEventsTest.class.getName(), blank.getString("callSite"));
+        RecordedEvent range = events.get(1);
+        assertEquals("IN_RANGE", range.getString("check"));
+        assertEquals("42", range.getString("value"));
+        assertEquals(ValidationEventsTest.class.getName(), range.getString("callSite"));
+    }
+
+    @Test
+    public void recordTimings() throws Exception {
+        Validator<String> validator = Validator.<String>builder().check(s -> s.length() < 3).build();
+        List<RecordedEvent> conversions = record("us.hawtrey.preconditions.AssureConversion", () -> {
+            Assure.longValue("12345", 0L);
+            Assure.doubleOrNull(new StringBuilder("1.5"));
+        });
+        assertEquals(2, conversions.size());
+        assertEquals("longValue", conversions.get(0).getString("conversion"));
+        assertEquals("12345", conversions.get(0).getString("input"));
+        assertEquals("doubleOrNull", conversions.get(1).getString("conversion"));
+
+        List<RecordedEvent> predicates = record("us.hawtrey.preconditions.PredicateCheck", () -> {
+            validator.validate("ab");
+            validator.validate("abcd", Validate.collect());
+        });
+        assertEquals(2, predicates.size());
+        assertTrue(predicates.get(0).getBoolean("passed"));
+        assertFalse(predicates.get(1).getBoolean("passed"));
+        assertFalse(ValidationEvents.predicates);
+    }
+
+    @Test
+    public void renderTruncatesValues() throws Exception {
+        assertEquals(null, ValidationEvents.render(null));
+        assertEquals("12", ValidationEvents.render(12));
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            value.append('x');
+        }
+        String rendered = ValidationEvents.render(value);
+        assertEquals(ValidationEvents.MAX_VALUE_LENGTH, rendered.length());
+        assertTrue(rendered.endsWith("..."));
+    }
+
+    private static List<RecordedEvent> record(String eventName, Runnable runnable) throws Exception {
+        Path file = Files.createTempFile("preconditions", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package us.hawtrey.preconditions;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ValidatorTest {
+    private static final Validator<Order> ORDER = Validator.<Order>builder()
+            .notBlank(order -> order.id, "The order id is blank")
+            .notNull(order -> order.customer)
+            .inIntRange(order -> order.quantity, 1, 1000)
+            .inLongRange(order -> order.timestamp, 0L, Long.MAX_VALUE, "The timestamp is negative")
+            .inDoubleRange(order -> order.discount, 0D, 1D)
+            .positive(order -> order.amount, "The amount of order %s is not positive", "?")
+            .inRange(order -> order.currency, "AAA", "ZZZ")
+            .instanceOfType(order -> order.customer, CharSequence.class)
+            .check(order -> !order.shipped || order.paid, "The order is shipped unpaid")
+            .build();
+
+    @Test
+    public void validateValidValue() throws Exception {
+        Order order = new Order();
+        assertSame(order, ORDER.validate(order));
+
+        ValidationCollector collector = Validate.collect();
+        assertTrue(ORDER.validate(order, collector));
+        assertTrue(collector.isValid());
+    }
+
+    @Test
+    public void validateThrowsFirstFailure() throws Exception {
+        Order order = new Order();
+        order.id = " ";
+        order.quantity = 0;
+        try {
+            ORDER.validate(order);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The order id is blank", e.getMessage());
+        }
+
+        order.id = "A-1";
+        try {
+            ORDER.validate(order);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("The value 0 is not in the range of 1 to 1000", e.getMessage());
+        }
+
+        order.quantity = 1;
+        order.customer = null;
+        try {
+            ORDER.validate(order);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+
+        try {
+            ORDER.validate(null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void validateCollectsEveryFailure() throws Exception {
+        Order order = new Order();
+        order.timestamp = -1L;
+        order.amount = BigDecimal.ZERO;
+        order.currency = "eur";
+        order.shipped = true;
+
+        ValidationCollector collector = Validate.collect();
+        assertFalse(ORDER.validate(order, collector));
+        assertEquals(4, collector.size());
+        assertEquals("The timestamp is negative", collector.getMessage(0));
+        assertEquals("The amount of order ? is not positive", collector.getMessage(1));
+        assertEquals(Check.IN_RANGE, collector.getCheck(2));
+        assertEquals(Check.ARGUMENT, collector.getCheck(3));
+        assertEquals("The order is shipped unpaid", collector.getMessage(3));
+
+        assertFalse(ORDER.validate(null, collector));
+        assertEquals(5, collector.size());
+        assertEquals(Check.NOT_NULL, collector.getCheck(4));
+    }
+
+    @Test
+    public void builderCopiesChecks() throws Exception {
+        Validator.Builder<String> builder = Validator.builder();
+        Validator<String> empty = builder.build();
+        builder.check(String::isEmpty);
+        assertEquals("x", empty.validate("x"));
+        try {
+            builder.build().validate("x");
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // success
+        }
+
+        try {
+            builder.notNull(null);
+            fail("Should have thrown NullPointerException");
+        } catch (NullPointerException e) {
+            // success
+        }
+    }
+
+    @Test
+    public void renderMessagesLikeValidate() throws Exception {
+        Validator<Integer> validator = Validator.<Integer>builder()
+                .inIntRange(Integer::intValue, 0, 10, "value %s")
+                .build();
+        try {
+            Validate.inIntRange(42, 0, 10, "value %s");
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("value null", e.getMessage());
+        }
+        try {
+            validator.validate(42);
+            fail("Should have thrown IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals("value null", e.getMessage());
+        }
+
+        ValidationCollector collector = Validate.collect();
+        validator.validate(42, collector);
+        assertEquals("value null", collector.getFailures().get(0).getMessage());
+    }
+
+    private static final class Order {
+        private String id = "A-1";
+        private String customer = "ACME";
+        private int quantity = 5;
+        private long timestamp = 1L;
+        private double discount = 0.25D;
+        private BigDecimal amount = BigDecimal.TEN;
+        private String currency = "USD";
+        private boolean shipped;
+        private boolean paid;
+    }
+}